@@ -13,9 +13,17 @@ CREATE TABLE IF NOT EXISTS world_view.driving_routes (
     end_latitude DOUBLE PRECISION NOT NULL,
     end_longitude DOUBLE PRECISION NOT NULL,
     total_distance_meters DOUBLE PRECISION NOT NULL,
-    estimated_duration_seconds INTEGER NOT NULL
+    estimated_duration_seconds INTEGER NOT NULL,
+    -- Whole polyline as one zlib-compressed, delta-encoded value (route.storage.waypoint-mode=compressed);
+    -- NULL while the route's waypoints are stored as rows in world_view.waypoints
+    encoded_waypoints BYTEA
 );
 
+-- Databases created before encoded_waypoints existed. Existing routes keep their waypoint rows;
+-- there is no SQL backfill, the service moves them into encoded_waypoints route by route at startup
+-- when it runs with ROUTE_WAYPOINT_STORAGE=compressed, and reads both representations meanwhile.
+ALTER TABLE world_view.driving_routes ADD COLUMN IF NOT EXISTS encoded_waypoints BYTEA;
+
 -- Waypoints table (coordinates along a route)
 CREATE TABLE IF NOT EXISTS world_view.waypoints (
     id BIGSERIAL PRIMARY KEY,
@@ -27,4 +35,36 @@ CREATE TABLE IF NOT EXISTS world_view.waypoints (
 
 -- Indexes for faster lookups
 CREATE INDEX IF NOT EXISTS idx_waypoints_route_id ON world_view.waypoints(route_id);
-CREATE INDEX IF NOT EXISTS idx_waypoints_sequence_order ON world_view.waypoints(route_id, sequence_order);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_waypoints_sequence_order ON world_view.waypoints(route_id, sequence_order);
+
+-- Journey analytics (written in batches by the service when JOURNEY_ANALYTICS_ENABLED=true)
+CREATE TABLE IF NOT EXISTS world_view.journey_summaries (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    journey_id VARCHAR(255) NOT NULL,
+    route_id VARCHAR(255) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE,
+    ended_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    distance_travelled_meters DOUBLE PRECISION NOT NULL,
+    route_distance_meters DOUBLE PRECISION NOT NULL,
+    progress_percentage DOUBLE PRECISION NOT NULL,
+    speed_mps DOUBLE PRECISION NOT NULL,
+    end_latitude DOUBLE PRECISION NOT NULL,
+    end_longitude DOUBLE PRECISION NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_journey_summaries_ended_at ON world_view.journey_summaries(ended_at);
+CREATE INDEX IF NOT EXISTS idx_journey_summaries_route ON world_view.journey_summaries(route_id, ended_at);
+
+-- Sampled positions, append-only in time order
+CREATE TABLE IF NOT EXISTS world_view.journey_position_samples (
+    journey_id VARCHAR(255) NOT NULL,
+    sampled_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    progress_percentage DOUBLE PRECISION NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_journey_position_samples_journey ON world_view.journey_position_samples(journey_id, sampled_at);
+-- Rows arrive in time order, so a BRIN index keeps time range scans cheap at a fraction of a B-tree's size
+CREATE INDEX IF NOT EXISTS idx_journey_position_samples_sampled_at ON world_view.journey_position_samples USING BRIN (sampled_at);
@@ -0,0 +1,39 @@
+package pse.nebula.worldview.benchmark;
+
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.PackedPolyline;
+
+/**
+ * Synthetic routes for benchmarks.
+ */
+final class BenchmarkRoutes {
+
+    /** Total length of every generated route, independent of its waypoint count */
+    static final double ROUTE_LENGTH_METERS = 50_000;
+
+    private static final double METERS_PER_DEGREE_LATITUDE = 111_195;
+    private static final double START_LATITUDE = 48.0;
+    private static final double START_LONGITUDE = 9.0;
+
+    private BenchmarkRoutes() {
+    }
+
+    /**
+     * Build a route of the given number of waypoints along a gentle zig-zag, so that
+     * segment lookups and bearings are not trivially constant.
+     *
+     * @param waypointCount Number of waypoints, at least 2
+     * @return The route
+     */
+    static DrivingRoute zigZag(int waypointCount) {
+        double[] latLng = new double[waypointCount * 2];
+        double stepDegrees = ROUTE_LENGTH_METERS / METERS_PER_DEGREE_LATITUDE / (waypointCount - 1);
+        for (int i = 0; i < waypointCount; i++) {
+            latLng[2 * i] = START_LATITUDE + i * stepDegrees;
+            latLng[2 * i + 1] = START_LONGITUDE + (i % 2) * stepDegrees * 0.1;
+        }
+        return DrivingRoute.fromPolyline("benchmark-" + waypointCount, "Benchmark Route", "Synthetic zig-zag",
+                PackedPolyline.fromLatLng(latLng),
+                ROUTE_LENGTH_METERS, (int) (ROUTE_LENGTH_METERS / 13.89));
+    }
+}
@@ -0,0 +1,54 @@
+package pse.nebula.worldview.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pse.nebula.worldview.domain.model.Coordinate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geodesic primitives called for every journey on every tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CoordinateBenchmark {
+
+    private Coordinate from;
+    private Coordinate to;
+    private double fraction;
+
+    @Setup
+    public void setUp() {
+        // Fields rather than constants so the JIT cannot fold the computation
+        from = new Coordinate(48.8973, 9.1920);
+        to = new Coordinate(48.8354, 9.1520);
+        fraction = 0.37;
+    }
+
+    @Benchmark
+    public double distanceTo() {
+        return from.distanceTo(to);
+    }
+
+    @Benchmark
+    public double bearingTo() {
+        return from.bearingTo(to);
+    }
+
+    @Benchmark
+    public Coordinate interpolateTo() {
+        return from.interpolateTo(to, fraction);
+    }
+}
@@ -0,0 +1,69 @@
+package pse.nebula.worldview.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.GeodesicKernel;
+import pse.nebula.worldview.domain.model.PackedPolyline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * All segment lengths of a route: GeodesicKernel against a scalar Coordinate.distanceTo loop.
+ *
+ * This fork runs the kernel's scalar loop; {@link GeodesicKernelVectorBenchmark} repeats the
+ * same benchmarks with the Vector API module enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeodesicKernelBenchmark {
+
+    @Param({"500", "100000"})
+    public int waypoints;
+
+    private PackedPolyline polyline;
+    private Coordinate[] coordinates;
+    private double[] lengths;
+
+    @Setup
+    public void buildRoute() {
+        polyline = BenchmarkRoutes.zigZag(waypoints).polyline();
+        coordinates = polyline.asList().toArray(new Coordinate[0]);
+        lengths = new double[waypoints - 1];
+    }
+
+    @Benchmark
+    public double[] coordinateDistanceTo() {
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = coordinates[i].distanceTo(coordinates[i + 1]);
+        }
+        return lengths;
+    }
+
+    @Benchmark
+    public double[] packedDistanceBetween() {
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = polyline.distanceBetween(i, i + 1);
+        }
+        return lengths;
+    }
+
+    @Benchmark
+    public double[] kernelSegmentLengths() {
+        GeodesicKernel.segmentLengths(polyline, lengths, 0);
+        return lengths;
+    }
+}
@@ -0,0 +1,11 @@
+package pse.nebula.worldview.benchmark;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * {@link GeodesicKernelBenchmark} with {@code jdk.incubator.vector} enabled, so the kernel
+ * takes its Vector API path (if the CPU offers at least two double lanes).
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class GeodesicKernelVectorBenchmark extends GeodesicKernelBenchmark {
+}
@@ -0,0 +1,65 @@
+package pse.nebula.worldview.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.JourneyState;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JourneyState.advance, the per-journey work of every simulation tick.
+ *
+ * Every route is 50 km long regardless of its waypoint count, so differences between the
+ * route sizes isolate the cost of segment lookup rather than the distance driven. A journey
+ * that reaches the end is restarted; that happens at most once every few thousand calls.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JourneyAdvanceBenchmark {
+
+    private static final double SPEED_MPS = 13.89;
+
+    @Param({"2", "500", "100000"})
+    public int waypoints;
+
+    /** Simulated seconds per tick: 0.5 is the real-time default, 60 a heavy time-warp */
+    @Param({"0.5", "60"})
+    public double elapsedSeconds;
+
+    private DrivingRoute route;
+    private JourneyState journey;
+
+    @Setup(Level.Trial)
+    public void buildRoute() {
+        route = BenchmarkRoutes.zigZag(waypoints);
+    }
+
+    @Setup(Level.Iteration)
+    public void startJourney() {
+        journey = new JourneyState("benchmark-journey", route, SPEED_MPS);
+        journey.start();
+    }
+
+    @Benchmark
+    public JourneyState advance() {
+        if (journey.advance(elapsedSeconds)) {
+            startJourney();
+        }
+        return journey;
+    }
+}
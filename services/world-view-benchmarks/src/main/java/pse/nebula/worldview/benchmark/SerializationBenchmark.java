@@ -0,0 +1,68 @@
+package pse.nebula.worldview.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateUpdateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.BinaryCoordinateUpdateCodec;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and encoding the coordinate update published for every journey on every tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    private final DtoMapper dtoMapper = new DtoMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final BinaryCoordinateUpdateCodec binaryCodec = new BinaryCoordinateUpdateCodec();
+
+    private JourneyState journey;
+    private CoordinateUpdateDto update;
+
+    @Setup
+    public void setUp() {
+        journey = new JourneyState("auto-journey-a1b2c3d4", BenchmarkRoutes.zigZag(500), 13.89);
+        journey.start();
+        journey.advance(600);
+        update = dtoMapper.toCoordinateUpdate(journey);
+    }
+
+    @Benchmark
+    public CoordinateUpdateDto toCoordinateUpdate() {
+        return dtoMapper.toCoordinateUpdate(journey);
+    }
+
+    @Benchmark
+    public byte[] jacksonSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(update);
+    }
+
+    @Benchmark
+    public byte[] mapAndJacksonSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtoMapper.toCoordinateUpdate(journey));
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() throws IOException {
+        return binaryCodec.encode(update);
+    }
+}
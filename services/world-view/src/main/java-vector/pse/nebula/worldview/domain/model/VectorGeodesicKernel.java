@@ -0,0 +1,84 @@
+package pse.nebula.worldview.domain.model;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * JDK Vector API implementation of the {@link GeodesicKernel} loops.
+ *
+ * Compiled with the {@code vector-api} Maven profile and loaded reflectively by GeodesicKernel
+ * when the {@code jdk.incubator.vector} module is present. Latitudes and longitudes
+ * are gathered from the interleaved polyline array one vector of points at a time. Segments
+ * too long for the equirectangular fast path are recomputed with the scalar Haversine formula,
+ * and the points that do not fill a whole vector are handled by the scalar loop.
+ */
+final class VectorGeodesicKernel implements GeodesicKernel.Loops {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final double DEGREES_TO_RADIANS = Math.toRadians(1);
+
+    // Lane n reads element 2n of the interleaved array: every latitude (or, shifted by one, longitude)
+    private static final int[] EVERY_OTHER = new int[SPECIES.length()];
+
+    static {
+        for (int lane = 0; lane < EVERY_OTHER.length; lane++) {
+            EVERY_OTHER[lane] = lane * 2;
+        }
+    }
+
+    VectorGeodesicKernel() {
+    }
+
+    @Override
+    public int laneCount() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public void segmentLengths(double[] latLng, int pointCount, double[] out, int offset) {
+        int segments = pointCount - 1;
+        int bound = SPECIES.loopBound(segments);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            DoubleVector lat1 = DoubleVector.fromArray(SPECIES, latLng, i * 2, EVERY_OTHER, 0);
+            DoubleVector lng1 = DoubleVector.fromArray(SPECIES, latLng, i * 2 + 1, EVERY_OTHER, 0);
+            DoubleVector lat2 = DoubleVector.fromArray(SPECIES, latLng, i * 2 + 2, EVERY_OTHER, 0);
+            DoubleVector lng2 = DoubleVector.fromArray(SPECIES, latLng, i * 2 + 3, EVERY_OTHER, 0);
+
+            DoubleVector deltaLat = lat2.sub(lat1);
+            DoubleVector deltaLng = lng2.sub(lng1);
+            DoubleVector cosMean = lat1.mul(DEGREES_TO_RADIANS).lanewise(VectorOperators.COS)
+                    .add(lat2.mul(DEGREES_TO_RADIANS).lanewise(VectorOperators.COS))
+                    .mul(0.5);
+            DoubleVector east = deltaLng.mul(cosMean);
+            east.mul(east).add(deltaLat.mul(deltaLat)).sqrt().mul(GeodesicKernel.METERS_PER_DEGREE)
+                    .intoArray(out, offset + i);
+
+            VectorMask<Double> tooLong = deltaLat.abs().compare(VectorOperators.GT, GeodesicKernel.FAST_PATH_MAX_DELTA_DEGREES)
+                    .or(deltaLng.abs().compare(VectorOperators.GT, GeodesicKernel.FAST_PATH_MAX_DELTA_DEGREES));
+            if (tooLong.anyTrue()) {
+                for (int lane = tooLong.firstTrue(); lane < SPECIES.length(); lane++) {
+                    if (tooLong.laneIsSet(lane)) {
+                        out[offset + i + lane] = GeodesicKernel.haversine(deltaLat.lane(lane), deltaLng.lane(lane),
+                                Math.cos(Math.toRadians(lat1.lane(lane))), Math.cos(Math.toRadians(lat2.lane(lane))));
+                    }
+                }
+            }
+        }
+        GeodesicKernel.scalarSegmentLengths(latLng, bound, pointCount, out, offset);
+    }
+
+    @Override
+    public void project(double[] latLng, int size, double originLatitude, double originLongitude,
+                        double lngScale, double[] x, double[] y) {
+        int bound = SPECIES.loopBound(size);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, latLng, i * 2 + 1, EVERY_OTHER, 0)
+                    .sub(originLongitude).mul(lngScale).intoArray(x, i);
+            DoubleVector.fromArray(SPECIES, latLng, i * 2, EVERY_OTHER, 0)
+                    .sub(originLatitude).mul(GeodesicKernel.METERS_PER_DEGREE).intoArray(y, i);
+        }
+        GeodesicKernel.scalarProject(latLng, bound, size, originLatitude, originLongitude, lngScale, x, y);
+    }
+}
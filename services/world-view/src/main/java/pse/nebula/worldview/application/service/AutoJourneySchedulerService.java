@@ -2,25 +2,44 @@ package pse.nebula.worldview.application.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import pse.nebula.worldview.domain.model.DrivingRoute;
 import pse.nebula.worldview.domain.model.JourneyState;
 import pse.nebula.worldview.domain.model.JourneyStatus;
 import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
 import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service responsible for automatically managing journeys.
  *
  * This service:
- * - Automatically starts a new journey on a random route when no journey is active
- * - Continuously advances the active journey
- * - When a journey completes, waits for a configurable delay before starting a new one
+ * - Keeps the journey slots of the fleet shards owned by this instance filled with journeys
+ *   on random routes (all shards when sharding is disabled)
+ * - Advances active journeys through the JourneySimulationEngine
+ * - When a journey completes, waits for a configurable delay before refilling its slot
+ * - On its first tick, picks up journeys that are already stored, e.g. recovered from disk
+ *   after a restart, and resumes them as owned shards have free slots; until then they stay
+ *   stored and take precedence over new journeys
+ * - Stops journeys of shards whose lease was lost and hands drained shards back
+ * - Holds back every journey while the shard leases are not confirmed, so nothing is
+ *   published for a shard that another instance may have taken over
+ *
+ * Time is taken from the SimulationClock and the refill delay is measured in simulated time.
+ * There are two drivers, both calling from a single thread:
+ * - In real time, the JourneyTickScheduler advances each journey at its own tick interval
+ *   through {@link #advanceJourneys} and calls {@link #manageSlots} every update interval.
+ * - With a manual clock, the headless batch runner calls {@link #manageJourneys}, which
+ *   advances all journeys by the update interval times the clock's acceleration factor.
  *
  * No user intervention is required - journeys run automatically in a loop.
  */
@@ -30,109 +49,272 @@ public class AutoJourneySchedulerService {
 
     private final JourneyUseCase journeyUseCase;
     private final RouteUseCase routeUseCase;
+    private final JourneySimulationEngine simulationEngine;
+    private final SimulationClock simulationClock;
+    private final ShardOwnershipService shardOwnership;
+    private final long updateIntervalMs;
     private final double updateIntervalSeconds;
     private final double defaultSpeedMps;
     private final long delayBetweenJourneysMs;
+    private final int maxStartsPerTick;
 
-    // Track the current active journey
-    private final AtomicReference<String> activeJourneyId = new AtomicReference<>(null);
-
-    // Track when the last journey completed (for delay between journeys)
-    private volatile long lastJourneyCompletedTime = 0;
+    // Slot bookkeeping, only accessed from the scheduling thread:
+    // the shard of every running journey, the running plus cooling-down slots per shard,
+    // and the times at which slots freed by completed journeys may be refilled
+    private final Map<String, Integer> journeyShards = new HashMap<>();
+    private final int[] shardOccupancy;
+    private final Deque<SlotCooldown> slotCooldowns = new ArrayDeque<>();
+    private final Deque<String> pendingResumes = new ArrayDeque<>();
+    private long checkedOwnershipVersion = -1;
+    private long startedJourneyCount;
+    private long completedJourneyCount;
+    private boolean storedJourneysResumed;
+    private boolean fenced;
 
     public AutoJourneySchedulerService(
             JourneyUseCase journeyUseCase,
             RouteUseCase routeUseCase,
+            JourneySimulationEngine simulationEngine,
+            SimulationClock simulationClock,
+            ShardOwnershipService shardOwnership,
             @Value("${journey.scheduler.update-interval-ms:500}") long updateIntervalMs,
             @Value("${journey.scheduler.default-speed-mps:13.89}") double defaultSpeedMps,
-            @Value("${journey.scheduler.delay-between-journeys-ms:5000}") long delayBetweenJourneysMs) {
+            @Value("${journey.scheduler.delay-between-journeys-ms:5000}") long delayBetweenJourneysMs,
+            @Value("${journey.scheduler.max-starts-per-tick:100}") int maxStartsPerTick) {
         this.journeyUseCase = journeyUseCase;
         this.routeUseCase = routeUseCase;
+        this.simulationEngine = simulationEngine;
+        this.simulationClock = simulationClock;
+        this.shardOwnership = shardOwnership;
+        this.updateIntervalMs = updateIntervalMs;
         this.updateIntervalSeconds = updateIntervalMs / 1000.0;
         this.defaultSpeedMps = defaultSpeedMps;
         this.delayBetweenJourneysMs = delayBetweenJourneysMs;
+        this.maxStartsPerTick = Math.max(1, maxStartsPerTick);
+        this.shardOccupancy = new int[shardOwnership.getShardCount()];
 
-        log.info("AutoJourneySchedulerService initialized - Update: {}ms, Speed: {} m/s ({} km/h), Delay: {}ms",
-                updateIntervalMs, defaultSpeedMps, String.format("%.1f", defaultSpeedMps * 3.6), delayBetweenJourneysMs);
+        log.info("AutoJourneySchedulerService initialized - Update: {}ms, Speed: {} m/s ({} km/h), Delay: {}ms, Shards: {}/{}",
+                updateIntervalMs, defaultSpeedMps, String.format("%.1f", defaultSpeedMps * 3.6),
+                delayBetweenJourneysMs, shardOwnership.getOwnedShardCount(), shardOwnership.getShardCount());
     }
 
     /**
-     * Main scheduled task that manages the journey lifecycle automatically.
-     * Runs at the configured update interval.
+     * Run one tick of the journey lifecycle: advance every journey by one update interval,
+     * clean up and refill free slots.
      */
-    @Scheduled(fixedRateString = "${journey.scheduler.update-interval-ms:500}")
     public void manageJourneys() {
-        String currentJourneyId = activeJourneyId.get();
+        resumeStoredJourneysOnce();
+
+        // Advance every active journey, then clean up the ones that finished
+        if (leasesConfirmed()) {
+            double elapsedSeconds = updateIntervalSeconds * simulationClock.accelerationFactor();
+            handleTickResult(simulationEngine.tick(elapsedSeconds));
+        }
+
+        manageSlots();
+    }
 
-        if (currentJourneyId == null) {
-            // No active journey - check if we should start a new one
-            handleNoActiveJourney();
-        } else {
-            // Active journey exists - advance it
-            handleActiveJourney(currentJourneyId);
+    /**
+     * Advance some of the active journeys, each by its own amount of simulated time,
+     * and clean up the ones that finished.
+     *
+     * @param journeyIds The journeys to advance, in the first {@code count} elements
+     * @param elapsedSeconds Simulated seconds to advance each journey by
+     * @param count Number of journeys to advance
+     */
+    public void advanceJourneys(String[] journeyIds, double[] elapsedSeconds, int count) {
+        if (leasesConfirmed()) {
+            handleTickResult(simulationEngine.advance(journeyIds, elapsedSeconds, count));
         }
     }
 
     /**
-     * Handle the case when no journey is currently active.
-     * Starts a new journey after the configured delay.
+     * Check the lease confirmation before a batch of journeys is advanced and published.
+     * Skipped batches are not caught up; the journeys simply pause.
      */
-    private void handleNoActiveJourney() {
-        // Check if we need to wait before starting a new journey
-        if (lastJourneyCompletedTime > 0) {
-            long timeSinceCompletion = System.currentTimeMillis() - lastJourneyCompletedTime;
-            if (timeSinceCompletion < delayBetweenJourneysMs) {
-                log.trace("Waiting before starting new journey. Time remaining: {}ms",
-                        delayBetweenJourneysMs - timeSinceCompletion);
-                return;
+    private boolean leasesConfirmed() {
+        boolean confirmed = shardOwnership.leasesConfirmed();
+        if (confirmed == fenced) {
+            fenced = !confirmed;
+            if (fenced) {
+                log.warn("Shard leases not confirmed recently, holding back journey updates");
+            } else {
+                log.info("Shard leases confirmed again, resuming journey updates");
             }
         }
+        return confirmed;
+    }
 
-        // Start a new journey on a random route
-        startNewAutoJourney();
+    /**
+     * Maintain the journey slots without advancing journeys: release expired cooldowns,
+     * apply shard ownership changes, resume stored journeys and start journeys for the
+     * remaining free slots. On the first call, the journeys that are already stored are
+     * picked up.
+     */
+    public void manageSlots() {
+        resumeStoredJourneysOnce();
+        expireSlotCooldowns();
+        applyShardOwnership();
+        resumePendingJourneys();
+        startJourneysForFreeSlots();
+    }
+
+    private void handleTickResult(JourneySimulationEngine.TickResult result) {
+        if (result.isEmpty()) {
+            return;
+        }
+        for (String journeyId : result.completedJourneyIds()) {
+            onJourneyCompleted(journeyId);
+        }
+        // Journeys that vanished or failed are dropped immediately to allow recovery
+        for (String journeyId : result.lostJourneyIds()) {
+            simulationEngine.unregister(journeyId);
+            freeSlot(journeyId);
+        }
+    }
+
+    private void resumeStoredJourneysOnce() {
+        if (!storedJourneysResumed) {
+            storedJourneysResumed = true;
+            resumeStoredJourneys();
+        }
     }
 
     /**
-     * Handle the active journey - advance it and check for completion.
+     * Queue the journeys that were stored before the scheduler started, so that they continue
+     * from their last position instead of being replaced by new journeys.
      */
-    private void handleActiveJourney(String journeyId) {
-        try {
-            // Check if journey still exists
-            if (!journeyUseCase.journeyExists(journeyId)) {
-                log.warn("[Journey: {}] Active journey no longer exists, clearing", journeyId);
-                activeJourneyId.set(null);
-                return;
+    private void resumeStoredJourneys() {
+        for (JourneyState journeyState : journeyUseCase.getAllJourneyStates()) {
+            if (journeyState.getStatus() == JourneyStatus.COMPLETED) {
+                journeyUseCase.stopJourney(journeyState.getJourneyId());
+            } else {
+                pendingResumes.addLast(journeyState.getJourneyId());
             }
+        }
+        resumePendingJourneys();
+    }
 
-            JourneyState state = journeyUseCase.getJourneyState(journeyId);
+    /**
+     * Register queued stored journeys while an owned shard has a free slot. Journeys without a
+     * slot stay stored and queued, e.g. until this instance has acquired its shards. A queued
+     * journey that was stopped in the meantime is reported as lost on its first tick.
+     */
+    private void resumePendingJourneys() {
+        int resumed = 0;
+        while (!pendingResumes.isEmpty()) {
+            int shard = leastOccupiedShardWithFreeSlot();
+            if (shard < 0) {
+                break;
+            }
+            String journeyId = pendingResumes.pollFirst();
+            simulationEngine.register(journeyId);
+            occupySlot(journeyId, shard);
+            resumed++;
+        }
+        if (resumed > 0) {
+            log.info("Resumed {} stored journeys, {} waiting for a free slot", resumed, pendingResumes.size());
+        }
+    }
 
-            // Check if journey is completed
-            if (state.getStatus() == JourneyStatus.COMPLETED) {
-                onJourneyCompleted(journeyId);
-                return;
+    private void expireSlotCooldowns() {
+        long now = simulationClock.currentTimeMillis();
+        while (!slotCooldowns.isEmpty() && slotCooldowns.peekFirst().deadline() <= now) {
+            shardOccupancy[slotCooldowns.pollFirst().shard()]--;
+        }
+    }
+
+    /**
+     * React to shard ownership changes: stop journeys of shards that are no longer owned and
+     * release draining shards that have no journeys left.
+     */
+    private void applyShardOwnership() {
+        long version = shardOwnership.getOwnershipVersion();
+        if (version != checkedOwnershipVersion) {
+            checkedOwnershipVersion = version;
+            Iterator<Map.Entry<String, Integer>> journeys = journeyShards.entrySet().iterator();
+            while (journeys.hasNext()) {
+                Map.Entry<String, Integer> journey = journeys.next();
+                if (!shardOwnership.owns(journey.getValue())) {
+                    log.warn("[Journey: {}] Shard {} is no longer owned, stopping journey",
+                            journey.getKey(), journey.getValue());
+                    journeys.remove();
+                    shardOccupancy[journey.getValue()]--;
+                    simulationEngine.unregister(journey.getKey());
+                    stopQuietly(journey.getKey());
+                }
             }
+        }
 
-            // Only advance if in progress
-            if (state.getStatus() == JourneyStatus.IN_PROGRESS) {
-                journeyUseCase.advanceJourney(journeyId, updateIntervalSeconds);
+        for (int shard = 0; shard < shardOccupancy.length; shard++) {
+            if (shardOccupancy[shard] == 0 && shardOwnership.isDraining(shard)) {
+                shardOwnership.releaseDrainedShard(shard);
+            }
+        }
+    }
 
-                // Check if completed after advancement
-                JourneyState updatedState = journeyUseCase.getJourneyState(journeyId);
-                if (updatedState.getStatus() == JourneyStatus.COMPLETED) {
-                    onJourneyCompleted(journeyId);
+    /**
+     * Start new journeys for every slot of an owned shard that is free and no longer cooling
+     * down. Newly started journeys are advanced from their next tick on.
+     */
+    private void startJourneysForFreeSlots() {
+        int starts = 0;
+        for (int shard = 0; shard < shardOccupancy.length && starts < maxStartsPerTick; shard++) {
+            if (!shardOwnership.acceptsNewJourneys(shard)) {
+                continue;
+            }
+            int capacity = shardOwnership.capacityOf(shard);
+            while (shardOccupancy[shard] < capacity && starts < maxStartsPerTick) {
+                if (!startNewAutoJourney(shard)) {
+                    return;
                 }
+                starts++;
             }
+        }
+        if (starts == 0) {
+            log.trace("No free journey slots. Cooling down: {}", slotCooldowns.size());
+        }
+    }
+
+    private int leastOccupiedShardWithFreeSlot() {
+        int best = -1;
+        for (int shard = 0; shard < shardOccupancy.length; shard++) {
+            if (shardOccupancy[shard] < shardOwnership.capacityOf(shard)
+                    && shardOwnership.acceptsNewJourneys(shard)
+                    && (best < 0 || shardOccupancy[shard] < shardOccupancy[best])) {
+                best = shard;
+            }
+        }
+        return best;
+    }
+
+    private void occupySlot(String journeyId, int shard) {
+        journeyShards.put(journeyId, shard);
+        shardOccupancy[shard]++;
+    }
+
+    private void freeSlot(String journeyId) {
+        Integer shard = journeyShards.remove(journeyId);
+        if (shard != null) {
+            shardOccupancy[shard]--;
+        }
+    }
+
+    private void stopQuietly(String journeyId) {
+        try {
+            journeyUseCase.stopJourney(journeyId);
         } catch (Exception e) {
-            log.error("[Journey: {}] Error processing journey", journeyId, e);
-            // Clear the active journey to allow recovery
-            activeJourneyId.set(null);
+            log.debug("[Journey: {}] Already cleaned up", journeyId);
         }
     }
 
     /**
      * Start a new journey automatically on a random route.
+     *
+     * @param shard The shard whose slot the journey occupies
+     * @return true if the journey was started
      */
-    private void startNewAutoJourney() {
+    private boolean startNewAutoJourney(int shard) {
         try {
             // Get a random route
             DrivingRoute route = routeUseCase.getRandomRoute();
@@ -141,13 +323,17 @@ public class AutoJourneySchedulerService {
             String journeyId = "auto-journey-" + UUID.randomUUID().toString().substring(0, 8);
 
             // Start the journey (logging is handled in JourneyService)
-            JourneyState journeyState = journeyUseCase.startNewJourney(journeyId, defaultSpeedMps);
+            journeyUseCase.startNewJourney(journeyId, route, defaultSpeedMps);
 
-            // Register as active journey
-            activeJourneyId.set(journeyId);
+            // Register with the simulation engine
+            simulationEngine.register(journeyId);
+            occupySlot(journeyId, shard);
+            startedJourneyCount++;
+            return true;
 
         } catch (Exception e) {
             log.error("Failed to start new auto journey", e);
+            return false;
         }
     }
 
@@ -156,29 +342,68 @@ public class AutoJourneySchedulerService {
      */
     private void onJourneyCompleted(String journeyId) {
         // Clean up the completed journey (completion logging is handled in JourneyService)
-        try {
-            journeyUseCase.stopJourney(journeyId);
-        } catch (Exception e) {
-            log.debug("[Journey: {}] Already cleaned up", journeyId);
-        }
+        stopQuietly(journeyId);
 
-        // Clear active journey
-        activeJourneyId.set(null);
+        simulationEngine.unregister(journeyId);
+        completedJourneyCount++;
 
-        // Record completion time for delay
-        lastJourneyCompletedTime = System.currentTimeMillis();
+        // The freed slot is refilled after the configured delay
+        Integer shard = journeyShards.remove(journeyId);
+        if (shard != null) {
+            slotCooldowns.addLast(new SlotCooldown(shard, simulationClock.currentTimeMillis() + delayBetweenJourneysMs));
+        }
 
         long delaySeconds = delayBetweenJourneysMs / 1000;
         log.info("Next journey will start in {}s", delaySeconds);
     }
 
+    /**
+     * Get the scheduler update interval, which is the simulated time covered by one tick
+     * at an acceleration factor of 1.
+     *
+     * @return The update interval in milliseconds
+     */
+    public long getUpdateIntervalMs() {
+        return updateIntervalMs;
+    }
+
+    /**
+     * Get the number of journeys started since startup.
+     * Must be called from the thread that drives the ticks.
+     *
+     * @return The started journey count
+     */
+    public long getStartedJourneyCount() {
+        return startedJourneyCount;
+    }
+
+    /**
+     * Get the number of journeys that ran to completion since startup.
+     * Must be called from the thread that drives the ticks.
+     *
+     * @return The completed journey count
+     */
+    public long getCompletedJourneyCount() {
+        return completedJourneyCount;
+    }
+
     /**
      * Get the current active journey ID, if any.
+     * When several journeys are running, this is the oldest one.
      *
      * @return Optional containing the active journey ID
      */
     public Optional<String> getActiveJourneyId() {
-        return Optional.ofNullable(activeJourneyId.get());
+        return simulationEngine.getOldestActiveJourneyId();
+    }
+
+    /**
+     * Get the IDs of all journeys currently running, oldest first.
+     *
+     * @return List of active journey IDs
+     */
+    public List<String> getActiveJourneyIds() {
+        return simulationEngine.getActiveJourneyIds();
     }
 
     /**
@@ -187,7 +412,7 @@ public class AutoJourneySchedulerService {
      * @return true if a journey is currently active
      */
     public boolean hasActiveJourney() {
-        return activeJourneyId.get() != null;
+        return simulationEngine.getActiveJourneyCount() > 0;
     }
 
     /**
@@ -196,15 +421,19 @@ public class AutoJourneySchedulerService {
      * @return Optional containing the active journey state
      */
     public Optional<JourneyState> getActiveJourneyState() {
-        String journeyId = activeJourneyId.get();
-        if (journeyId == null) {
+        Optional<String> journeyId = getActiveJourneyId();
+        if (journeyId.isEmpty()) {
             return Optional.empty();
         }
         try {
-            return Optional.of(journeyUseCase.getJourneyState(journeyId));
+            return Optional.of(journeyUseCase.getJourneyState(journeyId.get()));
         } catch (Exception e) {
             return Optional.empty();
         }
     }
-}
 
+    /**
+     * A slot of a shard that was freed by a completed journey and may be refilled at the deadline.
+     */
+    private record SlotCooldown(int shard, long deadline) {}
+}
@@ -0,0 +1,157 @@
+package pse.nebula.worldview.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
+import pse.nebula.worldview.domain.model.GeofenceIndex;
+import pse.nebula.worldview.domain.model.GeofenceTransition;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.port.inbound.GeofenceUseCase;
+import pse.nebula.worldview.domain.port.outbound.GeofenceRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application service that detects journeys entering and leaving geofences.
+ *
+ * Geofences are loaded from the repository on first use into a {@link GeofenceIndex}, so
+ * each evaluation only checks the fences near the journey's position. For every journey
+ * the service remembers the sorted indexes of the fences it was inside; an evaluation
+ * whose result equals the remembered set produces no events and allocates nothing beyond
+ * the index lookup.
+ *
+ * Events are counted in the "worldview.geofence.events" counter, tagged by transition.
+ */
+@Slf4j
+@Service
+public class GeofenceService implements GeofenceUseCase {
+
+    private static final int[] NONE = new int[0];
+
+    private final GeofenceRepository geofenceRepository;
+    private final double cellSizeDegrees;
+    private final Counter enterCounter;
+    private final Counter exitCounter;
+
+    private final Object indexLock = new Object();
+    private volatile GeofenceIndex index;
+
+    // Journey ID -> sorted indexes of the fences it is inside; journeys outside every fence are absent
+    private final Map<String, int[]> membership = new ConcurrentHashMap<>();
+
+    public GeofenceService(
+            GeofenceRepository geofenceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${journey.geofence.cell-size-degrees:0.01}") double cellSizeDegrees) {
+        this.geofenceRepository = geofenceRepository;
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.enterCounter = Counter.builder("worldview.geofence.events")
+                .description("Geofence boundary crossings")
+                .tag("transition", "enter")
+                .register(meterRegistry);
+        this.exitCounter = Counter.builder("worldview.geofence.events")
+                .description("Geofence boundary crossings")
+                .tag("transition", "exit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<Geofence> getAllGeofences() {
+        GeofenceIndex fences = getIndex();
+        List<Geofence> result = new ArrayList<>(fences.size());
+        for (int i = 0; i < fences.size(); i++) {
+            result.add(fences.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Geofence> getGeofencesAt(Coordinate position) {
+        if (position == null) {
+            throw new IllegalArgumentException("Position cannot be null");
+        }
+        GeofenceIndex fences = getIndex();
+        int[] inside = fences.containing(position.latitude(), position.longitude());
+        List<Geofence> result = new ArrayList<>(inside.length);
+        for (int fence : inside) {
+            result.add(fences.get(fence));
+        }
+        return result;
+    }
+
+    @Override
+    public List<GeofenceEvent> evaluate(JourneyState journeyState) {
+        GeofenceIndex fences = getIndex();
+        String journeyId = journeyState.getJourneyId();
+        double latitude = journeyState.getCurrentLatitude();
+        double longitude = journeyState.getCurrentLongitude();
+
+        // Checked in place first so a journey that stays inside its fences allocates nothing
+        int[] previous = membership.get(journeyId);
+        if (fences.containsExactly(latitude, longitude, previous == null ? NONE : previous)) {
+            return List.of();
+        }
+        int[] inside = fences.containing(latitude, longitude);
+        Coordinate position = journeyState.getCurrentPosition();
+
+        if (inside.length == 0) {
+            membership.remove(journeyId);
+        } else {
+            membership.put(journeyId, inside);
+        }
+        return diff(fences, journeyId, position, previous == null ? NONE : previous, inside);
+    }
+
+    @Override
+    public void forgetJourney(String journeyId) {
+        membership.remove(journeyId);
+    }
+
+    private List<GeofenceEvent> diff(GeofenceIndex fences, String journeyId, Coordinate position,
+                                     int[] previous, int[] inside) {
+        List<GeofenceEvent> exits = new ArrayList<>();
+        List<GeofenceEvent> enters = new ArrayList<>();
+
+        // Both arrays are sorted, so one merge pass finds the fences only in one of them
+        int p = 0;
+        int c = 0;
+        while (p < previous.length || c < inside.length) {
+            if (c == inside.length || (p < previous.length && previous[p] < inside[c])) {
+                exits.add(new GeofenceEvent(journeyId, fences.get(previous[p++]), GeofenceTransition.EXIT, position));
+            } else if (p == previous.length || inside[c] < previous[p]) {
+                enters.add(new GeofenceEvent(journeyId, fences.get(inside[c++]), GeofenceTransition.ENTER, position));
+            } else {
+                p++;
+                c++;
+            }
+        }
+
+        exitCounter.increment(exits.size());
+        enterCounter.increment(enters.size());
+        exits.addAll(enters);
+        return exits;
+    }
+
+    private GeofenceIndex getIndex() {
+        GeofenceIndex current = index;
+        return current != null ? current : loadIndex();
+    }
+
+    private GeofenceIndex loadIndex() {
+        synchronized (indexLock) {
+            if (index == null) {
+                index = GeofenceIndex.build(geofenceRepository.findAll(), cellSizeDegrees);
+                log.info("Loaded {} geofences", index.size());
+            }
+            return index;
+        }
+    }
+}
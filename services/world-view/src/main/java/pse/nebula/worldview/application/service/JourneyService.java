@@ -5,22 +5,31 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import pse.nebula.worldview.domain.exception.JourneyAlreadyExistsException;
 import pse.nebula.worldview.domain.exception.JourneyNotFoundException;
-import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
 import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyTrail;
+import pse.nebula.worldview.domain.port.inbound.GeofenceUseCase;
 import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
 import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
 import pse.nebula.worldview.domain.port.outbound.CoordinatePublisher;
+import pse.nebula.worldview.domain.port.outbound.JourneyAnalyticsRepository;
 import pse.nebula.worldview.domain.port.outbound.JourneyStateRepository;
+import pse.nebula.worldview.domain.port.outbound.JourneyTrailRepository;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
 
 /**
  * Application service that implements journey-related use cases.
  * Orchestrates the journey lifecycle and coordinates between domain and infrastructure.
  *
  * Journeys are automatically managed - no manual control is exposed.
+ * Every position change is checked against the geofences, and enter/exit events are
+ * published together with the lifecycle events. Positions are also recorded in the
+ * journey's trail, stamped with simulation time, until the journey is stopped.
+ * Sampled positions and a summary of every stopped journey are handed to the journey
+ * analytics, which persist them in the background.
  */
 @Slf4j
 @Service
@@ -30,18 +39,22 @@ public class JourneyService implements JourneyUseCase {
     private final RouteUseCase routeUseCase;
     private final JourneyStateRepository journeyStateRepository;
     private final CoordinatePublisher coordinatePublisher;
-    
-    // Track last logged milestone per journey to avoid duplicate logs
-    private final Map<String, Double> lastLoggedMilestone = new ConcurrentHashMap<>();
-    
-    // Milestone thresholds (0%, 25%, 50%, 75%, 90%, 100%)
-    private static final double[] MILESTONES = {0.0, 25.0, 50.0, 75.0, 90.0, 100.0};
+    private final GeofenceUseCase geofenceUseCase;
+    private final JourneyTrailRepository journeyTrailRepository;
+    private final SimulationClock simulationClock;
+    private final JourneyAnalyticsRepository journeyAnalyticsRepository;
+
+    // Milestone thresholds (25%, 50%, 75%, 90%, 100%); the start is logged separately
+    private static final double[] MILESTONES = {25.0, 50.0, 75.0, 90.0, 100.0};
 
     @Override
     public JourneyState startNewJourney(String journeyId, double speedMetersPerSecond) {
         // Get a random route
-        DrivingRoute route = routeUseCase.getRandomRoute();
+        return startNewJourney(journeyId, routeUseCase.getRandomRoute(), speedMetersPerSecond);
+    }
 
+    @Override
+    public JourneyState startNewJourney(String journeyId, DrivingRoute route, double speedMetersPerSecond) {
         // Check if journey already exists
         if (journeyStateRepository.exists(journeyId)) {
             throw new JourneyAlreadyExistsException(journeyId);
@@ -56,6 +69,11 @@ public class JourneyService implements JourneyUseCase {
 
         // Publish journey started event
         coordinatePublisher.publishJourneyStarted(journeyState);
+        long now = simulationClock.currentTimeMillis();
+        journeyTrailRepository.open(journeyId);
+        recordTrailPoint(journeyState, now);
+        journeyAnalyticsRepository.recordJourneyStarted(journeyState, now);
+        publishGeofenceEvents(journeyState);
 
         // Log journey start with correlation ID and key details
         log.info("[Journey: {}] Started - Route: \"{}\" ({} waypoints, {} m/s)",
@@ -66,57 +84,49 @@ public class JourneyService implements JourneyUseCase {
 
     @Override
     public JourneyState getJourneyState(String journeyId) {
-        return journeyStateRepository.findById(journeyId)
-            .orElseThrow(() -> new JourneyNotFoundException(journeyId));
+        JourneyState journeyState = journeyStateRepository.findByIdOrNull(journeyId);
+        if (journeyState == null) {
+            throw new JourneyNotFoundException(journeyId);
+        }
+        return journeyState;
     }
 
+    /**
+     * Advance a journey by one tick. The steady-state path - no milestone crossed, no geofence
+     * transition, not completed - reads and publishes primitive state only and allocates nothing.
+     */
     @Override
-    public Coordinate advanceJourney(String journeyId, double elapsedSeconds) {
+    public boolean advanceJourney(String journeyId, double elapsedSeconds) {
         JourneyState journeyState = getJourneyState(journeyId);
 
-        int totalWaypoints = journeyState.getRoute().getTotalWaypoints();
-        double totalDistance = journeyState.getRoute().totalDistanceMeters();
-
+        double previousProgress = journeyState.getProgressPercentage();
         boolean completed = journeyState.advance(elapsedSeconds);
 
         // Save updated state
         journeyStateRepository.save(journeyState);
 
-        // Publish coordinate update (always publish to MQTT for real-time updates)
-        Coordinate currentPosition = journeyState.getCurrentPosition();
-        int currentWaypoint = journeyState.getCurrentWaypointIndex();
+        // Only log when we cross a milestone - MQTT handles real-time updates
         double progress = journeyState.getProgressPercentage();
-        
-        // Check if we've crossed a milestone threshold (0%, 25%, 50%, 75%, 90%, 100%)
-        Double lastMilestone = lastLoggedMilestone.get(journeyId);
-        double crossedMilestone = -1;
-        
-        for (double milestone : MILESTONES) {
-            // Check if we've crossed this milestone (current >= milestone and last logged < milestone)
-            if (progress >= milestone && (lastMilestone == null || lastMilestone < milestone)) {
-                crossedMilestone = milestone;
-                lastLoggedMilestone.put(journeyId, milestone);
-                break;
-            }
-        }
-        
-        // Only log when we cross a milestone
-        if (crossedMilestone >= 0) {
+        if (crossedMilestone(previousProgress, progress)) {
             log.info("[Journey: {}] Progress: {}% ({}/{} waypoints) - Position: [{}, {}]",
                     journeyId,
                     String.format("%.1f", progress),
-                    currentWaypoint + 1,
-                    totalWaypoints,
-                    String.format("%.6f", currentPosition.latitude()),
-                    String.format("%.6f", currentPosition.longitude()));
+                    journeyState.getCurrentWaypointIndex() + 1,
+                    journeyState.getRoute().getTotalWaypoints(),
+                    String.format("%.6f", journeyState.getCurrentLatitude()),
+                    String.format("%.6f", journeyState.getCurrentLongitude()));
         }
-        // No logging for non-milestone progress - MQTT handles real-time updates
-        
-        coordinatePublisher.publishCoordinateUpdate(journeyId, currentPosition, journeyState);
+
+        // Publish coordinate update (always publish to MQTT for real-time updates)
+        coordinatePublisher.publishCoordinateUpdate(journeyState);
+        long now = simulationClock.currentTimeMillis();
+        recordTrailPoint(journeyState, now);
+        journeyAnalyticsRepository.recordPosition(journeyState, now, elapsedSeconds);
+        publishGeofenceEvents(journeyState);
 
         if (completed) {
             // Calculate completion summary
-            double distanceKm = totalDistance / 1000.0;
+            double distanceKm = journeyState.getRoute().totalDistanceMeters() / 1000.0;
             double avgSpeedMps = journeyState.getSpeedMetersPerSecond();
             double avgSpeedKmh = avgSpeedMps * 3.6;
             
@@ -130,20 +140,73 @@ public class JourneyService implements JourneyUseCase {
             coordinatePublisher.publishJourneyCompleted(journeyState);
         }
 
-        return currentPosition;
+        return completed;
     }
 
+    /**
+     * Check whether progress passed a milestone threshold during this tick. Derived from the
+     * progress before and after the tick, so no per-journey bookkeeping is needed.
+     */
+    private static boolean crossedMilestone(double previousProgress, double progress) {
+        for (double milestone : MILESTONES) {
+            if (previousProgress < milestone && progress >= milestone) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public void stopJourney(String journeyId) {
         log.debug("[Journey: {}] Stopping and cleaning up", journeyId);
-        // Clean up milestone tracking
-        lastLoggedMilestone.remove(journeyId);
+        JourneyState journeyState = journeyStateRepository.findByIdOrNull(journeyId);
+        if (journeyState != null) {
+            // The state is deleted below; the summary is what remains of the journey
+            journeyAnalyticsRepository.recordJourneyEnded(journeyState, simulationClock.currentTimeMillis());
+        }
+        geofenceUseCase.forgetJourney(journeyId);
+        journeyTrailRepository.release(journeyId);
         journeyStateRepository.delete(journeyId);
+        coordinatePublisher.publishJourneyStopped(journeyId);
+    }
+
+    @Override
+    public JourneyTrail getJourneyTrail(String journeyId, int maxPoints) {
+        if (maxPoints < 1) {
+            throw new IllegalArgumentException("maxPoints must be at least 1, got: " + maxPoints);
+        }
+        if (!journeyStateRepository.exists(journeyId)) {
+            throw new JourneyNotFoundException(journeyId);
+        }
+        return journeyTrailRepository.findTrail(journeyId, maxPoints)
+            .orElseGet(() -> JourneyTrail.empty(journeyId));
     }
 
     @Override
     public boolean journeyExists(String journeyId) {
         return journeyStateRepository.exists(journeyId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<JourneyState> getAllJourneyStates() {
+        return journeyStateRepository.findAll();
+    }
+
+    private void recordTrailPoint(JourneyState journeyState, long timestampMillis) {
+        journeyTrailRepository.append(journeyState.getJourneyId(), timestampMillis,
+                journeyState.getCurrentLatitude(), journeyState.getCurrentLongitude());
+    }
+
+    private void publishGeofenceEvents(JourneyState journeyState) {
+        List<GeofenceEvent> events = geofenceUseCase.evaluate(journeyState);
+        if (events.isEmpty()) {
+            // No transition: skip the iterator
+            return;
+        }
+        for (GeofenceEvent event : events) {
+            log.debug("[Journey: {}] Geofence {}: {}", journeyState.getJourneyId(),
+                    event.transition(), event.geofence().name());
+            coordinatePublisher.publishGeofenceEvent(event, journeyState);
+        }
+    }
+}
@@ -0,0 +1,459 @@
+package pse.nebula.worldview.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pse.nebula.worldview.domain.exception.JourneyNotFoundException;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
+import pse.nebula.worldview.domain.port.outbound.CoordinatePublisher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Simulation engine that advances all active journeys once per tick.
+ *
+ * The set of active journeys is partitioned into contiguous slices, one per worker thread.
+ * Every journey belongs to exactly one slice, so a JourneyState is never advanced by two
+ * threads at the same time. Journey state is only accessed through the JourneyUseCase port,
+ * which keeps the JourneyStateRepository and CoordinatePublisher ports as integration points.
+ * Once all partitions of a tick are done, the CoordinatePublisher is told that the tick completed,
+ * so publishers can batch the positions of all journeys into one message.
+ *
+ * Each worker thread owns one pre-built slice. The ticking thread hands a slice its range
+ * through volatile fields and wakes the worker with LockSupport, so a tick in which no journey
+ * completes or disappears allocates nothing, however many workers share it.
+ *
+ * Tick duration is exposed as the "worldview.simulation.tick.duration" timer.
+ */
+@Slf4j
+@Service
+public class JourneySimulationEngine {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+    // Upper bound of a wait for a slice; workers normally wake the ticking thread right away
+    private static final long WAIT_PARK_NANOS = 1_000_000;
+
+    private final JourneyUseCase journeyUseCase;
+    private final CoordinatePublisher coordinatePublisher;
+    private final int workerCount;
+    private final int minJourneysPerWorker;
+    // One per worker thread; guarded by this array's monitor while a partitioned tick runs
+    private final Slice[] slices;
+    private volatile boolean running = true;
+    private final Timer tickTimer;
+
+    // Insertion ordered so the oldest active journey can be reported as the "current" one
+    private final Set<String> activeJourneyIds = new LinkedHashSet<>();
+    // Same IDs, for lock-free registration checks by the workers
+    private final Set<String> registeredJourneyIds = ConcurrentHashMap.newKeySet();
+    private String[] activeJourneySnapshot = new String[0];
+    private boolean snapshotStale;
+    private volatile long registrationVersion;
+
+    public JourneySimulationEngine(
+            JourneyUseCase journeyUseCase,
+            CoordinatePublisher coordinatePublisher,
+            MeterRegistry meterRegistry,
+            @Value("${journey.simulation.worker-threads:0}") int workerThreads,
+            @Value("${journey.simulation.min-journeys-per-worker:64}") int minJourneysPerWorker) {
+        this.journeyUseCase = journeyUseCase;
+        this.coordinatePublisher = coordinatePublisher;
+        this.workerCount = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+        this.minJourneysPerWorker = Math.max(1, minJourneysPerWorker);
+        this.slices = new Slice[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            slices[i] = new Slice("journey-simulation-" + (i + 1));
+        }
+
+        this.tickTimer = Timer.builder("worldview.simulation.tick.duration")
+                .description("Time taken to advance all active journeys by one tick")
+                .register(meterRegistry);
+        Gauge.builder("worldview.simulation.journeys.active", this, JourneySimulationEngine::getActiveJourneyCount)
+                .description("Number of journeys currently advanced by the simulation engine")
+                .register(meterRegistry);
+
+        log.info("JourneySimulationEngine initialized with {} worker threads", workerCount);
+    }
+
+    /**
+     * Gracefully shutdown the worker threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        try {
+            for (Slice slice : slices) {
+                if (slice.thread.isAlive()) {
+                    LockSupport.unpark(slice.thread);
+                    slice.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+                    if (slice.thread.isAlive()) {
+                        slice.thread.interrupt();
+                        log.warn("Journey simulation worker {} did not terminate gracefully", slice.thread.getName());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Register a journey so that it is advanced on every subsequent tick.
+     *
+     * @param journeyId The journey identifier
+     */
+    public void register(String journeyId) {
+        synchronized (activeJourneyIds) {
+            if (activeJourneyIds.add(journeyId)) {
+                registeredJourneyIds.add(journeyId);
+                snapshotStale = true;
+                registrationVersion++;
+            }
+        }
+    }
+
+    /**
+     * Stop advancing a journey. Does not delete its state.
+     *
+     * @param journeyId The journey identifier
+     */
+    public void unregister(String journeyId) {
+        synchronized (activeJourneyIds) {
+            if (activeJourneyIds.remove(journeyId)) {
+                registeredJourneyIds.remove(journeyId);
+                snapshotStale = true;
+                registrationVersion++;
+            }
+        }
+    }
+
+    /**
+     * Get the IDs of all registered journeys, oldest first.
+     *
+     * @return Immutable list of active journey IDs
+     */
+    public List<String> getActiveJourneyIds() {
+        return List.of(snapshot());
+    }
+
+    /**
+     * Get the ID of the journey that has been registered the longest.
+     *
+     * @return Optional containing the oldest active journey ID
+     */
+    public Optional<String> getOldestActiveJourneyId() {
+        String[] journeys = snapshot();
+        return journeys.length == 0 ? Optional.empty() : Optional.of(journeys[0]);
+    }
+
+    /**
+     * Get the number of registered journeys.
+     *
+     * @return The active journey count
+     */
+    public int getActiveJourneyCount() {
+        synchronized (activeJourneyIds) {
+            return activeJourneyIds.size();
+        }
+    }
+
+    /**
+     * Get a number that changes whenever a journey is registered or unregistered, so callers
+     * can skip re-reading the active journeys while the set is unchanged.
+     *
+     * @return The registration version
+     */
+    public long getRegistrationVersion() {
+        return registrationVersion;
+    }
+
+    /**
+     * Advance every registered journey by the given amount of time.
+     * Blocks until all partitions have been processed.
+     *
+     * @param elapsedSeconds Simulated time elapsed since the previous tick
+     * @return The journeys that completed or disappeared during this tick
+     */
+    public TickResult tick(double elapsedSeconds) {
+        long startNanos = System.nanoTime();
+        try {
+            String[] journeys = snapshot();
+            int partitions = partitionCount(journeys.length);
+
+            TickResult result = partitions <= 1
+                    ? advanceRange(journeys, 0, journeys.length, null, elapsedSeconds)
+                    : advancePartitioned(journeys, journeys.length, partitions, null, elapsedSeconds);
+            coordinatePublisher.publishTickCompleted();
+            return result;
+        } finally {
+            tickTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Advance a subset of the journeys, each by its own amount of time. Used by schedulers
+     * that tick journeys at individual intervals. Journeys that are not registered are
+     * skipped. Blocks until all partitions have been processed.
+     *
+     * @param journeyIds The journeys to advance, in the first {@code count} elements
+     * @param elapsedSeconds Simulated time elapsed for each journey since its previous tick
+     * @param count Number of journeys to advance
+     * @return The journeys that completed or disappeared during this tick
+     */
+    public TickResult advance(String[] journeyIds, double[] elapsedSeconds, int count) {
+        long startNanos = System.nanoTime();
+        try {
+            int partitions = partitionCount(count);
+            TickResult result = partitions <= 1
+                    ? advanceRange(journeyIds, 0, count, elapsedSeconds, 0)
+                    : advancePartitioned(journeyIds, count, partitions, elapsedSeconds, 0);
+            coordinatePublisher.publishTickCompleted();
+            return result;
+        } finally {
+            tickTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private TickResult advancePartitioned(String[] journeys, int count, int partitions,
+                                          double[] elapsedPerJourney, double elapsedSeconds) {
+        synchronized (slices) {
+            Thread caller = Thread.currentThread();
+            int sliceSize = (count + partitions - 1) / partitions;
+            int used = 0;
+            for (int from = 0; from < count; from += sliceSize) {
+                slices[used++].start(caller, journeys, from, Math.min(count, from + sliceSize),
+                        elapsedPerJourney, elapsedSeconds);
+            }
+
+            // Slices reuse their fields on the next tick, so wait for every one even if interrupted
+            boolean interrupted = false;
+            for (int i = 0; i < used; i++) {
+                Slice slice = slices[i];
+                while (!slice.isDone()) {
+                    if (!slice.thread.isAlive()) {
+                        // Shut down before it picked the slice up
+                        slice.advance(slice.requested);
+                        break;
+                    }
+                    LockSupport.parkNanos(this, WAIT_PARK_NANOS);
+                    interrupted |= Thread.interrupted();
+                }
+            }
+            if (interrupted) {
+                caller.interrupt();
+            }
+            return merge(used);
+        }
+    }
+
+    /**
+     * Combine the results of the first {@code used} slices. Allocates only when one of them has
+     * something to report.
+     */
+    private TickResult merge(int used) {
+        TickResult single = TickResult.EMPTY;
+        int nonEmpty = 0;
+        for (int i = 0; i < used; i++) {
+            if (!slices[i].result.isEmpty()) {
+                single = slices[i].result;
+                nonEmpty++;
+            }
+        }
+        if (nonEmpty <= 1) {
+            clearResults(used);
+            return single;
+        }
+        List<String> completed = new ArrayList<>();
+        List<String> lost = new ArrayList<>();
+        for (int i = 0; i < used; i++) {
+            completed.addAll(slices[i].result.completedJourneyIds());
+            lost.addAll(slices[i].result.lostJourneyIds());
+        }
+        clearResults(used);
+        return new TickResult(completed, lost);
+    }
+
+    private void clearResults(int used) {
+        for (int i = 0; i < used; i++) {
+            slices[i].clear();
+        }
+    }
+
+    /**
+     * Advance journeys[from, to), by elapsedPerJourney[i] if given, else by elapsedSeconds.
+     */
+    private TickResult advanceRange(String[] journeys, int from, int to,
+                                    double[] elapsedPerJourney, double elapsedSeconds) {
+        List<String> completed = null;
+        List<String> lost = null;
+
+        for (int i = from; i < to; i++) {
+            String journeyId = journeys[i];
+            if (!registeredJourneyIds.contains(journeyId)) {
+                // Unregistered since the caller picked it, e.g. stopped or handed over
+                continue;
+            }
+            try {
+                JourneyState state = journeyUseCase.getJourneyState(journeyId);
+
+                if (state.getStatus() == JourneyStatus.IN_PROGRESS) {
+                    journeyUseCase.advanceJourney(journeyId,
+                            elapsedPerJourney != null ? elapsedPerJourney[i] : elapsedSeconds);
+                }
+                if (state.getStatus() == JourneyStatus.COMPLETED) {
+                    completed = append(completed, journeyId);
+                }
+            } catch (JourneyNotFoundException e) {
+                log.warn("[Journey: {}] Active journey no longer exists, clearing", journeyId);
+                lost = append(lost, journeyId);
+            } catch (Exception e) {
+                log.error("[Journey: {}] Error processing journey", journeyId, e);
+                lost = append(lost, journeyId);
+            }
+        }
+
+        if (completed == null && lost == null) {
+            // The common case: nothing to report, nothing allocated
+            return TickResult.EMPTY;
+        }
+        return new TickResult(
+                completed == null ? List.of() : completed,
+                lost == null ? List.of() : lost);
+    }
+
+    private int partitionCount(int journeyCount) {
+        if (workerCount <= 1 || journeyCount < 2 * minJourneysPerWorker) {
+            return 1;
+        }
+        return Math.min(workerCount, journeyCount / minJourneysPerWorker);
+    }
+
+    private String[] snapshot() {
+        synchronized (activeJourneyIds) {
+            if (snapshotStale) {
+                activeJourneySnapshot = activeJourneyIds.toArray(String[]::new);
+                snapshotStale = false;
+            }
+            return activeJourneySnapshot;
+        }
+    }
+
+    /**
+     * A worker thread and the range of journeys it advances in the current tick.
+     * The range is written by the ticking thread before the volatile {@code requested}, and the
+     * result by the worker before the volatile {@code completed}.
+     */
+    private final class Slice implements Runnable {
+
+        private final Thread thread;
+        private Thread caller;
+        private String[] journeys;
+        private int from;
+        private int to;
+        private double[] elapsedPerJourney;
+        private double elapsedSeconds;
+        private TickResult result = TickResult.EMPTY;
+        private volatile long requested;
+        private volatile long completed;
+
+        Slice(String threadName) {
+            this.thread = new Thread(this, threadName);
+            this.thread.setDaemon(true);
+        }
+
+        void start(Thread caller, String[] journeys, int from, int to,
+                   double[] elapsedPerJourney, double elapsedSeconds) {
+            this.caller = caller;
+            this.journeys = journeys;
+            this.from = from;
+            this.to = to;
+            this.elapsedPerJourney = elapsedPerJourney;
+            this.elapsedSeconds = elapsedSeconds;
+            requested = requested + 1;
+            if (thread.getState() == Thread.State.NEW) {
+                thread.start();
+            } else {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        boolean isDone() {
+            return completed == requested;
+        }
+
+        void clear() {
+            journeys = null;
+            elapsedPerJourney = null;
+            result = TickResult.EMPTY;
+        }
+
+        void advance(long request) {
+            try {
+                result = advanceRange(journeys, from, to, elapsedPerJourney, elapsedSeconds);
+            } catch (Throwable e) {
+                log.error("Simulation worker failed", e);
+                result = TickResult.EMPTY;
+            }
+            completed = request;
+        }
+
+        @Override
+        public void run() {
+            // A pending request is always handled before the thread exits
+            while (true) {
+                long request = requested;
+                if (request != completed) {
+                    advance(request);
+                    LockSupport.unpark(caller);
+                } else if (!running) {
+                    return;
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+        }
+    }
+
+    private static List<String> append(List<String> list, String journeyId) {
+        List<String> target = list == null ? new ArrayList<>() : list;
+        target.add(journeyId);
+        return target;
+    }
+
+    /**
+     * Outcome of a single simulation tick.
+     *
+     * @param completedJourneyIds Journeys that are COMPLETED after this tick
+     * @param lostJourneyIds Journeys that no longer exist or failed to advance
+     */
+    public record TickResult(List<String> completedJourneyIds, List<String> lostJourneyIds) {
+
+        /**
+         * Result of a tick in which no journey completed or was lost.
+         */
+        public static final TickResult EMPTY = new TickResult(List.of(), List.of());
+
+        /**
+         * Check whether the tick has nothing to report.
+         *
+         * @return true if no journey completed or was lost
+         */
+        public boolean isEmpty() {
+            return completedJourneyIds.isEmpty() && lostJourneyIds.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package pse.nebula.worldview.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pse.nebula.worldview.domain.exception.RouteAlreadyExistsException;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.PackedPolyline;
+import pse.nebula.worldview.domain.model.PolylineBuilder;
+import pse.nebula.worldview.domain.model.RouteImportResult;
+import pse.nebula.worldview.domain.model.RouteImportSpec;
+import pse.nebula.worldview.domain.model.RouteSimplifier;
+import pse.nebula.worldview.domain.model.WaypointSource;
+import pse.nebula.worldview.domain.port.inbound.RouteImportUseCase;
+import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+import pse.nebula.worldview.domain.port.outbound.RouteRepository;
+
+/**
+ * Application service that imports routes from track files.
+ *
+ * The waypoints are streamed from the source into a packed polyline, validated and measured
+ * point by point. The route distance is the sum of the true segment lengths of the track as
+ * read, before any simplification, and the duration is estimated from the average speed.
+ */
+@Slf4j
+@Service
+public class RouteImportService implements RouteImportUseCase {
+
+    private final RouteRepository routeRepository;
+    private final RouteUseCase routeUseCase;
+    private final int maxWaypoints;
+    private final double averageSpeedMps;
+
+    public RouteImportService(
+            RouteRepository routeRepository,
+            RouteUseCase routeUseCase,
+            @Value("${route.import.max-waypoints:5000000}") int maxWaypoints,
+            @Value("${route.import.average-speed-mps:13.89}") double averageSpeedMps) {
+        if (!(averageSpeedMps > 0)) {
+            throw new IllegalArgumentException("Average speed must be positive, got: " + averageSpeedMps);
+        }
+        this.routeRepository = routeRepository;
+        this.routeUseCase = routeUseCase;
+        this.maxWaypoints = maxWaypoints;
+        this.averageSpeedMps = averageSpeedMps;
+    }
+
+    @Override
+    public RouteImportResult importRoute(RouteImportSpec spec, WaypointSource waypoints) {
+        long startNanos = System.nanoTime();
+
+        // Fail before reading a potentially large file
+        if (routeRepository.findById(spec.id()).isPresent()) {
+            throw new RouteAlreadyExistsException(spec.id());
+        }
+
+        PolylineBuilder builder = new PolylineBuilder(maxWaypoints);
+        waypoints.readInto(builder);
+        PackedPolyline polyline = builder.build();
+        double distanceMeters = builder.distanceMeters();
+        if (spec.simplificationToleranceMeters() > 0) {
+            polyline = RouteSimplifier.simplify(polyline, spec.simplificationToleranceMeters());
+        }
+
+        DrivingRoute route = DrivingRoute.fromPolyline(
+                spec.id(),
+                spec.name(),
+                spec.description(),
+                polyline,
+                distanceMeters,
+                (int) Math.max(1, Math.round(distanceMeters / averageSpeedMps)));
+        routeRepository.save(route);
+        routeUseCase.invalidateRouteCatalogue();
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Imported route {} with {} of {} points read, {} m, in {} ms",
+                route.id(), polyline.size(), builder.pointsRead(), Math.round(distanceMeters), elapsedMillis);
+        return new RouteImportResult(route, builder.pointsRead(), elapsedMillis);
+    }
+}
@@ -1,45 +1,68 @@
 package pse.nebula.worldview.application.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import pse.nebula.worldview.domain.exception.RouteNotFoundException;
+import pse.nebula.worldview.domain.model.BoundingBox;
+import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.RouteCatalogue;
+import pse.nebula.worldview.domain.model.RouteDetailLevel;
+import pse.nebula.worldview.domain.model.RouteMatch;
 import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
 import pse.nebula.worldview.domain.port.outbound.RouteRepository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 
 /**
  * Application service that implements route-related use cases.
  * Acts as a facade between the inbound ports and the domain.
+ *
+ * Routes are served from an in-memory {@link RouteCatalogue} snapshot that is loaded
+ * from the repository on first use and kept until it is invalidated. In steady state
+ * no route query reaches the repository. Simplified levels of detail for overview maps
+ * are computed once per catalogue at the configured tolerances.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RouteService implements RouteUseCase {
 
     private final RouteRepository routeRepository;
+    private final List<Double> detailTolerancesMeters;
     private final Random random = new Random();
 
+    // Guards loading and invalidation so a stale load can never overwrite an invalidation
+    private final Object catalogueLock = new Object();
+    private volatile RouteCatalogue catalogue;
+    private long catalogueVersion;
+
+    public RouteService(
+            RouteRepository routeRepository,
+            @Value("${route.level-of-detail.tolerances-meters:5,20,80,320}") List<Double> detailTolerancesMeters) {
+        this.routeRepository = routeRepository;
+        this.detailTolerancesMeters = List.copyOf(detailTolerancesMeters);
+    }
+
     @Override
     public List<DrivingRoute> getAllRoutes() {
         log.debug("Fetching all available routes");
-        return routeRepository.findAll();
+        return getRouteCatalogue().routes();
     }
 
     @Override
     public DrivingRoute getRouteById(String routeId) {
         log.debug("Fetching route with ID: {}", routeId);
-        return routeRepository.findById(routeId)
+        return getRouteCatalogue().findById(routeId)
             .orElseThrow(() -> new RouteNotFoundException(routeId));
     }
 
     @Override
     public DrivingRoute getRandomRoute() {
         log.debug("Selecting a random route");
-        List<DrivingRoute> routes = routeRepository.findAll();
+        RouteCatalogue routes = getRouteCatalogue();
 
         if (routes.isEmpty()) {
             throw RouteNotFoundException.noRoutesAvailable();
@@ -54,6 +77,56 @@ public class RouteService implements RouteUseCase {
 
     @Override
     public int getRouteCount() {
-        return routeRepository.count();
+        return getRouteCatalogue().size();
+    }
+
+    @Override
+    public List<RouteMatch> findRoutesNear(Coordinate center, double radiusMeters) {
+        log.debug("Finding routes within {} m of {}", radiusMeters, center);
+        return getRouteCatalogue().spatialIndex().findWithinRadius(center, radiusMeters);
+    }
+
+    @Override
+    public List<DrivingRoute> findRoutesInBoundingBox(BoundingBox boundingBox) {
+        log.debug("Finding routes in {}", boundingBox);
+        return getRouteCatalogue().spatialIndex().findIntersecting(boundingBox);
+    }
+
+    @Override
+    public Optional<RouteMatch> snapToRoute(Coordinate position) {
+        log.debug("Snapping {} to nearest route", position);
+        return getRouteCatalogue().spatialIndex().snapToNearest(position);
+    }
+
+    @Override
+    public RouteDetailLevel getRouteDetailLevel(DrivingRoute route, double toleranceMeters) {
+        return getRouteCatalogue().detailLevel(route, toleranceMeters);
+    }
+
+    @Override
+    public RouteCatalogue getRouteCatalogue() {
+        RouteCatalogue current = catalogue;
+        return current != null ? current : loadCatalogue();
+    }
+
+    @Override
+    public void invalidateRouteCatalogue() {
+        synchronized (catalogueLock) {
+            if (catalogue != null) {
+                log.info("Invalidating route catalogue version {}", catalogue.version());
+            }
+            catalogue = null;
+        }
+    }
+
+    private RouteCatalogue loadCatalogue() {
+        synchronized (catalogueLock) {
+            if (catalogue == null) {
+                catalogue = RouteCatalogue.of(++catalogueVersion, routeRepository.findAll(), detailTolerancesMeters);
+                log.info("Loaded route catalogue version {} with {} routes",
+                    catalogue.version(), catalogue.size());
+            }
+            return catalogue;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,356 @@
+package pse.nebula.worldview.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import pse.nebula.worldview.domain.port.outbound.ShardLeaseRepository;
+
+import java.util.BitSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Service that decides which part of the journey fleet this instance simulates.
+ *
+ * The fleet of max-active-journeys slots is split evenly into a fixed number of shards, and
+ * this instance runs the journeys of the shards it holds a lease on. Each rebalance aims for
+ * an equal share of the shards per live instance:
+ * - Below its share, the instance takes over free shards.
+ * - Above its share, it marks shards as draining. No new journeys start in a draining shard,
+ *   and its lease is only released once its running journeys completed, so another instance
+ *   never publishes for a shard while this one still does, and no journey is cut short.
+ * - When leases are lost (e.g. the lease store connection broke), ownership is cleared and
+ *   the scheduler stops the affected journeys, since another instance may take them over.
+ *
+ * Leases are re-confirmed every lease check interval, much more often than rebalancing. With
+ * a shared lease store the scheduler only advances and publishes journeys while the last
+ * confirmation is at most {@value #CONFIRMATION_CHECKS} check intervals old, so a lost lease
+ * stops publication within that time even when the lease store hangs, instead of one
+ * rebalance interval later.
+ *
+ * The scheduler reads ownership on its tick thread, so ownership is published as an immutable
+ * snapshot that is read without locking. All lease store I/O runs on the rebalancing thread
+ * under a lock the tick never takes; a drained shard released by the scheduler only changes
+ * the snapshot, and its lease is given up by the next lease check or rebalance.
+ */
+@Slf4j
+@Service
+public class ShardOwnershipService {
+
+    private static final int CONFIRMATION_CHECKS = 3;
+
+    private final ShardLeaseRepository shardLeaseRepository;
+    private final int shardCount;
+    private final int maxActiveJourneys;
+    private final boolean fenced;
+    private final long maxConfirmationAgeNanos;
+    private volatile long leasesConfirmedNanos;
+    private final AtomicReference<Ownership> ownership = new AtomicReference<>(Ownership.NONE);
+    private final Queue<Integer> releasedShards = new ConcurrentLinkedQueue<>();
+
+    // Serialises lease store I/O; never taken by the tick thread
+    private final Object leaseLock = new Object();
+
+    public ShardOwnershipService(
+            ShardLeaseRepository shardLeaseRepository,
+            MeterRegistry meterRegistry,
+            @Value("${journey.sharding.shard-count:16}") int shardCount,
+            @Value("${journey.scheduler.max-active-journeys:1}") int maxActiveJourneys,
+            @Value("${journey.sharding.lease-check-interval-ms:500}") long leaseCheckIntervalMs) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, got: " + shardCount);
+        }
+        if (leaseCheckIntervalMs <= 0) {
+            throw new IllegalArgumentException("Lease check interval must be positive, got: " + leaseCheckIntervalMs);
+        }
+        this.shardLeaseRepository = shardLeaseRepository;
+        this.shardCount = shardCount;
+        this.maxActiveJourneys = Math.max(1, maxActiveJourneys);
+        this.fenced = shardLeaseRepository.isShared();
+        this.maxConfirmationAgeNanos = TimeUnit.MILLISECONDS.toNanos(leaseCheckIntervalMs * CONFIRMATION_CHECKS);
+        this.leasesConfirmedNanos = System.nanoTime() - maxConfirmationAgeNanos - 1;
+
+        Gauge.builder("worldview.sharding.shards.owned", this, ShardOwnershipService::getOwnedShardCount)
+                .description("Number of fleet shards this instance holds a lease on")
+                .register(meterRegistry);
+
+        // Claim shards right away so the first scheduler tick can start journeys
+        rebalance();
+    }
+
+    /**
+     * Release every lease when the instance shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        synchronized (leaseLock) {
+            update(current -> current.owned().isEmpty() ? current : current.next(new BitSet(), new BitSet()));
+            releasedShards.clear();
+            shardLeaseRepository.releaseAll();
+        }
+    }
+
+    /**
+     * Acquire or drain shards so that this instance holds its fair share.
+     */
+    @Scheduled(fixedDelayString = "${journey.sharding.rebalance-interval-ms:5000}")
+    public void rebalance() {
+        synchronized (leaseLock) {
+            try {
+                releaseDrainedLeases();
+
+                if (!confirmLeases()) {
+                    // Give the scheduler a chance to stop the affected journeys before claiming again
+                    return;
+                }
+
+                int members = Math.max(1, shardLeaseRepository.countMembers());
+                int fairShare = (shardCount + members - 1) / members;
+                int active = ownership.get().activeCount();
+
+                if (active > fairShare) {
+                    drain(active - fairShare);
+                } else if (active < fairShare) {
+                    acquire(fairShare - active);
+                }
+            } catch (Exception e) {
+                log.warn("Shard rebalance failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Confirm that the leases are still held, and give up the leases of released shards.
+     */
+    @Scheduled(fixedDelayString = "${journey.sharding.lease-check-interval-ms:500}")
+    public void checkLeases() {
+        synchronized (leaseLock) {
+            try {
+                releaseDrainedLeases();
+                confirmLeases();
+            } catch (Exception e) {
+                log.warn("Lease check failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Check whether the leases were confirmed recently enough to act on them. Journeys must
+     * not be advanced or published otherwise, since another instance may have taken their
+     * shards over. Always true when no other instance shares the lease store.
+     *
+     * @return true if journeys may be advanced and published
+     */
+    public boolean leasesConfirmed() {
+        return !fenced || System.nanoTime() - leasesConfirmedNanos <= maxConfirmationAgeNanos;
+    }
+
+    /**
+     * Ask the lease store whether the leases are still held and clear ownership if they are
+     * not. A confirmation counts from the start of the check. Caller holds leaseLock.
+     *
+     * @return false if leases were lost
+     */
+    private boolean confirmLeases() {
+        long checkStartNanos = System.nanoTime();
+        if (shardLeaseRepository.leasesIntact()) {
+            leasesConfirmedNanos = checkStartNanos;
+            return true;
+        }
+        leasesConfirmedNanos = checkStartNanos - maxConfirmationAgeNanos - 1;
+        if (ownership.get().owned().isEmpty()) {
+            return true;
+        }
+        log.warn("Lost leases on {} shards", getOwnedShardCount());
+        update(current -> current.next(new BitSet(), new BitSet()));
+        return false;
+    }
+
+    /**
+     * Give up the leases of shards the scheduler released since the last lease check.
+     * Caller holds leaseLock.
+     */
+    private void releaseDrainedLeases() {
+        for (Integer shard = releasedShards.poll(); shard != null; shard = releasedShards.poll()) {
+            shardLeaseRepository.release(shard);
+            log.info("Released lease on shard {}", shard);
+        }
+    }
+
+    private void drain(int excess) {
+        BitSet owned = ownership.get().owned();
+        BitSet draining = (BitSet) ownership.get().draining().clone();
+        for (int shard = owned.previousSetBit(shardCount - 1); shard >= 0 && excess > 0;
+             shard = owned.previousSetBit(shard - 1)) {
+            if (!draining.get(shard)) {
+                draining.set(shard);
+                excess--;
+                log.info("Draining shard {} for another instance", shard);
+            }
+        }
+        // Shards the scheduler released meanwhile stay released
+        update(current -> {
+            BitSet stillOwned = (BitSet) draining.clone();
+            stillOwned.and(current.owned());
+            return current.next(current.owned(), stillOwned);
+        });
+    }
+
+    private void acquire(int missing) {
+        int wanted = missing;
+
+        // Shards still draining are taken back first, they need no lease
+        BitSet undrained = new BitSet();
+        BitSet draining = ownership.get().draining();
+        for (int shard = draining.nextSetBit(0); shard >= 0 && missing > 0; shard = draining.nextSetBit(shard + 1)) {
+            undrained.set(shard);
+            missing--;
+        }
+
+        // Start at a random shard so joining instances do not all compete for the same leases
+        BitSet owned = ownership.get().owned();
+        BitSet acquired = new BitSet();
+        int offset = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount && missing > 0; i++) {
+            int shard = (offset + i) % shardCount;
+            if (!owned.get(shard) && shardLeaseRepository.tryAcquire(shard)) {
+                acquired.set(shard);
+                missing--;
+                log.info("Acquired lease on shard {}", shard);
+            }
+        }
+        if (missing < wanted) {
+            update(current -> {
+                BitSet nextOwned = (BitSet) current.owned().clone();
+                nextOwned.or(acquired);
+                BitSet nextDraining = (BitSet) current.draining().clone();
+                nextDraining.andNot(undrained);
+                return current.next(nextOwned, nextDraining);
+            });
+        }
+    }
+
+    /**
+     * Hand back a draining shard. Called by the scheduler once no journey of the shard is
+     * running any more; the lease itself is released by the next lease check or rebalance.
+     *
+     * @param shard The shard number
+     */
+    public void releaseDrainedShard(int shard) {
+        Ownership current;
+        Ownership released;
+        do {
+            current = ownership.get();
+            if (!current.draining().get(shard)) {
+                return;
+            }
+            BitSet owned = (BitSet) current.owned().clone();
+            owned.clear(shard);
+            BitSet draining = (BitSet) current.draining().clone();
+            draining.clear(shard);
+            released = current.next(owned, draining);
+        } while (!ownership.compareAndSet(current, released));
+        releasedShards.add(shard);
+    }
+
+    /**
+     * Get the number of shards the fleet is split into.
+     *
+     * @return The shard count
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Get how many journeys may run in a shard. The fleet is spread as evenly as possible.
+     *
+     * @param shard The shard number
+     * @return The number of journey slots of the shard
+     */
+    public int capacityOf(int shard) {
+        return maxActiveJourneys / shardCount + (shard < maxActiveJourneys % shardCount ? 1 : 0);
+    }
+
+    /**
+     * Check whether this instance holds the lease of a shard, including draining shards.
+     *
+     * @param shard The shard number
+     * @return true if the shard is owned
+     */
+    public boolean owns(int shard) {
+        return ownership.get().owned().get(shard);
+    }
+
+    /**
+     * Check whether new journeys may be started in a shard.
+     *
+     * @param shard The shard number
+     * @return true if the shard is owned and not draining
+     */
+    public boolean acceptsNewJourneys(int shard) {
+        Ownership current = ownership.get();
+        return current.owned().get(shard) && !current.draining().get(shard);
+    }
+
+    /**
+     * Check whether a shard is waiting for its journeys to complete before its lease is released.
+     *
+     * @param shard The shard number
+     * @return true if the shard is draining
+     */
+    public boolean isDraining(int shard) {
+        return ownership.get().draining().get(shard);
+    }
+
+    /**
+     * Get the number of shards this instance holds a lease on.
+     *
+     * @return The owned shard count
+     */
+    public int getOwnedShardCount() {
+        return ownership.get().owned().cardinality();
+    }
+
+    /**
+     * Get a number that changes whenever the set of owned or draining shards changes,
+     * so callers can skip re-checking their journeys while ownership is stable.
+     *
+     * @return The ownership version
+     */
+    public long getOwnershipVersion() {
+        return ownership.get().version();
+    }
+
+    /**
+     * Apply a change to the ownership snapshot. The change may run more than once when the
+     * scheduler releases a shard concurrently, and returns its argument to change nothing.
+     */
+    private void update(UnaryOperator<Ownership> change) {
+        ownership.updateAndGet(change);
+    }
+
+    /**
+     * Owned and draining shards at one ownership version. Never modified once published.
+     */
+    private record Ownership(long version, BitSet owned, BitSet draining) {
+
+        static final Ownership NONE = new Ownership(0, new BitSet(), new BitSet());
+
+        Ownership next(BitSet nextOwned, BitSet nextDraining) {
+            return new Ownership(version + 1, nextOwned, nextDraining);
+        }
+
+        int activeCount() {
+            return owned.cardinality() - draining.cardinality();
+        }
+    }
+}
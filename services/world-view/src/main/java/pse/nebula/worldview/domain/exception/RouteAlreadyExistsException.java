@@ -0,0 +1,11 @@
+package pse.nebula.worldview.domain.exception;
+
+/**
+ * Exception thrown when attempting to create a route that already exists.
+ */
+public class RouteAlreadyExistsException extends DomainException {
+
+    public RouteAlreadyExistsException(String routeId) {
+        super("Route already exists with ID: " + routeId);
+    }
+}
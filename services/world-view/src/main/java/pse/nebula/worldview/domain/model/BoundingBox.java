@@ -0,0 +1,29 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * Axis-aligned latitude/longitude rectangle.
+ * Boxes crossing the antimeridian are not supported; split them into two boxes instead.
+ */
+public record BoundingBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+
+    public BoundingBox {
+        Coordinate.requireValid(minLatitude, minLongitude);
+        Coordinate.requireValid(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude) {
+            throw new IllegalArgumentException(
+                "Minimum latitude " + minLatitude + " is greater than maximum latitude " + maxLatitude);
+        }
+        if (minLongitude > maxLongitude) {
+            throw new IllegalArgumentException(
+                "Minimum longitude " + minLongitude + " is greater than maximum longitude " + maxLongitude);
+        }
+    }
+
+    /**
+     * Check whether a point lies inside the box (borders included).
+     */
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude
+            && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+}
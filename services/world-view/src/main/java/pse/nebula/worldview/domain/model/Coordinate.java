@@ -9,6 +9,16 @@ public record Coordinate(double latitude, double longitude) {
     private static final double EARTH_RADIUS_METERS = 6_371_000;
 
     public Coordinate {
+        requireValid(latitude, longitude);
+    }
+
+    /**
+     * Validate a raw latitude/longitude pair.
+     * Shared with PackedPolyline, which stores coordinates without creating records.
+     *
+     * @throws IllegalArgumentException if either value is out of range or not finite
+     */
+    static void requireValid(double latitude, double longitude) {
         if (!Double.isFinite(latitude) || latitude < -90 || latitude > 90) {
             throw new IllegalArgumentException(
                 "Latitude must be a finite number between -90 and 90 degrees, got: " + latitude);
@@ -30,11 +40,19 @@ public record Coordinate(double latitude, double longitude) {
         if (other == null) {
             throw new IllegalArgumentException("Target coordinate cannot be null");
         }
+        return distanceMeters(latitude, longitude, other.latitude, other.longitude);
+    }
 
-        double lat1Rad = Math.toRadians(this.latitude);
-        double lat2Rad = Math.toRadians(other.latitude);
-        double deltaLatRad = Math.toRadians(other.latitude - this.latitude);
-        double deltaLngRad = Math.toRadians(other.longitude - this.longitude);
+    /**
+     * Haversine distance between two raw latitude/longitude pairs in degrees.
+     *
+     * @return Distance in meters
+     */
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double deltaLatRad = Math.toRadians(lat2 - lat1);
+        double deltaLngRad = Math.toRadians(lng2 - lng1);
 
         double a = Math.sin(deltaLatRad / 2) * Math.sin(deltaLatRad / 2) +
                    Math.cos(lat1Rad) * Math.cos(lat2Rad) *
@@ -45,6 +63,38 @@ public record Coordinate(double latitude, double longitude) {
         return EARTH_RADIUS_METERS * c;
     }
 
+    /**
+     * Calculate the initial bearing (forward azimuth) towards another coordinate.
+     *
+     * @param other The target coordinate
+     * @return Bearing in degrees clockwise from true north, in the range [0, 360)
+     * @throws IllegalArgumentException if other is null
+     */
+    public double bearingTo(Coordinate other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Target coordinate cannot be null");
+        }
+        return bearingDegrees(latitude, longitude, other.latitude, other.longitude);
+    }
+
+    /**
+     * Initial bearing between two raw latitude/longitude pairs in degrees.
+     *
+     * @return Bearing in degrees clockwise from true north, in the range [0, 360)
+     */
+    static double bearingDegrees(double lat1, double lng1, double lat2, double lng2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double deltaLngRad = Math.toRadians(lng2 - lng1);
+
+        double y = Math.sin(deltaLngRad) * Math.cos(lat2Rad);
+        double x = Math.cos(lat1Rad) * Math.sin(lat2Rad) -
+                   Math.sin(lat1Rad) * Math.cos(lat2Rad) * Math.cos(deltaLngRad);
+
+        double bearing = Math.toDegrees(Math.atan2(y, x));
+        return (bearing + 360.0) % 360.0;
+    }
+
     /**
      * Interpolate between this coordinate and another coordinate.
      *
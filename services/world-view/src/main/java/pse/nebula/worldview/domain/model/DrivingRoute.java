@@ -7,29 +7,67 @@ import java.util.Objects;
  * Represents a driving route from a starting location to the dealership.
  * Contains the route metadata and the list of coordinates that form the path.
  * Immutable value object following Domain-Driven Design principles.
+ *
+ * Waypoints are stored in a {@link PackedPolyline} so that long imported routes cost
+ * 16 bytes per point; Coordinate objects are only created when a caller reads one.
+ * The route geometry (cumulative distances) is computed once on construction so that
+ * journeys never have to re-measure the polyline.
+ * Accessors keep the record-style naming used by the rest of the domain model.
  */
-public record DrivingRoute(
-    String id,
-    String name,
-    String description,
-    List<Coordinate> waypoints,
-    double totalDistanceMeters,
-    int estimatedDurationSeconds
-) {
-    public DrivingRoute {
+public final class DrivingRoute {
+
+    private final String id;
+    private final String name;
+    private final String description;
+    private final PackedPolyline polyline;
+    private final double totalDistanceMeters;
+    private final int estimatedDurationSeconds;
+    private final RouteGeometry geometry;
+
+    public DrivingRoute(
+        String id,
+        String name,
+        String description,
+        List<Coordinate> waypoints,
+        double totalDistanceMeters,
+        int estimatedDurationSeconds
+    ) {
+        this(id, name, description, packWaypoints(waypoints), totalDistanceMeters, estimatedDurationSeconds);
+    }
+
+    /**
+     * Create a route directly from packed waypoint storage, without materialising Coordinates.
+     *
+     * @throws IllegalArgumentException if any argument is invalid
+     */
+    public static DrivingRoute fromPolyline(
+        String id,
+        String name,
+        String description,
+        PackedPolyline polyline,
+        double totalDistanceMeters,
+        int estimatedDurationSeconds
+    ) {
+        return new DrivingRoute(id, name, description, polyline, totalDistanceMeters, estimatedDurationSeconds);
+    }
+
+    private DrivingRoute(
+        String id,
+        String name,
+        String description,
+        PackedPolyline polyline,
+        double totalDistanceMeters,
+        int estimatedDurationSeconds
+    ) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Route ID cannot be null or empty");
         }
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("Route name cannot be null or empty");
         }
-        if (waypoints == null || waypoints.size() < 2) {
+        if (polyline == null) {
             throw new IllegalArgumentException("Route must have at least 2 waypoints (start and end)");
         }
-        // Validate no null waypoints
-        if (waypoints.stream().anyMatch(Objects::isNull)) {
-            throw new IllegalArgumentException("Waypoints list cannot contain null elements");
-        }
         if (!Double.isFinite(totalDistanceMeters) || totalDistanceMeters <= 0) {
             throw new IllegalArgumentException(
                 "Total distance must be a positive finite number, got: " + totalDistanceMeters);
@@ -38,8 +76,73 @@ public record DrivingRoute(
             throw new IllegalArgumentException(
                 "Estimated duration must be positive, got: " + estimatedDurationSeconds);
         }
-        // Make waypoints immutable
-        waypoints = List.copyOf(waypoints);
+
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.polyline = polyline;
+        this.totalDistanceMeters = totalDistanceMeters;
+        this.estimatedDurationSeconds = estimatedDurationSeconds;
+        this.geometry = RouteGeometry.fromPolyline(polyline);
+    }
+
+    private static PackedPolyline packWaypoints(List<Coordinate> waypoints) {
+        if (waypoints == null || waypoints.size() < 2) {
+            throw new IllegalArgumentException("Route must have at least 2 waypoints (start and end)");
+        }
+        // Validate no null waypoints
+        if (waypoints.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Waypoints list cannot contain null elements");
+        }
+        return PackedPolyline.of(waypoints);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    /**
+     * Get an unmodifiable view of the waypoints.
+     * Coordinates are created on access; prefer {@link #polyline()} for bulk reads.
+     *
+     * @return The waypoints as a random-access list
+     */
+    public List<Coordinate> waypoints() {
+        return polyline.asList();
+    }
+
+    /**
+     * Get the packed waypoint storage of this route.
+     *
+     * @return The packed polyline
+     */
+    public PackedPolyline polyline() {
+        return polyline;
+    }
+
+    public double totalDistanceMeters() {
+        return totalDistanceMeters;
+    }
+
+    public int estimatedDurationSeconds() {
+        return estimatedDurationSeconds;
+    }
+
+    /**
+     * Get the precomputed geometry index of this route.
+     *
+     * @return The route geometry
+     */
+    public RouteGeometry geometry() {
+        return geometry;
     }
 
     /**
@@ -48,7 +151,7 @@ public record DrivingRoute(
      * @return The starting coordinate
      */
     public Coordinate startPoint() {
-        return waypoints.get(0);
+        return polyline.get(0);
     }
 
     /**
@@ -57,14 +160,14 @@ public record DrivingRoute(
      * @return The ending coordinate
      */
     public Coordinate endPoint() {
-        return waypoints.get(waypoints.size() - 1);
+        return polyline.get(polyline.size() - 1);
     }
 
     /**
      * Get the total number of waypoints including start and end.
      */
     public int getTotalWaypoints() {
-        return waypoints.size();
+        return polyline.size();
     }
 
     /**
@@ -74,9 +177,40 @@ public record DrivingRoute(
      * @return The coordinate at the given index
      */
     public Coordinate getWaypointAt(int index) {
-        if (index < 0 || index >= waypoints.size()) {
+        if (index < 0 || index >= polyline.size()) {
             throw new IndexOutOfBoundsException("Waypoint index out of bounds: " + index);
         }
-        return waypoints.get(index);
+        return polyline.get(index);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DrivingRoute other)) {
+            return false;
+        }
+        return Double.compare(totalDistanceMeters, other.totalDistanceMeters) == 0
+            && estimatedDurationSeconds == other.estimatedDurationSeconds
+            && id.equals(other.id)
+            && name.equals(other.name)
+            && Objects.equals(description, other.description)
+            && polyline.equals(other.polyline);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, description, polyline, totalDistanceMeters, estimatedDurationSeconds);
+    }
+
+    @Override
+    public String toString() {
+        return "DrivingRoute[id=" + id
+            + ", name=" + name
+            + ", description=" + description
+            + ", waypoints=" + polyline.size()
+            + ", totalDistanceMeters=" + totalDistanceMeters
+            + ", estimatedDurationSeconds=" + estimatedDurationSeconds + "]";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * Batch geodesic computations over a whole packed polyline in one pass.
+ *
+ * Segment lengths use an equirectangular approximation for short segments: the cosine of each
+ * point's latitude is computed once and shared by its two segments, so a segment costs one
+ * square root instead of the four trigonometric calls of the Haversine formula. The
+ * approximation is used when a segment spans at most {@link #FAST_PATH_MAX_DELTA_DEGREES} in
+ * both latitude and longitude; its relative error against Haversine is then below
+ * {@link #FAST_PATH_MAX_RELATIVE_ERROR} at every latitude (about 6 mm on the longest such
+ * segment, far less on the sub-kilometer segments of road routes). The error grows with the
+ * square of the segment's angular size. Longer segments, including those crossing the
+ * antimeridian, use Haversine and match {@link Coordinate#distanceTo} exactly.
+ *
+ * The scalar loops are the default. A Vector API implementation lives in
+ * {@code src/main/java-vector} and is only compiled with the {@code vector-api} Maven profile;
+ * it is used when that build runs with {@code --add-modules jdk.incubator.vector} and the CPU
+ * offers at least two double lanes. It is opt-in because the incubator API boxes vectors and
+ * allocates when the JIT cannot intrinsify an operation, which it cannot for the cosine on
+ * every platform.
+ */
+public final class GeodesicKernel {
+
+    /** Largest latitude and longitude difference of a segment measured with the fast path */
+    public static final double FAST_PATH_MAX_DELTA_DEGREES = 0.1;
+
+    /** Upper bound of the fast path's relative error against Haversine */
+    public static final double FAST_PATH_MAX_RELATIVE_ERROR = 5e-7;
+
+    static final double EARTH_RADIUS_METERS = 6_371_000;
+    static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_METERS;
+
+    private static final String VECTOR_LOOPS_CLASS = "pse.nebula.worldview.domain.model.VectorGeodesicKernel";
+
+    // Null unless the vector-api build runs with the incubator module
+    private static final Loops VECTOR_LOOPS = loadVectorLoops();
+
+    private GeodesicKernel() {
+    }
+
+    /**
+     * Check whether segment lengths are computed with the JDK Vector API.
+     */
+    public static boolean isVectorized() {
+        return VECTOR_LOOPS != null;
+    }
+
+    /**
+     * Compute the length of every segment of a polyline.
+     *
+     * @param polyline The polyline
+     * @return Array of {@code size() - 1} lengths in meters; element i is the segment from point i to i + 1
+     */
+    public static double[] segmentLengths(PackedPolyline polyline) {
+        double[] lengths = new double[polyline.size() - 1];
+        segmentLengths(polyline, lengths, 0);
+        return lengths;
+    }
+
+    /**
+     * Compute the length of every segment of a polyline into an existing array.
+     *
+     * @param polyline The polyline
+     * @param out Receives the {@code size() - 1} lengths in meters
+     * @param offset Index in {@code out} of the first segment's length
+     * @throws IndexOutOfBoundsException if the lengths do not fit into {@code out} at {@code offset}
+     */
+    public static void segmentLengths(PackedPolyline polyline, double[] out, int offset) {
+        int segments = polyline.size() - 1;
+        if (offset < 0 || offset > out.length - segments) {
+            throw new IndexOutOfBoundsException(
+                    "Cannot store " + segments + " segment lengths at offset " + offset + " of " + out.length);
+        }
+        double[] latLng = polyline.latLngArray();
+        if (VECTOR_LOOPS != null) {
+            VECTOR_LOOPS.segmentLengths(latLng, polyline.size(), out, offset);
+        } else {
+            scalarSegmentLengths(latLng, 0, polyline.size(), out, offset);
+        }
+    }
+
+    /**
+     * Project every point of a polyline onto a local equirectangular plane in meters.
+     * x grows eastwards and y northwards from the origin; the longitude scale is taken at the
+     * origin's latitude, so the projection is accurate near the origin.
+     *
+     * @param polyline The polyline
+     * @param originLatitude Latitude of the origin in degrees
+     * @param originLongitude Longitude of the origin in degrees
+     * @param x Receives the east offsets in meters, at least {@code size()} long
+     * @param y Receives the north offsets in meters, at least {@code size()} long
+     */
+    public static void project(PackedPolyline polyline, double originLatitude, double originLongitude,
+                               double[] x, double[] y) {
+        int size = polyline.size();
+        if (x.length < size || y.length < size) {
+            throw new IndexOutOfBoundsException("Cannot store " + size + " projected points");
+        }
+        double[] latLng = polyline.latLngArray();
+        double lngScale = metersPerDegreeLongitude(originLatitude);
+        if (VECTOR_LOOPS != null) {
+            VECTOR_LOOPS.project(latLng, size, originLatitude, originLongitude, lngScale, x, y);
+        } else {
+            scalarProject(latLng, 0, size, originLatitude, originLongitude, lngScale, x, y);
+        }
+    }
+
+    /**
+     * Meters per degree of longitude at a latitude, kept positive at the poles.
+     */
+    static double metersPerDegreeLongitude(double latitude) {
+        return METERS_PER_DEGREE * Math.max(1e-9, Math.cos(Math.toRadians(latitude)));
+    }
+
+    /**
+     * Scalar segment lengths of the points {@code from..pointCount - 1}, starting with segment {@code from}.
+     */
+    static void scalarSegmentLengths(double[] latLng, int from, int pointCount, double[] out, int offset) {
+        if (from >= pointCount - 1) {
+            return;
+        }
+        double lat1 = latLng[from * 2];
+        double lng1 = latLng[from * 2 + 1];
+        double cos1 = Math.cos(Math.toRadians(lat1));
+        for (int i = from; i < pointCount - 1; i++) {
+            double lat2 = latLng[i * 2 + 2];
+            double lng2 = latLng[i * 2 + 3];
+            double cos2 = Math.cos(Math.toRadians(lat2));
+            double deltaLat = lat2 - lat1;
+            double deltaLng = lng2 - lng1;
+            if (Math.abs(deltaLat) <= FAST_PATH_MAX_DELTA_DEGREES && Math.abs(deltaLng) <= FAST_PATH_MAX_DELTA_DEGREES) {
+                double east = deltaLng * ((cos1 + cos2) * 0.5);
+                out[offset + i] = METERS_PER_DEGREE * Math.sqrt(east * east + deltaLat * deltaLat);
+            } else {
+                out[offset + i] = haversine(deltaLat, deltaLng, cos1, cos2);
+            }
+            lat1 = lat2;
+            lng1 = lng2;
+            cos1 = cos2;
+        }
+    }
+
+    /**
+     * Haversine distance from the coordinate differences and the cosines of both latitudes.
+     * Same operations as {@link Coordinate#distanceTo}, so the results are identical.
+     */
+    static double haversine(double deltaLat, double deltaLng, double cos1, double cos2) {
+        double halfLatSin = Math.sin(Math.toRadians(deltaLat) / 2);
+        double halfLngSin = Math.sin(Math.toRadians(deltaLng) / 2);
+        double a = halfLatSin * halfLatSin + cos1 * cos2 * halfLngSin * halfLngSin;
+        return EARTH_RADIUS_METERS * (2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a)));
+    }
+
+    static void scalarProject(double[] latLng, int from, int size, double originLatitude, double originLongitude,
+                              double lngScale, double[] x, double[] y) {
+        for (int i = from; i < size; i++) {
+            x[i] = (latLng[i * 2 + 1] - originLongitude) * lngScale;
+            y[i] = (latLng[i * 2] - originLatitude) * METERS_PER_DEGREE;
+        }
+    }
+
+    private static Loops loadVectorLoops() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            Loops loops = (Loops) Class.forName(VECTOR_LOOPS_CLASS).getDeclaredConstructor().newInstance();
+            return loops.laneCount() >= 2 ? loops : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Built without the vector-api profile
+            return null;
+        }
+    }
+
+    /**
+     * The batch loops of an alternative implementation, indexed like the scalar ones.
+     */
+    interface Loops {
+
+        int laneCount();
+
+        void segmentLengths(double[] latLng, int pointCount, double[] out, int offset);
+
+        void project(double[] latLng, int size, double originLatitude, double originLongitude,
+                     double lngScale, double[] x, double[] y);
+    }
+}
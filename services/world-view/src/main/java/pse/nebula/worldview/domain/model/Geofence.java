@@ -0,0 +1,36 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * Circular area around a center point. A position is inside when its great-circle
+ * distance to the center is at most the radius.
+ *
+ * @param id Unique geofence identifier
+ * @param name Human-readable name
+ * @param type Purpose of the geofence
+ * @param center Center of the circle
+ * @param radiusMeters Radius in meters
+ */
+public record Geofence(String id, String name, GeofenceType type, Coordinate center, double radiusMeters) {
+
+    public Geofence {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Geofence ID cannot be blank");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Geofence type cannot be null");
+        }
+        if (center == null) {
+            throw new IllegalArgumentException("Geofence center cannot be null");
+        }
+        if (!(radiusMeters > 0) || Double.isInfinite(radiusMeters)) {
+            throw new IllegalArgumentException("Geofence radius must be a positive finite number, got: " + radiusMeters);
+        }
+    }
+
+    /**
+     * Check whether a point lies inside this geofence.
+     */
+    public boolean contains(double latitude, double longitude) {
+        return Coordinate.distanceMeters(center.latitude(), center.longitude(), latitude, longitude) <= radiusMeters;
+    }
+}
@@ -0,0 +1,12 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * A journey entering or leaving a geofence.
+ *
+ * @param journeyId The journey that crossed the boundary
+ * @param geofence The geofence
+ * @param transition Whether the journey entered or left the geofence
+ * @param position The first position observed on the new side of the boundary
+ */
+public record GeofenceEvent(String journeyId, Geofence geofence, GeofenceTransition transition, Coordinate position) {
+}
@@ -0,0 +1,274 @@
+package pse.nebula.worldview.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable uniform-grid index over a set of geofences.
+ *
+ * Every geofence is registered in each grid cell its bounding box overlaps. Looking up the
+ * geofences containing a point is a binary search for the point's cell followed by exact
+ * distance checks against the few fences registered there, independent of the total
+ * number of fences. Geofences that would cover more than {@link #MAX_CELLS_PER_FENCE}
+ * cells are kept in a separate list and checked on every lookup instead.
+ *
+ * Fences are identified by their position in the list the index was built from.
+ */
+public final class GeofenceIndex {
+
+    /** Default cell size, about 1.1 km north-south */
+    public static final double DEFAULT_CELL_SIZE_DEGREES = 0.01;
+
+    /**
+     * Smallest cell size, about 670 m north-south. Cell keys are packed into the upper half
+     * of a long above the fence index; with smaller cells the number of cells exceeds 2^31
+     * and the keys would turn negative and sort out of order, then alias.
+     */
+    public static final double MIN_CELL_SIZE_DEGREES = 0.006;
+
+    /** Fences covering more cells than this are checked on every lookup */
+    public static final int MAX_CELLS_PER_FENCE = 4096;
+
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * 6_371_000;
+    private static final int[] NONE = new int[0];
+
+    private final List<Geofence> geofences;
+    private final double cellSize;
+    private final int lonCells;
+    private final int latCells;
+    private final double[] centerLat;
+    private final double[] centerLon;
+    private final double[] radius;
+    private final long[] cellKeys;
+    private final int[] cellStart;
+    private final int[] cellFences;
+    private final int[] oversizedFences;
+
+    private GeofenceIndex(List<Geofence> geofences, double cellSize) {
+        this.geofences = geofences;
+        this.cellSize = cellSize;
+        this.lonCells = (int) Math.ceil(360 / cellSize);
+        this.latCells = (int) Math.ceil(180 / cellSize);
+
+        int count = geofences.size();
+        this.centerLat = new double[count];
+        this.centerLon = new double[count];
+        this.radius = new double[count];
+
+        // (cell key << 32 | fence) pairs, sorted afterwards into the cell arrays
+        long[] pairs = new long[Math.max(16, count * 4)];
+        int size = 0;
+        int[] oversized = new int[count];
+        int oversizedCount = 0;
+
+        for (int f = 0; f < count; f++) {
+            Geofence fence = geofences.get(f);
+            centerLat[f] = fence.center().latitude();
+            centerLon[f] = fence.center().longitude();
+            radius[f] = fence.radiusMeters();
+
+            double latExtent = radius[f] / METERS_PER_DEGREE;
+            double maxAbsLat = Math.min(90, Math.abs(centerLat[f]) + latExtent);
+            double lonExtent = Math.min(180, radius[f] / (METERS_PER_DEGREE * Math.max(1e-9, Math.cos(Math.toRadians(maxAbsLat)))));
+            int rowFrom = latCell(centerLat[f] - latExtent);
+            int rowTo = latCell(centerLat[f] + latExtent);
+            int colFrom = lonCell(centerLon[f] - lonExtent);
+            int colTo = lonCell(centerLon[f] + lonExtent);
+
+            long cells = (long) (rowTo - rowFrom + 1) * (colTo - colFrom + 1);
+            if (cells > MAX_CELLS_PER_FENCE) {
+                oversized[oversizedCount++] = f;
+                continue;
+            }
+            if (size + cells > pairs.length) {
+                pairs = Arrays.copyOf(pairs, (int) Math.max(pairs.length * 2L, size + cells));
+            }
+            for (int row = rowFrom; row <= rowTo; row++) {
+                for (int col = colFrom; col <= colTo; col++) {
+                    pairs[size++] = (cellKey(row, col) << 32) | f;
+                }
+            }
+        }
+        Arrays.sort(pairs, 0, size);
+
+        long[] keys = new long[size];
+        int[] starts = new int[size + 1];
+        int[] fences = new int[size];
+        int cellCount = 0;
+        for (int i = 0; i < size; i++) {
+            long key = pairs[i] >>> 32;
+            if (cellCount == 0 || keys[cellCount - 1] != key) {
+                keys[cellCount] = key;
+                starts[cellCount] = i;
+                cellCount++;
+            }
+            fences[i] = (int) pairs[i];
+        }
+        starts[cellCount] = size;
+
+        this.cellKeys = Arrays.copyOf(keys, cellCount);
+        this.cellStart = Arrays.copyOf(starts, cellCount + 1);
+        this.cellFences = fences;
+        this.oversizedFences = Arrays.copyOf(oversized, oversizedCount);
+    }
+
+    /**
+     * Build the index with the default cell size.
+     *
+     * @param geofences The geofences to index
+     * @return The index
+     */
+    public static GeofenceIndex build(List<Geofence> geofences) {
+        return build(geofences, DEFAULT_CELL_SIZE_DEGREES);
+    }
+
+    /**
+     * Build the index.
+     *
+     * @param geofences The geofences to index
+     * @param cellSizeDegrees Grid cell size in degrees
+     * @return The index
+     * @throws IllegalArgumentException if geofences is null or contains null elements,
+     *         or the cell size is not in [{@link #MIN_CELL_SIZE_DEGREES}, 10]
+     */
+    public static GeofenceIndex build(List<Geofence> geofences, double cellSizeDegrees) {
+        if (geofences == null) {
+            throw new IllegalArgumentException("Geofences cannot be null");
+        }
+        if (!(cellSizeDegrees >= MIN_CELL_SIZE_DEGREES && cellSizeDegrees <= 10)) {
+            throw new IllegalArgumentException("Cell size must be between " + MIN_CELL_SIZE_DEGREES
+                    + " and 10 degrees, got: " + cellSizeDegrees);
+        }
+        try {
+            return new GeofenceIndex(List.copyOf(geofences), cellSizeDegrees);
+        } catch (NullPointerException e) {
+            throw new IllegalArgumentException("Geofences cannot contain null elements");
+        }
+    }
+
+    /**
+     * Get the number of indexed geofences.
+     */
+    public int size() {
+        return geofences.size();
+    }
+
+    /**
+     * Get the geofence at a position in the index.
+     *
+     * @param fenceIndex The fence index as returned by {@link #containing(double, double)}
+     * @return The geofence
+     */
+    public Geofence get(int fenceIndex) {
+        return geofences.get(fenceIndex);
+    }
+
+    /**
+     * Find all geofences containing a point.
+     *
+     * @param latitude The latitude of the point
+     * @param longitude The longitude of the point
+     * @return Indexes of the containing geofences in ascending order; a shared empty array if there are none
+     */
+    public int[] containing(double latitude, double longitude) {
+        int[] result = NONE;
+        int count = 0;
+
+        int cell = Arrays.binarySearch(cellKeys, cellKey(latCell(latitude), lonCell(longitude)));
+        if (cell >= 0) {
+            for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                int fence = cellFences[i];
+                if (contains(fence, latitude, longitude)) {
+                    result = append(result, count++, fence);
+                }
+            }
+        }
+        int fromCells = count;
+        for (int fence : oversizedFences) {
+            if (contains(fence, latitude, longitude)) {
+                result = append(result, count++, fence);
+            }
+        }
+
+        if (count == 0) {
+            return NONE;
+        }
+        int[] fences = result.length == count ? result : Arrays.copyOf(result, count);
+        if (fromCells > 0 && fromCells < count) {
+            // Cell fences and oversized fences are each sorted, but not with respect to each other
+            Arrays.sort(fences);
+        }
+        return fences;
+    }
+
+    /**
+     * Check whether the geofences containing a point are exactly the given ones, without
+     * allocating. Lets callers skip {@link #containing} while the membership is unchanged.
+     *
+     * @param latitude The latitude of the point
+     * @param longitude The longitude of the point
+     * @param fences Fence indexes in ascending order, as returned by {@link #containing}
+     * @return true if the point is inside all of the fences and no others
+     */
+    public boolean containsExactly(double latitude, double longitude, int[] fences) {
+        int count = 0;
+        int cell = Arrays.binarySearch(cellKeys, cellKey(latCell(latitude), lonCell(longitude)));
+        if (cell >= 0) {
+            for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                int fence = cellFences[i];
+                if (contains(fence, latitude, longitude)) {
+                    if (Arrays.binarySearch(fences, fence) < 0) {
+                        return false;
+                    }
+                    count++;
+                }
+            }
+        }
+        for (int fence : oversizedFences) {
+            if (contains(fence, latitude, longitude)) {
+                if (Arrays.binarySearch(fences, fence) < 0) {
+                    return false;
+                }
+                count++;
+            }
+        }
+        return count == fences.length;
+    }
+
+    /**
+     * Get the number of geofences whose distance is checked when looking up a point: the
+     * fences registered in the point's cell plus the oversized ones. This is the cost of
+     * {@link #containing} and {@link #containsExactly}, independent of {@link #size()}.
+     *
+     * @param latitude The latitude of the point
+     * @param longitude The longitude of the point
+     * @return The number of candidate geofences
+     */
+    public int candidateCount(double latitude, double longitude) {
+        int cell = Arrays.binarySearch(cellKeys, cellKey(latCell(latitude), lonCell(longitude)));
+        int fromCell = cell >= 0 ? cellStart[cell + 1] - cellStart[cell] : 0;
+        return fromCell + oversizedFences.length;
+    }
+
+    private boolean contains(int fence, double latitude, double longitude) {
+        return Coordinate.distanceMeters(centerLat[fence], centerLon[fence], latitude, longitude) <= radius[fence];
+    }
+
+    private int latCell(double latitude) {
+        return Math.max(0, Math.min(latCells - 1, (int) Math.floor((latitude + 90) / cellSize)));
+    }
+
+    private int lonCell(double longitude) {
+        return Math.max(0, Math.min(lonCells - 1, (int) Math.floor((longitude + 180) / cellSize)));
+    }
+
+    private long cellKey(int row, int col) {
+        return (long) row * lonCells + col;
+    }
+
+    private static int[] append(int[] array, int count, int value) {
+        int[] target = count < array.length ? array : Arrays.copyOf(array, Math.max(4, count * 2));
+        target[count] = value;
+        return target;
+    }
+}
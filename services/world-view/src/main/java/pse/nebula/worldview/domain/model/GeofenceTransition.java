@@ -0,0 +1,9 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * Direction in which a journey crossed a geofence boundary.
+ */
+public enum GeofenceTransition {
+    ENTER,
+    EXIT
+}
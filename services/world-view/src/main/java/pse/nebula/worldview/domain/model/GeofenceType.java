@@ -0,0 +1,11 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * Purpose of a geofence. Consumers use it to decide how to react to enter/exit events.
+ */
+public enum GeofenceType {
+    DEALERSHIP,
+    CITY_ZONE,
+    SPEED_ZONE,
+    CUSTOM
+}
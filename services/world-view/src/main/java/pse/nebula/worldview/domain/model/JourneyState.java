@@ -5,6 +5,9 @@ import lombok.Getter;
 /**
  * Represents the current state of a journey on a route.
  * This is a mutable entity that tracks the car's position along the route.
+ *
+ * The position is kept as primitive latitude and longitude so advancing a journey does
+ * not allocate; {@link #getCurrentPosition()} materializes a Coordinate on demand.
  */
 @Getter
 public class JourneyState {
@@ -12,10 +15,12 @@ public class JourneyState {
     private final String journeyId;
     private final DrivingRoute route;
     private int currentWaypointIndex;
-    private Coordinate currentPosition;
+    private double currentLatitude;
+    private double currentLongitude;
     private JourneyStatus status;
     private double speedMetersPerSecond;
     private double progressPercentage;
+    private double distanceTravelledMeters;
 
     public JourneyState(String journeyId, DrivingRoute route, double speedMetersPerSecond) {
         if (journeyId == null || journeyId.isBlank()) {
@@ -33,9 +38,11 @@ public class JourneyState {
         this.route = route;
         this.speedMetersPerSecond = speedMetersPerSecond;
         this.currentWaypointIndex = 0;
-        this.currentPosition = route.startPoint();
+        this.currentLatitude = route.polyline().latitude(0);
+        this.currentLongitude = route.polyline().longitude(0);
         this.status = JourneyStatus.NOT_STARTED;
         this.progressPercentage = 0.0;
+        this.distanceTravelledMeters = 0.0;
     }
 
     /**
@@ -83,6 +90,10 @@ public class JourneyState {
      * Move the car forward based on elapsed time.
      * Returns true if the car has reached the destination.
      *
+     * The position is derived from the total distance travelled using the route's
+     * precomputed geometry: a binary search finds the current segment and progress
+     * is computed in constant time, independent of the number of waypoints passed.
+     *
      * @param elapsedSeconds The time elapsed since the last update (must be positive)
      * @return true if journey is completed
      * @throws IllegalArgumentException if elapsedSeconds is not positive and finite
@@ -97,56 +108,93 @@ public class JourneyState {
             return status == JourneyStatus.COMPLETED;
         }
 
-        double distanceToTravel = speedMetersPerSecond * elapsedSeconds;
-
-        while (distanceToTravel > 0 && currentWaypointIndex < route.getTotalWaypoints() - 1) {
-            Coordinate nextWaypoint = route.getWaypointAt(currentWaypointIndex + 1);
-            double distanceToNextWaypoint = currentPosition.distanceTo(nextWaypoint);
-
-            if (distanceToTravel >= distanceToNextWaypoint) {
-                // Move to the next waypoint
-                currentPosition = nextWaypoint;
-                distanceToTravel -= distanceToNextWaypoint;
-                currentWaypointIndex++;
-            } else {
-                // Move partially towards the next waypoint
-                double fraction = distanceToTravel / distanceToNextWaypoint;
-                currentPosition = currentPosition.interpolateTo(nextWaypoint, fraction);
-                distanceToTravel = 0;
-            }
-        }
-
-        // Update progress percentage
-        updateProgress();
+        double totalLength = route.geometry().getTotalLengthMeters();
+        moveTo(Math.min(distanceTravelledMeters + speedMetersPerSecond * elapsedSeconds, totalLength));
 
         // Check if we've reached the destination
-        if (currentWaypointIndex >= route.getTotalWaypoints() - 1) {
+        if (distanceTravelledMeters >= totalLength) {
             status = JourneyStatus.COMPLETED;
-            progressPercentage = 100.0;
             return true;
         }
-
         return false;
     }
 
-    private void updateProgress() {
-        if (route.getTotalWaypoints() <= 1) {
+    /**
+     * Recreate a journey from persisted progress, e.g. after a service restart.
+     * The position is derived from the travelled distance exactly as during simulation.
+     *
+     * @param journeyId The journey identifier
+     * @param route The route being driven
+     * @param speedMetersPerSecond The journey speed
+     * @param status The persisted status
+     * @param distanceTravelledMeters The persisted distance along the route
+     * @return The restored journey state
+     * @throws IllegalArgumentException if the distance is negative or not finite
+     */
+    public static JourneyState restore(String journeyId, DrivingRoute route, double speedMetersPerSecond,
+                                       JourneyStatus status, double distanceTravelledMeters) {
+        if (!Double.isFinite(distanceTravelledMeters) || distanceTravelledMeters < 0) {
+            throw new IllegalArgumentException(
+                "Distance travelled must be a non-negative finite number, got: " + distanceTravelledMeters);
+        }
+        JourneyState journeyState = new JourneyState(journeyId, route, speedMetersPerSecond);
+        double totalLength = route.geometry().getTotalLengthMeters();
+        if (status == JourneyStatus.COMPLETED) {
+            journeyState.moveTo(totalLength);
+        } else if (distanceTravelledMeters > 0) {
+            journeyState.moveTo(Math.min(distanceTravelledMeters, totalLength));
+        }
+        journeyState.status = status;
+        return journeyState;
+    }
+
+    /**
+     * Place the car at the given distance along the route.
+     */
+    private void moveTo(double distanceMeters) {
+        RouteGeometry geometry = route.geometry();
+        distanceTravelledMeters = distanceMeters;
+
+        if (distanceTravelledMeters >= geometry.getTotalLengthMeters()) {
+            currentWaypointIndex = route.getTotalWaypoints() - 1;
+            int last = route.getTotalWaypoints() - 1;
+            currentLatitude = route.polyline().latitude(last);
+            currentLongitude = route.polyline().longitude(last);
             progressPercentage = 100.0;
             return;
         }
 
-        double completedDistance = 0;
-        for (int i = 0; i < currentWaypointIndex; i++) {
-            completedDistance += route.getWaypointAt(i).distanceTo(route.getWaypointAt(i + 1));
-        }
+        // Locate the segment containing the travelled distance and move along it
+        int segment = geometry.findSegmentIndex(distanceTravelledMeters);
+        double segmentLength = geometry.getSegmentLength(segment);
+        double distanceIntoSegment = distanceTravelledMeters - geometry.getDistanceToWaypoint(segment);
+        PackedPolyline polyline = route.polyline();
 
-        // Add partial distance in current segment
-        if (currentWaypointIndex < route.getTotalWaypoints() - 1) {
-            Coordinate segmentStart = route.getWaypointAt(currentWaypointIndex);
-            completedDistance += segmentStart.distanceTo(currentPosition);
+        currentWaypointIndex = segment;
+        currentLatitude = polyline.latitude(segment);
+        currentLongitude = polyline.longitude(segment);
+        if (distanceIntoSegment > 0 && segmentLength > 0) {
+            // Interpolate on the packed values, nothing is allocated
+            double fraction = Math.min(1.0, distanceIntoSegment / segmentLength);
+            currentLatitude += (polyline.latitude(segment + 1) - currentLatitude) * fraction;
+            currentLongitude += (polyline.longitude(segment + 1) - currentLongitude) * fraction;
         }
 
-        progressPercentage = Math.min(100.0, (completedDistance / route.totalDistanceMeters()) * 100.0);
+        updateProgress();
+    }
+
+    /**
+     * Get the current position as a Coordinate. Allocates a new instance on each call;
+     * per-tick code reads {@link #getCurrentLatitude()} and {@link #getCurrentLongitude()}.
+     *
+     * @return The current position
+     */
+    public Coordinate getCurrentPosition() {
+        return new Coordinate(currentLatitude, currentLongitude);
+    }
+
+    private void updateProgress() {
+        progressPercentage = Math.min(100.0, (distanceTravelledMeters / route.totalDistanceMeters()) * 100.0);
     }
 
     /**
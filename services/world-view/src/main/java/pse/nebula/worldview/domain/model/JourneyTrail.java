@@ -0,0 +1,24 @@
+package pse.nebula.worldview.domain.model;
+
+import java.util.List;
+
+/**
+ * The positions a journey has passed, oldest first.
+ *
+ * @param journeyId The journey identifier
+ * @param recordedPoints Number of positions currently retained for the journey
+ * @param points The retained positions, possibly downsampled; always includes the latest one
+ */
+public record JourneyTrail(String journeyId, int recordedPoints, List<TrailPoint> points) {
+
+    public JourneyTrail {
+        points = List.copyOf(points);
+    }
+
+    /**
+     * Create a trail without positions.
+     */
+    public static JourneyTrail empty(String journeyId) {
+        return new JourneyTrail(journeyId, 0, List.of());
+    }
+}
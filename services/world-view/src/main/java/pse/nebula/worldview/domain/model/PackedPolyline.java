@@ -0,0 +1,226 @@
+package pse.nebula.worldview.domain.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Compact, immutable storage for an ordered list of coordinates.
+ *
+ * Points are kept in a single primitive array with latitude and longitude interleaved
+ * ({@code [lat0, lng0, lat1, lng1, ...]}), i.e. 16 bytes per point instead of a
+ * Coordinate record plus a list slot. Coordinate objects are only created when a
+ * caller asks for one, either through {@link #get(int)} or the {@link #asList()} view.
+ */
+public final class PackedPolyline {
+
+    private final double[] latLng;
+
+    private PackedPolyline(double[] latLng) {
+        this.latLng = latLng;
+    }
+
+    /**
+     * Pack a list of coordinates.
+     *
+     * @param coordinates The coordinates (at least 2, no null elements)
+     * @return The packed polyline
+     * @throws IllegalArgumentException if fewer than 2 coordinates are given or one is null
+     */
+    public static PackedPolyline of(List<Coordinate> coordinates) {
+        if (coordinates == null || coordinates.size() < 2) {
+            throw new IllegalArgumentException("Polyline must have at least 2 points");
+        }
+        if (coordinates instanceof CoordinateView view) {
+            return view.owner();
+        }
+
+        double[] packed = new double[coordinates.size() * 2];
+        int offset = 0;
+        for (Coordinate coordinate : coordinates) {
+            if (coordinate == null) {
+                throw new IllegalArgumentException("Polyline cannot contain null points");
+            }
+            packed[offset++] = coordinate.latitude();
+            packed[offset++] = coordinate.longitude();
+        }
+        return new PackedPolyline(packed);
+    }
+
+    /**
+     * Create a polyline from interleaved latitude/longitude values.
+     * The array is copied, so the caller may reuse it.
+     *
+     * @param latLng Interleaved values ({@code [lat0, lng0, lat1, lng1, ...]})
+     * @return The packed polyline
+     * @throws IllegalArgumentException if the array is malformed or contains invalid coordinates
+     */
+    public static PackedPolyline fromLatLng(double[] latLng) {
+        if (latLng == null || latLng.length % 2 != 0) {
+            throw new IllegalArgumentException("Packed coordinates must contain latitude/longitude pairs");
+        }
+        return fromLatLng(latLng, latLng.length / 2);
+    }
+
+    /**
+     * Create a polyline from the first {@code pointCount} points of an interleaved array.
+     * Useful for builders that over-allocate their buffer. The values are copied.
+     *
+     * @param latLng Interleaved values ({@code [lat0, lng0, lat1, lng1, ...]})
+     * @param pointCount Number of points to take from the array
+     * @return The packed polyline
+     * @throws IllegalArgumentException if the array is malformed or contains invalid coordinates
+     */
+    public static PackedPolyline fromLatLng(double[] latLng, int pointCount) {
+        if (latLng == null || pointCount < 2 || pointCount * 2 > latLng.length) {
+            throw new IllegalArgumentException("Polyline must have at least 2 points");
+        }
+        double[] packed = Arrays.copyOf(latLng, pointCount * 2);
+        for (int i = 0; i < packed.length; i += 2) {
+            Coordinate.requireValid(packed[i], packed[i + 1]);
+        }
+        return new PackedPolyline(packed);
+    }
+
+    /**
+     * Get the number of points.
+     */
+    public int size() {
+        return latLng.length / 2;
+    }
+
+    /**
+     * Get the latitude of a point without creating a Coordinate.
+     *
+     * @param index The point index
+     * @return Latitude in degrees
+     */
+    public double latitude(int index) {
+        checkIndex(index);
+        return latLng[index * 2];
+    }
+
+    /**
+     * Get the longitude of a point without creating a Coordinate.
+     *
+     * @param index The point index
+     * @return Longitude in degrees
+     */
+    public double longitude(int index) {
+        checkIndex(index);
+        return latLng[index * 2 + 1];
+    }
+
+    /**
+     * Create a Coordinate for a point.
+     *
+     * @param index The point index
+     * @return A new Coordinate
+     */
+    public Coordinate get(int index) {
+        checkIndex(index);
+        return new Coordinate(latLng[index * 2], latLng[index * 2 + 1]);
+    }
+
+    /**
+     * Haversine distance between two points of this polyline.
+     *
+     * @return Distance in meters
+     */
+    public double distanceBetween(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+        return Coordinate.distanceMeters(
+            latLng[from * 2], latLng[from * 2 + 1], latLng[to * 2], latLng[to * 2 + 1]);
+    }
+
+    /**
+     * Initial bearing from one point of this polyline to another.
+     *
+     * @return Bearing in degrees clockwise from true north, in the range [0, 360)
+     */
+    public double bearingBetween(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+        return Coordinate.bearingDegrees(
+            latLng[from * 2], latLng[from * 2 + 1], latLng[to * 2], latLng[to * 2 + 1]);
+    }
+
+    /**
+     * Copy the interleaved latitude/longitude values.
+     *
+     * @return A new array of length {@code 2 * size()}
+     */
+    public double[] toLatLngArray() {
+        return latLng.clone();
+    }
+
+    /**
+     * The interleaved values without copying, for batch kernels in this package.
+     * Callers must not modify the array.
+     */
+    double[] latLngArray() {
+        return latLng;
+    }
+
+    /**
+     * Get an unmodifiable List view of this polyline.
+     * Coordinates are created on every {@code get} call and are not retained.
+     *
+     * @return A random-access list view
+     */
+    public List<Coordinate> asList() {
+        return new CoordinateView(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof PackedPolyline other && Arrays.equals(latLng, other.latLng);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(latLng);
+    }
+
+    @Override
+    public String toString() {
+        return "PackedPolyline[points=" + size() + "]";
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Point index out of bounds: " + index);
+        }
+    }
+
+    /**
+     * Read-only list view that materialises Coordinates on demand.
+     */
+    private static final class CoordinateView extends AbstractList<Coordinate> implements RandomAccess {
+
+        private final PackedPolyline owner;
+
+        private CoordinateView(PackedPolyline owner) {
+            this.owner = owner;
+        }
+
+        private PackedPolyline owner() {
+            return owner;
+        }
+
+        @Override
+        public Coordinate get(int index) {
+            return owner.get(index);
+        }
+
+        @Override
+        public int size() {
+            return owner.size();
+        }
+    }
+}
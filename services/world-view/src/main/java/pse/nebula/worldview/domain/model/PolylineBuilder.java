@@ -0,0 +1,99 @@
+package pse.nebula.worldview.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer that packs streamed coordinates into a PackedPolyline.
+ *
+ * Points are validated and measured as they arrive, so a route of any length is built
+ * without a Coordinate object per point: memory is the 16 bytes per point of the
+ * finished polyline. Consecutive duplicate points (common in GPS tracks recorded while
+ * standing still) are dropped. A maximum point count bounds the buffer for untrusted input.
+ */
+public final class PolylineBuilder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int maxPoints;
+    private double[] latLng = new double[INITIAL_CAPACITY * 2];
+    private int size;
+    private long pointsRead;
+    private double distanceMeters;
+
+    /**
+     * Create a builder.
+     *
+     * @param maxPoints The maximum number of points the polyline may have
+     */
+    public PolylineBuilder(int maxPoints) {
+        if (maxPoints < 2) {
+            throw new IllegalArgumentException("Maximum point count must be at least 2, got: " + maxPoints);
+        }
+        this.maxPoints = maxPoints;
+    }
+
+    /**
+     * Append a point.
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @throws IllegalArgumentException if the point is invalid or the maximum point count is exceeded
+     */
+    public void add(double latitude, double longitude) {
+        pointsRead++;
+        Coordinate.requireValid(latitude, longitude);
+        if (size > 0) {
+            double previousLatitude = latLng[size * 2 - 2];
+            double previousLongitude = latLng[size * 2 - 1];
+            if (previousLatitude == latitude && previousLongitude == longitude) {
+                return;
+            }
+            distanceMeters += Coordinate.distanceMeters(previousLatitude, previousLongitude, latitude, longitude);
+        }
+        if (size == maxPoints) {
+            throw new IllegalArgumentException("Polyline has more than " + maxPoints + " points");
+        }
+        if (size * 2 == latLng.length) {
+            latLng = Arrays.copyOf(latLng, (int) Math.min((long) latLng.length * 2, (long) maxPoints * 2));
+        }
+        latLng[size * 2] = latitude;
+        latLng[size * 2 + 1] = longitude;
+        size++;
+    }
+
+    /**
+     * Get the number of points kept so far.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of points read so far, including dropped duplicates.
+     */
+    public long pointsRead() {
+        return pointsRead;
+    }
+
+    /**
+     * Get the length of the polyline so far, summed over its segments.
+     *
+     * @return Distance in meters
+     */
+    public double distanceMeters() {
+        return distanceMeters;
+    }
+
+    /**
+     * Build the polyline.
+     *
+     * @return The packed polyline
+     * @throws IllegalArgumentException if fewer than 2 distinct points were added
+     */
+    public PackedPolyline build() {
+        if (size < 2) {
+            throw new IllegalArgumentException("Polyline must have at least 2 distinct points, got: " + size);
+        }
+        return PackedPolyline.fromLatLng(latLng, size);
+    }
+}
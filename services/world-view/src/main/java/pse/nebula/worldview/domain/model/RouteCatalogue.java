@@ -0,0 +1,160 @@
+package pse.nebula.worldview.domain.model;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, versioned snapshot of all available routes.
+ *
+ * A catalogue is loaded once from the route repository and then shared by every
+ * reader until it is replaced. Lookups by index and by ID are O(1), so selecting a
+ * random route or resolving a route ID never touches the repository.
+ * The version increases every time a new snapshot is loaded, which lets callers
+ * detect that the route set may have changed.
+ * A {@link RouteSpatialIndex} over all route segments is built together with the
+ * snapshot, so geometric queries are answered without scanning every route.
+ * Simplified {@link RouteLevelsOfDetail} of every route are computed with the snapshot as
+ * well, so overview maps are served without simplifying per request.
+ */
+public final class RouteCatalogue {
+
+    private final long version;
+    private final List<DrivingRoute> routes;
+    private final Map<String, DrivingRoute> routesById;
+    private final RouteSpatialIndex spatialIndex;
+    // Keyed by instance, so a route can never be served with the levels of another route sharing its ID
+    private final Map<DrivingRoute, RouteLevelsOfDetail> levelsOfDetail;
+
+    private RouteCatalogue(long version, List<DrivingRoute> routes, Map<String, DrivingRoute> routesById,
+                           RouteSpatialIndex spatialIndex, Map<DrivingRoute, RouteLevelsOfDetail> levelsOfDetail) {
+        this.version = version;
+        this.routes = routes;
+        this.routesById = routesById;
+        this.spatialIndex = spatialIndex;
+        this.levelsOfDetail = levelsOfDetail;
+    }
+
+    /**
+     * Create a catalogue snapshot with the default level-of-detail tolerances.
+     * If several routes share an ID, the first one wins for {@link #findById(String)}.
+     *
+     * @param version The snapshot version
+     * @param routes The routes in repository order
+     * @return The catalogue
+     * @throws IllegalArgumentException if routes is null or contains null elements
+     */
+    public static RouteCatalogue of(long version, List<DrivingRoute> routes) {
+        return of(version, routes, RouteLevelsOfDetail.DEFAULT_TOLERANCES_METERS);
+    }
+
+    /**
+     * Create a catalogue snapshot.
+     * If several routes share an ID, the first one wins for {@link #findById(String)}.
+     *
+     * @param version The snapshot version
+     * @param routes The routes in repository order
+     * @param detailTolerancesMeters Tolerances of the simplified levels built for every route
+     * @return The catalogue
+     * @throws IllegalArgumentException if routes is null or contains null elements, or a tolerance is invalid
+     */
+    public static RouteCatalogue of(long version, List<DrivingRoute> routes, List<Double> detailTolerancesMeters) {
+        if (routes == null) {
+            throw new IllegalArgumentException("Routes cannot be null");
+        }
+
+        List<DrivingRoute> snapshot;
+        try {
+            snapshot = List.copyOf(routes);
+        } catch (NullPointerException e) {
+            throw new IllegalArgumentException("Routes cannot contain null elements");
+        }
+
+        Map<String, DrivingRoute> byId = new HashMap<>(snapshot.size() * 2);
+        Map<DrivingRoute, RouteLevelsOfDetail> levels = new IdentityHashMap<>(snapshot.size() * 2);
+        for (DrivingRoute route : snapshot) {
+            byId.putIfAbsent(route.id(), route);
+            levels.computeIfAbsent(route, r -> RouteLevelsOfDetail.build(r, detailTolerancesMeters));
+        }
+        return new RouteCatalogue(version, snapshot, Map.copyOf(byId), RouteSpatialIndex.build(snapshot), levels);
+    }
+
+    /**
+     * Get the version of this snapshot.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Get all routes in repository order.
+     *
+     * @return Immutable list of routes
+     */
+    public List<DrivingRoute> routes() {
+        return routes;
+    }
+
+    /**
+     * Get the spatial index over the segments of all routes in this snapshot.
+     */
+    public RouteSpatialIndex spatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * Get a route at the coarsest precomputed level of detail within a tolerance.
+     *
+     * @param route A route of this snapshot
+     * @param toleranceMeters The acceptable deviation from the full route in meters
+     * @return The selected level, or the full route if it is not part of this snapshot
+     */
+    public RouteDetailLevel detailLevel(DrivingRoute route, double toleranceMeters) {
+        RouteLevelsOfDetail levels = levelsOfDetail.get(route);
+        return levels != null ? levels.select(toleranceMeters) : RouteDetailLevel.full(route);
+    }
+
+    /**
+     * Find a route by its ID.
+     *
+     * @param routeId The route identifier
+     * @return Optional containing the route if present in this snapshot
+     */
+    public Optional<DrivingRoute> findById(String routeId) {
+        return routeId == null ? Optional.empty() : Optional.ofNullable(routesById.get(routeId));
+    }
+
+    /**
+     * Get the route at a position in the catalogue.
+     *
+     * @param index The route index
+     * @return The route
+     */
+    public DrivingRoute get(int index) {
+        if (index < 0 || index >= routes.size()) {
+            throw new IndexOutOfBoundsException("Route index out of bounds: " + index);
+        }
+        return routes.get(index);
+    }
+
+    /**
+     * Get the number of routes in this snapshot.
+     */
+    public int size() {
+        return routes.size();
+    }
+
+    /**
+     * Check whether this snapshot contains no routes.
+     */
+    public boolean isEmpty() {
+        return routes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "RouteCatalogue[version=" + version + ", routes=" + routes.size() + "]";
+    }
+}
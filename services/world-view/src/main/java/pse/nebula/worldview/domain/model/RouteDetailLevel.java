@@ -0,0 +1,27 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * The waypoints of a route at one level of detail.
+ *
+ * @param toleranceMeters Maximum deviation from the full route in meters, 0 for the full route
+ * @param waypoints The (possibly simplified) waypoints, always including the route's start and end
+ */
+public record RouteDetailLevel(double toleranceMeters, PackedPolyline waypoints) {
+
+    /**
+     * The full-resolution level of a route.
+     *
+     * @param route The route
+     * @return A level with every waypoint of the route
+     */
+    public static RouteDetailLevel full(DrivingRoute route) {
+        return new RouteDetailLevel(0, route.polyline());
+    }
+
+    /**
+     * Check whether this level contains every waypoint of the route.
+     */
+    public boolean isFull() {
+        return toleranceMeters == 0;
+    }
+}
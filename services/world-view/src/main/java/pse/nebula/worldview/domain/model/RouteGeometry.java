@@ -0,0 +1,147 @@
+package pse.nebula.worldview.domain.model;
+
+import java.util.List;
+
+/**
+ * Precomputed geometry of a route, built once when the route is created.
+ *
+ * Holds the cumulative distance from the start to every waypoint (a prefix sum over
+ * the segment lengths). This turns "how far along the route is waypoint i" into an
+ * O(1) lookup and "which segment contains distance d" into an O(log n) binary search.
+ * Segment lengths come from {@link GeodesicKernel}, so they are within its documented error
+ * bound of the Haversine distances.
+ * Segment lengths are differences of the prefix sums and bearings are computed from
+ * the packed polyline on request, so the index costs one double per waypoint.
+ *
+ * Immutable value object; the arrays are never exposed.
+ */
+public final class RouteGeometry {
+
+    private final PackedPolyline polyline;
+    private final double[] cumulativeDistances;
+
+    private RouteGeometry(PackedPolyline polyline, double[] cumulativeDistances) {
+        this.polyline = polyline;
+        this.cumulativeDistances = cumulativeDistances;
+    }
+
+    /**
+     * Build the geometry index for an ordered list of waypoints.
+     *
+     * @param waypoints The route waypoints (at least 2)
+     * @return The geometry index
+     * @throws IllegalArgumentException if fewer than 2 waypoints are given
+     */
+    public static RouteGeometry of(List<Coordinate> waypoints) {
+        if (waypoints == null || waypoints.size() < 2) {
+            throw new IllegalArgumentException("Route geometry requires at least 2 waypoints");
+        }
+        return fromPolyline(PackedPolyline.of(waypoints));
+    }
+
+    /**
+     * Build the geometry index for a packed polyline.
+     *
+     * @param polyline The route polyline
+     * @return The geometry index
+     * @throws IllegalArgumentException if the polyline is null
+     */
+    public static RouteGeometry fromPolyline(PackedPolyline polyline) {
+        if (polyline == null) {
+            throw new IllegalArgumentException("Route geometry requires at least 2 waypoints");
+        }
+
+        // Segment lengths in one batch pass, shifted by one, then summed in place
+        double[] cumulative = new double[polyline.size()];
+        GeodesicKernel.segmentLengths(polyline, cumulative, 1);
+        for (int i = 1; i < cumulative.length; i++) {
+            cumulative[i] += cumulative[i - 1];
+        }
+        return new RouteGeometry(polyline, cumulative);
+    }
+
+    /**
+     * Get the number of waypoints covered by this geometry.
+     */
+    public int getWaypointCount() {
+        return cumulativeDistances.length;
+    }
+
+    /**
+     * Get the number of segments (waypoint count - 1).
+     */
+    public int getSegmentCount() {
+        return cumulativeDistances.length - 1;
+    }
+
+    /**
+     * Get the measured length of the whole polyline.
+     *
+     * @return Sum of all segment lengths in meters
+     */
+    public double getTotalLengthMeters() {
+        return cumulativeDistances[cumulativeDistances.length - 1];
+    }
+
+    /**
+     * Get the distance along the route from the start to a waypoint.
+     *
+     * @param waypointIndex The waypoint index
+     * @return Distance in meters
+     */
+    public double getDistanceToWaypoint(int waypointIndex) {
+        checkIndex(waypointIndex, cumulativeDistances.length, "Waypoint");
+        return cumulativeDistances[waypointIndex];
+    }
+
+    /**
+     * Get the length of the segment starting at a waypoint.
+     *
+     * @param segmentIndex The segment index (equal to its start waypoint index)
+     * @return Segment length in meters
+     */
+    public double getSegmentLength(int segmentIndex) {
+        checkIndex(segmentIndex, getSegmentCount(), "Segment");
+        return cumulativeDistances[segmentIndex + 1] - cumulativeDistances[segmentIndex];
+    }
+
+    /**
+     * Get the initial bearing of the segment starting at a waypoint.
+     *
+     * @param segmentIndex The segment index (equal to its start waypoint index)
+     * @return Bearing in degrees clockwise from true north
+     */
+    public double getSegmentBearing(int segmentIndex) {
+        checkIndex(segmentIndex, getSegmentCount(), "Segment");
+        return polyline.bearingBetween(segmentIndex, segmentIndex + 1);
+    }
+
+    /**
+     * Find the segment that contains the given distance along the route.
+     * Returns the last segment whose start waypoint is at or before the distance,
+     * so landing exactly on a waypoint yields the segment that starts there.
+     * Distances outside the route are clamped to the first or last segment.
+     *
+     * @param distanceMeters Distance from the start of the route
+     * @return The segment index
+     */
+    public int findSegmentIndex(double distanceMeters) {
+        int low = 0;
+        int high = getSegmentCount() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (cumulativeDistances[mid] <= distanceMeters) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static void checkIndex(int index, int size, String kind) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(kind + " index out of bounds: " + index);
+        }
+    }
+}
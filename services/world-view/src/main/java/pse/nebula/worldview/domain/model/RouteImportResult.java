@@ -0,0 +1,11 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * Outcome of a route import.
+ *
+ * @param route The stored route
+ * @param pointsRead Points read from the track file, including dropped duplicates
+ * @param elapsedMillis Time the import took
+ */
+public record RouteImportResult(DrivingRoute route, long pointsRead, long elapsedMillis) {
+}
@@ -0,0 +1,26 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * Metadata of a route to import from a track file.
+ *
+ * @param id The ID of the new route
+ * @param name The display name
+ * @param description The description, may be null
+ * @param simplificationToleranceMeters Douglas-Peucker tolerance applied to the track, 0 to keep every point
+ */
+public record RouteImportSpec(String id, String name, String description, double simplificationToleranceMeters) {
+
+    public RouteImportSpec {
+        if (id == null || !id.matches("[A-Za-z0-9][A-Za-z0-9_-]{0,63}")) {
+            throw new IllegalArgumentException(
+                    "Route ID must be 1-64 letters, digits, '-' or '_', got: " + id);
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Route name cannot be blank");
+        }
+        if (!Double.isFinite(simplificationToleranceMeters) || simplificationToleranceMeters < 0) {
+            throw new IllegalArgumentException(
+                    "Simplification tolerance must be a non-negative number, got: " + simplificationToleranceMeters);
+        }
+    }
+}
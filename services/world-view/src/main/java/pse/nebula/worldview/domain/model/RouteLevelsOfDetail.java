@@ -0,0 +1,116 @@
+package pse.nebula.worldview.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precomputed simplifications of one route, used to serve overview maps with fewer waypoints.
+ *
+ * Each level is simplified from the full route with {@link RouteSimplifier} at its own
+ * tolerance, so the deviation of a level never accumulates over coarser levels. Levels that
+ * would not drop any further point share the polyline of the next finer level.
+ */
+public final class RouteLevelsOfDetail {
+
+    /** Tolerances used when none are configured, from street to region scale */
+    public static final List<Double> DEFAULT_TOLERANCES_METERS = List.of(5.0, 20.0, 80.0, 320.0);
+
+    // Web Mercator ground resolution at zoom level 0 on the equator, meters per 256-pixel tile pixel
+    private static final double METERS_PER_PIXEL_AT_ZOOM_0 = 156_543.03392;
+    private static final int MAX_ZOOM = 22;
+
+    private final RouteDetailLevel full;
+    // Ascending by tolerance
+    private final RouteDetailLevel[] levels;
+
+    private RouteLevelsOfDetail(RouteDetailLevel full, RouteDetailLevel[] levels) {
+        this.full = full;
+        this.levels = levels;
+    }
+
+    /**
+     * Simplify a route at each of the given tolerances.
+     *
+     * @param route The route
+     * @param tolerancesMeters The tolerances in meters, in any order; zero and duplicates are ignored
+     * @return The levels of detail of the route
+     * @throws IllegalArgumentException if a tolerance is negative or not finite
+     */
+    public static RouteLevelsOfDetail build(DrivingRoute route, List<Double> tolerancesMeters) {
+        double[] tolerances = tolerancesMeters.stream()
+                .mapToDouble(Double::doubleValue)
+                .filter(tolerance -> tolerance != 0)
+                .sorted()
+                .distinct()
+                .toArray();
+
+        RouteDetailLevel full = RouteDetailLevel.full(route);
+        RouteDetailLevel[] levels = new RouteDetailLevel[tolerances.length];
+        PackedPolyline finer = full.waypoints();
+        for (int i = 0; i < tolerances.length; i++) {
+            PackedPolyline simplified = RouteSimplifier.simplify(full.waypoints(), tolerances[i]);
+            if (simplified.size() == finer.size()) {
+                simplified = finer;
+            }
+            levels[i] = new RouteDetailLevel(tolerances[i], simplified);
+            finer = simplified;
+        }
+        return new RouteLevelsOfDetail(full, levels);
+    }
+
+    /**
+     * Get the coarsest level whose deviation does not exceed the requested tolerance.
+     *
+     * @param toleranceMeters The acceptable deviation in meters
+     * @return The matching level, or the full route if every level is too coarse
+     */
+    public RouteDetailLevel select(double toleranceMeters) {
+        RouteDetailLevel selected = full;
+        for (RouteDetailLevel level : levels) {
+            if (level.toleranceMeters() > toleranceMeters) {
+                break;
+            }
+            selected = level;
+        }
+        return selected;
+    }
+
+    /**
+     * Get the full-resolution level.
+     */
+    public RouteDetailLevel full() {
+        return full;
+    }
+
+    /**
+     * Get the simplified levels, finest first.
+     *
+     * @return Immutable list of levels, excluding the full route
+     */
+    public List<RouteDetailLevel> levels() {
+        return List.of(levels);
+    }
+
+    /**
+     * Convert a web map zoom level to the tolerance of one screen pixel at a latitude.
+     * Deviations below a pixel are invisible, so this is the coarsest useful tolerance.
+     *
+     * @param zoom The zoom level (0 = whole world in one 256-pixel tile)
+     * @param latitude The latitude the map is centered on
+     * @return The tolerance in meters
+     * @throws IllegalArgumentException if the zoom is outside 0..22
+     */
+    public static double toleranceForZoom(int zoom, double latitude) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("Zoom must be between 0 and " + MAX_ZOOM + ", got: " + zoom);
+        }
+        return METERS_PER_PIXEL_AT_ZOOM_0 * Math.cos(Math.toRadians(latitude)) / (1L << zoom);
+    }
+
+    @Override
+    public String toString() {
+        return "RouteLevelsOfDetail[waypoints=" + full.waypoints().size() + ", levels="
+                + Arrays.stream(levels).map(level -> level.toleranceMeters() + "m:" + level.waypoints().size()).toList()
+                + "]";
+    }
+}
@@ -0,0 +1,12 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * The point of a route closest to a query position.
+ *
+ * @param route The matched route
+ * @param segmentIndex Index of the segment (between waypoint i and i + 1) containing the nearest point
+ * @param nearestPoint The closest point on the route
+ * @param distanceMeters Distance from the query position to the nearest point
+ */
+public record RouteMatch(DrivingRoute route, int segmentIndex, Coordinate nearestPoint, double distanceMeters) {
+}
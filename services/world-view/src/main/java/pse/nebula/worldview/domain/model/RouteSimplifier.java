@@ -0,0 +1,108 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * Douglas-Peucker simplification of polylines with a tolerance in meters.
+ *
+ * The first and last point are always kept. Between them, the point farthest from the
+ * line through the current endpoints is kept if it deviates more than the tolerance, and
+ * both halves are simplified the same way. The recursion runs on an explicit stack, so
+ * long routes cannot overflow the thread stack.
+ *
+ * Distances use a local equirectangular projection around the first point of the
+ * polyline, which is accurate to well below a meter over the extent of a road route.
+ */
+public final class RouteSimplifier {
+
+    private RouteSimplifier() {
+    }
+
+    /**
+     * Simplify a polyline so that no removed point is farther than the tolerance from the result.
+     *
+     * @param polyline The polyline
+     * @param toleranceMeters Maximum deviation in meters
+     * @return The simplified polyline, or the same instance if no point can be removed
+     * @throws IllegalArgumentException if the tolerance is negative or not finite
+     */
+    public static PackedPolyline simplify(PackedPolyline polyline, double toleranceMeters) {
+        if (!(toleranceMeters >= 0) || Double.isInfinite(toleranceMeters)) {
+            throw new IllegalArgumentException("Tolerance must be a non-negative number, got: " + toleranceMeters);
+        }
+        int size = polyline.size();
+        if (size <= 2 || toleranceMeters == 0) {
+            return polyline;
+        }
+
+        // Project to meters once, so the distance checks are plain arithmetic
+        double[] x = new double[size];
+        double[] y = new double[size];
+        GeodesicKernel.project(polyline, polyline.latitude(0), polyline.longitude(0), x, y);
+
+        boolean[] keep = new boolean[size];
+        keep[0] = true;
+        keep[size - 1] = true;
+        int kept = 2;
+        double toleranceSquared = toleranceMeters * toleranceMeters;
+
+        // Pending ranges as (first, last) pairs; at most one per kept point is pending at a time
+        int[] stack = new int[2 * size];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = size - 1;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+
+            int farthest = -1;
+            double farthestSquared = toleranceSquared;
+            for (int i = first + 1; i < last; i++) {
+                double distanceSquared = segmentDistanceSquared(x[i], y[i], x[first], y[first], x[last], y[last]);
+                if (distanceSquared > farthestSquared) {
+                    farthestSquared = distanceSquared;
+                    farthest = i;
+                }
+            }
+            if (farthest < 0) {
+                continue;
+            }
+
+            keep[farthest] = true;
+            kept++;
+            if (farthest - first > 1) {
+                stack[top++] = first;
+                stack[top++] = farthest;
+            }
+            if (last - farthest > 1) {
+                stack[top++] = farthest;
+                stack[top++] = last;
+            }
+        }
+
+        if (kept == size) {
+            return polyline;
+        }
+        double[] latLng = new double[kept * 2];
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) {
+                latLng[offset++] = polyline.latitude(i);
+                latLng[offset++] = polyline.longitude(i);
+            }
+        }
+        return PackedPolyline.fromLatLng(latLng);
+    }
+
+    /**
+     * Squared distance from point p to the segment a-b, in projected meters.
+     */
+    private static double segmentDistanceSquared(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        double ex = px - (ax + t * dx);
+        double ey = py - (ay + t * dy);
+        return ex * ex + ey * ey;
+    }
+}
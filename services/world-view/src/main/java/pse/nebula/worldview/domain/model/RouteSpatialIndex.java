@@ -0,0 +1,535 @@
+package pse.nebula.worldview.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable uniform-grid index over the segments of a set of routes.
+ *
+ * The globe is divided into cells of a fixed size in degrees. Every segment is registered
+ * in each cell its line passes through (grid traversal, not its bounding box, so long
+ * segments stay cheap). The occupied cells are stored as a sorted array of cell keys with
+ * offsets into one segment array, so a lookup is a binary search and the whole index costs
+ * a few ints per segment.
+ *
+ * Distances to segments use a local equirectangular projection around the query point,
+ * which is accurate to well below a meter for the segment lengths of road routes. When a
+ * query falls back to scanning every segment, each route is projected with {@link GeodesicKernel}.
+ */
+public final class RouteSpatialIndex {
+
+    /** Default cell size, about 1.1 km north-south */
+    public static final double DEFAULT_CELL_SIZE_DEGREES = 0.01;
+
+    /**
+     * Smallest cell size, about 670 m north-south. Cell keys are packed into the upper half
+     * of a long above the segment index, so the number of cells must stay below 2^31.
+     */
+    public static final double MIN_CELL_SIZE_DEGREES = 0.006;
+
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * 6_371_000;
+
+    // Snapping searches this many rings of cells around the query before scanning everything
+    private static final int MAX_SNAP_RINGS = 64;
+
+    private final List<DrivingRoute> routes;
+    private final double cellSize;
+    private final int lonCells;
+    private final int latCells;
+    private final int[] segmentRoute;
+    private final int[] routeFirstSegment;
+    private final long[] cellKeys;
+    private final int[] cellStart;
+    private final int[] cellSegments;
+
+    private RouteSpatialIndex(List<DrivingRoute> routes, double cellSize, int[] segmentRoute,
+                              int[] routeFirstSegment, long[] cellKeys, int[] cellStart, int[] cellSegments) {
+        this.routes = routes;
+        this.cellSize = cellSize;
+        this.lonCells = (int) Math.ceil(360 / cellSize);
+        this.latCells = (int) Math.ceil(180 / cellSize);
+        this.segmentRoute = segmentRoute;
+        this.routeFirstSegment = routeFirstSegment;
+        this.cellKeys = cellKeys;
+        this.cellStart = cellStart;
+        this.cellSegments = cellSegments;
+    }
+
+    /**
+     * Build the index with the default cell size.
+     *
+     * @param routes The routes to index
+     * @return The index
+     */
+    public static RouteSpatialIndex build(List<DrivingRoute> routes) {
+        return build(routes, DEFAULT_CELL_SIZE_DEGREES);
+    }
+
+    /**
+     * Build the index.
+     *
+     * @param routes The routes to index
+     * @param cellSizeDegrees Grid cell size in degrees
+     * @return The index
+     * @throws IllegalArgumentException if routes is null or the cell size is not in
+     *         [{@link #MIN_CELL_SIZE_DEGREES}, 10]
+     */
+    public static RouteSpatialIndex build(List<DrivingRoute> routes, double cellSizeDegrees) {
+        if (routes == null) {
+            throw new IllegalArgumentException("Routes cannot be null");
+        }
+        if (!(cellSizeDegrees >= MIN_CELL_SIZE_DEGREES && cellSizeDegrees <= 10)) {
+            throw new IllegalArgumentException("Cell size must be between " + MIN_CELL_SIZE_DEGREES
+                    + " and 10 degrees, got: " + cellSizeDegrees);
+        }
+        List<DrivingRoute> indexed = List.copyOf(routes);
+
+        int[] routeFirstSegment = new int[indexed.size() + 1];
+        for (int r = 0; r < indexed.size(); r++) {
+            routeFirstSegment[r + 1] = routeFirstSegment[r] + indexed.get(r).polyline().size() - 1;
+        }
+        int segmentCount = routeFirstSegment[indexed.size()];
+        int[] segmentRoute = new int[segmentCount];
+
+        // (cell key << 32 | segment) pairs, sorted afterwards into the cell arrays
+        CellEntries entries = new CellEntries(segmentCount * 2, cellSizeDegrees);
+        for (int r = 0; r < indexed.size(); r++) {
+            PackedPolyline polyline = indexed.get(r).polyline();
+            for (int i = 0; i < polyline.size() - 1; i++) {
+                int segment = routeFirstSegment[r] + i;
+                segmentRoute[segment] = r;
+                entries.addSegment(segment, polyline.latitude(i), polyline.longitude(i),
+                        polyline.latitude(i + 1), polyline.longitude(i + 1));
+            }
+        }
+        return entries.toIndex(indexed, segmentRoute, routeFirstSegment);
+    }
+
+    /**
+     * Get the number of indexed segments.
+     */
+    public int segmentCount() {
+        return segmentRoute.length;
+    }
+
+    /**
+     * Find all routes passing within a radius of a point.
+     *
+     * @param center The query point
+     * @param radiusMeters The search radius in meters
+     * @return The nearest point of every matching route, closest route first
+     * @throws IllegalArgumentException if center is null or the radius is negative
+     */
+    public List<RouteMatch> findWithinRadius(Coordinate center, double radiusMeters) {
+        if (center == null) {
+            throw new IllegalArgumentException("Center cannot be null");
+        }
+        if (!(radiusMeters >= 0) || Double.isInfinite(radiusMeters)) {
+            throw new IllegalArgumentException("Radius must be a non-negative finite number, got: " + radiusMeters);
+        }
+
+        Projection projection = new Projection(center);
+        double latRadius = radiusMeters / METERS_PER_DEGREE;
+        double lonRadius = Math.min(360, radiusMeters / projection.metersPerDegreeLon);
+        int latFrom = latCell(center.latitude() - latRadius);
+        int latTo = latCell(center.latitude() + latRadius);
+        int lonFrom = lonCell(center.longitude() - lonRadius);
+        int lonTo = lonCell(center.longitude() + lonRadius);
+
+        Map<Integer, Candidate> bestByRoute = new HashMap<>();
+        for (int row = latFrom; row <= latTo; row++) {
+            int from = firstCellAtOrAfter(cellKey(row, lonFrom));
+            long last = cellKey(row, lonTo);
+            for (int c = from; c < cellKeys.length && cellKeys[c] <= last; c++) {
+                for (int s = cellStart[c]; s < cellStart[c + 1]; s++) {
+                    int segment = cellSegments[s];
+                    Candidate candidate = projection.closestPointOn(segment);
+                    if (candidate.distance <= radiusMeters) {
+                        bestByRoute.merge(segmentRoute[segment], candidate,
+                                (a, b) -> a.distance <= b.distance ? a : b);
+                    }
+                }
+            }
+        }
+
+        List<RouteMatch> matches = new ArrayList<>(bestByRoute.size());
+        for (Candidate candidate : bestByRoute.values()) {
+            matches.add(candidate.toMatch());
+        }
+        matches.sort(Comparator.comparingDouble(RouteMatch::distanceMeters));
+        return matches;
+    }
+
+    /**
+     * Find all routes with at least one segment intersecting a bounding box.
+     *
+     * @param box The bounding box
+     * @return The matching routes in index order
+     * @throws IllegalArgumentException if box is null
+     */
+    public List<DrivingRoute> findIntersecting(BoundingBox box) {
+        if (box == null) {
+            throw new IllegalArgumentException("Bounding box cannot be null");
+        }
+        int latFrom = latCell(box.minLatitude());
+        int latTo = latCell(box.maxLatitude());
+        int lonFrom = lonCell(box.minLongitude());
+        int lonTo = lonCell(box.maxLongitude());
+
+        BitSet matched = new BitSet(routes.size());
+        for (int row = latFrom; row <= latTo; row++) {
+            int from = firstCellAtOrAfter(cellKey(row, lonFrom));
+            long last = cellKey(row, lonTo);
+            for (int c = from; c < cellKeys.length && cellKeys[c] <= last; c++) {
+                for (int s = cellStart[c]; s < cellStart[c + 1]; s++) {
+                    int segment = cellSegments[s];
+                    int route = segmentRoute[segment];
+                    if (!matched.get(route) && segmentIntersects(segment, box)) {
+                        matched.set(route);
+                    }
+                }
+            }
+        }
+
+        List<DrivingRoute> result = new ArrayList<>(matched.cardinality());
+        for (int r = matched.nextSetBit(0); r >= 0; r = matched.nextSetBit(r + 1)) {
+            result.add(routes.get(r));
+        }
+        return result;
+    }
+
+    /**
+     * Find the point on any route closest to a position.
+     *
+     * @param position The query position
+     * @return The nearest route point, or empty if the index holds no segments
+     * @throws IllegalArgumentException if position is null
+     */
+    public Optional<RouteMatch> snapToNearest(Coordinate position) {
+        if (position == null) {
+            throw new IllegalArgumentException("Position cannot be null");
+        }
+        if (cellKeys.length == 0) {
+            return Optional.empty();
+        }
+
+        Projection projection = new Projection(position);
+        int centerRow = latCell(position.latitude());
+        int centerCol = lonCell(position.longitude());
+        Candidate best = null;
+
+        for (int ring = 0; ring <= MAX_SNAP_RINGS; ring++) {
+            best = searchRing(projection, centerRow, centerCol, ring, best);
+            // Every unvisited cell is at least `ring` whole cells away from the query point
+            if (best != null && best.distance <= ring * minCellSizeMeters(position.latitude(), ring)) {
+                return Optional.of(best.toMatch());
+            }
+        }
+
+        // Far from every route: fall back to a linear scan
+        return Optional.of(scanAllSegments(position, best).toMatch());
+    }
+
+    /**
+     * Find the closest segment of all routes. Each route is projected around the query point
+     * in one batch pass, so the scan itself is plain arithmetic on the projected points.
+     */
+    private Candidate scanAllSegments(Coordinate position, Candidate best) {
+        int largest = 0;
+        for (DrivingRoute route : routes) {
+            largest = Math.max(largest, route.polyline().size());
+        }
+        double[] x = new double[largest];
+        double[] y = new double[largest];
+
+        int bestSegment = -1;
+        double bestFraction = 0;
+        double bestDistanceSquared = best == null ? Double.POSITIVE_INFINITY : best.distance * best.distance;
+        for (int r = 0; r < routes.size(); r++) {
+            PackedPolyline polyline = routes.get(r).polyline();
+            GeodesicKernel.project(polyline, position.latitude(), position.longitude(), x, y);
+            for (int i = 0; i < polyline.size() - 1; i++) {
+                double dx = x[i + 1] - x[i];
+                double dy = y[i + 1] - y[i];
+                double lengthSquared = dx * dx + dy * dy;
+                double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, -(x[i] * dx + y[i] * dy) / lengthSquared));
+                double px = x[i] + t * dx;
+                double py = y[i] + t * dy;
+                double distanceSquared = px * px + py * py;
+                if (distanceSquared < bestDistanceSquared) {
+                    bestDistanceSquared = distanceSquared;
+                    bestSegment = routeFirstSegment[r] + i;
+                    bestFraction = t;
+                }
+            }
+        }
+        return bestSegment < 0 ? best : new Candidate(bestSegment, bestFraction, Math.sqrt(bestDistanceSquared));
+    }
+
+    private Candidate searchRing(Projection projection, int centerRow, int centerCol, int ring, Candidate best) {
+        for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+            if (row < 0 || row >= latCells) {
+                continue;
+            }
+            if (row == centerRow - ring || row == centerRow + ring) {
+                best = searchCells(projection, row, centerCol - ring, centerCol + ring, best);
+            } else {
+                best = searchCells(projection, row, centerCol - ring, centerCol - ring, best);
+                best = searchCells(projection, row, centerCol + ring, centerCol + ring, best);
+            }
+        }
+        return best;
+    }
+
+    private Candidate searchCells(Projection projection, int row, int colFrom, int colTo, Candidate best) {
+        int from = firstCellAtOrAfter(cellKey(row, Math.max(0, colFrom)));
+        long last = cellKey(row, Math.min(lonCells - 1, colTo));
+        for (int c = from; c < cellKeys.length && cellKeys[c] <= last; c++) {
+            for (int s = cellStart[c]; s < cellStart[c + 1]; s++) {
+                Candidate candidate = projection.closestPointOn(cellSegments[s]);
+                if (best == null || candidate.distance < best.distance) {
+                    best = candidate;
+                }
+            }
+        }
+        return best;
+    }
+
+    private double minCellSizeMeters(double latitude, int ring) {
+        // East-west cells shrink towards the poles; use the narrowest row searched so far
+        double extremeLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * cellSize);
+        return cellSize * METERS_PER_DEGREE * Math.cos(Math.toRadians(extremeLatitude));
+    }
+
+    private boolean segmentIntersects(int segment, BoundingBox box) {
+        PackedPolyline polyline = polylineOf(segment);
+        int i = segment - routeFirstSegment[segmentRoute[segment]];
+        double lat1 = polyline.latitude(i);
+        double lon1 = polyline.longitude(i);
+        double lat2 = polyline.latitude(i + 1);
+        double lon2 = polyline.longitude(i + 1);
+        if (box.contains(lat1, lon1) || box.contains(lat2, lon2)) {
+            return true;
+        }
+
+        // Liang-Barsky clipping of the segment against the box
+        double t0 = 0;
+        double t1 = 1;
+        double dLon = lon2 - lon1;
+        double dLat = lat2 - lat1;
+        double[] p = {-dLon, dLon, -dLat, dLat};
+        double[] q = {lon1 - box.minLongitude(), box.maxLongitude() - lon1,
+                lat1 - box.minLatitude(), box.maxLatitude() - lat1};
+        for (int k = 0; k < 4; k++) {
+            if (p[k] == 0) {
+                if (q[k] < 0) {
+                    return false;
+                }
+            } else {
+                double t = q[k] / p[k];
+                if (p[k] < 0) {
+                    t0 = Math.max(t0, t);
+                } else {
+                    t1 = Math.min(t1, t);
+                }
+                if (t0 > t1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private PackedPolyline polylineOf(int segment) {
+        return routes.get(segmentRoute[segment]).polyline();
+    }
+
+    private int firstCellAtOrAfter(long key) {
+        int index = Arrays.binarySearch(cellKeys, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int latCell(double latitude) {
+        return clamp((int) Math.floor((latitude + 90) / cellSize), latCells);
+    }
+
+    private int lonCell(double longitude) {
+        return clamp((int) Math.floor((longitude + 180) / cellSize), lonCells);
+    }
+
+    private long cellKey(int row, int col) {
+        return (long) row * lonCells + col;
+    }
+
+    private static int clamp(int cell, int cellCount) {
+        return Math.max(0, Math.min(cellCount - 1, cell));
+    }
+
+    /**
+     * Nearest point of one segment, before it is turned into a RouteMatch.
+     */
+    private final class Candidate {
+        private final int segment;
+        private final double fraction;
+        private final double distance;
+
+        private Candidate(int segment, double fraction, double distance) {
+            this.segment = segment;
+            this.fraction = fraction;
+            this.distance = distance;
+        }
+
+        private RouteMatch toMatch() {
+            DrivingRoute route = routes.get(segmentRoute[segment]);
+            PackedPolyline polyline = route.polyline();
+            int i = segment - routeFirstSegment[segmentRoute[segment]];
+            double lat = polyline.latitude(i) + fraction * (polyline.latitude(i + 1) - polyline.latitude(i));
+            double lon = polyline.longitude(i) + fraction * (polyline.longitude(i + 1) - polyline.longitude(i));
+            return new RouteMatch(route, i, new Coordinate(lat, lon), distance);
+        }
+    }
+
+    /**
+     * Equirectangular projection centered on a query point, in meters.
+     */
+    private final class Projection {
+        private final double originLat;
+        private final double originLon;
+        private final double metersPerDegreeLon;
+
+        private Projection(Coordinate origin) {
+            this.originLat = origin.latitude();
+            this.originLon = origin.longitude();
+            this.metersPerDegreeLon = GeodesicKernel.metersPerDegreeLongitude(originLat);
+        }
+
+        private Candidate closestPointOn(int segment) {
+            PackedPolyline polyline = polylineOf(segment);
+            int i = segment - routeFirstSegment[segmentRoute[segment]];
+            double ax = (polyline.longitude(i) - originLon) * metersPerDegreeLon;
+            double ay = (polyline.latitude(i) - originLat) * METERS_PER_DEGREE;
+            double bx = (polyline.longitude(i + 1) - originLon) * metersPerDegreeLon;
+            double by = (polyline.latitude(i + 1) - originLat) * METERS_PER_DEGREE;
+
+            double dx = bx - ax;
+            double dy = by - ay;
+            double lengthSquared = dx * dx + dy * dy;
+            double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, -(ax * dx + ay * dy) / lengthSquared));
+            double px = ax + t * dx;
+            double py = ay + t * dy;
+            return new Candidate(segment, t, Math.sqrt(px * px + py * py));
+        }
+    }
+
+    /**
+     * Growable list of (cell, segment) pairs collected while building the index.
+     */
+    private static final class CellEntries {
+        private final double cellSize;
+        private final int lonCells;
+        private final int latCells;
+        private long[] pairs;
+        private int size;
+
+        private CellEntries(int initialCapacity, double cellSize) {
+            this.cellSize = cellSize;
+            this.lonCells = (int) Math.ceil(360 / cellSize);
+            this.latCells = (int) Math.ceil(180 / cellSize);
+            this.pairs = new long[Math.max(16, initialCapacity)];
+        }
+
+        /**
+         * Register a segment in every cell its line passes through (Amanatides-Woo traversal).
+         */
+        private void addSegment(int segment, double lat1, double lon1, double lat2, double lon2) {
+            double x0 = (lon1 + 180) / cellSize;
+            double y0 = (lat1 + 90) / cellSize;
+            double x1 = (lon2 + 180) / cellSize;
+            double y1 = (lat2 + 90) / cellSize;
+
+            int col = (int) Math.floor(x0);
+            int row = (int) Math.floor(y0);
+            int endCol = (int) Math.floor(x1);
+            int endRow = (int) Math.floor(y1);
+
+            double dx = x1 - x0;
+            double dy = y1 - y0;
+            int stepCol = (int) Math.signum(dx);
+            int stepRow = (int) Math.signum(dy);
+            double tDeltaX = stepCol != 0 ? 1 / Math.abs(dx) : Double.POSITIVE_INFINITY;
+            double tDeltaY = stepRow != 0 ? 1 / Math.abs(dy) : Double.POSITIVE_INFINITY;
+            double tMaxX = stepCol > 0 ? (col + 1 - x0) / dx : stepCol < 0 ? (x0 - col) / -dx : Double.POSITIVE_INFINITY;
+            double tMaxY = stepRow > 0 ? (row + 1 - y0) / dy : stepRow < 0 ? (y0 - row) / -dy : Double.POSITIVE_INFINITY;
+
+            add(row, col, segment);
+            int remaining = Math.abs(endCol - col) + Math.abs(endRow - row);
+            while (remaining > 0) {
+                if (tMaxX < tMaxY) {
+                    col += stepCol;
+                    tMaxX += tDeltaX;
+                    remaining--;
+                } else if (tMaxY < tMaxX) {
+                    row += stepRow;
+                    tMaxY += tDeltaY;
+                    remaining--;
+                } else {
+                    // Passing exactly through a corner touches both neighbouring cells
+                    add(row, col + stepCol, segment);
+                    add(row + stepRow, col, segment);
+                    col += stepCol;
+                    row += stepRow;
+                    tMaxX += tDeltaX;
+                    tMaxY += tDeltaY;
+                    remaining -= 2;
+                }
+                add(row, col, segment);
+            }
+            // Guards against rounding ending the walk one cell short
+            add(endRow, endCol, segment);
+        }
+
+        private void add(int row, int col, int segment) {
+            int clampedRow = clamp(row, latCells);
+            int clampedCol = clamp(col, lonCells);
+            if (size == pairs.length) {
+                pairs = Arrays.copyOf(pairs, pairs.length * 2);
+            }
+            long key = (long) clampedRow * lonCells + clampedCol;
+            pairs[size++] = (key << 32) | segment;
+        }
+
+        private RouteSpatialIndex toIndex(List<DrivingRoute> routes, int[] segmentRoute, int[] routeFirstSegment) {
+            Arrays.sort(pairs, 0, size);
+
+            long[] keys = new long[size];
+            int[] starts = new int[size + 1];
+            int[] segments = new int[size];
+            int cells = 0;
+            int count = 0;
+            long previous = -1;
+            for (int i = 0; i < size; i++) {
+                if (i > 0 && pairs[i] == previous) {
+                    continue;
+                }
+                previous = pairs[i];
+                long key = pairs[i] >>> 32;
+                if (cells == 0 || keys[cells - 1] != key) {
+                    keys[cells] = key;
+                    starts[cells] = count;
+                    cells++;
+                }
+                segments[count++] = (int) pairs[i];
+            }
+            starts[cells] = count;
+
+            return new RouteSpatialIndex(routes, cellSize, segmentRoute, routeFirstSegment,
+                    Arrays.copyOf(keys, cells), Arrays.copyOf(starts, cells + 1), Arrays.copyOf(segments, count));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * A recorded journey position.
+ *
+ * @param timestampMillis Simulation time of the recording in epoch milliseconds
+ * @param position The recorded position
+ */
+public record TrailPoint(long timestampMillis, Coordinate position) {
+}
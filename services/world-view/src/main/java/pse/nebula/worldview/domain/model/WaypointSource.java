@@ -0,0 +1,17 @@
+package pse.nebula.worldview.domain.model;
+
+/**
+ * Source of the waypoints of an imported route, e.g. a GPX or GeoJSON file being parsed.
+ * Implementations stream every point into the builder instead of materializing the file.
+ */
+@FunctionalInterface
+public interface WaypointSource {
+
+    /**
+     * Read all waypoints into a builder.
+     *
+     * @param builder The builder receiving the points in order
+     * @throws IllegalArgumentException if the source is malformed
+     */
+    void readInto(PolylineBuilder builder);
+}
@@ -0,0 +1,46 @@
+package pse.nebula.worldview.domain.port.inbound;
+
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
+import pse.nebula.worldview.domain.model.JourneyState;
+
+import java.util.List;
+
+/**
+ * Inbound port for geofence use cases.
+ */
+public interface GeofenceUseCase {
+
+    /**
+     * Get all configured geofences.
+     *
+     * @return List of all geofences
+     */
+    List<Geofence> getAllGeofences();
+
+    /**
+     * Get the geofences containing a position.
+     *
+     * @param position The position
+     * @return The containing geofences
+     */
+    List<Geofence> getGeofencesAt(Coordinate position);
+
+    /**
+     * Compare the current position of a journey with the geofences it was inside at the
+     * previous evaluation and record the new membership.
+     * Must not be called concurrently for the same journey.
+     *
+     * @param journeyState The journey state
+     * @return The enter and exit events since the previous evaluation, exits first
+     */
+    List<GeofenceEvent> evaluate(JourneyState journeyState);
+
+    /**
+     * Discard the geofence membership recorded for a journey.
+     *
+     * @param journeyId The journey identifier
+     */
+    void forgetJourney(String journeyId);
+}
@@ -0,0 +1,26 @@
+package pse.nebula.worldview.domain.port.inbound;
+
+import pse.nebula.worldview.domain.model.JourneyState;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Inbound port for streaming the updates of a journey to a client.
+ *
+ * @param <S> The stream handed to the client, e.g. a Server-Sent Events emitter
+ */
+public interface JourneyStreamUseCase<S> {
+
+    /**
+     * Open a stream of a journey's updates. The state is read after the stream is registered,
+     * so a completion or stop that happens meanwhile is not missed: the stream starts with a
+     * snapshot of that state, and is closed right away if the journey has completed or no
+     * longer exists.
+     *
+     * @param journeyId The journey identifier
+     * @param currentState Reads the journey's current state; empty if the journey no longer exists
+     * @return The stream
+     */
+    S openStream(String journeyId, Supplier<Optional<JourneyState>> currentState);
+}
@@ -0,0 +1,18 @@
+package pse.nebula.worldview.domain.port.inbound;
+
+import java.time.Duration;
+
+/**
+ * Inbound port for changing how often individual journeys are advanced.
+ */
+public interface JourneyTickIntervalUseCase {
+
+    /**
+     * Change how often a journey is advanced. Takes effect after the journey's next tick.
+     *
+     * @param journeyId The journey identifier
+     * @param interval The tick interval, or null to return to the default interval
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    void setTickInterval(String journeyId, Duration interval);
+}
@@ -1,7 +1,10 @@
 package pse.nebula.worldview.domain.port.inbound;
 
-import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
 import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyTrail;
+
+import java.util.List;
 
 /**
  * Inbound port for journey-related use cases.
@@ -22,6 +25,17 @@ public interface JourneyUseCase {
      */
     JourneyState startNewJourney(String journeyId, double speedMetersPerSecond);
 
+    /**
+     * Start a new journey on a route the caller has already selected.
+     * This is called internally by the auto-scheduler.
+     *
+     * @param journeyId Unique identifier for the journey
+     * @param route The route to drive
+     * @param speedMetersPerSecond The speed of the car in m/s
+     * @return The initial journey state
+     */
+    JourneyState startNewJourney(String journeyId, DrivingRoute route, double speedMetersPerSecond);
+
     /**
      * Get the current state of a journey.
      *
@@ -31,14 +45,14 @@ public interface JourneyUseCase {
     JourneyState getJourneyState(String journeyId);
 
     /**
-     * Advance the journey and return the new position.
-     * This is called internally by the auto-scheduler.
+     * Advance the journey and publish its new position.
+     * This is called internally by the auto-scheduler on every tick.
      *
      * @param journeyId The journey identifier
      * @param elapsedSeconds Time elapsed since last update
-     * @return The current coordinate after advancement
+     * @return true if the journey completed with this advance
      */
-    Coordinate advanceJourney(String journeyId, double elapsedSeconds);
+    boolean advanceJourney(String journeyId, double elapsedSeconds);
 
     /**
      * Stop and remove a journey.
@@ -55,4 +69,20 @@ public interface JourneyUseCase {
      * @return true if the journey exists
      */
     boolean journeyExists(String journeyId);
-}
\ No newline at end of file
+
+    /**
+     * Get every stored journey, including journeys recovered after a restart.
+     *
+     * @return List of all journey states
+     */
+    List<JourneyState> getAllJourneyStates();
+
+    /**
+     * Get the positions a journey has passed, evenly downsampled.
+     *
+     * @param journeyId The journey identifier
+     * @param maxPoints Maximum number of positions to return (at least 1)
+     * @return The journey trail; empty if no positions were recorded
+     */
+    JourneyTrail getJourneyTrail(String journeyId, int maxPoints);
+}
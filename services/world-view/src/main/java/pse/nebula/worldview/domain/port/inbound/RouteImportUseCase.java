@@ -0,0 +1,24 @@
+package pse.nebula.worldview.domain.port.inbound;
+
+import pse.nebula.worldview.domain.model.RouteImportResult;
+import pse.nebula.worldview.domain.model.RouteImportSpec;
+import pse.nebula.worldview.domain.model.WaypointSource;
+
+/**
+ * Inbound port for importing routes from recorded or planned tracks.
+ */
+public interface RouteImportUseCase {
+
+    /**
+     * Import a new route.
+     * The waypoints are streamed from the source, measured, optionally simplified and stored,
+     * and the route catalogue is invalidated so the route is served right away.
+     *
+     * @param spec The route metadata
+     * @param waypoints The source of the waypoints
+     * @return The stored route and import statistics
+     * @throws pse.nebula.worldview.domain.exception.RouteAlreadyExistsException if the ID is taken
+     * @throws IllegalArgumentException if the waypoints are invalid
+     */
+    RouteImportResult importRoute(RouteImportSpec spec, WaypointSource waypoints);
+}
@@ -1,8 +1,14 @@
 package pse.nebula.worldview.domain.port.inbound;
 
+import pse.nebula.worldview.domain.model.BoundingBox;
+import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.RouteCatalogue;
+import pse.nebula.worldview.domain.model.RouteDetailLevel;
+import pse.nebula.worldview.domain.model.RouteMatch;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Inbound port for route-related use cases.
@@ -39,4 +45,52 @@ public interface RouteUseCase {
      * @return The count of available routes
      */
     int getRouteCount();
-}
\ No newline at end of file
+
+    /**
+     * Get the waypoints of a route simplified for display, e.g. on an overview map.
+     *
+     * @param route The route
+     * @param toleranceMeters The acceptable deviation from the full route in meters
+     * @return The coarsest precomputed level within the tolerance, or the full route
+     */
+    RouteDetailLevel getRouteDetailLevel(DrivingRoute route, double toleranceMeters);
+
+    /**
+     * Get the current immutable snapshot of all routes.
+     * The snapshot is loaded on first use and reused until invalidated.
+     *
+     * @return The current route catalogue
+     */
+    RouteCatalogue getRouteCatalogue();
+
+    /**
+     * Discard the current route catalogue so that the next query reloads it.
+     * Must be called whenever routes are added, changed or removed.
+     */
+    void invalidateRouteCatalogue();
+
+    /**
+     * Find all routes passing within a radius of a point.
+     *
+     * @param center The query point
+     * @param radiusMeters The search radius in meters
+     * @return The nearest point of every matching route, closest route first
+     */
+    List<RouteMatch> findRoutesNear(Coordinate center, double radiusMeters);
+
+    /**
+     * Find all routes with at least one segment inside a bounding box.
+     *
+     * @param boundingBox The bounding box
+     * @return The matching routes in catalogue order
+     */
+    List<DrivingRoute> findRoutesInBoundingBox(BoundingBox boundingBox);
+
+    /**
+     * Snap a position to the nearest point on any route.
+     *
+     * @param position The position to snap
+     * @return The nearest route point, or empty if there are no routes
+     */
+    Optional<RouteMatch> snapToRoute(Coordinate position);
+}
@@ -1,6 +1,6 @@
 package pse.nebula.worldview.domain.port.outbound;
 
-import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
 import pse.nebula.worldview.domain.model.JourneyState;
 
 /**
@@ -10,13 +10,21 @@ import pse.nebula.worldview.domain.model.JourneyState;
 public interface CoordinatePublisher {
 
     /**
-     * Publish the current coordinate update for a journey.
+     * Publish the current position of a journey. Called on every journey tick, so
+     * implementations read the primitive position of the state rather than materializing
+     * a Coordinate.
      *
-     * @param journeyId The journey identifier
-     * @param coordinate The current coordinate
-     * @param journeyState The full journey state for additional context
+     * @param journeyState The journey state, positioned after the tick
+     */
+    void publishCoordinateUpdate(JourneyState journeyState);
+
+    /**
+     * Signal that a simulation tick has published the positions of all journeys it advanced.
+     * Lets implementations batch the updates of one tick, e.g. into a single frame of all
+     * journeys. Called once per tick from the ticking thread; does nothing by default.
      */
-    void publishCoordinateUpdate(String journeyId, Coordinate coordinate, JourneyState journeyState);
+    default void publishTickCompleted() {
+    }
 
     /**
      * Publish a journey started event.
@@ -31,4 +39,22 @@ public interface CoordinatePublisher {
      * @param journeyState The final journey state
      */
     void publishJourneyCompleted(JourneyState journeyState);
-}
\ No newline at end of file
+
+    /**
+     * Signal that a journey was stopped, whether it completed or not, and will not be
+     * published again. Implementations release everything they keep per journey; does
+     * nothing by default.
+     *
+     * @param journeyId The journey identifier
+     */
+    default void publishJourneyStopped(String journeyId) {
+    }
+
+    /**
+     * Publish a geofence enter or exit event.
+     *
+     * @param event The geofence event
+     * @param journeyState The journey state at the time of the event
+     */
+    void publishGeofenceEvent(GeofenceEvent event, JourneyState journeyState);
+}
@@ -0,0 +1,19 @@
+package pse.nebula.worldview.domain.port.outbound;
+
+import pse.nebula.worldview.domain.model.Geofence;
+
+import java.util.List;
+
+/**
+ * Outbound port for loading the configured geofences.
+ * This is a secondary port implemented by infrastructure adapters.
+ */
+public interface GeofenceRepository {
+
+    /**
+     * Get all geofences.
+     *
+     * @return List of all geofences
+     */
+    List<Geofence> findAll();
+}
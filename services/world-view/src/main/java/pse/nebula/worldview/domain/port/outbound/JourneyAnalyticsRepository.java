@@ -0,0 +1,41 @@
+package pse.nebula.worldview.domain.port.outbound;
+
+import pse.nebula.worldview.domain.model.JourneyState;
+
+/**
+ * Outbound port for keeping a history of journeys for capacity and route analytics.
+ * This is a secondary port implemented by infrastructure adapters.
+ *
+ * Implementations persist sampled positions and a summary per journey asynchronously.
+ * The methods are called from the simulation, so they must never block on storage;
+ * when storage falls behind, records are dropped instead.
+ */
+public interface JourneyAnalyticsRepository {
+
+    /**
+     * Record that a journey started.
+     *
+     * @param journeyState The initial journey state
+     * @param timestampMillis Simulation time in epoch milliseconds
+     */
+    void recordJourneyStarted(JourneyState journeyState, long timestampMillis);
+
+    /**
+     * Offer the position of a journey after a tick. Called on every tick, possibly from
+     * several threads for different journeys, so implementations decide which positions
+     * to sample and do not allocate for the ones they skip.
+     *
+     * @param journeyState The journey state, positioned after the tick
+     * @param timestampMillis Simulation time of the position in epoch milliseconds
+     * @param elapsedSeconds Simulated seconds covered by the tick
+     */
+    void recordPosition(JourneyState journeyState, long timestampMillis, double elapsedSeconds);
+
+    /**
+     * Record the summary of a journey that is being stopped, whether it completed or not.
+     *
+     * @param journeyState The final journey state
+     * @param timestampMillis Simulation time in epoch milliseconds
+     */
+    void recordJourneyEnded(JourneyState journeyState, long timestampMillis);
+}
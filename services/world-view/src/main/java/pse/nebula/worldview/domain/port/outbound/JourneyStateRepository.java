@@ -2,6 +2,7 @@ package pse.nebula.worldview.domain.port.outbound;
 
 import pse.nebula.worldview.domain.model.JourneyState;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,6 +26,16 @@ public interface JourneyStateRepository {
      */
     Optional<JourneyState> findById(String journeyId);
 
+    /**
+     * Find a journey state by its ID without wrapping it, for per-tick lookups.
+     *
+     * @param journeyId The journey identifier
+     * @return The journey state, or null if not found
+     */
+    default JourneyState findByIdOrNull(String journeyId) {
+        return findById(journeyId).orElse(null);
+    }
+
     /**
      * Delete a journey state.
      *
@@ -39,4 +50,11 @@ public interface JourneyStateRepository {
      * @return true if the journey exists
      */
     boolean exists(String journeyId);
-}
\ No newline at end of file
+
+    /**
+     * Find all stored journey states, e.g. to resume them after a restart.
+     *
+     * @return List of all journey states
+     */
+    List<JourneyState> findAll();
+}
@@ -0,0 +1,52 @@
+package pse.nebula.worldview.domain.port.outbound;
+
+import pse.nebula.worldview.domain.model.JourneyTrail;
+
+import java.util.Optional;
+
+/**
+ * Outbound port for recording the positions a journey has passed.
+ * This is a secondary port implemented by infrastructure adapters.
+ *
+ * Implementations keep a bounded number of recent positions per journey; older
+ * positions are overwritten once the limit is reached.
+ */
+public interface JourneyTrailRepository {
+
+    /**
+     * Start recording a new journey. Positions appended after {@link #release} are ignored
+     * until the journey is opened again, so an append racing with the release of a stopped
+     * journey cannot take storage that nothing frees.
+     *
+     * @param journeyId The journey identifier
+     */
+    void open(String journeyId);
+
+    /**
+     * Record a position for a journey.
+     * Positions of one journey must be appended by one thread at a time.
+     *
+     * @param journeyId The journey identifier
+     * @param timestampMillis Time of the position in epoch milliseconds
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     */
+    void append(String journeyId, long timestampMillis, double latitude, double longitude);
+
+    /**
+     * Get the retained positions of a journey, evenly downsampled to at most maxPoints.
+     * The first and latest retained positions are always included.
+     *
+     * @param journeyId The journey identifier
+     * @param maxPoints Maximum number of positions to return (at least 1)
+     * @return The trail, or empty if nothing was recorded for the journey
+     */
+    Optional<JourneyTrail> findTrail(String journeyId, int maxPoints);
+
+    /**
+     * Discard the positions of a journey and recycle its storage.
+     *
+     * @param journeyId The journey identifier
+     */
+    void release(String journeyId);
+}
@@ -32,4 +32,12 @@ public interface RouteRepository {
      * @return The number of routes
      */
     int count();
+
+    /**
+     * Store a new route.
+     *
+     * @param route The route to store
+     * @throws pse.nebula.worldview.domain.exception.RouteAlreadyExistsException if a route with the same ID exists
+     */
+    void save(DrivingRoute route);
 }
\ No newline at end of file
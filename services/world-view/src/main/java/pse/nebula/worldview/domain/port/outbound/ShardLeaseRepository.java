@@ -0,0 +1,60 @@
+package pse.nebula.worldview.domain.port.outbound;
+
+/**
+ * Outbound port for exclusive leases on journey fleet shards.
+ * This is a secondary port implemented by infrastructure adapters.
+ *
+ * The journey fleet is split into a fixed number of shards. A shard is simulated by the
+ * instance holding its lease, so instances sharing the same lease store never run the same
+ * part of the fleet twice.
+ */
+public interface ShardLeaseRepository {
+
+    /**
+     * Count the instances currently taking part, including this one.
+     * Joins this instance to the membership if it has not joined yet.
+     *
+     * @return The number of live instances (at least 1)
+     */
+    int countMembers();
+
+    /**
+     * Try to take the lease on a shard without waiting.
+     *
+     * @param shard The shard number
+     * @return true if this instance now holds the lease
+     */
+    boolean tryAcquire(int shard);
+
+    /**
+     * Give up the lease on a shard held by this instance.
+     *
+     * @param shard The shard number
+     */
+    void release(int shard);
+
+    /**
+     * Check whether all leases acquired so far are still held. Leases can be lost without
+     * calling release, e.g. when the connection to the lease store breaks.
+     * Reports a loss once; afterwards this instance starts with no leases.
+     *
+     * @return false if leases were lost since the previous check
+     */
+    boolean leasesIntact();
+
+    /**
+     * Give up every lease and leave the membership.
+     */
+    void releaseAll();
+
+    /**
+     * Check whether other instances share the lease store. A lease of a shared store can be
+     * taken over by another instance as soon as this one loses it, so it has to be confirmed
+     * recently before this instance acts on it.
+     *
+     * @return true if other instances may take over lost leases
+     */
+    default boolean isShared() {
+        return true;
+    }
+}
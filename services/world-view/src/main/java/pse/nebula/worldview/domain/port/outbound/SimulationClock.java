@@ -0,0 +1,35 @@
+package pse.nebula.worldview.domain.port.outbound;
+
+/**
+ * Outbound port providing the simulated time that journeys run on.
+ * This is a secondary port implemented by infrastructure adapters.
+ *
+ * Simulated time may run faster than wall-clock time (time-warp) or be advanced
+ * explicitly by a batch driver instead of the real-time scheduler.
+ */
+public interface SimulationClock {
+
+    /**
+     * Get the current simulated time.
+     *
+     * @return Simulated milliseconds since the epoch
+     */
+    long currentTimeMillis();
+
+    /**
+     * Get how many simulated seconds pass per second of scheduler time.
+     *
+     * @return The acceleration factor, 1.0 for real time
+     */
+    double accelerationFactor();
+
+    /**
+     * Whether simulated time follows the wall clock. When false, the real-time scheduler
+     * does not tick and a batch driver advances the simulation instead.
+     *
+     * @return true if the clock is driven by wall-clock time
+     */
+    default boolean isWallClockDriven() {
+        return true;
+    }
+}
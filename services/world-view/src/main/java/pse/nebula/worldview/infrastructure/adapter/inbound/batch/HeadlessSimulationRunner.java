@@ -0,0 +1,114 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import pse.nebula.worldview.application.service.AutoJourneySchedulerService;
+import pse.nebula.worldview.infrastructure.adapter.outbound.clock.ManualSimulationClock;
+
+import java.time.Duration;
+
+/**
+ * Headless batch driver for the journey simulation.
+ *
+ * Instead of waiting for the real-time scheduler, ticks are run back to back and the manual
+ * simulation clock is advanced by one update interval after each tick, so hours of fleet
+ * traffic are replayed as fast as the CPU allows. Used for capacity planning and throughput
+ * regression tests; enabled with journey.simulation.headless.enabled=true.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "journey.simulation.headless.enabled", havingValue = "true")
+public class HeadlessSimulationRunner implements ApplicationRunner {
+
+    private final AutoJourneySchedulerService scheduler;
+    private final ManualSimulationClock simulationClock;
+    private final ConfigurableApplicationContext applicationContext;
+    private final Duration simulatedDuration;
+    private final boolean exitOnCompletion;
+
+    public HeadlessSimulationRunner(
+            AutoJourneySchedulerService scheduler,
+            ManualSimulationClock simulationClock,
+            ConfigurableApplicationContext applicationContext,
+            @Value("${journey.simulation.headless.duration:PT1H}") Duration simulatedDuration,
+            @Value("${journey.simulation.headless.exit-on-completion:true}") boolean exitOnCompletion) {
+        this.scheduler = scheduler;
+        this.simulationClock = simulationClock;
+        this.applicationContext = applicationContext;
+        this.simulatedDuration = simulatedDuration;
+        this.exitOnCompletion = exitOnCompletion;
+    }
+
+    /**
+     * Summary of a batch run.
+     *
+     * @param ticks Number of simulation ticks run
+     * @param simulatedTime Simulated time covered
+     * @param wallTime Real time the run took
+     * @param journeysStarted Journeys started during the run
+     * @param journeysCompleted Journeys that ran to completion during the run
+     */
+    public record BatchReport(long ticks, Duration simulatedTime, Duration wallTime,
+                              long journeysStarted, long journeysCompleted) {
+
+        /**
+         * How many times faster than real time the run was.
+         */
+        public double speedUp() {
+            long wallNanos = Math.max(1, wallTime.toNanos());
+            return (double) simulatedTime.toNanos() / wallNanos;
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Headless simulation of {} started", simulatedDuration);
+        BatchReport report = runFor(simulatedDuration);
+        log.info("Headless simulation finished: {} ticks, {} simulated in {} ({}x real time), " +
+                        "{} journeys started, {} completed",
+                report.ticks(), report.simulatedTime(), report.wallTime(),
+                String.format("%.0f", report.speedUp()), report.journeysStarted(), report.journeysCompleted());
+
+        if (exitOnCompletion) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    /**
+     * Run the simulation until the given amount of simulated time has passed.
+     *
+     * @param duration Simulated time to cover
+     * @return Summary of the run
+     */
+    public BatchReport runFor(Duration duration) {
+        long tickMillis = Math.max(1, scheduler.getUpdateIntervalMs());
+        long ticks = (duration.toMillis() + tickMillis - 1) / tickMillis;
+        long startedBefore = scheduler.getStartedJourneyCount();
+        long completedBefore = scheduler.getCompletedJourneyCount();
+
+        long startNanos = System.nanoTime();
+        long tick = 0;
+        for (; tick < ticks; tick++) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("Headless simulation interrupted after {} ticks", tick);
+                break;
+            }
+            scheduler.manageJourneys();
+            simulationClock.advance(tickMillis);
+        }
+        long wallNanos = System.nanoTime() - startNanos;
+
+        return new BatchReport(
+                tick,
+                Duration.ofMillis(tick * tickMillis),
+                Duration.ofNanos(wallNanos),
+                scheduler.getStartedJourneyCount() - startedBefore,
+                scheduler.getCompletedJourneyCount() - completedBefore);
+    }
+}
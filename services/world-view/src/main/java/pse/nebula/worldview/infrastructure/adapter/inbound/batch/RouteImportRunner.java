@@ -0,0 +1,105 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import pse.nebula.worldview.domain.model.RouteImportResult;
+import pse.nebula.worldview.domain.model.RouteImportSpec;
+import pse.nebula.worldview.domain.port.inbound.RouteImportUseCase;
+import pse.nebula.worldview.infrastructure.adapter.inbound.routeimport.RouteFileFormat;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line import of a GPX or GeoJSON route file.
+ *
+ * Runs when route.import.file is set: the file is streamed into the database, the result
+ * is logged and the process exits, e.g.
+ * {@code java -jar world-view.jar --spring.main.web-application-type=none --route.import.file=track.gpx}.
+ * The route ID defaults to the file name without extension and the name to the ID.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "route.import.file")
+public class RouteImportRunner implements ApplicationRunner {
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    private final RouteImportUseCase routeImportUseCase;
+    private final ConfigurableApplicationContext applicationContext;
+    private final Path file;
+    private final String routeId;
+    private final String routeName;
+    private final String description;
+    private final double toleranceMeters;
+    private final boolean exitOnCompletion;
+
+    public RouteImportRunner(
+            RouteImportUseCase routeImportUseCase,
+            ConfigurableApplicationContext applicationContext,
+            @Value("${route.import.file}") Path file,
+            @Value("${route.import.id:}") String routeId,
+            @Value("${route.import.name:}") String routeName,
+            @Value("${route.import.description:#{null}}") String description,
+            @Value("${route.import.tolerance-meters:0}") double toleranceMeters,
+            @Value("${route.import.exit-on-completion:true}") boolean exitOnCompletion) {
+        this.routeImportUseCase = routeImportUseCase;
+        this.applicationContext = applicationContext;
+        this.file = file;
+        this.routeId = routeId.isBlank() ? defaultRouteId(file) : routeId;
+        this.routeName = routeName.isBlank() ? this.routeId : routeName;
+        this.description = description;
+        this.toleranceMeters = toleranceMeters;
+        this.exitOnCompletion = exitOnCompletion;
+    }
+
+    private static String defaultRouteId(Path file) {
+        String fileName = file.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return extension > 0 ? fileName.substring(0, extension) : fileName;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            RouteImportResult result = importFile();
+            log.info("Imported {} as route {}: {} waypoints from {} points, {} m, {} ms",
+                    file, result.route().id(), result.route().getTotalWaypoints(), result.pointsRead(),
+                    Math.round(result.route().totalDistanceMeters()), result.elapsedMillis());
+        } catch (RuntimeException e) {
+            log.error("Import of {} failed: {}", file, e.getMessage());
+            exitCode = 1;
+        }
+
+        if (exitOnCompletion) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+
+    /**
+     * Import the configured file.
+     *
+     * @return The import result
+     */
+    public RouteImportResult importFile() {
+        RouteFileFormat format = RouteFileFormat.fromFileName(file.getFileName().toString());
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_BYTES)) {
+            return routeImportUseCase.importRoute(
+                    new RouteImportSpec(routeId, routeName, description, toleranceMeters), format.open(input));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+}
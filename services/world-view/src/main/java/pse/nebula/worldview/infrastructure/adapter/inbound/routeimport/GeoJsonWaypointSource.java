@@ -0,0 +1,133 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.routeimport;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import pse.nebula.worldview.domain.model.PolylineBuilder;
+import pse.nebula.worldview.domain.model.WaypointSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams the positions of a GeoJSON document with the Jackson streaming parser, so the
+ * document is never held in memory.
+ *
+ * LineString and MultiLineString geometries are read, whether bare, in a Feature, a
+ * FeatureCollection or a GeometryCollection, and joined into one route in document order.
+ * Other geometries (e.g. Point markers) are skipped. Since positions are consumed as they
+ * are parsed, a geometry must declare its "type" before its "coordinates", as GeoJSON
+ * writers do.
+ */
+public class GeoJsonWaypointSource implements WaypointSource {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final InputStream input;
+
+    public GeoJsonWaypointSource(InputStream input) {
+        this.input = input;
+    }
+
+    @Override
+    public void readInto(PolylineBuilder builder) {
+        try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw malformed(parser, "expected a GeoJSON object");
+            }
+            readObject(parser, builder);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed GeoJSON: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readObject(JsonParser parser, PolylineBuilder builder) throws IOException {
+        String type = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "type" -> type = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "coordinates" -> readCoordinates(parser, builder, type);
+                case "geometry" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        readObject(parser, builder);
+                    }
+                }
+                case "features", "geometries" -> readObjects(parser, builder, value);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readObjects(JsonParser parser, PolylineBuilder builder, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                readObject(parser, builder);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readCoordinates(JsonParser parser, PolylineBuilder builder, String type) throws IOException {
+        if (type == null) {
+            throw malformed(parser, "geometry \"type\" must precede its \"coordinates\"");
+        }
+        switch (type) {
+            case "LineString" -> readPositions(parser, builder);
+            case "MultiLineString" -> {
+                expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    readPositions(parser, builder);
+                }
+            }
+            default -> parser.skipChildren();
+        }
+    }
+
+    private void readPositions(JsonParser parser, PolylineBuilder builder) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+            double longitude = number(parser);
+            double latitude = number(parser);
+            // Skip the optional altitude
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+            try {
+                builder.add(latitude, longitude);
+            } catch (IllegalArgumentException e) {
+                throw malformed(parser, e.getMessage());
+            }
+        }
+    }
+
+    private static double number(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+            throw malformed(parser, "position must start with longitude and latitude numbers");
+        }
+        return parser.getDoubleValue();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw malformed(parser, "expected " + expected.asString() + " but found " + actual);
+        }
+    }
+
+    private static IllegalArgumentException malformed(JsonParser parser, String message) {
+        return new IllegalArgumentException("Malformed GeoJSON at line "
+                + parser.currentLocation().getLineNr() + ": " + message);
+    }
+}
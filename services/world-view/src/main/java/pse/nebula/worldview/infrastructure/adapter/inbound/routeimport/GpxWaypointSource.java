@@ -0,0 +1,94 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.routeimport;
+
+import pse.nebula.worldview.domain.model.PolylineBuilder;
+import pse.nebula.worldview.domain.model.WaypointSource;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+
+/**
+ * Streams the track points of a GPX file with StAX, so the document is never held in memory.
+ *
+ * The trkpt points of all track segments and the rtept points of planned routes are read
+ * in document order and joined into one route. Standalone wpt points of interest are
+ * ignored. DTDs and external entities are disabled.
+ */
+public class GpxWaypointSource implements WaypointSource {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private final InputStream input;
+
+    public GpxWaypointSource(InputStream input) {
+        this.input = input;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+    @Override
+    public void readInto(PolylineBuilder builder) {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                String element = reader.getLocalName();
+                if ("trkpt".equals(element) || "rtept".equals(element)) {
+                    addPoint(reader, builder);
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Malformed GPX: " + e.getMessage(), e);
+        } finally {
+            close(reader);
+        }
+    }
+
+    private static void addPoint(XMLStreamReader reader, PolylineBuilder builder) {
+        double latitude = attribute(reader, "lat");
+        double longitude = attribute(reader, "lon");
+        try {
+            builder.add(latitude, longitude);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "GPX point at line " + reader.getLocation().getLineNumber() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static double attribute(XMLStreamReader reader, String name) {
+        String value = reader.getAttributeValue(XMLConstants.NULL_NS_URI, name);
+        if (value == null) {
+            throw new IllegalArgumentException("GPX point at line " + reader.getLocation().getLineNumber()
+                    + " has no " + name + " attribute");
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("GPX point at line " + reader.getLocation().getLineNumber()
+                    + " has an invalid " + name + ": " + value);
+        }
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Nothing left to read
+        }
+    }
+}
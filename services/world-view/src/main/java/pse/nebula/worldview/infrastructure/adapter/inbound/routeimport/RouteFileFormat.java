@@ -0,0 +1,77 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.routeimport;
+
+import pse.nebula.worldview.domain.model.WaypointSource;
+
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Track file formats that routes can be imported from.
+ */
+public enum RouteFileFormat {
+
+    GPX("application/gpx+xml", GpxWaypointSource::new),
+    GEOJSON("application/geo+json", GeoJsonWaypointSource::new);
+
+    private final String mediaType;
+    private final Function<InputStream, WaypointSource> parser;
+
+    RouteFileFormat(String mediaType, Function<InputStream, WaypointSource> parser) {
+        this.mediaType = mediaType;
+        this.parser = parser;
+    }
+
+    /**
+     * Get the media type of the format.
+     */
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Create a streaming waypoint source for a file of this format.
+     * The stream is read when the source is consumed and closed by the caller.
+     *
+     * @param input The file contents
+     * @return The waypoint source
+     */
+    public WaypointSource open(InputStream input) {
+        return parser.apply(input);
+    }
+
+    /**
+     * Determine the format from a Content-Type header or a format name.
+     *
+     * @param value e.g. application/gpx+xml, application/geo+json, gpx or geojson
+     * @return The format
+     * @throws IllegalArgumentException if the value names no supported format
+     */
+    public static RouteFileFormat fromMediaType(String value) {
+        String normalized = value == null ? "" : value.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "application/gpx+xml", "application/gpx", "gpx" -> GPX;
+            case "application/geo+json", "geojson" -> GEOJSON;
+            default -> throw new IllegalArgumentException(
+                    "Unsupported route file format: " + value + " (expected application/gpx+xml or application/geo+json)");
+        };
+    }
+
+    /**
+     * Determine the format from a file name extension.
+     *
+     * @param fileName e.g. track.gpx or route.geojson
+     * @return The format
+     * @throws IllegalArgumentException if the extension is not supported
+     */
+    public static RouteFileFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".gpx")) {
+            return GPX;
+        }
+        if (lower.endsWith(".geojson") || lower.endsWith(".json")) {
+            return GEOJSON;
+        }
+        throw new IllegalArgumentException("Cannot tell the format of " + fileName + " (expected .gpx or .geojson)");
+    }
+}
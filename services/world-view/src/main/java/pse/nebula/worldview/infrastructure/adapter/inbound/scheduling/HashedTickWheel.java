@@ -0,0 +1,139 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.scheduling;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: timeouts are kept in a power-of-two number of buckets indexed by
+ * their deadline tick, so scheduling is O(1) and advancing by one tick only visits the
+ * timeouts of one bucket. Deadlines further away than one revolution stay in their bucket
+ * until their round comes.
+ *
+ * Timeouts are intrusive linked list nodes, so scheduling allocates nothing.
+ * Not thread-safe; owned by the thread that advances it.
+ *
+ * @param <T> The timeout type
+ */
+final class HashedTickWheel<T extends HashedTickWheel.Timeout> {
+
+    /**
+     * A node of the wheel. A timeout is in at most one bucket at a time.
+     */
+    static class Timeout {
+
+        private long deadlineTick;
+        private Timeout next;
+        private boolean scheduled;
+
+        long deadlineTick() {
+            return deadlineTick;
+        }
+
+        boolean isScheduled() {
+            return scheduled;
+        }
+    }
+
+    private final Timeout[] buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param bucketCount Number of buckets, a power of two
+     */
+    HashedTickWheel(int bucketCount) {
+        if (bucketCount <= 0 || Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("Bucket count must be a positive power of two, got: " + bucketCount);
+        }
+        this.buckets = new Timeout[bucketCount];
+        this.mask = bucketCount - 1;
+    }
+
+    /**
+     * Add a timeout that expires once the wheel has advanced to the deadline tick.
+     *
+     * @param entry A timeout that is not scheduled
+     * @param deadlineTick A tick after the current tick
+     */
+    void schedule(T entry, long deadlineTick) {
+        Timeout timeout = entry;
+        if (timeout.scheduled) {
+            throw new IllegalStateException("Timeout is already scheduled");
+        }
+        if (deadlineTick <= currentTick) {
+            throw new IllegalArgumentException(
+                    "Deadline tick " + deadlineTick + " is not after the current tick " + currentTick);
+        }
+        int bucket = (int) (deadlineTick & mask);
+        timeout.deadlineTick = deadlineTick;
+        timeout.next = buckets[bucket];
+        timeout.scheduled = true;
+        buckets[bucket] = timeout;
+        size++;
+    }
+
+    /**
+     * Advance the wheel and hand every timeout whose deadline has been reached to the
+     * consumer, after removing it from the wheel. The consumer must not schedule timeouts.
+     *
+     * @param tick The tick to advance to; ticks at or before the current tick are ignored
+     * @param expired Receives the expired timeouts
+     */
+    void advanceTo(long tick, Consumer<? super T> expired) {
+        if (tick <= currentTick) {
+            return;
+        }
+        if (tick - currentTick >= buckets.length) {
+            // Fell behind by a whole revolution or more: one pass over every bucket suffices
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                expireBucket(bucket, tick, expired);
+            }
+        } else {
+            for (long t = currentTick + 1; t <= tick; t++) {
+                expireBucket((int) (t & mask), t, expired);
+            }
+        }
+        currentTick = tick;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expireBucket(int bucket, long tick, Consumer<? super T> expired) {
+        Timeout previous = null;
+        Timeout timeout = buckets[bucket];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadlineTick <= tick) {
+                if (previous == null) {
+                    buckets[bucket] = next;
+                } else {
+                    previous.next = next;
+                }
+                timeout.next = null;
+                timeout.scheduled = false;
+                size--;
+                expired.accept((T) timeout);
+            } else {
+                previous = timeout;
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Get the tick the wheel has advanced to.
+     *
+     * @return The current tick
+     */
+    long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Get the number of scheduled timeouts.
+     *
+     * @return The timeout count
+     */
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,392 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import pse.nebula.worldview.application.service.AutoJourneySchedulerService;
+import pse.nebula.worldview.application.service.JourneySimulationEngine;
+import pse.nebula.worldview.domain.port.inbound.JourneyTickIntervalUseCase;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Real-time driver of the journey simulation, running on its own "journey-tick" thread so a
+ * slow tick cannot delay other scheduled tasks and vice versa.
+ *
+ * Every active journey is a timeout in a {@link HashedTickWheel} with a resolution of
+ * wheel-tick-ms. When a journey's timeout expires it is advanced and rescheduled one tick
+ * interval later; the interval defaults to update-interval-ms and can be changed per journey
+ * through the JourneyTickIntervalUseCase port.
+ * New journeys are spread over the phases of their interval, so the work of one interval is
+ * split into many small ticks instead of one burst. Slot management (cooldowns, shard
+ * ownership, starting journeys) runs every update-interval-ms.
+ *
+ * A journey tick that starts a whole interval or more after its deadline is an overrun. The
+ * {@link TickOverrunPolicy} decides whether the journey catches up on the missed time or
+ * skips it; either way the journey keeps its phase instead of running the missed ticks back
+ * to back.
+ *
+ * Metrics:
+ * - worldview.scheduler.tick.lag: how late a wheel tick started, as a histogram
+ * - worldview.scheduler.tick.duration: time to run a wheel tick, as a histogram
+ * - worldview.scheduler.tick.overruns: journey ticks that missed at least one interval
+ *
+ * Only runs while the simulation clock follows the wall clock; with a manual clock the
+ * headless batch runner drives the simulation.
+ */
+@Slf4j
+@Component
+public class JourneyTickScheduler implements JourneyTickIntervalUseCase {
+
+    private static final int WHEEL_BUCKETS = 512;
+    private static final int MAX_CATCH_UP_INTERVALS = 10;
+    private static final long OVERRUN_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final AutoJourneySchedulerService journeyScheduler;
+    private final JourneySimulationEngine simulationEngine;
+    private final SimulationClock simulationClock;
+    private final TickOverrunPolicy overrunPolicy;
+    private final long wheelTickNanos;
+    private final long defaultIntervalTicks;
+    private final long slotManagementNanos;
+
+    private final Timer lagTimer;
+    private final Timer durationTimer;
+    private final Counter overrunCounter;
+
+    // Written by any thread, applied by the tick thread
+    private final Map<String, Long> intervalOverrides = new ConcurrentHashMap<>();
+    private volatile boolean intervalOverridesChanged;
+
+    // Only accessed from the tick thread
+    private final HashedTickWheel<JourneyTick> wheel = new HashedTickWheel<>(WHEEL_BUCKETS);
+    private final Consumer<JourneyTick> dueCollector = this::collectDue;
+    private final Map<String, JourneyTick> journeyTicks = new HashMap<>();
+    private JourneyTick[] due = new JourneyTick[64];
+    private String[] dueJourneyIds = new String[64];
+    private double[] dueElapsedSeconds = new double[64];
+    private int dueCount;
+    private long wheelStartNanos = UNSET;
+    private long nextSlotManagementNanos;
+    private long syncedRegistrationVersion = -1;
+    private long phaseCounter;
+    private long overrunsSinceLog;
+    private long maxLateNanosSinceLog;
+    private long lastOverrunLogNanos = UNSET;
+
+    private Thread tickThread;
+    private volatile boolean running;
+
+    public JourneyTickScheduler(
+            AutoJourneySchedulerService journeyScheduler,
+            JourneySimulationEngine simulationEngine,
+            SimulationClock simulationClock,
+            MeterRegistry meterRegistry,
+            @Value("${journey.scheduler.update-interval-ms:500}") long updateIntervalMs,
+            @Value("${journey.scheduler.wheel-tick-ms:10}") long wheelTickMs,
+            @Value("${journey.scheduler.overrun-policy:catch-up}") String overrunPolicy) {
+        if (wheelTickMs <= 0 || updateIntervalMs < wheelTickMs) {
+            throw new IllegalArgumentException("Wheel tick must be positive and at most the update interval, got: "
+                    + wheelTickMs + "ms for an update interval of " + updateIntervalMs + "ms");
+        }
+        this.journeyScheduler = journeyScheduler;
+        this.simulationEngine = simulationEngine;
+        this.simulationClock = simulationClock;
+        this.overrunPolicy = TickOverrunPolicy.fromProperty(overrunPolicy);
+        this.wheelTickNanos = TimeUnit.MILLISECONDS.toNanos(wheelTickMs);
+        this.defaultIntervalTicks = toTicks(TimeUnit.MILLISECONDS.toNanos(updateIntervalMs));
+        this.slotManagementNanos = TimeUnit.MILLISECONDS.toNanos(updateIntervalMs);
+
+        this.lagTimer = Timer.builder("worldview.scheduler.tick.lag")
+                .description("Delay between the planned and the actual start of a journey tick")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("worldview.scheduler.tick.duration")
+                .description("Time taken to advance the journeys due in a journey tick")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.overrunCounter = Counter.builder("worldview.scheduler.tick.overruns")
+                .description("Journey ticks that started one tick interval or more after their deadline")
+                .register(meterRegistry);
+        Gauge.builder("worldview.scheduler.journeys.scheduled", wheel, HashedTickWheel::size)
+                .description("Journeys waiting for their next tick in the timing wheel")
+                .register(meterRegistry);
+
+        log.info("JourneyTickScheduler initialized - Wheel tick: {}ms, Default interval: {}ms, Overrun policy: {}",
+                wheelTickMs, updateIntervalMs, this.overrunPolicy);
+    }
+
+    /**
+     * Start the tick thread once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (tickThread != null) {
+            return;
+        }
+        if (!simulationClock.isWallClockDriven()) {
+            log.info("Simulation clock is not wall-clock driven, journey tick thread not started");
+            return;
+        }
+        running = true;
+        tickThread = new Thread(this::tickLoop, "journey-tick");
+        tickThread.setDaemon(true);
+        tickThread.start();
+    }
+
+    /**
+     * Gracefully stop the tick thread.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (tickThread == null) {
+            return;
+        }
+        running = false;
+        tickThread.interrupt();
+        try {
+            tickThread.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+            if (tickThread.isAlive()) {
+                log.warn("Journey tick thread did not terminate gracefully");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Change how often a journey is advanced. Takes effect after the journey's next tick.
+     * The interval is rounded to whole wheel ticks.
+     *
+     * @param journeyId The journey identifier
+     * @param interval The tick interval, or null to return to the default interval
+     */
+    @Override
+    public void setTickInterval(String journeyId, Duration interval) {
+        if (interval == null) {
+            intervalOverrides.remove(journeyId);
+        } else {
+            if (interval.isNegative() || interval.isZero()) {
+                throw new IllegalArgumentException("Tick interval must be positive, got: " + interval);
+            }
+            intervalOverrides.put(journeyId, toTicks(interval.toNanos()));
+        }
+        intervalOverridesChanged = true;
+    }
+
+    /**
+     * Get the policy for journey ticks that run late.
+     *
+     * @return The overrun policy
+     */
+    public TickOverrunPolicy getOverrunPolicy() {
+        return overrunPolicy;
+    }
+
+    private void tickLoop() {
+        while (running) {
+            try {
+                long now = System.nanoTime();
+                long nextTickNanos = wheelStartNanos == UNSET ? now : tickStartNanos(wheel.currentTick() + 1);
+                if (now < nextTickNanos) {
+                    LockSupport.parkNanos(nextTickNanos - now);
+                } else {
+                    runTick(now);
+                }
+            } catch (Exception e) {
+                log.error("Journey tick failed", e);
+            }
+        }
+    }
+
+    /**
+     * Run every wheel tick up to the given time: advance the journeys that are due and
+     * manage the journey slots if their interval has passed.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}
+     */
+    void runTick(long nowNanos) {
+        if (wheelStartNanos == UNSET) {
+            wheelStartNanos = nowNanos;
+            nextSlotManagementNanos = nowNanos;
+        }
+        long tick = (nowNanos - wheelStartNanos) / wheelTickNanos;
+        long lagNanos = nowNanos - tickStartNanos(Math.min(tick, wheel.currentTick() + 1));
+        long startNanos = System.nanoTime();
+
+        if (intervalOverridesChanged) {
+            applyIntervalOverrides();
+        }
+        syncJourneysIfChanged(nowNanos);
+
+        dueCount = 0;
+        wheel.advanceTo(tick, dueCollector);
+        if (dueCount > 0) {
+            advanceDueJourneys(nowNanos);
+        }
+
+        boolean slotsManaged = nowNanos >= nextSlotManagementNanos;
+        if (slotsManaged) {
+            journeyScheduler.manageSlots();
+            // Keep the cadence, but do not run missed slot management rounds back to back
+            nextSlotManagementNanos = Math.max(nextSlotManagementNanos + slotManagementNanos, nowNanos + 1);
+        }
+        // Pick up journeys started by slot management and drop the ones that finished
+        syncJourneysIfChanged(nowNanos);
+
+        if (dueCount > 0 || slotsManaged) {
+            lagTimer.record(Math.max(0, lagNanos), TimeUnit.NANOSECONDS);
+            durationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+        // Drop references so finished journeys can be collected
+        Arrays.fill(due, 0, dueCount, null);
+    }
+
+    private void collectDue(JourneyTick journeyTick) {
+        if (journeyTick.cancelled) {
+            return;
+        }
+        if (dueCount == due.length) {
+            int capacity = due.length * 2;
+            due = Arrays.copyOf(due, capacity);
+            dueJourneyIds = Arrays.copyOf(dueJourneyIds, capacity);
+            dueElapsedSeconds = Arrays.copyOf(dueElapsedSeconds, capacity);
+        }
+        due[dueCount++] = journeyTick;
+    }
+
+    private void advanceDueJourneys(long nowNanos) {
+        double acceleration = simulationClock.accelerationFactor();
+        int overruns = 0;
+        long maxLateNanos = 0;
+
+        for (int i = 0; i < dueCount; i++) {
+            JourneyTick journeyTick = due[i];
+            long intervalNanos = journeyTick.intervalTicks * wheelTickNanos;
+            long lateNanos = nowNanos - tickStartNanos(journeyTick.deadlineTick());
+            if (lateNanos >= intervalNanos) {
+                overruns++;
+                maxLateNanos = Math.max(maxLateNanos, lateNanos);
+            }
+
+            long sinceLastRunNanos = nowNanos - journeyTick.lastRunNanos;
+            long elapsedNanos = switch (overrunPolicy) {
+                case CATCH_UP -> Math.min(sinceLastRunNanos, intervalNanos * MAX_CATCH_UP_INTERVALS);
+                case SKIP -> Math.min(sinceLastRunNanos, intervalNanos);
+            };
+            dueJourneyIds[i] = journeyTick.journeyId;
+            dueElapsedSeconds[i] = elapsedNanos / 1e9 * acceleration;
+            journeyTick.lastRunNanos = nowNanos;
+
+            // Next deadline in phase, skipping deadlines that have already passed
+            long behind = wheel.currentTick() - journeyTick.deadlineTick();
+            wheel.schedule(journeyTick,
+                    journeyTick.deadlineTick() + (behind / journeyTick.intervalTicks + 1) * journeyTick.intervalTicks);
+        }
+
+        journeyScheduler.advanceJourneys(dueJourneyIds, dueElapsedSeconds, dueCount);
+        Arrays.fill(dueJourneyIds, 0, dueCount, null);
+
+        if (overruns > 0) {
+            overrunCounter.increment(overruns);
+            reportOverruns(nowNanos, overruns, maxLateNanos);
+        }
+    }
+
+    private void reportOverruns(long nowNanos, int overruns, long maxLateNanos) {
+        overrunsSinceLog += overruns;
+        maxLateNanosSinceLog = Math.max(maxLateNanosSinceLog, maxLateNanos);
+        if (lastOverrunLogNanos == UNSET || nowNanos - lastOverrunLogNanos >= OVERRUN_LOG_INTERVAL_NANOS) {
+            log.warn("{} journey ticks overran their interval, up to {}ms late (overrun policy: {})",
+                    overrunsSinceLog, TimeUnit.NANOSECONDS.toMillis(maxLateNanosSinceLog), overrunPolicy);
+            lastOverrunLogNanos = nowNanos;
+            overrunsSinceLog = 0;
+            maxLateNanosSinceLog = 0;
+        }
+    }
+
+    /**
+     * Add wheel timeouts for newly registered journeys and cancel those of journeys that are
+     * no longer registered. Only reads the active journeys when registrations changed.
+     */
+    private void syncJourneysIfChanged(long nowNanos) {
+        long version = simulationEngine.getRegistrationVersion();
+        if (version == syncedRegistrationVersion) {
+            return;
+        }
+        syncedRegistrationVersion = version;
+        Set<String> active = new HashSet<>(simulationEngine.getActiveJourneyIds());
+
+        Iterator<JourneyTick> ticks = journeyTicks.values().iterator();
+        while (ticks.hasNext()) {
+            JourneyTick journeyTick = ticks.next();
+            if (!active.contains(journeyTick.journeyId)) {
+                journeyTick.cancelled = true;
+                ticks.remove();
+                intervalOverrides.remove(journeyTick.journeyId);
+            }
+        }
+
+        for (String journeyId : active) {
+            if (!journeyTicks.containsKey(journeyId)) {
+                JourneyTick journeyTick = new JourneyTick(journeyId,
+                        intervalOverrides.getOrDefault(journeyId, defaultIntervalTicks), nowNanos);
+                journeyTicks.put(journeyId, journeyTick);
+                // Spread new journeys over the phases of their interval
+                wheel.schedule(journeyTick, wheel.currentTick() + 1 + phaseCounter++ % journeyTick.intervalTicks);
+            }
+        }
+    }
+
+    private void applyIntervalOverrides() {
+        intervalOverridesChanged = false;
+        for (JourneyTick journeyTick : journeyTicks.values()) {
+            journeyTick.intervalTicks = intervalOverrides.getOrDefault(journeyTick.journeyId, defaultIntervalTicks);
+        }
+    }
+
+    private long tickStartNanos(long tick) {
+        return wheelStartNanos + tick * wheelTickNanos;
+    }
+
+    private long toTicks(long nanos) {
+        return Math.max(1, Math.round((double) nanos / wheelTickNanos));
+    }
+
+    /**
+     * Wheel timeout of one journey.
+     */
+    private static final class JourneyTick extends HashedTickWheel.Timeout {
+
+        private final String journeyId;
+        private long intervalTicks;
+        private long lastRunNanos;
+        private boolean cancelled;
+
+        private JourneyTick(String journeyId, long intervalTicks, long lastRunNanos) {
+            this.journeyId = journeyId;
+            this.intervalTicks = intervalTicks;
+            this.lastRunNanos = lastRunNanos;
+        }
+    }
+}
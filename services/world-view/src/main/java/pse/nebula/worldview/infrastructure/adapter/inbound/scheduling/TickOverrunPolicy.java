@@ -0,0 +1,35 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.scheduling;
+
+/**
+ * What a journey tick that runs late, e.g. under CPU contention, does with the time it missed.
+ */
+public enum TickOverrunPolicy {
+
+    /**
+     * Advance the journey by the real time elapsed since its previous tick, so the simulation
+     * keeps pace with the clock and late journeys jump ahead. The catch-up is capped at a few
+     * tick intervals so a suspended process does not teleport its journeys to the finish.
+     */
+    CATCH_UP,
+
+    /**
+     * Advance the journey by at most its nominal tick interval, so missed time is dropped and
+     * the simulation runs slower than the clock while the scheduler is overloaded.
+     */
+    SKIP;
+
+    /**
+     * Parse the journey.scheduler.overrun-policy property.
+     *
+     * @param value catch-up or skip
+     * @return The overrun policy
+     */
+    public static TickOverrunPolicy fromProperty(String value) {
+        return switch (value.trim().toLowerCase()) {
+            case "catch-up" -> CATCH_UP;
+            case "skip" -> SKIP;
+            default -> throw new IllegalArgumentException(
+                    "Unsupported journey.scheduler.overrun-policy: " + value + " (expected catch-up or skip)");
+        };
+    }
+}
@@ -9,13 +9,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import pse.nebula.worldview.application.service.AutoJourneySchedulerService;
+import pse.nebula.worldview.domain.exception.JourneyNotFoundException;
 import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.port.inbound.JourneyStreamUseCase;
 import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneySnapshotDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyStateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyTrailDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.SerializedRouteCache;
 
 import java.util.Optional;
 
@@ -28,6 +35,7 @@ import java.util.Optional;
  *
  * Real-time coordinate streaming is handled via MQTT (RabbitMQ).
  * Frontend subscribes to MQTT topics: nebula/journey/{journeyId}/position
+ * The same updates are also available as Server-Sent Events on the /stream endpoints.
  */
 @Slf4j
 @RestController
@@ -39,6 +47,8 @@ public class JourneyController {
     private final JourneyUseCase journeyUseCase;
     private final AutoJourneySchedulerService autoJourneySchedulerService;
     private final DtoMapper dtoMapper;
+    private final JourneyStreamUseCase<SseEmitter> journeyStreamUseCase;
+    private final SerializedRouteCache serializedRouteCache;
 
     @Operation(summary = "Get current active journey",
             description = "Returns the current automatically running journey state, if any. " +
@@ -60,6 +70,56 @@ public class JourneyController {
         }
     }
 
+    @Operation(summary = "Get current journey snapshot",
+            description = "Lightweight alternative to /current for frequent polling. References the route by " +
+                    "route_id and route_version instead of embedding it; fetch the route once from " +
+                    "/api/v1/routes/{routeId} and refetch only when route_version changes.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Active journey found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JourneySnapshotDto.class))),
+            @ApiResponse(responseCode = "204", description = "No active journey currently running")
+    })
+    @GetMapping("/current/snapshot")
+    public ResponseEntity<JourneySnapshotDto> getCurrentJourneySnapshot() {
+        // Silent polling - no logging for routine frontend polling requests
+        return autoJourneySchedulerService.getActiveJourneyState()
+                .map(journeyState -> ResponseEntity.ok(toSnapshot(journeyState)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @Operation(summary = "Get journey snapshot by ID",
+            description = "Lightweight state of a specific journey that references its route by ID and version")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Journey snapshot retrieved",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JourneySnapshotDto.class))),
+            @ApiResponse(responseCode = "404", description = "Journey not found", content = @Content)
+    })
+    @GetMapping("/{journeyId}/snapshot")
+    public ResponseEntity<JourneySnapshotDto> getJourneySnapshot(
+            @Parameter(description = "Unique journey identifier", example = "auto-journey-abc12345")
+            @PathVariable String journeyId) {
+        JourneyState journeyState = journeyUseCase.getJourneyState(journeyId);
+        return ResponseEntity.ok(toSnapshot(journeyState));
+    }
+
+    @Operation(summary = "Get journey trail",
+            description = "Returns the positions the journey has passed so far, oldest first, evenly downsampled " +
+                    "to at most maxPoints. Lets clients that join mid-journey draw the path already travelled.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Journey trail retrieved",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JourneyTrailDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid maxPoints", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Journey not found", content = @Content)
+    })
+    @GetMapping("/{journeyId}/trail")
+    public ResponseEntity<JourneyTrailDto> getJourneyTrail(
+            @Parameter(description = "Unique journey identifier", example = "auto-journey-abc12345")
+            @PathVariable String journeyId,
+            @Parameter(description = "Maximum number of positions to return", example = "200")
+            @RequestParam(defaultValue = "500") int maxPoints) {
+        return ResponseEntity.ok(dtoMapper.toDto(journeyUseCase.getJourneyTrail(journeyId, maxPoints)));
+    }
+
     @Operation(summary = "Check if journey is active",
             description = "Returns whether there is currently an active journey running")
     @ApiResponses(value = {
@@ -89,4 +149,58 @@ public class JourneyController {
         JourneyState journeyState = journeyUseCase.getJourneyState(journeyId);
         return ResponseEntity.ok(dtoMapper.toDto(journeyState));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Stream the current journey",
+            description = "Server-Sent Events stream of the journey that is current at connection time. " +
+                    "Sends a 'snapshot' event, then 'position' events, and closes after 'completed' so that " +
+                    "EventSource clients reconnect to the next journey.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "204", description = "No active journey currently running")
+    })
+    @GetMapping(value = "/current/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCurrentJourney() {
+        Optional<JourneyState> activeJourney = autoJourneySchedulerService.getActiveJourneyState();
+
+        if (activeJourney.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        String journeyId = activeJourney.get().getJourneyId();
+        return ResponseEntity.ok(journeyStreamUseCase.openStream(journeyId, () -> findJourneyState(journeyId)));
+    }
+
+    @Operation(summary = "Stream a journey by ID",
+            description = "Server-Sent Events stream of a specific journey. Sends a 'snapshot' event, " +
+                    "then 'position' events, and closes after 'completed'.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "404", description = "Journey not found", content = @Content)
+    })
+    @GetMapping(value = "/{journeyId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJourney(
+            @Parameter(description = "Unique journey identifier", example = "auto-journey-abc12345")
+            @PathVariable String journeyId) {
+        // Fails with 404 before a stream is opened
+        journeyUseCase.getJourneyState(journeyId);
+        return journeyStreamUseCase.openStream(journeyId, () -> findJourneyState(journeyId));
+    }
+
+    /**
+     * Read the state of a journey again once its stream is registered; it may have completed
+     * or been removed since the request was checked.
+     */
+    private Optional<JourneyState> findJourneyState(String journeyId) {
+        try {
+            return Optional.of(journeyUseCase.getJourneyState(journeyId));
+        } catch (JourneyNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private JourneySnapshotDto toSnapshot(JourneyState journeyState) {
+        String routeVersion = serializedRouteCache.get(journeyState.getRoute()).version();
+        return dtoMapper.toSnapshot(journeyState, routeVersion);
+    }
+}
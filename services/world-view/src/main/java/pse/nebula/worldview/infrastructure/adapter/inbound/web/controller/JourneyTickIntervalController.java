@@ -0,0 +1,84 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pse.nebula.worldview.domain.port.inbound.JourneyTickIntervalUseCase;
+import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
+
+import java.time.Duration;
+
+/**
+ * REST controller for changing how often individual journeys are advanced.
+ *
+ * Journeys are advanced every update-interval-ms by default. A shorter interval gives a
+ * watched journey smoother updates, a longer one saves work on journeys nobody follows.
+ * The endpoint changes the simulation for every client, so it is only enabled with
+ * journey.scheduler.tick-interval-api.enabled=true and lives under /api/v1/admin, which the
+ * gateway does not route; expose it only through an authenticated admin route.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/journeys")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "journey.scheduler.tick-interval-api.enabled", havingValue = "true")
+@Tag(name = "Journey Tick Interval (admin)", description = "Change how often individual journeys are advanced")
+public class JourneyTickIntervalController {
+
+    private final JourneyUseCase journeyUseCase;
+    private final JourneyTickIntervalUseCase journeyTickIntervalUseCase;
+
+    @Operation(summary = "Set the tick interval of a journey",
+            description = "Advances the journey every intervalMs milliseconds instead of the default interval. " +
+                    "Takes effect after the journey's next tick.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tick interval changed"),
+            @ApiResponse(responseCode = "400", description = "Interval is not positive", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Journey not found", content = @Content)
+    })
+    @PutMapping("/{journeyId}/tick-interval")
+    public ResponseEntity<Void> setTickInterval(
+            @Parameter(description = "Journey ID", example = "journey-1")
+            @PathVariable String journeyId,
+            @Parameter(description = "Tick interval in milliseconds", example = "500")
+            @RequestParam long intervalMs) {
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("intervalMs must be positive");
+        }
+        journeyUseCase.getJourneyState(journeyId);
+        log.info("Setting tick interval of journey {} to {} ms", journeyId, intervalMs);
+
+        journeyTickIntervalUseCase.setTickInterval(journeyId, Duration.ofMillis(intervalMs));
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Reset the tick interval of a journey",
+            description = "Advances the journey at the default interval again.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tick interval reset"),
+            @ApiResponse(responseCode = "404", description = "Journey not found", content = @Content)
+    })
+    @DeleteMapping("/{journeyId}/tick-interval")
+    public ResponseEntity<Void> resetTickInterval(
+            @Parameter(description = "Journey ID", example = "journey-1")
+            @PathVariable String journeyId) {
+        journeyUseCase.getJourneyState(journeyId);
+        log.info("Resetting tick interval of journey {}", journeyId);
+
+        journeyTickIntervalUseCase.setTickInterval(journeyId, null);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -9,12 +9,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import pse.nebula.worldview.domain.exception.RouteNotFoundException;
+import pse.nebula.worldview.domain.model.BoundingBox;
+import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.RouteDetailLevel;
+import pse.nebula.worldview.domain.model.RouteLevelsOfDetail;
 import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.EncodedRouteDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteMatchDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteSummaryDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.BinaryRouteCodec;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.RouteFormat;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.SerializedRouteCache;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.SerializedRouteCache.SerializedRoute;
 
 import java.util.List;
 
@@ -24,6 +39,14 @@ import java.util.List;
  *
  * Routes are automatically selected by the system for journeys.
  * Users can view available routes but cannot manually select them.
+ *
+ * Route waypoints can be requested at a lower level of detail for overview maps, either
+ * as a maximum deviation in meters (?tolerance=) or as a web map zoom level (?zoom=).
+ * The coarsest precomputed level within that deviation is returned.
+ *
+ * Routes are content-negotiated via the Accept header: application/json (waypoint objects),
+ * application/vnd.nebula.route-polyline+json (encoded polyline string) or
+ * application/vnd.nebula.route+binary (delta-encoded varints, see BinaryRouteCodec).
  */
 @Slf4j
 @RestController
@@ -32,41 +55,97 @@ import java.util.List;
 @Tag(name = "Available Routes", description = "View available driving routes (read-only)")
 public class RouteController {
 
+    static final double MAX_SEARCH_RADIUS_METERS = 50_000;
+    static final double MAX_DETAIL_TOLERANCE_METERS = 100_000;
+
     private final RouteUseCase routeUseCase;
     private final DtoMapper dtoMapper;
+    private final SerializedRouteCache serializedRouteCache;
 
     @Operation(summary = "Get all available routes",
-            description = "Returns all available driving routes. Routes are automatically selected by the system for journeys.")
+            description = "Returns all available driving routes. Routes are automatically selected by the system for journeys. " +
+                    "Pass tolerance or zoom to receive simplified waypoints for overview maps, and Accept a compact " +
+                    "format to receive the waypoints as an encoded polyline or binary varints.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved all routes",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = RouteDto.class)))
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved all routes", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = RouteDto.class)),
+                    @Content(mediaType = EncodedRouteDto.CONTENT_TYPE, schema = @Schema(implementation = EncodedRouteDto.class)),
+                    @Content(mediaType = BinaryRouteCodec.CONTENT_TYPE)}),
+            @ApiResponse(responseCode = "400", description = "Invalid tolerance or zoom", content = @Content)
     })
-    @GetMapping
-    public ResponseEntity<List<RouteDto>> getAllRoutes() {
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, EncodedRouteDto.CONTENT_TYPE, BinaryRouteCodec.CONTENT_TYPE})
+    public ResponseEntity<?> getAllRoutes(
+            @Parameter(description = "Maximum deviation of the waypoints from the route in meters", example = "20")
+            @RequestParam(required = false) Double tolerance,
+            @Parameter(description = "Web map zoom level (0-22); waypoints are simplified to one pixel", example = "12")
+            @RequestParam(required = false) Integer zoom,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         log.info("Fetching all available routes");
+        validateDetailParameters(tolerance, zoom);
+        RouteFormat format = RouteFormat.negotiate(accept);
 
         List<DrivingRoute> routes = routeUseCase.getAllRoutes();
-        List<RouteDto> routeDtos = routes.stream()
-            .map(dtoMapper::toDto)
-            .toList();
+        Object body = switch (format) {
+            case JSON -> routes.stream()
+                .map(route -> tolerance == null && zoom == null
+                    ? dtoMapper.toDto(route)
+                    : dtoMapper.toDto(route, detailLevel(route, tolerance, zoom)))
+                .toList();
+            case ENCODED_POLYLINE -> routes.stream()
+                .map(route -> dtoMapper.toEncodedDto(route, detailLevel(route, tolerance, zoom)))
+                .toList();
+            case BINARY -> BinaryRouteCodec.encodeList(routes, routes.stream()
+                .map(route -> detailLevel(route, tolerance, zoom))
+                .toList());
+        };
 
-        return ResponseEntity.ok(routeDtos);
+        // The representation depends on Accept, so caches must key on it
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body(body);
     }
 
-    @Operation(summary = "Get route by ID", description = "Returns details of a specific route")
+    @Operation(summary = "Get route by ID",
+            description = "Returns details of a specific route. The response carries a strong ETag equal to the " +
+                    "route_version of journey snapshots; send it as If-None-Match to receive 304 when unchanged. " +
+                    "Pass tolerance or zoom to receive simplified waypoints, or Accept a compact format " +
+                    "(each representation has an ETag of its own).")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Route found",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = RouteDto.class))),
+            @ApiResponse(responseCode = "200", description = "Route found", content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = RouteDto.class)),
+                    @Content(mediaType = EncodedRouteDto.CONTENT_TYPE, schema = @Schema(implementation = EncodedRouteDto.class)),
+                    @Content(mediaType = BinaryRouteCodec.CONTENT_TYPE)}),
+            @ApiResponse(responseCode = "304", description = "Route unchanged since the given ETag", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid tolerance or zoom", content = @Content),
             @ApiResponse(responseCode = "404", description = "Route not found", content = @Content)
     })
-    @GetMapping("/{routeId}")
-    public ResponseEntity<RouteDto> getRouteById(
+    @GetMapping(value = "/{routeId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, EncodedRouteDto.CONTENT_TYPE, BinaryRouteCodec.CONTENT_TYPE})
+    public ResponseEntity<byte[]> getRouteById(
             @Parameter(description = "Unique route identifier", example = "route-1")
-            @PathVariable String routeId) {
-        log.info("Fetching route with ID: {}", routeId);
+            @PathVariable String routeId,
+            @Parameter(description = "Maximum deviation of the waypoints from the route in meters", example = "20")
+            @RequestParam(required = false) Double tolerance,
+            @Parameter(description = "Web map zoom level (0-22); waypoints are simplified to one pixel", example = "12")
+            @RequestParam(required = false) Integer zoom,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        log.debug("Fetching route with ID: {}", routeId);
+        validateDetailParameters(tolerance, zoom);
+        RouteFormat format = RouteFormat.negotiate(accept);
 
         DrivingRoute route = routeUseCase.getRouteById(routeId);
-        return ResponseEntity.ok(dtoMapper.toDto(route));
+        SerializedRoute serialized = tolerance == null && zoom == null
+            ? serializedRouteCache.get(route, RouteDetailLevel.full(route), format)
+            : serializedRouteCache.get(route, detailLevel(route, tolerance, zoom), format);
+
+        // Spring answers 304 itself when If-None-Match matches the ETag
+        return ResponseEntity.ok()
+                .eTag(serialized.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache())
+                .contentType(format.mediaType())
+                .body(serialized.body());
     }
 
     @Operation(summary = "Get route count", description = "Returns the total number of available routes")
@@ -78,4 +157,91 @@ public class RouteController {
     public ResponseEntity<Integer> getRouteCount() {
         return ResponseEntity.ok(routeUseCase.getRouteCount());
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Find routes near a point",
+            description = "Returns every route passing within the radius, with its nearest point, closest route first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching routes (possibly empty)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = RouteMatchDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid coordinate or radius", content = @Content)
+    })
+    @GetMapping("/near")
+    public ResponseEntity<List<RouteMatchDto>> findRoutesNear(
+            @Parameter(description = "Latitude in decimal degrees", example = "48.8354") @RequestParam double lat,
+            @Parameter(description = "Longitude in decimal degrees", example = "9.1520") @RequestParam double lon,
+            @Parameter(description = "Search radius in meters (at most 50000)", example = "500")
+            @RequestParam(defaultValue = "500") double radius) {
+        if (!(radius >= 0 && radius <= MAX_SEARCH_RADIUS_METERS)) {
+            throw new IllegalArgumentException(
+                "Radius must be between 0 and " + (int) MAX_SEARCH_RADIUS_METERS + " meters, got: " + radius);
+        }
+
+        List<RouteMatchDto> matches = routeUseCase.findRoutesNear(new Coordinate(lat, lon), radius).stream()
+            .map(dtoMapper::toDto)
+            .toList();
+        return ResponseEntity.ok(matches);
+    }
+
+    @Operation(summary = "Find routes in a bounding box",
+            description = "Returns every route with at least one segment inside the box, in catalogue order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching routes (possibly empty)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = RouteSummaryDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid bounding box", content = @Content)
+    })
+    @GetMapping("/within")
+    public ResponseEntity<List<RouteSummaryDto>> findRoutesInBoundingBox(
+            @Parameter(description = "Southern edge latitude", example = "48.80") @RequestParam double minLat,
+            @Parameter(description = "Western edge longitude", example = "9.10") @RequestParam double minLon,
+            @Parameter(description = "Northern edge latitude", example = "48.90") @RequestParam double maxLat,
+            @Parameter(description = "Eastern edge longitude", example = "9.20") @RequestParam double maxLon) {
+        BoundingBox box = new BoundingBox(minLat, minLon, maxLat, maxLon);
+
+        List<RouteSummaryDto> routes = routeUseCase.findRoutesInBoundingBox(box).stream()
+            .map(dtoMapper::toSummary)
+            .toList();
+        return ResponseEntity.ok(routes);
+    }
+
+    @Operation(summary = "Snap a position to the nearest route",
+            description = "Returns the closest point on any route to the given position")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nearest route point",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = RouteMatchDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid coordinate", content = @Content),
+            @ApiResponse(responseCode = "404", description = "No routes available", content = @Content)
+    })
+    @GetMapping("/snap")
+    public ResponseEntity<RouteMatchDto> snapToRoute(
+            @Parameter(description = "Latitude in decimal degrees", example = "48.8354") @RequestParam double lat,
+            @Parameter(description = "Longitude in decimal degrees", example = "9.1520") @RequestParam double lon) {
+        return routeUseCase.snapToRoute(new Coordinate(lat, lon))
+            .map(dtoMapper::toDto)
+            .map(ResponseEntity::ok)
+            .orElseThrow(RouteNotFoundException::noRoutesAvailable);
+    }
+
+    private RouteDetailLevel detailLevel(DrivingRoute route, Double tolerance, Integer zoom) {
+        if (tolerance == null && zoom == null) {
+            return RouteDetailLevel.full(route);
+        }
+        double toleranceMeters = tolerance != null
+            ? tolerance
+            : RouteLevelsOfDetail.toleranceForZoom(zoom, route.startPoint().latitude());
+        return routeUseCase.getRouteDetailLevel(route, toleranceMeters);
+    }
+
+    private static void validateDetailParameters(Double tolerance, Integer zoom) {
+        if (tolerance != null && zoom != null) {
+            throw new IllegalArgumentException("Specify either tolerance or zoom, not both");
+        }
+        if (tolerance != null && !(tolerance >= 0 && tolerance <= MAX_DETAIL_TOLERANCE_METERS)) {
+            throw new IllegalArgumentException(
+                "Tolerance must be between 0 and " + (int) MAX_DETAIL_TOLERANCE_METERS + " meters, got: " + tolerance);
+        }
+        if (zoom != null) {
+            // Rejects zoom levels outside the supported range
+            RouteLevelsOfDetail.toleranceForZoom(zoom, 0);
+        }
+    }
+}
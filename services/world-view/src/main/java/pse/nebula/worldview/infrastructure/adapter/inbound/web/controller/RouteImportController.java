@@ -0,0 +1,83 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pse.nebula.worldview.domain.model.RouteImportResult;
+import pse.nebula.worldview.domain.model.RouteImportSpec;
+import pse.nebula.worldview.domain.port.inbound.RouteImportUseCase;
+import pse.nebula.worldview.infrastructure.adapter.inbound.routeimport.RouteFileFormat;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteImportResultDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * REST controller for importing routes from GPX or GeoJSON track files.
+ *
+ * The request body is parsed while it is received, so files of any size are imported
+ * without buffering them. The endpoint writes to the route catalogue, so it is only enabled
+ * with route.import.enabled=true and lives under /api/v1/admin, which the gateway does not
+ * route; expose it only through an authenticated admin route.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/routes")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "route.import.enabled", havingValue = "true")
+@Tag(name = "Route Import (admin)", description = "Add routes from GPX or GeoJSON tracks")
+public class RouteImportController {
+
+    private final RouteImportUseCase routeImportUseCase;
+    private final DtoMapper dtoMapper;
+
+    @Operation(summary = "Import a route",
+            description = "Creates a route from a GPX file (all trkpt/rtept points) or a GeoJSON LineString, " +
+                    "MultiLineString, Feature or FeatureCollection sent as the request body. " +
+                    "The distance is measured along the track; pass tolerance to simplify the stored waypoints.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Route imported",
+                    content = @Content(schema = @Schema(implementation = RouteImportResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed file or invalid coordinates", content = @Content),
+            @ApiResponse(responseCode = "409", description = "A route with this ID already exists", content = @Content)
+    })
+    @PostMapping(value = "/import", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<RouteImportResultDto> importRoute(
+            @Parameter(description = "ID of the new route", example = "route-9")
+            @RequestParam String id,
+            @Parameter(description = "Display name of the new route", example = "Stuttgart Airport Route")
+            @RequestParam String name,
+            @Parameter(description = "Route description")
+            @RequestParam(required = false) String description,
+            @Parameter(description = "Douglas-Peucker tolerance in meters applied before storing, 0 keeps every point",
+                    example = "2")
+            @RequestParam(defaultValue = "0") double tolerance,
+            @Parameter(description = "application/gpx+xml or application/geo+json")
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        RouteFileFormat format = RouteFileFormat.fromMediaType(contentType);
+        log.info("Importing route {} from {}", id, format);
+
+        RouteImportResult result = routeImportUseCase.importRoute(
+                new RouteImportSpec(id, name, description, tolerance), format.open(body));
+
+        return ResponseEntity.created(URI.create("/api/v1/routes/" + id))
+                .body(dtoMapper.toDto(result));
+    }
+}
@@ -0,0 +1,59 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO representing a driving route with its waypoints as an encoded polyline string.
+ * Returned for the application/vnd.nebula.route-polyline+json media type.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A driving route with its waypoints in the Encoded Polyline Algorithm Format")
+public class EncodedRouteDto {
+
+    public static final String CONTENT_TYPE = "application/vnd.nebula.route-polyline+json";
+
+    @JsonProperty("id")
+    @Schema(description = "Unique route identifier", example = "route-1")
+    private String id;
+
+    @JsonProperty("name")
+    @Schema(description = "Human-readable route name", example = "Ludwigsburg Route")
+    private String name;
+
+    @JsonProperty("description")
+    @Schema(description = "Route description", example = "From Ludwigsburg Schloss to Dealership")
+    private String description;
+
+    @JsonProperty("polyline")
+    @Schema(description = "Waypoints in the Encoded Polyline Algorithm Format", example = "_p~iF~ps|U_ulLnnqC_mqNvxq`@")
+    private String polyline;
+
+    @JsonProperty("polyline_precision")
+    @Schema(description = "Decimal digits of a degree the polyline was encoded with", example = "5")
+    private int polylinePrecision;
+
+    @JsonProperty("total_distance_meters")
+    @Schema(description = "Total route distance in meters", example = "15234.5")
+    private double totalDistanceMeters;
+
+    @JsonProperty("estimated_duration_seconds")
+    @Schema(description = "Estimated travel duration in seconds", example = "1200")
+    private int estimatedDurationSeconds;
+
+    @JsonProperty("total_waypoints")
+    @Schema(description = "Number of waypoints in the full route, also when fewer are encoded", example = "150")
+    private int totalWaypoints;
+
+    @JsonProperty("simplification_tolerance_meters")
+    @Schema(description = "Maximum deviation of the encoded waypoints from the full route, 0 if none were dropped",
+            example = "20.0")
+    private double simplificationToleranceMeters;
+}
@@ -0,0 +1,39 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO representing a circular geofence.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A circular geofence")
+public class GeofenceDto {
+
+    @JsonProperty("id")
+    @Schema(description = "Unique geofence identifier", example = "dealership")
+    private String id;
+
+    @JsonProperty("name")
+    @Schema(description = "Human-readable geofence name", example = "Dealership")
+    private String name;
+
+    @JsonProperty("type")
+    @Schema(description = "Geofence purpose", example = "DEALERSHIP")
+    private String type;
+
+    @JsonProperty("center")
+    @Schema(description = "Center of the geofence")
+    private CoordinateDto center;
+
+    @JsonProperty("radius_meters")
+    @Schema(description = "Radius in meters", example = "150")
+    private double radiusMeters;
+}
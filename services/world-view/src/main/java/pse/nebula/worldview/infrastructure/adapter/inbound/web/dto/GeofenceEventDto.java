@@ -0,0 +1,45 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for geofence enter/exit events sent via MQTT and SSE.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A journey entering or leaving a geofence")
+public class GeofenceEventDto {
+
+    @JsonProperty("journey_id")
+    @Schema(description = "Journey identifier", example = "auto-journey-a1b2c3d4")
+    private String journeyId;
+
+    @JsonProperty("transition")
+    @Schema(description = "ENTER or EXIT", example = "ENTER")
+    private String transition;
+
+    @JsonProperty("geofence")
+    @Schema(description = "The geofence whose boundary was crossed")
+    private GeofenceDto geofence;
+
+    @JsonProperty("position")
+    @Schema(description = "First position observed on the new side of the boundary")
+    private CoordinateDto position;
+
+    @JsonProperty("progress_percentage")
+    @Schema(description = "Journey completion percentage (0-100)", example = "97.5")
+    private double progressPercentage;
+
+    @JsonProperty("timestamp")
+    @Schema(description = "Event timestamp (ISO-8601)", example = "2026-01-04T12:00:00Z")
+    private Instant timestamp;
+}
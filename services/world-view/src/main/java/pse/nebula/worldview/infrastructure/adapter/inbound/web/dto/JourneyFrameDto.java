@@ -0,0 +1,55 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for the aggregate frame of all active journeys sent via MQTT.
+ *
+ * A keyframe lists every active journey. A delta frame only lists the journeys whose position,
+ * progress or status changed since the frame with sequence base_sequence, plus the journeys that
+ * ended since then. Clients apply a delta frame only if they hold the frame it is based on, and
+ * otherwise wait for the next keyframe.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batched positions of all active journeys (sent via MQTT)")
+public class JourneyFrameDto {
+
+    @JsonProperty("sequence")
+    @Schema(description = "Frame sequence number, incremented by one per frame", example = "1024")
+    private long sequence;
+
+    @JsonProperty("keyframe")
+    @Schema(description = "Whether the frame lists every active journey", example = "false")
+    private boolean keyframe;
+
+    @JsonProperty("base_sequence")
+    @Schema(description = "Sequence of the frame a delta frame applies to, null for keyframes", example = "1023")
+    private Long baseSequence;
+
+    @JsonProperty("active_journeys")
+    @Schema(description = "Number of active journeys, including unchanged ones left out of a delta frame", example = "2500")
+    private int activeJourneys;
+
+    @JsonProperty("journeys")
+    @Schema(description = "Journeys listed in this frame")
+    private List<JourneyFrameEntryDto> journeys;
+
+    @JsonProperty("removed")
+    @Schema(description = "Journeys that ended since the base frame (always empty in keyframes)")
+    private List<String> removed;
+
+    @JsonProperty("timestamp")
+    @Schema(description = "Time the frame was built (ISO-8601)", example = "2026-01-04T12:00:00Z")
+    private Instant timestamp;
+}
@@ -0,0 +1,40 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a single journey within a {@link JourneyFrameDto}. Kept flat, without a nested
+ * coordinate object, as a frame carries one entry per active journey.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Position of one journey within a journey frame")
+public class JourneyFrameEntryDto {
+
+    @JsonProperty("journey_id")
+    @Schema(description = "Journey identifier", example = "auto-journey-1a2b3c4d")
+    private String journeyId;
+
+    @JsonProperty("latitude")
+    @Schema(description = "Latitude in degrees", example = "48.8456")
+    private double latitude;
+
+    @JsonProperty("longitude")
+    @Schema(description = "Longitude in degrees", example = "9.1723")
+    private double longitude;
+
+    @JsonProperty("progress_percentage")
+    @Schema(description = "Journey completion percentage (0-100)", example = "45.5")
+    private double progressPercentage;
+
+    @JsonProperty("status")
+    @Schema(description = "Journey status", example = "IN_PROGRESS")
+    private String status;
+}
@@ -0,0 +1,53 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight DTO of a journey's progress for high-frequency polling.
+ * The route is referenced by ID and version instead of being embedded; clients fetch it
+ * once from /api/v1/routes/{routeId} and revalidate with the version as ETag.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lightweight journey progress snapshot referencing its route")
+public class JourneySnapshotDto {
+
+    @JsonProperty("journey_id")
+    @Schema(description = "Unique identifier for the journey", example = "journey-1234567890")
+    private String journeyId;
+
+    @JsonProperty("route_id")
+    @Schema(description = "Identifier of the route being traveled", example = "route-1")
+    private String routeId;
+
+    @JsonProperty("route_version")
+    @Schema(description = "Version of the route representation, equal to the route's ETag", example = "9f2c4e1a7b3d5f60")
+    private String routeVersion;
+
+    @JsonProperty("current_position")
+    @Schema(description = "Current GPS position of the vehicle")
+    private CoordinateDto currentPosition;
+
+    @JsonProperty("current_waypoint_index")
+    @Schema(description = "Index of the current waypoint in the route", example = "42")
+    private int currentWaypointIndex;
+
+    @JsonProperty("status")
+    @Schema(description = "Journey status", example = "IN_PROGRESS", allowableValues = {"NOT_STARTED", "IN_PROGRESS", "PAUSED", "COMPLETED"})
+    private String status;
+
+    @JsonProperty("speed_meters_per_second")
+    @Schema(description = "Current speed in meters per second", example = "13.89")
+    private double speedMetersPerSecond;
+
+    @JsonProperty("progress_percentage")
+    @Schema(description = "Journey completion percentage (0-100)", example = "45.5")
+    private double progressPercentage;
+}
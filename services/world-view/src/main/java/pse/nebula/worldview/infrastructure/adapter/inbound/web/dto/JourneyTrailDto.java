@@ -0,0 +1,33 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO representing the path a journey has travelled so far.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Downsampled track of the positions a journey has passed, oldest first")
+public class JourneyTrailDto {
+
+    @JsonProperty("journey_id")
+    @Schema(description = "Journey identifier", example = "auto-journey-a1b2c3d4")
+    private String journeyId;
+
+    @JsonProperty("recorded_points")
+    @Schema(description = "Number of positions retained for the journey before downsampling", example = "734")
+    private int recordedPoints;
+
+    @JsonProperty("points")
+    @Schema(description = "Positions, oldest first; always includes the first retained and the latest position")
+    private List<TrailPointDto> points;
+}
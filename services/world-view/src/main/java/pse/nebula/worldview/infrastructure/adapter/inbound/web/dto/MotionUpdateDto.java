@@ -0,0 +1,69 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for dead-reckoning motion updates sent via MQTT.
+ *
+ * Only sent when the motion changes. Clients extrapolate the position at time t as
+ * reference_position + (segment_end - reference_position) * min(1, speed_mps * (t - reference_timestamp)
+ * / remaining_segment_meters), which stops exactly at the segment's end waypoint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Dead-reckoning motion update message (sent via MQTT)")
+public class MotionUpdateDto {
+
+    @JsonProperty("journey_id")
+    @Schema(description = "Journey identifier", example = "journey-1234567890")
+    private String journeyId;
+
+    @JsonProperty("status")
+    @Schema(description = "Journey status", example = "IN_PROGRESS")
+    private String status;
+
+    @JsonProperty("segment_index")
+    @Schema(description = "Index of the route segment being driven (equal to its start waypoint index)", example = "42")
+    private int segmentIndex;
+
+    @JsonProperty("total_waypoints")
+    @Schema(description = "Total waypoints in route", example = "150")
+    private int totalWaypoints;
+
+    @JsonProperty("reference_position")
+    @Schema(description = "Exact position at the reference timestamp")
+    private CoordinateDto referencePosition;
+
+    @JsonProperty("segment_end")
+    @Schema(description = "Waypoint at the end of the segment, where extrapolation stops")
+    private CoordinateDto segmentEnd;
+
+    @JsonProperty("remaining_segment_meters")
+    @Schema(description = "Distance from the reference position to the segment end", example = "180.5")
+    private double remainingSegmentMeters;
+
+    @JsonProperty("speed_mps")
+    @Schema(description = "Speed in meters per wall-clock second, 0 unless in progress", example = "13.89")
+    private double speedMps;
+
+    @JsonProperty("bearing_degrees")
+    @Schema(description = "Direction of travel in degrees clockwise from north", example = "215.3")
+    private double bearingDegrees;
+
+    @JsonProperty("progress_percentage")
+    @Schema(description = "Journey completion percentage at the reference timestamp", example = "45.5")
+    private double progressPercentage;
+
+    @JsonProperty("reference_timestamp")
+    @Schema(description = "Time the reference position applies to (ISO-8601)", example = "2026-01-04T12:00:00Z")
+    private Instant referenceTimestamp;
+}
@@ -52,6 +52,11 @@ public class RouteDto {
     private int estimatedDurationSeconds;
 
     @JsonProperty("total_waypoints")
-    @Schema(description = "Number of waypoints in the route", example = "150")
+    @Schema(description = "Number of waypoints in the full route, also when fewer are returned", example = "150")
     private int totalWaypoints;
+
+    @JsonProperty("simplification_tolerance_meters")
+    @Schema(description = "Maximum deviation of the returned waypoints from the full route, 0 if none were dropped",
+            example = "20.0")
+    private double simplificationToleranceMeters;
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing an imported route, without its waypoints.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a route import")
+public class RouteImportResultDto {
+
+    @JsonProperty("id")
+    @Schema(description = "Unique route identifier", example = "route-9")
+    private String id;
+
+    @JsonProperty("name")
+    @Schema(description = "Human-readable route name", example = "Stuttgart Airport Route")
+    private String name;
+
+    @JsonProperty("total_waypoints")
+    @Schema(description = "Number of waypoints stored for the route", example = "1450")
+    private int totalWaypoints;
+
+    @JsonProperty("points_read")
+    @Schema(description = "Number of points read from the file, including dropped duplicates", example = "86400")
+    private long pointsRead;
+
+    @JsonProperty("total_distance_meters")
+    @Schema(description = "Route distance summed over the segments of the file", example = "17234.5")
+    private double totalDistanceMeters;
+
+    @JsonProperty("estimated_duration_seconds")
+    @Schema(description = "Estimated travel duration in seconds", example = "1240")
+    private int estimatedDurationSeconds;
+
+    @JsonProperty("elapsed_millis")
+    @Schema(description = "Time the import took in milliseconds", example = "420")
+    private long elapsedMillis;
+}
@@ -0,0 +1,35 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO representing the point of a route nearest to a query position.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Nearest point of a route to a query position")
+public class RouteMatchDto {
+
+    @JsonProperty("route")
+    @Schema(description = "The matched route")
+    private RouteSummaryDto route;
+
+    @JsonProperty("segment_index")
+    @Schema(description = "Index of the route segment (waypoint i to i + 1) containing the nearest point", example = "12")
+    private int segmentIndex;
+
+    @JsonProperty("nearest_point")
+    @Schema(description = "Closest GPS point on the route")
+    private CoordinateDto nearestPoint;
+
+    @JsonProperty("distance_meters")
+    @Schema(description = "Distance from the query position to the nearest point in meters", example = "42.7")
+    private double distanceMeters;
+}
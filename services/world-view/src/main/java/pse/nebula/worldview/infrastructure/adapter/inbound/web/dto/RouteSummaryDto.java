@@ -0,0 +1,39 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO representing a driving route without its waypoints, for search results.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A driving route without its waypoints")
+public class RouteSummaryDto {
+
+    @JsonProperty("id")
+    @Schema(description = "Unique route identifier", example = "route-1")
+    private String id;
+
+    @JsonProperty("name")
+    @Schema(description = "Human-readable route name", example = "Ludwigsburg Route")
+    private String name;
+
+    @JsonProperty("description")
+    @Schema(description = "Route description", example = "From Ludwigsburg Schloss to Dealership")
+    private String description;
+
+    @JsonProperty("total_distance_meters")
+    @Schema(description = "Total route distance in meters", example = "15234.5")
+    private double totalDistanceMeters;
+
+    @JsonProperty("total_waypoints")
+    @Schema(description = "Number of waypoints in the route", example = "150")
+    private int totalWaypoints;
+}
@@ -0,0 +1,33 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO representing a recorded journey position.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A position the journey has passed")
+public class TrailPointDto {
+
+    @JsonProperty("latitude")
+    @Schema(description = "Latitude in decimal degrees", example = "48.8756")
+    private double latitude;
+
+    @JsonProperty("longitude")
+    @Schema(description = "Longitude in decimal degrees", example = "9.1845")
+    private double longitude;
+
+    @JsonProperty("timestamp")
+    @Schema(description = "Simulation time of the position (ISO-8601)", example = "2026-01-04T12:00:00Z")
+    private Instant timestamp;
+}
@@ -4,11 +4,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import pse.nebula.worldview.domain.exception.JourneyAlreadyExistsException;
 import pse.nebula.worldview.domain.exception.JourneyNotFoundException;
+import pse.nebula.worldview.domain.exception.RouteAlreadyExistsException;
 import pse.nebula.worldview.domain.exception.RouteNotFoundException;
 
 import java.io.IOException;
@@ -55,6 +58,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, "ROUTE_NOT_FOUND", ex.getMessage());
     }
 
+    @ExceptionHandler(RouteAlreadyExistsException.class)
+    public ResponseEntity<Map<String, Object>> handleRouteAlreadyExists(RouteAlreadyExistsException ex) {
+        log.warn("Route already exists: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, "ROUTE_ALREADY_EXISTS", ex.getMessage());
+    }
+
     @ExceptionHandler(JourneyNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleJourneyNotFound(JourneyNotFoundException ex) {
         log.warn("Journey not found: {}", ex.getMessage());
@@ -79,6 +88,20 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "INVALID_STATE", ex.getMessage());
     }
 
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<Map<String, Object>> handleMissingParameter(MissingServletRequestParameterException ex) {
+        log.warn("Missing request parameter: {}", ex.getParameterName());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "INVALID_ARGUMENT",
+            "Missing required parameter: " + ex.getParameterName());
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        log.warn("Invalid request parameter {}: {}", ex.getName(), ex.getValue());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "INVALID_ARGUMENT",
+            "Invalid value for parameter " + ex.getName() + ": " + ex.getValue());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationErrors(MethodArgumentNotValidException ex) {
         Map<String, String> fieldErrors = new HashMap<>();
@@ -0,0 +1,201 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper;
+
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.PackedPolyline;
+import pse.nebula.worldview.domain.model.RouteDetailLevel;
+import pse.nebula.worldview.infrastructure.codec.Varint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary representation of routes for map clients.
+ *
+ * Schema version 1. A frame is the version byte followed by either one route
+ * ({@link #encode}) or an unsigned varint count and that many routes ({@link #encodeList}).
+ * A route is:
+ * <pre>
+ * varint   id length + id (UTF-8)
+ * varint   name length + name (UTF-8)
+ * varint   description length + 1 + description (UTF-8), 0 for none
+ * float64  total distance in meters (little-endian)
+ * varint   estimated duration in seconds
+ * varint   waypoints of the full route
+ * float64  simplification tolerance in meters, 0 for the full route (little-endian)
+ * polyline waypoints, see {@link VarintPolylineCodec}
+ * </pre>
+ * Waypoints are stored with 1e-6 degree resolution (about 11 cm); everything else
+ * round-trips exactly.
+ */
+public final class BinaryRouteCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.nebula.route+binary";
+    public static final int SCHEMA_VERSION = 1;
+
+    private BinaryRouteCodec() {
+    }
+
+    /**
+     * A decoded route.
+     */
+    public record DecodedRoute(String id, String name, String description, double totalDistanceMeters,
+                               int estimatedDurationSeconds, int totalWaypoints, double simplificationToleranceMeters,
+                               PackedPolyline waypoints) {}
+
+    /**
+     * Encode a single route.
+     *
+     * @param route The route
+     * @param level The level of detail of its waypoints
+     * @return The frame
+     */
+    public static byte[] encode(DrivingRoute route, RouteDetailLevel level) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + level.waypoints().size() * 6);
+        out.write(SCHEMA_VERSION);
+        writeRoute(route, level, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encode a list of routes.
+     *
+     * @param routes The routes
+     * @param levels The level of detail of each route, in the same order
+     * @return The frame
+     */
+    public static byte[] encodeList(List<DrivingRoute> routes, List<RouteDetailLevel> levels) {
+        if (routes.size() != levels.size()) {
+            throw new IllegalArgumentException("Expected one level of detail per route");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + routes.size() * 512);
+        out.write(SCHEMA_VERSION);
+        Varint.writeUnsigned(routes.size(), out);
+        for (int i = 0; i < routes.size(); i++) {
+            writeRoute(routes.get(i), levels.get(i), out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode a frame written by {@link #encode}.
+     *
+     * @param frame The frame
+     * @return The route
+     * @throws IOException if the frame is malformed or of another schema version
+     */
+    public static DecodedRoute decode(byte[] frame) throws IOException {
+        ByteBuffer in = open(frame);
+        DecodedRoute route = readRoute(in);
+        requireFullyRead(in);
+        return route;
+    }
+
+    /**
+     * Decode a frame written by {@link #encodeList}.
+     *
+     * @param frame The frame
+     * @return The routes
+     * @throws IOException if the frame is malformed or of another schema version
+     */
+    public static List<DecodedRoute> decodeList(byte[] frame) throws IOException {
+        ByteBuffer in = open(frame);
+        long count = Varint.readUnsigned(in);
+        if (count < 0 || count > in.remaining()) {
+            throw new IOException("Invalid route count: " + count);
+        }
+        List<DecodedRoute> routes = new ArrayList<>((int) count);
+        for (long i = 0; i < count; i++) {
+            routes.add(readRoute(in));
+        }
+        requireFullyRead(in);
+        return routes;
+    }
+
+    private static void writeRoute(DrivingRoute route, RouteDetailLevel level, ByteArrayOutputStream out) {
+        writeString(route.id(), out);
+        writeString(route.name(), out);
+        if (route.description() == null) {
+            out.write(0);
+        } else {
+            byte[] description = route.description().getBytes(StandardCharsets.UTF_8);
+            Varint.writeUnsigned(description.length + 1L, out);
+            out.writeBytes(description);
+        }
+        writeDouble(route.totalDistanceMeters(), out);
+        Varint.writeUnsigned(route.estimatedDurationSeconds(), out);
+        Varint.writeUnsigned(route.getTotalWaypoints(), out);
+        writeDouble(level.toleranceMeters(), out);
+        VarintPolylineCodec.write(level.waypoints(), out);
+    }
+
+    private static DecodedRoute readRoute(ByteBuffer in) throws IOException {
+        try {
+            String id = readString(in, readLength(in));
+            String name = readString(in, readLength(in));
+            int descriptionLength = readLength(in);
+            String description = descriptionLength == 0 ? null : readString(in, descriptionLength - 1);
+            double totalDistance = in.getDouble();
+            int duration = (int) Varint.readUnsigned(in);
+            int totalWaypoints = (int) Varint.readUnsigned(in);
+            double tolerance = in.getDouble();
+            PackedPolyline waypoints = VarintPolylineCodec.read(in);
+            return new DecodedRoute(id, name, description, totalDistance, duration, totalWaypoints, tolerance, waypoints);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated binary route");
+        }
+    }
+
+    private static ByteBuffer open(byte[] frame) throws IOException {
+        if (frame == null || frame.length == 0) {
+            throw new IOException("Binary route frame is empty");
+        }
+        ByteBuffer in = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        int version = Byte.toUnsignedInt(in.get());
+        if (version != SCHEMA_VERSION) {
+            throw new IOException("Unsupported route schema version: " + version);
+        }
+        return in;
+    }
+
+    private static void requireFullyRead(ByteBuffer in) throws IOException {
+        if (in.hasRemaining()) {
+            throw new IOException("Binary route frame has " + in.remaining() + " trailing bytes");
+        }
+    }
+
+    private static void writeString(String value, ByteArrayOutputStream out) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        Varint.writeUnsigned(bytes.length, out);
+        out.writeBytes(bytes);
+    }
+
+    private static void writeDouble(double value, ByteArrayOutputStream out) {
+        long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < Long.BYTES; i++) {
+            out.write((int) (bits >>> (8 * i)));
+        }
+    }
+
+    private static int readLength(ByteBuffer in) throws IOException {
+        long length = Varint.readUnsigned(in);
+        if (length < 0 || length > in.remaining() + 1L) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        return (int) length;
+    }
+
+    private static String readString(ByteBuffer in, int length) throws IOException {
+        if (length > in.remaining()) {
+            throw new IOException("Truncated binary route");
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
@@ -3,11 +3,29 @@ package pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper;
 import org.springframework.stereotype.Component;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
 import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.model.JourneyTrail;
+import pse.nebula.worldview.domain.model.RouteDetailLevel;
+import pse.nebula.worldview.domain.model.RouteGeometry;
+import pse.nebula.worldview.domain.model.RouteImportResult;
+import pse.nebula.worldview.domain.model.RouteMatch;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateUpdateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.EncodedRouteDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.GeofenceDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.GeofenceEventDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneySnapshotDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyStateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyTrailDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.MotionUpdateDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteImportResultDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteMatchDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteSummaryDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.TrailPointDto;
 
 import java.time.Instant;
 import java.util.List;
@@ -32,7 +50,14 @@ public class DtoMapper {
      * Convert a DrivingRoute domain model to DTO.
      */
     public RouteDto toDto(DrivingRoute route) {
-        List<CoordinateDto> waypointDtos = route.waypoints().stream()
+        return toDto(route, RouteDetailLevel.full(route));
+    }
+
+    /**
+     * Convert a DrivingRoute domain model to DTO with the waypoints of a level of detail.
+     */
+    public RouteDto toDto(DrivingRoute route, RouteDetailLevel level) {
+        List<CoordinateDto> waypointDtos = level.waypoints().asList().stream()
             .map(this::toDto)
             .toList();
 
@@ -46,6 +71,66 @@ public class DtoMapper {
             .totalDistanceMeters(route.totalDistanceMeters())
             .estimatedDurationSeconds(route.estimatedDurationSeconds())
             .totalWaypoints(route.getTotalWaypoints())
+            .simplificationToleranceMeters(level.toleranceMeters())
+            .build();
+    }
+
+    /**
+     * Convert a DrivingRoute domain model to DTO with the waypoints of a level of detail
+     * as an encoded polyline string.
+     */
+    public EncodedRouteDto toEncodedDto(DrivingRoute route, RouteDetailLevel level) {
+        return EncodedRouteDto.builder()
+            .id(route.id())
+            .name(route.name())
+            .description(route.description())
+            .polyline(EncodedPolylineCodec.encode(level.waypoints()))
+            .polylinePrecision(EncodedPolylineCodec.DEFAULT_PRECISION)
+            .totalDistanceMeters(route.totalDistanceMeters())
+            .estimatedDurationSeconds(route.estimatedDurationSeconds())
+            .totalWaypoints(route.getTotalWaypoints())
+            .simplificationToleranceMeters(level.toleranceMeters())
+            .build();
+    }
+
+    /**
+     * Convert a DrivingRoute domain model to a summary DTO without waypoints.
+     */
+    public RouteSummaryDto toSummary(DrivingRoute route) {
+        return RouteSummaryDto.builder()
+            .id(route.id())
+            .name(route.name())
+            .description(route.description())
+            .totalDistanceMeters(route.totalDistanceMeters())
+            .totalWaypoints(route.getTotalWaypoints())
+            .build();
+    }
+
+    /**
+     * Convert a RouteImportResult domain model to DTO.
+     */
+    public RouteImportResultDto toDto(RouteImportResult result) {
+        DrivingRoute route = result.route();
+        return RouteImportResultDto.builder()
+            .id(route.id())
+            .name(route.name())
+            .totalWaypoints(route.getTotalWaypoints())
+            .pointsRead(result.pointsRead())
+            .totalDistanceMeters(route.totalDistanceMeters())
+            .estimatedDurationSeconds(route.estimatedDurationSeconds())
+            .elapsedMillis(result.elapsedMillis())
+            .build();
+    }
+
+    /**
+     * Convert a RouteMatch domain model to DTO.
+     */
+    public RouteMatchDto toDto(RouteMatch match) {
+        return RouteMatchDto.builder()
+            .route(toSummary(match.route()))
+            .segmentIndex(match.segmentIndex())
+            .nearestPoint(toDto(match.nearestPoint()))
+            .distanceMeters(match.distanceMeters())
             .build();
     }
 
@@ -64,18 +149,127 @@ public class DtoMapper {
             .build();
     }
 
+    /**
+     * Convert a JourneyState domain model to a snapshot DTO that references its route.
+     *
+     * @param journeyState The journey state
+     * @param routeVersion Version of the route representation the client should hold
+     */
+    public JourneySnapshotDto toSnapshot(JourneyState journeyState, String routeVersion) {
+        return JourneySnapshotDto.builder()
+            .journeyId(journeyState.getJourneyId())
+            .routeId(journeyState.getRoute().id())
+            .routeVersion(routeVersion)
+            .currentPosition(toDto(journeyState.getCurrentPosition()))
+            .currentWaypointIndex(journeyState.getCurrentWaypointIndex())
+            .status(journeyState.getStatus().name())
+            .speedMetersPerSecond(journeyState.getSpeedMetersPerSecond())
+            .progressPercentage(journeyState.getProgressPercentage())
+            .build();
+    }
+
     /**
      * Create a coordinate update DTO for SSE events.
      */
     public CoordinateUpdateDto toCoordinateUpdate(JourneyState journeyState) {
+        return toCoordinateUpdate(journeyState.getJourneyId(), journeyState.getCurrentLatitude(),
+            journeyState.getCurrentLongitude(), journeyState.getProgressPercentage(), journeyState.getStatus(),
+            journeyState.getCurrentWaypointIndex(), journeyState.getRoute().getTotalWaypoints(), Instant.now());
+    }
+
+    /**
+     * Create a coordinate update DTO from a position captured earlier, e.g. by a publisher
+     * that only builds the DTO once the update is actually sent.
+     */
+    public CoordinateUpdateDto toCoordinateUpdate(String journeyId, double latitude, double longitude,
+                                                  double progressPercentage, JourneyStatus status,
+                                                  int currentWaypointIndex, int totalWaypoints, Instant timestamp) {
         return CoordinateUpdateDto.builder()
+            .journeyId(journeyId)
+            .coordinate(CoordinateDto.builder().latitude(latitude).longitude(longitude).build())
+            .progressPercentage(progressPercentage)
+            .status(status.name())
+            .currentWaypointIndex(currentWaypointIndex)
+            .totalWaypoints(totalWaypoints)
+            .timestamp(timestamp)
+            .build();
+    }
+
+    /**
+     * Create a dead-reckoning motion update describing how the car moves along its current segment.
+     *
+     * @param journeyState The journey state
+     * @param timeScale Simulated seconds per wall-clock second, applied to the speed
+     */
+    public MotionUpdateDto toMotionUpdate(JourneyState journeyState, double timeScale) {
+        DrivingRoute route = journeyState.getRoute();
+        RouteGeometry geometry = route.geometry();
+        int segment = Math.min(journeyState.getCurrentWaypointIndex(), geometry.getSegmentCount() - 1);
+        boolean moving = journeyState.getStatus() == JourneyStatus.IN_PROGRESS;
+        boolean completed = journeyState.getStatus() == JourneyStatus.COMPLETED;
+        Coordinate position = journeyState.getCurrentPosition();
+        Coordinate segmentEnd = completed ? position : route.getWaypointAt(segment + 1);
+        double remaining = completed ? 0.0
+            : Math.max(0.0, geometry.getDistanceToWaypoint(segment + 1) - journeyState.getDistanceTravelledMeters());
+
+        return MotionUpdateDto.builder()
             .journeyId(journeyState.getJourneyId())
-            .coordinate(toDto(journeyState.getCurrentPosition()))
-            .progressPercentage(journeyState.getProgressPercentage())
             .status(journeyState.getStatus().name())
-            .currentWaypointIndex(journeyState.getCurrentWaypointIndex())
-            .totalWaypoints(journeyState.getRoute().getTotalWaypoints())
+            .segmentIndex(journeyState.getCurrentWaypointIndex())
+            .totalWaypoints(route.getTotalWaypoints())
+            .referencePosition(toDto(position))
+            .segmentEnd(toDto(segmentEnd))
+            .remainingSegmentMeters(remaining)
+            .speedMps(moving ? journeyState.getSpeedMetersPerSecond() * timeScale : 0.0)
+            .bearingDegrees(geometry.getSegmentBearing(segment))
+            .progressPercentage(journeyState.getProgressPercentage())
+            .referenceTimestamp(Instant.now())
+            .build();
+    }
+
+    /**
+     * Convert a Geofence domain model to DTO.
+     */
+    public GeofenceDto toDto(Geofence geofence) {
+        return GeofenceDto.builder()
+            .id(geofence.id())
+            .name(geofence.name())
+            .type(geofence.type().name())
+            .center(toDto(geofence.center()))
+            .radiusMeters(geofence.radiusMeters())
+            .build();
+    }
+
+    /**
+     * Create a geofence event DTO for MQTT and SSE events.
+     */
+    public GeofenceEventDto toGeofenceEvent(GeofenceEvent event, JourneyState journeyState) {
+        return GeofenceEventDto.builder()
+            .journeyId(event.journeyId())
+            .transition(event.transition().name())
+            .geofence(toDto(event.geofence()))
+            .position(toDto(event.position()))
+            .progressPercentage(journeyState.getProgressPercentage())
             .timestamp(Instant.now())
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Convert a JourneyTrail domain model to DTO.
+     */
+    public JourneyTrailDto toDto(JourneyTrail trail) {
+        List<TrailPointDto> points = trail.points().stream()
+            .map(point -> TrailPointDto.builder()
+                .latitude(point.position().latitude())
+                .longitude(point.position().longitude())
+                .timestamp(Instant.ofEpochMilli(point.timestampMillis()))
+                .build())
+            .toList();
+
+        return JourneyTrailDto.builder()
+            .journeyId(trail.journeyId())
+            .recordedPoints(trail.recordedPoints())
+            .points(points)
+            .build();
+    }
+}
@@ -0,0 +1,132 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper;
+
+import pse.nebula.worldview.domain.model.PackedPolyline;
+
+import java.util.Arrays;
+
+/**
+ * Encoder and decoder for the Encoded Polyline Algorithm Format used by Google Maps,
+ * Leaflet plugins, OSRM and most other map tooling.
+ *
+ * Every coordinate is rounded to {@code 10^-precision} degrees and stored as the signed
+ * difference to the previous point, zig-zag folded and split into 5-bit chunks that are
+ * written as printable ASCII characters. Precision 5 (about 1.1 m) is the standard; the
+ * decoder must be told the precision the string was encoded with.
+ */
+public final class EncodedPolylineCodec {
+
+    /** Precision of the standard format, in decimal digits of a degree */
+    public static final int DEFAULT_PRECISION = 5;
+
+    private static final int MAX_PRECISION = 7;
+
+    private EncodedPolylineCodec() {
+    }
+
+    /**
+     * Encode a polyline with the standard precision of 5 decimal digits.
+     *
+     * @param polyline The polyline
+     * @return The encoded string
+     */
+    public static String encode(PackedPolyline polyline) {
+        return encode(polyline, DEFAULT_PRECISION);
+    }
+
+    /**
+     * Encode a polyline.
+     *
+     * @param polyline The polyline
+     * @param precision Decimal digits of a degree kept per coordinate (1 to 7)
+     * @return The encoded string
+     */
+    public static String encode(PackedPolyline polyline, int precision) {
+        double factor = factor(precision);
+        // Most deltas of road routes take 3-4 characters per coordinate
+        StringBuilder encoded = new StringBuilder(polyline.size() * 8);
+        long previousLat = 0;
+        long previousLng = 0;
+        for (int i = 0; i < polyline.size(); i++) {
+            // Round absolute values, so rounding errors do not add up along the polyline
+            long lat = Math.round(polyline.latitude(i) * factor);
+            long lng = Math.round(polyline.longitude(i) * factor);
+            appendSigned(encoded, lat - previousLat);
+            appendSigned(encoded, lng - previousLng);
+            previousLat = lat;
+            previousLng = lng;
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Decode a string encoded with the standard precision of 5 decimal digits.
+     *
+     * @param encoded The encoded string
+     * @return The polyline
+     * @throws IllegalArgumentException if the string is malformed or has fewer than 2 points
+     */
+    public static PackedPolyline decode(String encoded) {
+        return decode(encoded, DEFAULT_PRECISION);
+    }
+
+    /**
+     * Decode a string.
+     *
+     * @param encoded The encoded string
+     * @param precision The precision the string was encoded with
+     * @return The polyline
+     * @throws IllegalArgumentException if the string is malformed or has fewer than 2 points
+     */
+    public static PackedPolyline decode(String encoded, int precision) {
+        double factor = factor(precision);
+        double[] latLng = new double[Math.max(4, encoded.length() / 2)];
+        int count = 0;
+        long lat = 0;
+        long lng = 0;
+        int[] position = {0};
+        while (position[0] < encoded.length()) {
+            lat += readSigned(encoded, position);
+            lng += readSigned(encoded, position);
+            if (count + 2 > latLng.length) {
+                latLng = Arrays.copyOf(latLng, latLng.length * 2);
+            }
+            latLng[count++] = lat / factor;
+            latLng[count++] = lng / factor;
+        }
+        return PackedPolyline.fromLatLng(latLng, count / 2);
+    }
+
+    private static void appendSigned(StringBuilder encoded, long value) {
+        long folded = value < 0 ? ~(value << 1) : value << 1;
+        while (folded >= 0x20) {
+            encoded.append((char) ((0x20 | (folded & 0x1f)) + 63));
+            folded >>>= 5;
+        }
+        encoded.append((char) (folded + 63));
+    }
+
+    private static long readSigned(String encoded, int[] position) {
+        long folded = 0;
+        int shift = 0;
+        int chunk;
+        do {
+            if (position[0] >= encoded.length() || shift > 60) {
+                throw new IllegalArgumentException("Truncated encoded polyline at character " + position[0]);
+            }
+            chunk = encoded.charAt(position[0]++) - 63;
+            if (chunk < 0 || chunk > 0x3f) {
+                throw new IllegalArgumentException("Invalid encoded polyline character at " + (position[0] - 1));
+            }
+            folded |= (long) (chunk & 0x1f) << shift;
+            shift += 5;
+        } while (chunk >= 0x20);
+        return (folded & 1) != 0 ? ~(folded >>> 1) : folded >>> 1;
+    }
+
+    private static double factor(int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision must be between 1 and " + MAX_PRECISION + ", got: " + precision);
+        }
+        return Math.pow(10, precision);
+    }
+}
@@ -0,0 +1,66 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper;
+
+import org.springframework.http.MediaType;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.EncodedRouteDto;
+
+import java.util.List;
+
+/**
+ * Representations a route can be served in, selected by content negotiation.
+ */
+public enum RouteFormat {
+
+    /** RouteDto with a JSON array of waypoint objects */
+    JSON(MediaType.APPLICATION_JSON_VALUE),
+
+    /** EncodedRouteDto with the waypoints as an encoded polyline string */
+    ENCODED_POLYLINE(EncodedRouteDto.CONTENT_TYPE),
+
+    /** Binary frame with delta-encoded varint waypoints, see {@link BinaryRouteCodec} */
+    BINARY(BinaryRouteCodec.CONTENT_TYPE);
+
+    private final MediaType mediaType;
+
+    RouteFormat(String contentType) {
+        this.mediaType = MediaType.parseMediaType(contentType);
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Pick the format a client prefers according to its Accept header.
+     * Higher quality wins; at equal quality an exact media type beats a wildcard, and
+     * JSON is chosen when the header allows several formats equally.
+     *
+     * @param acceptHeader The Accept header value, may be null
+     * @return The preferred format, JSON if the header is absent or matches none
+     * @throws org.springframework.http.InvalidMediaTypeException if the header cannot be parsed
+     */
+    public static RouteFormat negotiate(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted = MediaType.parseMediaTypes(acceptHeader);
+
+        RouteFormat preferred = JSON;
+        double preferredQuality = 0;
+        int preferredSpecificity = -1;
+        for (RouteFormat format : values()) {
+            for (MediaType type : accepted) {
+                if (!type.includes(format.mediaType)) {
+                    continue;
+                }
+                double quality = type.getQualityValue();
+                int specificity = type.isWildcardType() ? 0 : type.isWildcardSubtype() ? 1 : 2;
+                if (quality > preferredQuality || (quality == preferredQuality && specificity > preferredSpecificity)) {
+                    preferred = format;
+                    preferredQuality = quality;
+                    preferredSpecificity = specificity;
+                }
+            }
+        }
+        return preferred;
+    }
+}
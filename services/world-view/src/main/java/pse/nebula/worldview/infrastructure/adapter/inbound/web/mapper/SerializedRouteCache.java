@@ -0,0 +1,157 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.RouteCatalogue;
+import pse.nebula.worldview.domain.model.RouteDetailLevel;
+import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of routes already serialized to their response body, in each {@link RouteFormat}.
+ *
+ * Routes are immutable and shared by every journey and request, so each one is mapped and
+ * serialized once and the bytes are reused. The version is derived from the content, which
+ * makes it usable as a strong ETag that survives restarts and catalogue reloads. Entries are
+ * keyed by route ID, level of detail and format, and replaced when a different route instance (after
+ * a catalogue reload) is requested. When the route catalogue is swapped, entries of routes that
+ * are not part of the new snapshot are dropped, so removed routes do not stay cached.
+ */
+@Slf4j
+@Component
+public class SerializedRouteCache {
+
+    private static final int VERSION_BYTES = 8;
+
+    private final DtoMapper dtoMapper;
+    private final ObjectMapper objectMapper;
+    private final RouteUseCase routeUseCase;
+    private final Map<CacheKey, SerializedRoute> cache = new ConcurrentHashMap<>();
+
+    // Version of the catalogue the entries were last pruned against
+    private final Object pruneLock = new Object();
+    private volatile long catalogueVersion = -1;
+
+    public SerializedRouteCache(DtoMapper dtoMapper, ObjectMapper objectMapper, RouteUseCase routeUseCase) {
+        this.dtoMapper = dtoMapper;
+        this.objectMapper = objectMapper;
+        this.routeUseCase = routeUseCase;
+    }
+
+    /**
+     * A serialized route together with its content version.
+     *
+     * @param route The route instance the body was built from
+     * @param body The response body; must not be modified
+     * @param version Content hash of the body
+     */
+    public record SerializedRoute(DrivingRoute route, byte[] body, String version) {
+
+        /**
+         * The version as a strong ETag header value.
+         */
+        public String etag() {
+            return "\"" + version + "\"";
+        }
+    }
+
+    /**
+     * Get the serialized form of a route, serializing it on first use.
+     *
+     * @param route The route
+     * @return The cached serialized route
+     */
+    public SerializedRoute get(DrivingRoute route) {
+        return get(route, RouteDetailLevel.full(route));
+    }
+
+    /**
+     * Get the serialized form of a route at a level of detail, serializing it on first use.
+     *
+     * @param route The route
+     * @param level The level of detail of the route
+     * @return The cached serialized route
+     */
+    public SerializedRoute get(DrivingRoute route, RouteDetailLevel level) {
+        return get(route, level, RouteFormat.JSON);
+    }
+
+    /**
+     * Get a route at a level of detail in a format, serializing it on first use.
+     *
+     * @param route The route
+     * @param level The level of detail of the route
+     * @param format The representation of the route
+     * @return The cached serialized route
+     */
+    public SerializedRoute get(DrivingRoute route, RouteDetailLevel level, RouteFormat format) {
+        pruneIfCatalogueSwapped();
+        CacheKey key = new CacheKey(route.id(), level.toleranceMeters(), format);
+        SerializedRoute cached = cache.get(key);
+        if (cached != null && cached.route() == route) {
+            return cached;
+        }
+        SerializedRoute serialized = serialize(route, level, format);
+        cache.put(key, serialized);
+        return serialized;
+    }
+
+    /**
+     * Get the number of cached bodies.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private void pruneIfCatalogueSwapped() {
+        RouteCatalogue current = routeUseCase.getRouteCatalogue();
+        if (current.version() <= catalogueVersion) {
+            return;
+        }
+        synchronized (pruneLock) {
+            if (current.version() <= catalogueVersion) {
+                return;
+            }
+            // Routes of running journeys that were removed are cached again on their next request
+            // and dropped on the following swap
+            cache.entrySet().removeIf(entry ->
+                    current.findById(entry.getKey().routeId()).orElse(null) != entry.getValue().route());
+            catalogueVersion = current.version();
+        }
+    }
+
+    private SerializedRoute serialize(DrivingRoute route, RouteDetailLevel level, RouteFormat format) {
+        try {
+            byte[] body = switch (format) {
+                case JSON -> objectMapper.writeValueAsBytes(
+                        level.isFull() ? dtoMapper.toDto(route) : dtoMapper.toDto(route, level));
+                case ENCODED_POLYLINE -> objectMapper.writeValueAsBytes(dtoMapper.toEncodedDto(route, level));
+                case BINARY -> BinaryRouteCodec.encode(route, level);
+            };
+            log.debug("Serialized route {} ({} bytes)", route.id(), body.length);
+            return new SerializedRoute(route, body, contentVersion(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize route " + route.id(), e);
+        }
+    }
+
+    private record CacheKey(String routeId, double toleranceMeters, RouteFormat format) {}
+
+    private static String contentVersion(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, VERSION_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper;
+
+import pse.nebula.worldview.domain.model.PackedPolyline;
+import pse.nebula.worldview.infrastructure.codec.Varint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary polyline encoding with delta-encoded zig-zag varints.
+ *
+ * Layout: the point count as an unsigned varint, then for every point the difference of
+ * its latitude and longitude to the previous point (the first point to 0,0), in
+ * {@link #SCALE 1e-6} degrees (about 11 cm), written as zig-zag {@link Varint varints}.
+ * Consecutive road waypoints differ by a few thousand units, so most points take 4-6 bytes
+ * instead of the 16 bytes of two doubles.
+ */
+public final class VarintPolylineCodec {
+
+    /** Coordinate units per degree */
+    public static final double SCALE = 1e6;
+
+    private VarintPolylineCodec() {
+    }
+
+    /**
+     * Write a polyline.
+     *
+     * @param polyline The polyline
+     * @param out The stream to append to
+     */
+    public static void write(PackedPolyline polyline, ByteArrayOutputStream out) {
+        Varint.writeUnsigned(polyline.size(), out);
+        long previousLat = 0;
+        long previousLng = 0;
+        for (int i = 0; i < polyline.size(); i++) {
+            // Round absolute values, so rounding errors do not add up along the polyline
+            long lat = Math.round(polyline.latitude(i) * SCALE);
+            long lng = Math.round(polyline.longitude(i) * SCALE);
+            Varint.writeSigned(lat - previousLat, out);
+            Varint.writeSigned(lng - previousLng, out);
+            previousLat = lat;
+            previousLng = lng;
+        }
+    }
+
+    /**
+     * Read a polyline written by {@link #write}.
+     *
+     * @param in The buffer positioned at the point count
+     * @return The polyline
+     * @throws IOException if the data is truncated or malformed
+     */
+    public static PackedPolyline read(ByteBuffer in) throws IOException {
+        long count = Varint.readUnsigned(in);
+        // Every point takes at least 2 bytes, which bounds the allocation for corrupt counts
+        if (count < 2 || count > in.remaining() / 2) {
+            throw new IOException("Invalid polyline point count: " + count);
+        }
+        double[] latLng = new double[(int) count * 2];
+        long lat = 0;
+        long lng = 0;
+        for (int i = 0; i < latLng.length; i += 2) {
+            lat += Varint.readSigned(in);
+            lng += Varint.readSigned(in);
+            latLng[i] = lat / SCALE;
+            latLng[i + 1] = lng / SCALE;
+        }
+        try {
+            return PackedPolyline.fromLatLng(latLng);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid polyline: " + e.getMessage(), e);
+        }
+    }
+}
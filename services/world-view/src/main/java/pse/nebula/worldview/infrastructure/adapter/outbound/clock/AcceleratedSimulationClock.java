@@ -0,0 +1,35 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.clock;
+
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
+
+/**
+ * Wall-clock driven SimulationClock that runs a constant factor faster than real time.
+ * Simulated time starts at the wall-clock time of creation.
+ */
+public class AcceleratedSimulationClock implements SimulationClock {
+
+    private final double accelerationFactor;
+    private final long startMillis;
+    private final long startNanos;
+
+    public AcceleratedSimulationClock(double accelerationFactor) {
+        if (!(accelerationFactor > 0) || Double.isInfinite(accelerationFactor)) {
+            throw new IllegalArgumentException("Acceleration factor must be positive: " + accelerationFactor);
+        }
+        this.accelerationFactor = accelerationFactor;
+        this.startMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        // Derived from the monotonic clock so wall-clock adjustments cannot move simulated time backwards
+        double elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+        return startMillis + (long) (elapsedMillis * accelerationFactor);
+    }
+
+    @Override
+    public double accelerationFactor() {
+        return accelerationFactor;
+    }
+}
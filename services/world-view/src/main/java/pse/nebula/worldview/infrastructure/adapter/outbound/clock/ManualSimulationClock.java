@@ -0,0 +1,47 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.clock;
+
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SimulationClock whose time only moves when advanced explicitly.
+ * Used by the headless batch mode and by tests that need deterministic time.
+ */
+public class ManualSimulationClock implements SimulationClock {
+
+    private final AtomicLong currentMillis;
+
+    public ManualSimulationClock(long startMillis) {
+        this.currentMillis = new AtomicLong(startMillis);
+    }
+
+    /**
+     * Move simulated time forward.
+     *
+     * @param millis Milliseconds to advance, must not be negative
+     * @return The new simulated time
+     */
+    public long advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Cannot move simulated time backwards: " + millis);
+        }
+        return currentMillis.addAndGet(millis);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentMillis.get();
+    }
+
+    @Override
+    public double accelerationFactor() {
+        // Every tick covers exactly one update interval of simulated time
+        return 1.0;
+    }
+
+    @Override
+    public boolean isWallClockDriven() {
+        return false;
+    }
+}
@@ -0,0 +1,136 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateUpdateDto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Compact fixed-layout binary encoding of coordinate updates.
+ *
+ * Schema version 1, all fields little-endian (32 bytes + journey ID):
+ * <pre>
+ * offset size field
+ *      0    1 schema version (1)
+ *      1    1 status code (0 NOT_STARTED, 1 IN_PROGRESS, 2 PAUSED, 3 COMPLETED)
+ *      2    2 journey ID length in bytes (unsigned)
+ *      4    4 latitude in 1e-7 degrees (int32)
+ *      8    4 longitude in 1e-7 degrees (int32)
+ *     12    4 progress percentage (float32)
+ *     16    4 current waypoint index (int32)
+ *     20    4 total waypoints (int32)
+ *     24    8 timestamp in epoch milliseconds (int64)
+ *     32    n journey ID (UTF-8)
+ * </pre>
+ * Coordinates are stored with 1e-7 degree resolution (about 1 cm) and timestamps with
+ * millisecond resolution; everything else round-trips exactly.
+ */
+public class BinaryCoordinateUpdateCodec implements CoordinateUpdateCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.nebula.coordinate-update+binary";
+    public static final int SCHEMA_VERSION = 1;
+
+    static final int HEADER_SIZE = 32;
+
+    private static final double E7 = 1e7;
+    private static final int MAX_JOURNEY_ID_BYTES = 0xFFFF;
+
+    // Codes are part of the wire format and must never be reordered
+    private static final String[] STATUS_CODES = {"NOT_STARTED", "IN_PROGRESS", "PAUSED", "COMPLETED"};
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public String schemaName() {
+        return "coordinate-update";
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public boolean isText() {
+        return false;
+    }
+
+    @Override
+    public byte[] encode(CoordinateUpdateDto update) throws IOException {
+        if (update.getCoordinate() == null || update.getTimestamp() == null || update.getJourneyId() == null) {
+            throw new IOException("Coordinate update is missing journey ID, coordinate or timestamp");
+        }
+        byte[] journeyId = update.getJourneyId().getBytes(StandardCharsets.UTF_8);
+        if (journeyId.length > MAX_JOURNEY_ID_BYTES) {
+            throw new IOException("Journey ID too long for binary encoding: " + journeyId.length + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + journeyId.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) SCHEMA_VERSION);
+        buffer.put(statusCode(update.getStatus()));
+        buffer.putShort((short) journeyId.length);
+        buffer.putInt((int) Math.round(update.getCoordinate().getLatitude() * E7));
+        buffer.putInt((int) Math.round(update.getCoordinate().getLongitude() * E7));
+        buffer.putFloat((float) update.getProgressPercentage());
+        buffer.putInt(update.getCurrentWaypointIndex());
+        buffer.putInt(update.getTotalWaypoints());
+        buffer.putLong(update.getTimestamp().toEpochMilli());
+        buffer.put(journeyId);
+        return buffer.array();
+    }
+
+    @Override
+    public CoordinateUpdateDto decode(byte[] payload) throws IOException {
+        if (payload == null || payload.length < HEADER_SIZE) {
+            throw new IOException("Binary coordinate update too short");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+
+        int version = Byte.toUnsignedInt(buffer.get());
+        if (version != SCHEMA_VERSION) {
+            throw new IOException("Unsupported coordinate update schema version: " + version);
+        }
+        int status = Byte.toUnsignedInt(buffer.get());
+        if (status >= STATUS_CODES.length) {
+            throw new IOException("Unknown journey status code: " + status);
+        }
+        int journeyIdLength = Short.toUnsignedInt(buffer.getShort());
+        if (payload.length != HEADER_SIZE + journeyIdLength) {
+            throw new IOException("Binary coordinate update length mismatch");
+        }
+
+        double latitude = buffer.getInt() / E7;
+        double longitude = buffer.getInt() / E7;
+        float progress = buffer.getFloat();
+        int waypointIndex = buffer.getInt();
+        int totalWaypoints = buffer.getInt();
+        long timestampMillis = buffer.getLong();
+        String journeyId = new String(payload, HEADER_SIZE, journeyIdLength, StandardCharsets.UTF_8);
+
+        return CoordinateUpdateDto.builder()
+                .journeyId(journeyId)
+                .coordinate(CoordinateDto.builder().latitude(latitude).longitude(longitude).build())
+                .progressPercentage(progress)
+                .status(STATUS_CODES[status])
+                .currentWaypointIndex(waypointIndex)
+                .totalWaypoints(totalWaypoints)
+                .timestamp(Instant.ofEpochMilli(timestampMillis))
+                .build();
+    }
+
+    private static byte statusCode(String status) throws IOException {
+        for (int i = 0; i < STATUS_CODES.length; i++) {
+            if (STATUS_CODES[i].equals(status)) {
+                return (byte) i;
+            }
+        }
+        throw new IOException("Unknown journey status: " + status);
+    }
+}
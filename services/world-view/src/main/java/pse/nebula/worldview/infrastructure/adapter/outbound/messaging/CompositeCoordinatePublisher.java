@@ -0,0 +1,94 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.port.outbound.CoordinatePublisher;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Primary CoordinatePublisher that fans every update out to all other publisher adapters
+ * (MQTT or NoOp, plus the SSE broadcaster). A failing delegate is logged and does not
+ * prevent the others from receiving the update.
+ *
+ * Coordinate updates and tick completions are published on every journey tick, so they are
+ * fanned out with a plain loop over an array instead of a capturing lambda and an iterator.
+ */
+@Slf4j
+@Primary
+@Component
+public class CompositeCoordinatePublisher implements CoordinatePublisher {
+
+    private final CoordinatePublisher[] delegates;
+
+    /**
+     * Spring excludes this bean itself when resolving the list of publishers.
+     *
+     * @param delegates All other CoordinatePublisher adapters
+     */
+    public CompositeCoordinatePublisher(List<CoordinatePublisher> delegates) {
+        this.delegates = delegates.toArray(CoordinatePublisher[]::new);
+        log.info("CompositeCoordinatePublisher fanning out to: {}",
+                delegates.stream().map(d -> d.getClass().getSimpleName()).toList());
+    }
+
+    @Override
+    public void publishCoordinateUpdate(JourneyState journeyState) {
+        for (int i = 0; i < delegates.length; i++) {
+            try {
+                delegates[i].publishCoordinateUpdate(journeyState);
+            } catch (Exception e) {
+                logFailure(delegates[i], "coordinate update", e);
+            }
+        }
+    }
+
+    @Override
+    public void publishTickCompleted() {
+        for (int i = 0; i < delegates.length; i++) {
+            try {
+                delegates[i].publishTickCompleted();
+            } catch (Exception e) {
+                logFailure(delegates[i], "tick completion", e);
+            }
+        }
+    }
+
+    @Override
+    public void publishJourneyStarted(JourneyState journeyState) {
+        forEachDelegate(d -> d.publishJourneyStarted(journeyState), "journey started event");
+    }
+
+    @Override
+    public void publishJourneyCompleted(JourneyState journeyState) {
+        forEachDelegate(d -> d.publishJourneyCompleted(journeyState), "journey completed event");
+    }
+
+    @Override
+    public void publishJourneyStopped(String journeyId) {
+        forEachDelegate(d -> d.publishJourneyStopped(journeyId), "journey stopped signal");
+    }
+
+    @Override
+    public void publishGeofenceEvent(GeofenceEvent event, JourneyState journeyState) {
+        forEachDelegate(d -> d.publishGeofenceEvent(event, journeyState), "geofence event");
+    }
+
+    private void forEachDelegate(Consumer<CoordinatePublisher> action, String messageType) {
+        for (CoordinatePublisher delegate : delegates) {
+            try {
+                action.accept(delegate);
+            } catch (Exception e) {
+                logFailure(delegate, messageType, e);
+            }
+        }
+    }
+
+    private static void logFailure(CoordinatePublisher delegate, String messageType, Exception e) {
+        log.warn("{} failed to publish {}: {}", delegate.getClass().getSimpleName(), messageType, e.getMessage());
+    }
+}
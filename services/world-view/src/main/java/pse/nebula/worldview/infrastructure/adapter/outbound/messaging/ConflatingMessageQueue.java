@@ -0,0 +1,176 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outbound message queue with two lanes, drained by a single consumer.
+ *
+ * - Conflating lane: one slot per key (e.g. per journey position topic). Offering a message
+ *   for a key that is still pending replaces it, so a slow consumer only ever sees the
+ *   latest value and the lane never holds more than one message per key.
+ * - Event lane: bounded FIFO for messages that must not be merged (lifecycle events).
+ *   When full, new events are dropped instead of growing the heap.
+ *
+ * Events are always polled before conflated messages. Keys are served in the order in
+ * which they first became pending, so no journey starves the others.
+ *
+ * Each key keeps its slot, an intrusive FIFO node, after it was polled, so offering to a
+ * known key allocates nothing. Slots of keys that will not be offered again are released
+ * with {@link #forget}.
+ *
+ * @param <M> The message type
+ */
+class ConflatingMessageQueue<M> {
+
+    private final Map<String, Slot<M>> slotsByKey = new ConcurrentHashMap<>();
+    private final BlockingQueue<M> events;
+    private final Semaphore workSignal = new Semaphore(0);
+
+    // FIFO of pending slots; the FIFO and the slot fields are guarded by pendingLock
+    private final Object pendingLock = new Object();
+    private Slot<M> pendingHead;
+    private Slot<M> pendingTail;
+    private int pendingCount;
+
+    private final LongAdder conflatedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    ConflatingMessageQueue(int eventCapacity) {
+        if (eventCapacity <= 0) {
+            throw new IllegalArgumentException("Event capacity must be positive, got: " + eventCapacity);
+        }
+        this.events = new ArrayBlockingQueue<>(eventCapacity);
+    }
+
+    /**
+     * Offer a message that supersedes any pending message with the same key.
+     *
+     * @param key The conflation key
+     * @param message The message
+     */
+    void offerLatest(String key, M message) {
+        Slot<M> slot = slotsByKey.get(key);
+        if (slot == null) {
+            slot = slotsByKey.computeIfAbsent(key, k -> new Slot<>());
+        }
+        boolean enqueued;
+        synchronized (pendingLock) {
+            enqueued = slot.message == null;
+            slot.message = message;
+            if (enqueued) {
+                if (pendingTail == null) {
+                    pendingHead = slot;
+                } else {
+                    pendingTail.next = slot;
+                }
+                pendingTail = slot;
+                pendingCount++;
+            }
+        }
+        if (enqueued) {
+            workSignal.release();
+        } else {
+            conflatedCount.increment();
+        }
+    }
+
+    /**
+     * Release the slot of a key that will not be offered again, e.g. a finished journey.
+     * A message that is still pending for the key is delivered nonetheless.
+     *
+     * @param key The conflation key
+     */
+    void forget(String key) {
+        slotsByKey.remove(key);
+    }
+
+    /**
+     * Offer a message to the bounded event lane.
+     *
+     * @param message The message
+     * @return false if the lane was full and the message was dropped
+     */
+    boolean offerEvent(M message) {
+        if (!events.offer(message)) {
+            droppedCount.increment();
+            return false;
+        }
+        workSignal.release();
+        return true;
+    }
+
+    /**
+     * Take the next message without waiting. Events take precedence.
+     *
+     * @return The next message, or null if both lanes are empty
+     */
+    M poll() {
+        M event = events.poll();
+        if (event != null) {
+            return event;
+        }
+
+        synchronized (pendingLock) {
+            Slot<M> slot = pendingHead;
+            if (slot == null) {
+                return null;
+            }
+            pendingHead = slot.next;
+            if (pendingHead == null) {
+                pendingTail = null;
+            }
+            slot.next = null;
+            pendingCount--;
+            M latest = slot.message;
+            slot.message = null;
+            return latest;
+        }
+    }
+
+    /**
+     * Wait until a message may be available.
+     *
+     * @return true if work was signalled before the timeout
+     */
+    boolean awaitWork(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!workSignal.tryAcquire(timeout, unit)) {
+            return false;
+        }
+        // One wake-up is enough to drain everything that is pending
+        workSignal.drainPermits();
+        return true;
+    }
+
+    int pendingLatestCount() {
+        synchronized (pendingLock) {
+            return pendingCount;
+        }
+    }
+
+    int pendingEventCount() {
+        return events.size();
+    }
+
+    long conflatedCount() {
+        return conflatedCount.sum();
+    }
+
+    long droppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * The conflation slot of one key. A slot is pending while it holds a message.
+     */
+    private static final class Slot<M> {
+
+        private M message;
+        private Slot<M> next;
+    }
+}
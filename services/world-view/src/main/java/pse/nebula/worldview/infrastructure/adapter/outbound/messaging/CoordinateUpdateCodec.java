@@ -0,0 +1,52 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateUpdateDto;
+
+import java.io.IOException;
+
+/**
+ * Wire format for coordinate updates published on the position topic.
+ *
+ * The content type, schema name and schema version are attached to every MQTT5 publish
+ * (content-type and user properties) so subscribers can pick the matching decoder.
+ */
+public interface CoordinateUpdateCodec {
+
+    /**
+     * MQTT5 content type of the encoded payload.
+     */
+    String contentType();
+
+    /**
+     * Name of the payload schema, sent as the "schema" user property.
+     */
+    String schemaName();
+
+    /**
+     * Version of the payload schema, sent as the "schema-version" user property.
+     */
+    int schemaVersion();
+
+    /**
+     * Whether the payload is UTF-8 text (sets the MQTT5 payload format indicator).
+     */
+    boolean isText();
+
+    /**
+     * Encode a coordinate update.
+     *
+     * @param update The update to encode
+     * @return The payload bytes
+     * @throws IOException if the update cannot be encoded
+     */
+    byte[] encode(CoordinateUpdateDto update) throws IOException;
+
+    /**
+     * Decode a payload produced by {@link #encode(CoordinateUpdateDto)}.
+     *
+     * @param payload The payload bytes
+     * @return The decoded update
+     * @throws IOException if the payload is malformed or has an unsupported schema version
+     */
+    CoordinateUpdateDto decode(byte[] payload) throws IOException;
+}
@@ -0,0 +1,118 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which position updates have to be sent in dead-reckoning mode.
+ *
+ * Between two waypoints a car moves in a straight line at constant speed, so clients can
+ * extrapolate its position from the last motion update. A new update is only needed when
+ * the motion changes:
+ * - the car entered another route segment (a new bearing),
+ * - the effective speed changed (speed updates or a changed time-warp factor),
+ * - the journey status changed,
+ * - or the keyframe interval elapsed, so late subscribers and drifting clients resync.
+ *
+ * The check on the suppressed path does not allocate; the remembered motion of a journey
+ * is updated in place. Updates of one journey are expected from one thread at a time,
+ * as the simulation ticks each journey sequentially.
+ */
+public class DeadReckoningFilter {
+
+    private final SimulationClock simulationClock;
+    private final long keyframeIntervalMillis;
+    private final Map<String, Motion> lastSentMotion = new ConcurrentHashMap<>();
+
+    /**
+     * @param simulationClock Clock providing the time-warp factor applied to speeds
+     * @param keyframeIntervalMillis Wall-clock interval after which an unchanged motion is sent again, 0 to disable
+     */
+    public DeadReckoningFilter(SimulationClock simulationClock, long keyframeIntervalMillis) {
+        if (keyframeIntervalMillis < 0) {
+            throw new IllegalArgumentException("Keyframe interval must not be negative, got: " + keyframeIntervalMillis);
+        }
+        this.simulationClock = simulationClock;
+        this.keyframeIntervalMillis = keyframeIntervalMillis;
+    }
+
+    /**
+     * Check whether the motion of a journey changed since the last update that was sent,
+     * and remember the motion if so.
+     *
+     * @param journeyState The current journey state
+     * @param nowMillis Current wall-clock time in milliseconds
+     * @return true if a motion update must be published
+     */
+    public boolean shouldPublish(JourneyState journeyState, long nowMillis) {
+        double speed = journeyState.getSpeedMetersPerSecond() * timeScale();
+        Motion last = lastSentMotion.get(journeyState.getJourneyId());
+        if (last == null) {
+            lastSentMotion.put(journeyState.getJourneyId(),
+                    new Motion(journeyState.getCurrentWaypointIndex(), speed, journeyState.getStatus(), nowMillis));
+            return true;
+        }
+
+        boolean keyframeDue = keyframeIntervalMillis > 0 && nowMillis - last.sentAtMillis >= keyframeIntervalMillis;
+        if (!keyframeDue
+                && last.segment == journeyState.getCurrentWaypointIndex()
+                && last.speed == speed
+                && last.status == journeyState.getStatus()) {
+            return false;
+        }
+
+        last.segment = journeyState.getCurrentWaypointIndex();
+        last.speed = speed;
+        last.status = journeyState.getStatus();
+        last.sentAtMillis = nowMillis;
+        return true;
+    }
+
+    /**
+     * Get the factor converting simulated speeds to speeds per wall-clock second.
+     *
+     * @return Simulated seconds per wall-clock second
+     */
+    public double timeScale() {
+        return simulationClock.accelerationFactor();
+    }
+
+    /**
+     * Drop the remembered motion of a journey that ended.
+     *
+     * @param journeyId The journey ID
+     */
+    public void forget(String journeyId) {
+        lastSentMotion.remove(journeyId);
+    }
+
+    /**
+     * Get the number of journeys whose motion is remembered.
+     *
+     * @return The tracked journey count
+     */
+    public int trackedJourneyCount() {
+        return lastSentMotion.size();
+    }
+
+    /**
+     * Motion described by the last update sent for a journey.
+     */
+    private static final class Motion {
+        private int segment;
+        private double speed;
+        private JourneyStatus status;
+        private long sentAtMillis;
+
+        private Motion(int segment, double speed, JourneyStatus status, long sentAtMillis) {
+            this.segment = segment;
+            this.speed = speed;
+            this.status = status;
+            this.sentAtMillis = sentAtMillis;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyFrameDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyFrameEntryDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the aggregate frame that carries the positions of all active journeys in one message.
+ *
+ * A frame is built by calling {@link #begin()}, {@link #add} once per active journey and
+ * {@link #finish}. With delta encoding, the builder remembers what the previous frame said about
+ * every journey and only lists the journeys that changed since then, plus the ones that are gone.
+ * Every keyframe-interval frames, and always without delta encoding, a keyframe lists every
+ * journey so that late subscribers and clients that missed a frame can resync.
+ *
+ * {@link #isFrameDue} is called from the ticking thread; building frames happens on the
+ * publishing thread only.
+ */
+public class JourneyFrameBuilder {
+
+    private final long minIntervalMillis;
+    private final boolean deltaEncoding;
+    private final int keyframeInterval;
+
+    // Ticking thread
+    private long lastDueMillis = Long.MIN_VALUE;
+
+    // Publishing thread
+    private final Map<String, LastSent> lastSent = new HashMap<>();
+    private final List<JourneyFrameEntryDto> entries = new ArrayList<>();
+    private long sequence = -1;
+    // Counts every begin(), also of frames that turned out empty, to tell which journeys were added
+    private long generation;
+    private boolean keyframe;
+    private int activeJourneys;
+
+    /**
+     * @param minIntervalMillis Minimum wall-clock time between two frames, 0 for one frame per tick
+     * @param deltaEncoding Whether frames between keyframes only list changed journeys
+     * @param keyframeInterval Every how many frames a keyframe is sent when delta encoding
+     */
+    public JourneyFrameBuilder(long minIntervalMillis, boolean deltaEncoding, int keyframeInterval) {
+        if (minIntervalMillis < 0) {
+            throw new IllegalArgumentException("Frame interval must not be negative, got: " + minIntervalMillis);
+        }
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive, got: " + keyframeInterval);
+        }
+        this.minIntervalMillis = minIntervalMillis;
+        this.deltaEncoding = deltaEncoding;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Check whether a tick that just finished should produce a frame, and if so restart the
+     * frame interval. Does not allocate.
+     *
+     * @param nowMillis Current wall-clock time in milliseconds
+     * @return true if a frame should be published
+     */
+    public boolean isFrameDue(long nowMillis) {
+        if (lastDueMillis != Long.MIN_VALUE && nowMillis - lastDueMillis < minIntervalMillis) {
+            return false;
+        }
+        lastDueMillis = nowMillis;
+        return true;
+    }
+
+    /**
+     * Start the next frame.
+     */
+    public void begin() {
+        sequence++;
+        generation++;
+        keyframe = !deltaEncoding || sequence % keyframeInterval == 0;
+        activeJourneys = 0;
+        entries.clear();
+    }
+
+    /**
+     * Add the current position of an active journey to the frame being built.
+     *
+     * @param journeyId The journey ID
+     * @param latitude Current latitude
+     * @param longitude Current longitude
+     * @param progressPercentage Current progress (0-100)
+     * @param status Current status
+     */
+    public void add(String journeyId, double latitude, double longitude, double progressPercentage,
+                    JourneyStatus status) {
+        activeJourneys++;
+        LastSent last = lastSent.get(journeyId);
+        boolean changed;
+        if (last == null) {
+            last = new LastSent();
+            lastSent.put(journeyId, last);
+            changed = true;
+        } else {
+            changed = last.latitude != latitude
+                    || last.longitude != longitude
+                    || last.progressPercentage != progressPercentage
+                    || last.status != status;
+        }
+        last.latitude = latitude;
+        last.longitude = longitude;
+        last.progressPercentage = progressPercentage;
+        last.status = status;
+        last.generation = generation;
+
+        if (changed || keyframe) {
+            entries.add(JourneyFrameEntryDto.builder()
+                    .journeyId(journeyId)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .progressPercentage(progressPercentage)
+                    .status(status.name())
+                    .build());
+        }
+    }
+
+    /**
+     * Finish the frame being built. Journeys that were not added since {@link #begin()} are
+     * reported as removed and forgotten. A delta frame without any change is not needed: no frame
+     * is returned and its sequence number is used for the next frame instead.
+     *
+     * @param nowMillis Current wall-clock time in milliseconds
+     * @return The frame, or null if there is nothing to send
+     */
+    public JourneyFrameDto finish(long nowMillis) {
+        List<String> removed = new ArrayList<>();
+        Iterator<Map.Entry<String, LastSent>> journeys = lastSent.entrySet().iterator();
+        while (journeys.hasNext()) {
+            Map.Entry<String, LastSent> journey = journeys.next();
+            if (journey.getValue().generation != generation) {
+                journeys.remove();
+                if (!keyframe) {
+                    removed.add(journey.getKey());
+                }
+            }
+        }
+        if (!keyframe && entries.isEmpty() && removed.isEmpty()) {
+            sequence--;
+            return null;
+        }
+
+        return JourneyFrameDto.builder()
+                .sequence(sequence)
+                .keyframe(keyframe)
+                .baseSequence(keyframe ? null : sequence - 1)
+                .activeJourneys(activeJourneys)
+                .journeys(List.copyOf(entries))
+                .removed(removed)
+                .timestamp(Instant.ofEpochMilli(nowMillis))
+                .build();
+    }
+
+    /**
+     * What the last frame said about a journey, and when it was last added.
+     */
+    private static final class LastSent {
+        private double latitude;
+        private double longitude;
+        private double progressPercentage;
+        private JourneyStatus status;
+        private long generation;
+    }
+}
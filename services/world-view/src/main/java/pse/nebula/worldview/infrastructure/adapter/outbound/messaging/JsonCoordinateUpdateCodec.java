@@ -0,0 +1,51 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateUpdateDto;
+
+import java.io.IOException;
+
+/**
+ * JSON encoding of coordinate updates (the CoordinateUpdateDto Jackson representation).
+ * This is the default format and matches what existing subscribers expect.
+ */
+public class JsonCoordinateUpdateCodec implements CoordinateUpdateCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonCoordinateUpdateCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public String schemaName() {
+        return "coordinate-update";
+    }
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public boolean isText() {
+        return true;
+    }
+
+    @Override
+    public byte[] encode(CoordinateUpdateDto update) throws IOException {
+        return objectMapper.writeValueAsBytes(update);
+    }
+
+    @Override
+    public CoordinateUpdateDto decode(byte[] payload) throws IOException {
+        return objectMapper.readValue(payload, CoordinateUpdateDto.class);
+    }
+}
@@ -1,19 +1,31 @@
 package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.datatypes.Mqtt5UserProperties;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PayloadFormatIndicator;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
 import pse.nebula.worldview.domain.model.JourneyState;
 import pse.nebula.worldview.domain.port.outbound.CoordinatePublisher;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateUpdateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.GeofenceEventDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyFrameDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.MotionUpdateDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
 
-import java.nio.charset.StandardCharsets;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -26,71 +38,218 @@ import java.util.concurrent.TimeUnit;
  *
  * Topic structure:
  * - nebula/journey/{journeyId}/position - Real-time coordinate updates
- * - nebula/journey/{journeyId}/events - Journey lifecycle events (started, completed)
+ * - nebula/journey/{journeyId}/motion - Dead-reckoning motion updates (instead of position, see below)
+ * - nebula/journey/{journeyId}/events - Journey lifecycle events (started, completed, geofence enter/exit)
+ * - nebula/journey/all/frame - One frame with the positions of all active journeys (optional, see below)
+ *
+ * Messages are handed to a single dispatcher thread through a {@link ConflatingMessageQueue}.
+ * Position updates keep only the latest value per journey and lifecycle events go through a
+ * bounded queue. At most {@code maxInFlight} publishes wait for the broker at any time, so a
+ * slow broker results in fewer, fresher position updates instead of an ever-growing backlog.
+ *
+ * Position payloads are encoded with the configured {@link CoordinateUpdateCodec} (JSON or the
+ * compact binary frame); lifecycle events are always JSON. Every publish carries the MQTT5
+ * content type and "schema"/"schema-version" user properties of its encoding.
+ *
+ * In full position mode each journey reuses one queued message whose payload is a mutable
+ * snapshot of its position, so a tick allocates nothing; the DTO is built from the snapshot
+ * on the dispatcher thread when the update is actually sent.
+ *
+ * With a {@link DeadReckoningFilter}, positions are replaced by JSON motion updates (schema
+ * "motion-update") that are only sent when the segment, speed or status of a journey changes
+ * or a keyframe is due. Clients extrapolate the position in between, which cuts the message
+ * volume by roughly the number of ticks a car spends on a route segment.
+ *
+ * With a {@link JourneyFrameBuilder}, every simulation tick (at most one per frame interval)
+ * also queues the aggregate frame. It is built on the dispatcher thread from the same position
+ * snapshots, so dashboards showing every car receive one JSON message (schema "journey-frame")
+ * instead of one per journey. Frames are conflated like positions, and delta frames only list
+ * the journeys that changed since the previous frame.
  */
 @Slf4j
 public class MqttCoordinatePublisherAdapter implements CoordinatePublisher {
 
-    private static final int THREAD_POOL_SIZE = 4;
     private static final int SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final long IDLE_WAIT_MILLIS = 500;
 
     private final Mqtt5AsyncClient mqttClient;
     private final DtoMapper dtoMapper;
-    private final ObjectMapper objectMapper;
     private final String topicPrefix;
-    private final ExecutorService mqttExecutor;
+    private final CoordinateUpdateCodec positionCodec;
+    private final Mqtt5UserProperties positionProperties;
+    private final ObjectMapper eventMapper;
+    private final Mqtt5UserProperties eventProperties;
+    private final ConflatingMessageQueue<OutboundMessage> outboundQueue;
+    private final Map<String, OutboundMessage> positionMessages = new ConcurrentHashMap<>();
+    private final Semaphore inFlightPermits;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    // Null in full position mode
+    private final DeadReckoningFilter deadReckoningFilter;
+    private final Mqtt5UserProperties motionProperties;
+
+    // Null without the aggregate frame
+    private final JourneyFrameBuilder frameBuilder;
+    private final OutboundMessage frameMessage;
+    private final Mqtt5UserProperties frameProperties;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter suppressedCounter;
+
+    public MqttCoordinatePublisherAdapter(Mqtt5AsyncClient mqttClient, DtoMapper dtoMapper,
+            ObjectMapper objectMapper, String topicPrefix, CoordinateUpdateCodec positionCodec,
+            MeterRegistry meterRegistry, int eventQueueCapacity, int maxInFlight) {
+        this(mqttClient, dtoMapper, objectMapper, topicPrefix, positionCodec, meterRegistry,
+                eventQueueCapacity, maxInFlight, null);
+    }
 
     public MqttCoordinatePublisherAdapter(Mqtt5AsyncClient mqttClient, DtoMapper dtoMapper,
-            ObjectMapper objectMapper, String topicPrefix) {
+            ObjectMapper objectMapper, String topicPrefix, CoordinateUpdateCodec positionCodec,
+            MeterRegistry meterRegistry, int eventQueueCapacity, int maxInFlight,
+            DeadReckoningFilter deadReckoningFilter) {
+        this(mqttClient, dtoMapper, objectMapper, topicPrefix, positionCodec, meterRegistry,
+                eventQueueCapacity, maxInFlight, deadReckoningFilter, null);
+    }
+
+    public MqttCoordinatePublisherAdapter(Mqtt5AsyncClient mqttClient, DtoMapper dtoMapper,
+            ObjectMapper objectMapper, String topicPrefix, CoordinateUpdateCodec positionCodec,
+            MeterRegistry meterRegistry, int eventQueueCapacity, int maxInFlight,
+            DeadReckoningFilter deadReckoningFilter, JourneyFrameBuilder frameBuilder) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight publishes must be positive, got: " + maxInFlight);
+        }
         this.mqttClient = mqttClient;
         this.dtoMapper = dtoMapper;
-        this.objectMapper = objectMapper;
         this.topicPrefix = topicPrefix;
-        this.mqttExecutor = Executors.newFixedThreadPool(THREAD_POOL_SIZE, r -> {
-            Thread thread = new Thread(r, "mqtt-publisher");
-            thread.setDaemon(true);
-            return thread;
-        });
-        log.info("MqttCoordinatePublisherAdapter initialized with {} threads", THREAD_POOL_SIZE);
+        this.positionCodec = positionCodec;
+        this.positionProperties = schemaProperties(positionCodec.schemaName(), positionCodec.schemaVersion());
+        this.eventMapper = objectMapper;
+        this.eventProperties = schemaProperties("journey-event", 1);
+        this.outboundQueue = new ConflatingMessageQueue<>(eventQueueCapacity);
+        this.inFlightPermits = new Semaphore(maxInFlight);
+        this.deadReckoningFilter = deadReckoningFilter;
+        this.motionProperties = schemaProperties("motion-update", 1);
+        this.frameBuilder = frameBuilder;
+        this.frameMessage = frameBuilder != null
+                ? new OutboundMessage(topicPrefix + "/all/frame", frameBuilder, "journey frame", Kind.FRAME)
+                : null;
+        this.frameProperties = schemaProperties("journey-frame", 1);
+
+        this.publishedCounter = Counter.builder("worldview.mqtt.messages.published")
+                .description("MQTT messages acknowledged by the broker")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("worldview.mqtt.messages.failed")
+                .description("MQTT messages that could not be serialized or published")
+                .register(meterRegistry);
+        this.suppressedCounter = Counter.builder("worldview.mqtt.positions.suppressed")
+                .description("Position updates not sent because clients can extrapolate them")
+                .register(meterRegistry);
+        FunctionCounter.builder("worldview.mqtt.messages.conflated", outboundQueue,
+                        ConflatingMessageQueue::conflatedCount)
+                .description("Position updates replaced by a newer update before being sent")
+                .register(meterRegistry);
+        FunctionCounter.builder("worldview.mqtt.messages.dropped", outboundQueue,
+                        ConflatingMessageQueue::droppedCount)
+                .description("Lifecycle events dropped because the event queue was full")
+                .register(meterRegistry);
+        Gauge.builder("worldview.mqtt.queue.positions", outboundQueue, ConflatingMessageQueue::pendingLatestCount)
+                .description("Journeys with a position update waiting to be sent")
+                .register(meterRegistry);
+        Gauge.builder("worldview.mqtt.queue.events", outboundQueue, ConflatingMessageQueue::pendingEventCount)
+                .description("Lifecycle events waiting to be sent")
+                .register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "mqtt-publisher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+        log.info("MqttCoordinatePublisherAdapter initialized (position mode: {}, position encoding: {}, "
+                + "event queue capacity: {}, max in-flight: {}, journey frame: {})",
+                deadReckoningFilter != null ? "dead-reckoning" : "full", positionCodec.contentType(),
+                eventQueueCapacity, maxInFlight, frameBuilder != null ? "enabled" : "disabled");
     }
 
     /**
-     * Gracefully shutdown the executor service.
+     * Gracefully stop the dispatcher thread.
      */
     @PreDestroy
     public void shutdown() {
-        log.info("Shutting down MQTT publisher executor...");
-        mqttExecutor.shutdown();
+        log.info("Shutting down MQTT publisher dispatcher...");
+        running = false;
+        dispatcher.interrupt();
         try {
-            if (!mqttExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
-                mqttExecutor.shutdownNow();
-                log.warn("MQTT publisher executor did not terminate gracefully");
+            dispatcher.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+            if (dispatcher.isAlive()) {
+                log.warn("MQTT publisher dispatcher did not terminate gracefully");
             }
         } catch (InterruptedException e) {
-            mqttExecutor.shutdownNow();
             Thread.currentThread().interrupt();
         }
-        log.info("MQTT publisher executor shutdown complete");
+        log.info("MQTT publisher dispatcher shutdown complete");
     }
 
     @Override
-    public void publishCoordinateUpdate(String journeyId, Coordinate coordinate, JourneyState journeyState) {
-        CoordinateUpdateDto update = dtoMapper.toCoordinateUpdate(journeyState);
-        String topic = topicPrefix + "/" + journeyId + "/position";
+    public void publishCoordinateUpdate(JourneyState journeyState) {
+        String journeyId = journeyState.getJourneyId();
+        if (deadReckoningFilter != null) {
+            if (frameBuilder != null) {
+                // Only read by the frame, the per-journey position topic is not used in this mode
+                capturePosition(journeyId, journeyState);
+            }
+            publishMotionUpdate(journeyId, journeyState);
+            return;
+        }
+
+        OutboundMessage message = capturePosition(journeyId, journeyState);
 
-        publishMessage(topic, update, "coordinate update");
+        // Latest value wins: an unsent older position for this journey is replaced
+        outboundQueue.offerLatest(message.topic(), message);
 
-        // MQTT publishing is silent - only log errors (handled in publishMessage)
+        // MQTT publishing is silent - only log errors (handled in send)
         // Real-time updates are published continuously without logging noise
     }
 
+    @Override
+    public void publishTickCompleted() {
+        if (frameBuilder != null && frameBuilder.isFrameDue(System.currentTimeMillis())) {
+            // A frame still waiting to be built covers this tick as well
+            outboundQueue.offerLatest(frameMessage.topic(), frameMessage);
+        }
+    }
+
+    private OutboundMessage capturePosition(String journeyId, JourneyState journeyState) {
+        OutboundMessage message = positionMessages.get(journeyId);
+        if (message == null) {
+            message = positionMessages.computeIfAbsent(journeyId, this::newPositionMessage);
+        }
+        ((PositionSnapshot) message.payload()).capture(journeyState, System.currentTimeMillis());
+        return message;
+    }
+
+    private OutboundMessage newPositionMessage(String journeyId) {
+        return new OutboundMessage(topicPrefix + "/" + journeyId + "/position", new PositionSnapshot(journeyId),
+                "coordinate update", Kind.POSITION);
+    }
+
+    private void publishMotionUpdate(String journeyId, JourneyState journeyState) {
+        if (!deadReckoningFilter.shouldPublish(journeyState, System.currentTimeMillis())) {
+            suppressedCounter.increment();
+            return;
+        }
+
+        MotionUpdateDto update = dtoMapper.toMotionUpdate(journeyState, deadReckoningFilter.timeScale());
+        String topic = topicPrefix + "/" + journeyId + "/motion";
+        outboundQueue.offerLatest(topic, new OutboundMessage(topic, update, "motion update", Kind.MOTION));
+    }
+
     @Override
     public void publishJourneyStarted(JourneyState journeyState) {
         CoordinateUpdateDto update = dtoMapper.toCoordinateUpdate(journeyState);
         String topic = topicPrefix + "/" + journeyState.getJourneyId() + "/events";
 
         JourneyEventMessage event = new JourneyEventMessage("STARTED", update);
-        publishMessage(topic, event, "journey started event");
+        publishEvent(topic, event, "journey started event");
 
         log.info("Published MQTT journey started event for: {} to topic: {}",
                 journeyState.getJourneyId(), topic);
@@ -102,41 +261,218 @@ public class MqttCoordinatePublisherAdapter implements CoordinatePublisher {
         String topic = topicPrefix + "/" + journeyState.getJourneyId() + "/events";
 
         JourneyEventMessage event = new JourneyEventMessage("COMPLETED", update);
-        publishMessage(topic, event, "journey completed event");
+        publishEvent(topic, event, "journey completed event");
+        release(journeyState.getJourneyId());
 
         log.info("Published MQTT journey completed event for: {} to topic: {}",
                 journeyState.getJourneyId(), topic);
     }
 
-    private void publishMessage(String topic, Object payload, String messageType) {
-        // Run MQTT publishing in executor thread pool to avoid blocking the main request thread
-        // This ensures SSE works even if MQTT is slow or unavailable
-        mqttExecutor.submit(() -> {
+    @Override
+    public void publishJourneyStopped(String journeyId) {
+        // Journeys stopped without completing (shard handover, lost journeys) end up here only
+        release(journeyId);
+    }
+
+    /**
+     * Drop the position snapshot, pending updates and dead-reckoning state of a journey,
+     * which also removes it from the next frame.
+     */
+    private void release(String journeyId) {
+        if (deadReckoningFilter != null) {
+            deadReckoningFilter.forget(journeyId);
+        }
+        OutboundMessage position = positionMessages.remove(journeyId);
+        if (position != null) {
+            outboundQueue.forget(position.topic());
+        }
+        outboundQueue.forget(topicPrefix + "/" + journeyId + "/motion");
+    }
+
+    @Override
+    public void publishGeofenceEvent(GeofenceEvent event, JourneyState journeyState) {
+        GeofenceEventDto data = dtoMapper.toGeofenceEvent(event, journeyState);
+        String topic = topicPrefix + "/" + event.journeyId() + "/events";
+
+        GeofenceEventMessage message = new GeofenceEventMessage("GEOFENCE_" + event.transition().name(), data);
+        publishEvent(topic, message, "geofence event");
+
+        log.debug("Published MQTT geofence {} event for: {} (fence {})",
+                event.transition(), event.journeyId(), event.geofence().id());
+    }
+
+    private void publishEvent(String topic, Object payload, String messageType) {
+        if (!outboundQueue.offerEvent(new OutboundMessage(topic, payload, messageType, Kind.EVENT))) {
+            log.warn("MQTT event queue full, dropping {} for topic {}", messageType, topic);
+        }
+    }
+
+    private void dispatchLoop() {
+        // Publishing runs on this dedicated thread so that the simulation never blocks on MQTT.
+        // A permit is taken before polling: while the broker is slow, new positions keep
+        // replacing the pending ones instead of an already polled stale update being sent.
+        while (running) {
             try {
-                String jsonPayload = objectMapper.writeValueAsString(payload);
-
-                mqttClient.publishWith()
-                        .topic(topic)
-                        .payload(jsonPayload.getBytes(StandardCharsets.UTF_8))
-                        .retain(false)
-                        .send()
-                        .whenComplete((publish, throwable) -> {
-                            if (throwable != null) {
-                                log.warn("Failed to publish {} to topic {}: {}",
-                                        messageType, topic, throwable.getMessage());
-                            }
-                            // Success is silent - no logging for successful MQTT publishes
-                        });
-            } catch (JsonProcessingException e) {
-                log.error("Failed to serialize {} for MQTT: {}", messageType, e.getMessage());
-            } catch (Exception e) {
-                log.warn("MQTT publishing failed for {}: {}", messageType, e.getMessage());
+                inFlightPermits.acquire();
+                OutboundMessage message = outboundQueue.poll();
+                if (message == null) {
+                    inFlightPermits.release();
+                    outboundQueue.awaitWork(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                send(message);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void send(OutboundMessage message) {
+        try {
+            if (message.kind() == Kind.POSITION && !((PositionSnapshot) message.payload()).hasUnsentCapture()) {
+                // Captured again after the previous send, and that capture was sent already
+                inFlightPermits.release();
+                return;
+            }
+            byte[] framePayload = null;
+            if (message.kind() == Kind.FRAME) {
+                JourneyFrameDto frame = buildFrame();
+                if (frame == null) {
+                    // Nothing changed since the previous frame
+                    inFlightPermits.release();
+                    return;
+                }
+                framePayload = eventMapper.writeValueAsBytes(frame);
             }
-        });
+            Mqtt5Publish publish = switch (message.kind()) {
+                case POSITION -> buildPublish(message.topic(),
+                        positionCodec.encode(((PositionSnapshot) message.payload()).takeUpdate(dtoMapper)),
+                        positionCodec.contentType(), positionCodec.isText(), positionProperties);
+                case MOTION -> buildPublish(message.topic(), eventMapper.writeValueAsBytes(message.payload()),
+                        JsonCoordinateUpdateCodec.CONTENT_TYPE, true, motionProperties);
+                case EVENT -> buildPublish(message.topic(), eventMapper.writeValueAsBytes(message.payload()),
+                        JsonCoordinateUpdateCodec.CONTENT_TYPE, true, eventProperties);
+                case FRAME -> buildPublish(message.topic(), framePayload,
+                        JsonCoordinateUpdateCodec.CONTENT_TYPE, true, frameProperties);
+            };
+
+            mqttClient.publish(publish)
+                    .whenComplete((result, throwable) -> {
+                        inFlightPermits.release();
+                        if (throwable != null) {
+                            failedCounter.increment();
+                            log.warn("Failed to publish {} to topic {}: {}",
+                                    message.messageType(), message.topic(), throwable.getMessage());
+                        } else {
+                            // Success is silent - no logging for successful MQTT publishes
+                            publishedCounter.increment();
+                        }
+                    });
+        } catch (IOException e) {
+            inFlightPermits.release();
+            failedCounter.increment();
+            log.error("Failed to serialize {} for MQTT: {}", message.messageType(), e.getMessage());
+        } catch (Exception e) {
+            inFlightPermits.release();
+            failedCounter.increment();
+            log.warn("MQTT publishing failed for {}: {}", message.messageType(), e.getMessage());
+        }
+    }
+
+    /**
+     * Build the aggregate frame from the latest position snapshot of every active journey.
+     * Runs on the dispatcher thread only.
+     */
+    private JourneyFrameDto buildFrame() {
+        frameBuilder.begin();
+        for (OutboundMessage position : positionMessages.values()) {
+            ((PositionSnapshot) position.payload()).addTo(frameBuilder);
+        }
+        return frameBuilder.finish(System.currentTimeMillis());
+    }
+
+    private static Mqtt5Publish buildPublish(String topic, byte[] payload, String contentType, boolean text,
+            Mqtt5UserProperties userProperties) {
+        return Mqtt5Publish.builder()
+                .topic(topic)
+                .payload(payload)
+                .retain(false)
+                .contentType(contentType)
+                .payloadFormatIndicator(text
+                        ? Mqtt5PayloadFormatIndicator.UTF_8
+                        : Mqtt5PayloadFormatIndicator.UNSPECIFIED)
+                .userProperties(userProperties)
+                .build();
+    }
+
+    private static Mqtt5UserProperties schemaProperties(String schemaName, int schemaVersion) {
+        return Mqtt5UserProperties.builder()
+                .add("schema", schemaName)
+                .add("schema-version", String.valueOf(schemaVersion))
+                .build();
+    }
+
+    /**
+     * A message waiting to be encoded and published.
+     */
+    private record OutboundMessage(String topic, Object payload, String messageType, Kind kind) {}
+
+    private enum Kind { POSITION, MOTION, EVENT, FRAME }
+
+    /**
+     * The latest position of a journey, overwritten on every tick and turned into a DTO by
+     * the dispatcher. Synchronized because the two sides run on different threads.
+     */
+    private static final class PositionSnapshot {
+
+        private final String journeyId;
+        private double latitude;
+        private double longitude;
+        private double progressPercentage;
+        private JourneyStatus status;
+        private int currentWaypointIndex;
+        private int totalWaypoints;
+        private long capturedAtMillis;
+        private boolean unsent;
+
+        private PositionSnapshot(String journeyId) {
+            this.journeyId = journeyId;
+        }
+
+        synchronized void capture(JourneyState journeyState, long nowMillis) {
+            latitude = journeyState.getCurrentLatitude();
+            longitude = journeyState.getCurrentLongitude();
+            progressPercentage = journeyState.getProgressPercentage();
+            status = journeyState.getStatus();
+            currentWaypointIndex = journeyState.getCurrentWaypointIndex();
+            totalWaypoints = journeyState.getRoute().getTotalWaypoints();
+            capturedAtMillis = nowMillis;
+            unsent = true;
+        }
+
+        synchronized boolean hasUnsentCapture() {
+            return unsent;
+        }
+
+        synchronized void addTo(JourneyFrameBuilder frameBuilder) {
+            frameBuilder.add(journeyId, latitude, longitude, progressPercentage, status);
+        }
+
+        synchronized CoordinateUpdateDto takeUpdate(DtoMapper dtoMapper) {
+            unsent = false;
+            return dtoMapper.toCoordinateUpdate(journeyId, latitude, longitude, progressPercentage, status,
+                    currentWaypointIndex, totalWaypoints, Instant.ofEpochMilli(capturedAtMillis));
+        }
     }
 
     /**
      * Wrapper for journey lifecycle events.
      */
     public record JourneyEventMessage(String eventType, CoordinateUpdateDto data) {}
-}
\ No newline at end of file
+
+    /**
+     * Wrapper for geofence events; eventType is GEOFENCE_ENTER or GEOFENCE_EXIT.
+     */
+    public record GeofenceEventMessage(String eventType, GeofenceEventDto data) {}
+}
@@ -3,7 +3,7 @@ package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
 import pse.nebula.worldview.domain.model.JourneyState;
 import pse.nebula.worldview.domain.port.outbound.CoordinatePublisher;
 
@@ -22,9 +22,12 @@ public class NoOpCoordinatePublisherAdapter implements CoordinatePublisher {
     }
 
     @Override
-    public void publishCoordinateUpdate(String journeyId, Coordinate coordinate, JourneyState journeyState) {
-        log.debug("NoOp: Would publish coordinate update for journey: {} - Position: [{}, {}]",
-                journeyId, coordinate.latitude(), coordinate.longitude());
+    public void publishCoordinateUpdate(JourneyState journeyState) {
+        // Guarded: the varargs call would box the position on every tick even with debug off
+        if (log.isDebugEnabled()) {
+            log.debug("NoOp: Would publish coordinate update for journey: {} - Position: [{}, {}]",
+                    journeyState.getJourneyId(), journeyState.getCurrentLatitude(), journeyState.getCurrentLongitude());
+        }
     }
 
     @Override
@@ -36,5 +39,10 @@ public class NoOpCoordinatePublisherAdapter implements CoordinatePublisher {
     public void publishJourneyCompleted(JourneyState journeyState) {
         log.debug("NoOp: Would publish journey completed for: {}", journeyState.getJourneyId());
     }
-}
 
+    @Override
+    public void publishGeofenceEvent(GeofenceEvent event, JourneyState journeyState) {
+        log.debug("NoOp: Would publish geofence {} of {} for: {}",
+                event.transition(), event.geofence().id(), event.journeyId());
+    }
+}
@@ -0,0 +1,448 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.port.inbound.JourneyStreamUseCase;
+import pse.nebula.worldview.domain.port.outbound.CoordinatePublisher;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Server-Sent Events implementation of the CoordinatePublisher outbound port, and of the
+ * JourneyStreamUseCase inbound port through which the web adapter opens the streams.
+ *
+ * Viewers subscribe to a journey and receive its updates over a long-lived HTTP response.
+ * Each update is serialized once into a shared SSE frame and the same frame is handed to
+ * every subscriber of the journey, so the cost of serialization does not grow with the
+ * number of viewers. Journeys without viewers cost nothing.
+ *
+ * Every subscriber has a bounded outbox drained by a small writer pool; the simulation
+ * thread never writes to a socket. A subscriber whose outbox overflows or whose write
+ * exceeds the slow-write threshold is evicted, and the browser's EventSource reconnects.
+ * The threshold is a deadline: a watchdog evicts a subscriber while its write is still
+ * blocked and interrupts the writer, so a stuck client cannot hold a writer thread.
+ * A heartbeat comment keeps idle connections open and detects dead ones.
+ *
+ * Event names:
+ * - snapshot - current state sent on subscribe
+ * - position - coordinate update
+ * - started / completed - lifecycle events; the stream is closed after "completed", or
+ *   without an event when the journey is stopped before completing
+ * - geofence - the journey entered or left a geofence
+ */
+@Slf4j
+@Component
+public class SseCoordinatePublisherAdapter implements CoordinatePublisher, JourneyStreamUseCase<SseEmitter> {
+
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    // Bounds of the interval between two write deadline checks
+    private static final long MIN_WATCHDOG_INTERVAL_MS = 10;
+    private static final long MAX_WATCHDOG_INTERVAL_MS = 1000;
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final DtoMapper dtoMapper;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+    private final int outboxCapacity;
+    private final long slowWriteThresholdNanos;
+    private final ExecutorService writers;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, List<Subscriber>> subscribersByJourney = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Counter evictedCounter;
+
+    public SseCoordinatePublisherAdapter(
+            DtoMapper dtoMapper,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${journey.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${journey.stream.outbox-capacity:64}") int outboxCapacity,
+            @Value("${journey.stream.slow-write-threshold-ms:2000}") long slowWriteThresholdMs,
+            @Value("${journey.stream.writer-threads:4}") int writerThreads,
+            @Value("${journey.stream.heartbeat-interval-ms:15000}") long heartbeatIntervalMs) {
+        this.dtoMapper = dtoMapper;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.outboxCapacity = Math.max(2, outboxCapacity);
+        this.slowWriteThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowWriteThresholdMs);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(Math.max(1, writerThreads), r -> {
+            Thread thread = new Thread(r, "sse-writer-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sse-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (heartbeatIntervalMs > 0) {
+            scheduler.scheduleAtFixedRate(this::sendHeartbeat,
+                    heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        long watchdogIntervalMs = Math.max(MIN_WATCHDOG_INTERVAL_MS,
+                Math.min(MAX_WATCHDOG_INTERVAL_MS, slowWriteThresholdMs / 4));
+        scheduler.scheduleWithFixedDelay(this::evictBlockedWriters,
+                watchdogIntervalMs, watchdogIntervalMs, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("worldview.sse.connections", connectionCount, AtomicInteger::get)
+                .description("Open Server-Sent Events journey streams")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("worldview.sse.clients.evicted")
+                .description("SSE clients disconnected because they could not keep up")
+                .register(meterRegistry);
+
+        log.info("SseCoordinatePublisherAdapter initialized with {} writer threads", Math.max(1, writerThreads));
+    }
+
+    /**
+     * Close all open streams and stop the writer threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        subscribersByJourney.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                writers.shutdownNow();
+                log.warn("SSE writer threads did not terminate gracefully");
+            }
+        } catch (InterruptedException e) {
+            writers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Open a stream for a journey. The current state is sent immediately as a "snapshot" event.
+     *
+     * @param journeyId The journey identifier
+     * @param currentState Reads the journey state once the subscriber is registered
+     * @return The emitter to return from the controller
+     */
+    @Override
+    public SseEmitter openStream(String journeyId, Supplier<Optional<JourneyState>> currentState) {
+        return subscribe(journeyId, currentState, new SseEmitter(emitterTimeoutMs));
+    }
+
+    SseEmitter subscribe(String journeyId, JourneyState currentState, SseEmitter emitter) {
+        return subscribe(journeyId, () -> Optional.of(currentState), emitter);
+    }
+
+    SseEmitter subscribe(String journeyId, Supplier<Optional<JourneyState>> currentState, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(journeyId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        // Added inside compute so a concurrent removal of the last subscriber cannot orphan the list
+        subscribersByJourney.compute(journeyId, (id, subscribers) -> {
+            List<Subscriber> target = subscribers != null ? subscribers : new CopyOnWriteArrayList<>();
+            target.add(subscriber);
+            return target;
+        });
+        connectionCount.incrementAndGet();
+        log.debug("[Journey: {}] SSE client subscribed", journeyId);
+
+        // Read only now: a completion or stop published from here on reaches the subscriber
+        Optional<JourneyState> state = currentState.get();
+        if (state.isEmpty()) {
+            subscriber.enqueueClose();
+            return emitter;
+        }
+        Set<DataWithMediaType> snapshot = frame("snapshot", dtoMapper.toCoordinateUpdate(state.get()));
+        if (snapshot != null) {
+            subscriber.enqueue(snapshot);
+        }
+        if (state.get().getStatus() == JourneyStatus.COMPLETED) {
+            subscriber.enqueueClose();
+        }
+        return emitter;
+    }
+
+    /**
+     * Get the number of open streams across all journeys.
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @Override
+    public void publishCoordinateUpdate(JourneyState journeyState) {
+        List<Subscriber> subscribers = subscribersByJourney.get(journeyState.getJourneyId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(subscribers, frame("position", dtoMapper.toCoordinateUpdate(journeyState)), false);
+    }
+
+    @Override
+    public void publishJourneyStarted(JourneyState journeyState) {
+        List<Subscriber> subscribers = subscribersByJourney.get(journeyState.getJourneyId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(subscribers, frame("started", dtoMapper.toCoordinateUpdate(journeyState)), false);
+    }
+
+    @Override
+    public void publishJourneyCompleted(JourneyState journeyState) {
+        List<Subscriber> subscribers = subscribersByJourney.get(journeyState.getJourneyId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        // Closing the stream lets EventSource clients reconnect to whatever journey is current next
+        broadcast(subscribers, frame("completed", dtoMapper.toCoordinateUpdate(journeyState)), true);
+    }
+
+    @Override
+    public void publishJourneyStopped(String journeyId) {
+        List<Subscriber> subscribers = subscribersByJourney.get(journeyId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        // No more updates will follow; viewers of a completed journey were closed already
+        broadcast(subscribers, null, true);
+    }
+
+    @Override
+    public void publishGeofenceEvent(GeofenceEvent event, JourneyState journeyState) {
+        List<Subscriber> subscribers = subscribersByJourney.get(event.journeyId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(subscribers, frame("geofence", dtoMapper.toGeofenceEvent(event, journeyState)), false);
+    }
+
+    private void broadcast(List<Subscriber> subscribers, Set<DataWithMediaType> frame, boolean closeAfter) {
+        for (Subscriber subscriber : subscribers) {
+            if (frame != null) {
+                subscriber.enqueue(frame);
+            }
+            if (closeAfter) {
+                subscriber.enqueueClose();
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        subscribersByJourney.values().forEach(subscribers -> subscribers.forEach(s -> s.enqueue(HEARTBEAT)));
+    }
+
+    private void evictBlockedWriters() {
+        long now = System.nanoTime();
+        subscribersByJourney.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.isWriteOverdue(now)) {
+                evict(subscriber, "write deadline exceeded");
+                subscriber.interruptWrite();
+            }
+        }));
+    }
+
+    private Set<DataWithMediaType> frame(String eventName, Object update) {
+        try {
+            // Serialized once here and shared by every subscriber of the journey
+            String json = objectMapper.writeValueAsString(update);
+            return SseEmitter.event().name(eventName).data(json, MediaType.APPLICATION_JSON).build();
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} event for SSE: {}", eventName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Unregister a subscriber.
+     *
+     * @return false if it was already removed
+     */
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribersByJourney.computeIfPresent(subscriber.journeyId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        connectionCount.decrementAndGet();
+        log.debug("[Journey: {}] SSE client disconnected", subscriber.journeyId);
+        return true;
+    }
+
+    private void evict(Subscriber subscriber, String reason) {
+        // Only the caller that removes the subscriber counts it, the watchdog and its writer may both evict
+        if (!remove(subscriber)) {
+            return;
+        }
+        evictedCounter.increment();
+        log.info("[Journey: {}] Evicting SSE client: {}", subscriber.journeyId, reason);
+        // Completing synchronizes on the emitter, which a writer may hold while blocked on a
+        // slow socket, so never complete from the publishing thread
+        try {
+            writers.execute(subscriber::completeQuietly);
+        } catch (RuntimeException e) {
+            log.trace("[Journey: {}] Writer pool unavailable, skipping stream completion", subscriber.journeyId);
+        }
+    }
+
+    /**
+     * One connected viewer. Frames are queued in a bounded outbox and written by at most
+     * one writer thread at a time, which keeps writes to the emitter ordered.
+     */
+    private final class Subscriber {
+
+        private final String journeyId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> outbox;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean closeRequested;
+
+        // Set while a writer is blocked in emitter.send; guarded so an interrupt cannot hit the writer's next task
+        private final Object writeGuard = new Object();
+        private Thread writerThread;
+        private long writeStartNanos;
+
+        private Subscriber(String journeyId, SseEmitter emitter) {
+            this.journeyId = journeyId;
+            this.emitter = emitter;
+            this.outbox = new ArrayBlockingQueue<>(outboxCapacity);
+        }
+
+        private void enqueue(Set<DataWithMediaType> frame) {
+            if (closed.get() || closeRequested) {
+                return;
+            }
+            if (!outbox.offer(frame)) {
+                evict(this, "outbox full");
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void enqueueClose() {
+            closeRequested = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed.get() && (frame = outbox.poll()) != null) {
+                    long start = beginWrite();
+                    try {
+                        emitter.send(frame);
+                    } finally {
+                        endWrite();
+                    }
+                    if (System.nanoTime() - start > slowWriteThresholdNanos) {
+                        evict(this, "slow write");
+                        return;
+                    }
+                }
+                if (closeRequested && outbox.isEmpty()) {
+                    close();
+                    return;
+                }
+            } catch (Exception e) {
+                log.debug("[Journey: {}] SSE write failed: {}", journeyId, e.getMessage());
+                remove(this);
+                completeQuietly();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // A frame may have arrived after the last poll but before draining was cleared
+            if ((!outbox.isEmpty() || closeRequested) && !closed.get()) {
+                scheduleDrain();
+            }
+        }
+
+        private long beginWrite() {
+            synchronized (writeGuard) {
+                writerThread = Thread.currentThread();
+                writeStartNanos = System.nanoTime();
+                return writeStartNanos;
+            }
+        }
+
+        private void endWrite() {
+            synchronized (writeGuard) {
+                writerThread = null;
+                // Clear an interrupt that arrived after the write had already returned
+                Thread.interrupted();
+            }
+        }
+
+        private boolean isWriteOverdue(long now) {
+            synchronized (writeGuard) {
+                return writerThread != null && now - writeStartNanos > slowWriteThresholdNanos;
+            }
+        }
+
+        private void interruptWrite() {
+            synchronized (writeGuard) {
+                if (writerThread != null) {
+                    writerThread.interrupt();
+                }
+            }
+        }
+
+        private void close() {
+            remove(this);
+            completeQuietly();
+        }
+
+        private void completeQuietly() {
+            outbox.clear();
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                log.trace("[Journey: {}] Ignoring error while completing SSE stream", journeyId);
+            }
+        }
+    }
+}
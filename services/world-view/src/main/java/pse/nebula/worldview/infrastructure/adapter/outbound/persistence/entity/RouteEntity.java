@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -50,8 +51,20 @@ public class RouteEntity {
     @Column(name = "estimated_duration_seconds", nullable = false)
     private Integer estimatedDurationSeconds;
 
-    @OneToMany(mappedBy = "route", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    /**
+     * Whole polyline as one compressed, delta-encoded value (see WaypointBlobCodec).
+     * Null for routes still stored as rows in the waypoints table.
+     */
+    @Column(name = "encoded_waypoints", length = 64 * 1024 * 1024)
+    private byte[] encodedWaypoints;
+
+    /**
+     * Waypoint rows, only used by routes without encoded waypoints.
+     * Loaded lazily so compressed routes never query the waypoints table.
+     */
+    @OneToMany(mappedBy = "route", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("sequenceOrder ASC")
+    @BatchSize(size = 16)
     @Builder.Default
     private List<WaypointEntity> waypoints = new ArrayList<>();
 
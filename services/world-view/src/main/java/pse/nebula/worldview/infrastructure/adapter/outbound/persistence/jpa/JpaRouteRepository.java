@@ -1,12 +1,23 @@
 package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.jpa;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.entity.RouteEntity;
 
+import java.util.List;
+
 /**
  * Spring Data JPA repository for RouteEntity.
  */
 @Repository
 public interface JpaRouteRepository extends JpaRepository<RouteEntity, String> {
+
+    /**
+     * Find the routes whose waypoints are still stored as rows.
+     *
+     * @return The route IDs
+     */
+    @Query("SELECT r.routeId FROM RouteEntity r WHERE r.encodedWaypoints IS NULL")
+    List<String> findRouteIdsWithWaypointRows();
 }
\ No newline at end of file
@@ -1,8 +1,8 @@
 package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.mapper;
 
 import org.springframework.stereotype.Component;
-import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.PackedPolyline;
 import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.entity.RouteEntity;
 import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.entity.WaypointEntity;
 
@@ -18,6 +18,7 @@ public class RouteEntityMapper {
 
     /**
      * Convert a RouteEntity to a DrivingRoute domain model.
+     * Reads either storage mode, so routes written as rows stay readable after switching.
      *
      * @param entity The JPA entity
      * @return The domain model
@@ -27,33 +28,80 @@ public class RouteEntityMapper {
             return null;
         }
 
-        List<Coordinate> waypoints = entity.getWaypoints().stream()
-                .sorted(Comparator.comparingInt(WaypointEntity::getSequenceOrder))
-                .map(wp -> new Coordinate(wp.getLatitude(), wp.getLongitude()))
-                .toList();
+        PackedPolyline polyline = entity.getEncodedWaypoints() != null
+                ? WaypointBlobCodec.decode(entity.getEncodedWaypoints())
+                : packWaypointRows(entity);
 
-        return new DrivingRoute(
+        return DrivingRoute.fromPolyline(
                 entity.getRouteId(),
                 entity.getName(),
                 entity.getDescription(),
-                waypoints,
+                polyline,
                 entity.getTotalDistanceMeters(),
                 entity.getEstimatedDurationSeconds()
         );
     }
 
     /**
-     * Convert a DrivingRoute domain model to a RouteEntity.
+     * Pack waypoint rows straight from the entities without building intermediate Coordinates.
+     *
+     * @param entity The JPA entity with its waypoint rows
+     * @return The waypoints in sequence order
+     */
+    public PackedPolyline packWaypointRows(RouteEntity entity) {
+        List<WaypointEntity> ordered = entity.getWaypoints().stream()
+                .sorted(Comparator.comparingInt(WaypointEntity::getSequenceOrder))
+                .toList();
+        double[] latLng = new double[ordered.size() * 2];
+        for (int i = 0; i < ordered.size(); i++) {
+            latLng[i * 2] = ordered.get(i).getLatitude();
+            latLng[i * 2 + 1] = ordered.get(i).getLongitude();
+        }
+        return PackedPolyline.fromLatLng(latLng);
+    }
+
+    /**
+     * Convert a DrivingRoute domain model to a RouteEntity with waypoint rows.
      *
      * @param route The domain model
      * @return The JPA entity
      */
     public RouteEntity toEntity(DrivingRoute route) {
+        return toEntity(route, WaypointStorageMode.ROWS);
+    }
+
+    /**
+     * Convert a DrivingRoute domain model to a RouteEntity.
+     *
+     * @param route The domain model
+     * @param storageMode How the waypoints are stored
+     * @return The JPA entity
+     */
+    public RouteEntity toEntity(DrivingRoute route, WaypointStorageMode storageMode) {
         if (route == null) {
             return null;
         }
 
-        RouteEntity entity = RouteEntity.builder()
+        RouteEntity entity = toEntityWithoutWaypoints(route);
+        PackedPolyline polyline = route.polyline();
+        if (storageMode == WaypointStorageMode.COMPRESSED) {
+            entity.setEncodedWaypoints(WaypointBlobCodec.encode(polyline));
+            return entity;
+        }
+
+        toWaypointEntities(entity, polyline, 0, polyline.size()).forEach(entity::addWaypoint);
+        return entity;
+    }
+
+    /**
+     * Convert a DrivingRoute domain model to a RouteEntity without waypoints, for callers
+     * that store the waypoint rows separately in chunks.
+     *
+     * @param route The domain model
+     * @return The JPA entity with neither waypoint rows nor encoded waypoints
+     */
+    public RouteEntity toEntityWithoutWaypoints(DrivingRoute route) {
+        return RouteEntity.builder()
                 .routeId(route.id())
                 .name(route.name())
                 .description(route.description())
@@ -65,19 +113,27 @@ public class RouteEntityMapper {
                 .estimatedDurationSeconds(route.estimatedDurationSeconds())
                 .waypoints(new ArrayList<>())
                 .build();
+    }
 
-        // Add waypoints with sequence order
-        List<Coordinate> waypoints = route.waypoints();
-        for (int i = 0; i < waypoints.size(); i++) {
-            Coordinate coord = waypoints.get(i);
-            WaypointEntity waypointEntity = WaypointEntity.builder()
-                    .latitude(coord.latitude())
-                    .longitude(coord.longitude())
+    /**
+     * Create the waypoint rows for a range of points, with their sequence order.
+     *
+     * @param route The route entity the rows belong to
+     * @param polyline The waypoints of the route
+     * @param from The first point index, inclusive
+     * @param to The last point index, exclusive
+     * @return The waypoint entities
+     */
+    public List<WaypointEntity> toWaypointEntities(RouteEntity route, PackedPolyline polyline, int from, int to) {
+        List<WaypointEntity> waypoints = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            waypoints.add(WaypointEntity.builder()
+                    .latitude(polyline.latitude(i))
+                    .longitude(polyline.longitude(i))
                     .sequenceOrder(i)
-                    .build();
-            entity.addWaypoint(waypointEntity);
+                    .route(route)
+                    .build());
         }
-
-        return entity;
+        return waypoints;
     }
 }
\ No newline at end of file
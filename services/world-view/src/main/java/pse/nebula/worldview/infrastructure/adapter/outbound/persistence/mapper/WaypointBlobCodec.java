@@ -0,0 +1,120 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.mapper;
+
+import pse.nebula.worldview.domain.model.PackedPolyline;
+import pse.nebula.worldview.infrastructure.codec.Varint;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Codec for the encoded_waypoints column of driving_routes, which holds a whole route
+ * polyline in one value instead of one waypoints row per coordinate.
+ *
+ * Layout: a format version byte followed by a zlib stream containing
+ * - the number of waypoints as unsigned {@link Varint varint}
+ * - per waypoint, the latitude and longitude delta to the previous waypoint in 1e-7 degrees
+ *   (about 1 cm) as zig-zag varints, starting from 0/0
+ *
+ * Decoding reads the varints straight off the inflater into the packed coordinate array,
+ * so the uncompressed bytes are never materialized.
+ */
+public final class WaypointBlobCodec {
+
+    static final byte FORMAT_VERSION = 1;
+    static final double SCALE = 1e7;
+
+    // More waypoints than this cannot be packed into a single coordinate array
+    private static final int MAX_WAYPOINTS = Integer.MAX_VALUE / 2 - 8;
+
+    // Deflate expands each compressed byte into at most this many bytes
+    private static final long MAX_DEFLATE_RATIO = 1032;
+
+    private static final int INITIAL_WAYPOINTS = 4096;
+
+    private WaypointBlobCodec() {
+    }
+
+    /**
+     * Encode a polyline into a column value.
+     *
+     * @param polyline The waypoints of a route
+     * @return The compressed blob
+     */
+    public static byte[] encode(PackedPolyline polyline) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + polyline.size() * 3);
+        out.write(FORMAT_VERSION);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream zlib = new DeflaterOutputStream(out, deflater, 4096)) {
+            Varint.writeUnsigned(polyline.size(), zlib);
+            long previousLatitude = 0;
+            long previousLongitude = 0;
+            for (int i = 0; i < polyline.size(); i++) {
+                long latitude = Math.round(polyline.latitude(i) * SCALE);
+                long longitude = Math.round(polyline.longitude(i) * SCALE);
+                Varint.writeSigned(latitude - previousLatitude, zlib);
+                Varint.writeSigned(longitude - previousLongitude, zlib);
+                previousLatitude = latitude;
+                previousLongitude = longitude;
+            }
+        } catch (IOException e) {
+            // Writing to memory does not fail
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode a column value into a polyline.
+     *
+     * @param blob The compressed blob
+     * @return The waypoints of the route
+     * @throws IllegalArgumentException if the blob is not a valid encoded polyline
+     */
+    public static PackedPolyline decode(byte[] blob) {
+        if (blob == null || blob.length < 2) {
+            throw new IllegalArgumentException("Encoded waypoints are empty");
+        }
+        if (blob[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported encoded waypoints version: " + blob[0]);
+        }
+
+        try (InputStream in = new BufferedInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(blob, 1, blob.length - 1)), 4096)) {
+            long count = Varint.readUnsigned(in);
+            // Every waypoint takes at least 2 uncompressed bytes, which bounds the count by the blob length
+            if (count > MAX_WAYPOINTS || count > (blob.length - 1L) * MAX_DEFLATE_RATIO / 2) {
+                throw new IllegalArgumentException("Encoded waypoints claim " + count + " waypoints in "
+                        + blob.length + " bytes");
+            }
+            // Grown while decoding, so memory follows the data actually present rather than the header
+            double[] latLng = new double[(int) Math.min(count, INITIAL_WAYPOINTS) * 2];
+            long latitude = 0;
+            long longitude = 0;
+            for (int i = 0; i < count * 2; i += 2) {
+                if (i == latLng.length) {
+                    latLng = Arrays.copyOf(latLng, (int) Math.min(count * 2, latLng.length * 2L));
+                }
+                latitude += Varint.readSigned(in);
+                longitude += Varint.readSigned(in);
+                latLng[i] = latitude / SCALE;
+                latLng[i + 1] = longitude / SCALE;
+            }
+            if (in.read() != -1) {
+                throw new IllegalArgumentException("Encoded waypoints have trailing data");
+            }
+            return PackedPolyline.fromLatLng(latLng);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Encoded waypoints are corrupt: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.mapper;
+
+/**
+ * How the waypoints of a route are written to the database.
+ */
+public enum WaypointStorageMode {
+
+    /** One waypoints row per coordinate. */
+    ROWS,
+
+    /** A single compressed encoded_waypoints value on driving_routes. */
+    COMPRESSED;
+
+    /**
+     * Parse the route.storage.waypoint-mode property.
+     *
+     * @param value rows or compressed
+     * @return The storage mode
+     */
+    public static WaypointStorageMode fromProperty(String value) {
+        return switch (value.trim().toLowerCase()) {
+            case "rows" -> ROWS;
+            case "compressed" -> COMPRESSED;
+            default -> throw new IllegalArgumentException(
+                    "Unsupported route.storage.waypoint-mode: " + value + " (expected rows or compressed)");
+        };
+    }
+}
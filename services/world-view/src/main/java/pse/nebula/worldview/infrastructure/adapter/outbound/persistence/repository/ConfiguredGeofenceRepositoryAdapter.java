@@ -0,0 +1,52 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceType;
+import pse.nebula.worldview.domain.port.outbound.GeofenceRepository;
+import pse.nebula.worldview.infrastructure.config.GeofenceProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GeofenceRepository backed by application configuration.
+ * Provides a fence around the dealership ("route.dealership.*") plus every fence listed
+ * under "journey.geofence.fences".
+ */
+@Slf4j
+@Repository
+public class ConfiguredGeofenceRepositoryAdapter implements GeofenceRepository {
+
+    public static final String DEALERSHIP_GEOFENCE_ID = "dealership";
+
+    private final List<Geofence> geofences;
+
+    public ConfiguredGeofenceRepositoryAdapter(
+            GeofenceProperties properties,
+            @Value("${route.dealership.name:Dealership}") String dealershipName,
+            @Value("${route.dealership.latitude:48.8354}") double dealershipLatitude,
+            @Value("${route.dealership.longitude:9.1520}") double dealershipLongitude) {
+        List<Geofence> configured = new ArrayList<>();
+        if (properties.enabled()) {
+            if (properties.dealershipRadiusMeters() > 0) {
+                configured.add(new Geofence(DEALERSHIP_GEOFENCE_ID, dealershipName, GeofenceType.DEALERSHIP,
+                        new Coordinate(dealershipLatitude, dealershipLongitude), properties.dealershipRadiusMeters()));
+            }
+            for (GeofenceProperties.Fence fence : properties.fences()) {
+                configured.add(new Geofence(fence.id(), fence.name() != null ? fence.name() : fence.id(), fence.type(),
+                        new Coordinate(fence.latitude(), fence.longitude()), fence.radiusMeters()));
+            }
+        }
+        this.geofences = List.copyOf(configured);
+        log.info("Configured {} geofences", geofences.size());
+    }
+
+    @Override
+    public List<Geofence> findAll() {
+        return geofences;
+    }
+}
@@ -1,9 +1,11 @@
 package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 import pse.nebula.worldview.domain.model.JourneyState;
 import pse.nebula.worldview.domain.port.outbound.JourneyStateRepository;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -16,6 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * following the Hexagonal Architecture pattern.
  */
 @Repository
+@ConditionalOnProperty(name = "journey.state.store", havingValue = "memory", matchIfMissing = true)
 public class InMemoryJourneyStateRepositoryAdapter implements JourneyStateRepository {
 
     private final Map<String, JourneyState> journeyStates = new ConcurrentHashMap<>();
@@ -30,6 +33,11 @@ public class InMemoryJourneyStateRepositoryAdapter implements JourneyStateReposi
         return Optional.ofNullable(journeyStates.get(journeyId));
     }
 
+    @Override
+    public JourneyState findByIdOrNull(String journeyId) {
+        return journeyStates.get(journeyId);
+    }
+
     @Override
     public void delete(String journeyId) {
         journeyStates.remove(journeyId);
@@ -40,6 +48,11 @@ public class InMemoryJourneyStateRepositoryAdapter implements JourneyStateReposi
         return journeyStates.containsKey(journeyId);
     }
 
+    @Override
+    public List<JourneyState> findAll() {
+        return List.copyOf(journeyStates.values());
+    }
+
     /**
      * Clear all journey states (useful for testing).
      */
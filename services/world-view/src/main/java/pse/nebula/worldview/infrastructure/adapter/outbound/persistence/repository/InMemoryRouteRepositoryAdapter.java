@@ -1,5 +1,6 @@
 package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
 
+import pse.nebula.worldview.domain.exception.RouteAlreadyExistsException;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
 import pse.nebula.worldview.domain.port.outbound.RouteRepository;
@@ -316,4 +317,11 @@ public class InMemoryRouteRepositoryAdapter implements RouteRepository {
     public int count() {
         return routes.size();
     }
+
+    @Override
+    public void save(DrivingRoute route) {
+        if (routes.putIfAbsent(route.id(), route) != null) {
+            throw new RouteAlreadyExistsException(route.id());
+        }
+    }
 }
\ No newline at end of file
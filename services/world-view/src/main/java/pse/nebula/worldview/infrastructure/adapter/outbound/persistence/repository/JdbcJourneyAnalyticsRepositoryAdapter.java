@@ -0,0 +1,356 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.port.outbound.JourneyAnalyticsRepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JourneyAnalyticsRepository that writes journey history to time-series tables in the
+ * world_view schema through a background batching writer.
+ *
+ * - world_view.journey_position_samples: one row per sampled position
+ * - world_view.journey_summaries: one row per stopped journey (completed or not)
+ *
+ * Every journey is sampled once per sample interval of simulation time, at an offset derived
+ * from its ID so that the samples of a large fleet are spread over the interval. Samples are
+ * copied into a {@link PositionSampleBuffer} and summaries into a bounded queue; neither waits
+ * for the database. When the buffers are full, new records are dropped and counted.
+ *
+ * A single writer thread flushes once batch-size samples are pending or the flush interval
+ * has passed, whichever comes first. Each flush is one transaction of multi-row INSERT
+ * statements. A failed flush is logged and its rows are dropped, so a database outage
+ * cannot grow the heap.
+ *
+ * The tables are created by docker/init-scripts/05-world-view-service-schema.sql.
+ * Enabled with journey.analytics.enabled=true.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "journey.analytics.enabled", havingValue = "true")
+public class JdbcJourneyAnalyticsRepositoryAdapter implements JourneyAnalyticsRepository {
+
+    static final String SAMPLES_TABLE = "world_view.journey_position_samples";
+    static final String SUMMARIES_TABLE = "world_view.journey_summaries";
+    static final String SAMPLE_COLUMNS = "journey_id, sampled_at, latitude, longitude, progress_percentage";
+    static final String SUMMARY_COLUMNS = "journey_id, route_id, status, started_at, ended_at, "
+            + "distance_travelled_meters, route_distance_meters, progress_percentage, speed_mps, "
+            + "end_latitude, end_longitude";
+    // 5 and 11 parameters per row stay well below the 32767 bind parameters PostgreSQL allows
+    static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final DataSource dataSource;
+    private final long sampleIntervalMillis;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final PositionSampleBuffer sampleBuffer;
+    private final BlockingQueue<JourneySummary> summaries;
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+    private final Semaphore flushSignal = new Semaphore(0);
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // Writer thread
+    private final List<JourneySummary> summaryBatch = new ArrayList<>();
+
+    private final LongAdder samplesWritten = new LongAdder();
+    private final LongAdder samplesDropped = new LongAdder();
+    private final LongAdder summariesWritten = new LongAdder();
+    private final LongAdder summariesDropped = new LongAdder();
+    private final LongAdder rowsFailed = new LongAdder();
+    private final Timer flushTimer;
+
+    public JdbcJourneyAnalyticsRepositoryAdapter(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${journey.analytics.sample-interval-ms:10000}") long sampleIntervalMillis,
+            @Value("${journey.analytics.batch-size:1000}") int batchSize,
+            @Value("${journey.analytics.flush-interval-ms:2000}") long flushIntervalMillis,
+            @Value("${journey.analytics.buffer-capacity:50000}") int bufferCapacity,
+            @Value("${journey.analytics.summary-queue-capacity:10000}") int summaryQueueCapacity) {
+        if (sampleIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Sample interval must be positive, got: " + sampleIntervalMillis);
+        }
+        if (batchSize <= 0 || batchSize > bufferCapacity) {
+            throw new IllegalArgumentException(
+                "Batch size must be between 1 and the buffer capacity " + bufferCapacity + ", got: " + batchSize);
+        }
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive, got: " + flushIntervalMillis);
+        }
+        this.dataSource = dataSource;
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.sampleBuffer = new PositionSampleBuffer(bufferCapacity);
+        this.summaries = new ArrayBlockingQueue<>(summaryQueueCapacity);
+
+        FunctionCounter.builder("worldview.analytics.samples.written", samplesWritten, LongAdder::sum)
+                .description("Position samples written to the analytics tables")
+                .register(meterRegistry);
+        FunctionCounter.builder("worldview.analytics.samples.dropped", samplesDropped, LongAdder::sum)
+                .description("Position samples dropped because the sample buffer was full")
+                .register(meterRegistry);
+        FunctionCounter.builder("worldview.analytics.summaries.written", summariesWritten, LongAdder::sum)
+                .description("Journey summaries written to the analytics tables")
+                .register(meterRegistry);
+        FunctionCounter.builder("worldview.analytics.summaries.dropped", summariesDropped, LongAdder::sum)
+                .description("Journey summaries dropped because the summary queue was full")
+                .register(meterRegistry);
+        FunctionCounter.builder("worldview.analytics.rows.failed", rowsFailed, LongAdder::sum)
+                .description("Analytics rows lost because a flush failed")
+                .register(meterRegistry);
+        Gauge.builder("worldview.analytics.samples.pending", sampleBuffer, PositionSampleBuffer::pendingCount)
+                .description("Position samples waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("worldview.analytics.flush.duration")
+                .description("Time taken to write one batch of analytics rows")
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::writeLoop, "journey-analytics-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        log.info("JdbcJourneyAnalyticsRepositoryAdapter initialized - sample interval {}ms, batch size {}, "
+                + "flush interval {}ms, buffer capacity {}", sampleIntervalMillis, batchSize, flushIntervalMillis,
+                bufferCapacity);
+    }
+
+    /**
+     * Write what is still buffered and stop the writer thread.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        flushSignal.release();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+            if (writer.isAlive()) {
+                log.warn("Journey analytics writer did not terminate gracefully");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void recordJourneyStarted(JourneyState journeyState, long timestampMillis) {
+        startTimes.put(journeyState.getJourneyId(), timestampMillis);
+        offerSample(journeyState, timestampMillis);
+    }
+
+    @Override
+    public void recordPosition(JourneyState journeyState, long timestampMillis, double elapsedSeconds) {
+        if (isSampleDue(journeyState.getJourneyId(), timestampMillis, (long) (elapsedSeconds * 1000),
+                sampleIntervalMillis)) {
+            offerSample(journeyState, timestampMillis);
+        }
+    }
+
+    @Override
+    public void recordJourneyEnded(JourneyState journeyState, long timestampMillis) {
+        // Unknown for journeys resumed after a restart
+        Long startedAt = startTimes.remove(journeyState.getJourneyId());
+        offerSample(journeyState, timestampMillis);
+
+        JourneySummary summary = new JourneySummary(
+                journeyState.getJourneyId(),
+                journeyState.getRoute().id(),
+                journeyState.getStatus().name(),
+                startedAt,
+                timestampMillis,
+                journeyState.getDistanceTravelledMeters(),
+                journeyState.getRoute().totalDistanceMeters(),
+                journeyState.getProgressPercentage(),
+                journeyState.getSpeedMetersPerSecond(),
+                journeyState.getCurrentLatitude(),
+                journeyState.getCurrentLongitude());
+        if (!summaries.offer(summary)) {
+            summariesDropped.increment();
+            log.warn("[Journey: {}] Analytics summary queue full, dropping summary", journeyState.getJourneyId());
+        }
+    }
+
+    /**
+     * Check whether a tick covering (timestamp - elapsed, timestamp] crosses the journey's next
+     * sample time. Sample times are every interval, shifted by a per-journey offset.
+     */
+    static boolean isSampleDue(String journeyId, long timestampMillis, long elapsedMillis, long intervalMillis) {
+        long offset = Math.floorMod(journeyId.hashCode(), intervalMillis);
+        long previousMillis = timestampMillis - Math.max(0, elapsedMillis);
+        return Math.floorDiv(timestampMillis + offset, intervalMillis)
+                != Math.floorDiv(previousMillis + offset, intervalMillis);
+    }
+
+    private void offerSample(JourneyState journeyState, long timestampMillis) {
+        int pending = sampleBuffer.offer(journeyState.getJourneyId(), timestampMillis,
+                journeyState.getCurrentLatitude(), journeyState.getCurrentLongitude(),
+                journeyState.getProgressPercentage());
+        if (pending < 0) {
+            samplesDropped.increment();
+        } else if (pending == batchSize) {
+            // Wake the writer once per batch, not per sample
+            flushSignal.release();
+        }
+    }
+
+    private void writeLoop() {
+        while (running) {
+            try {
+                flushSignal.tryAcquire(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                flushSignal.drainPermits();
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Journey analytics flush failed", e);
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Write all pending samples and summaries in one transaction.
+     * Called by the writer thread; synchronized so tests can flush deterministically.
+     */
+    synchronized void flush() {
+        PositionSampleBuffer.Batch samples = sampleBuffer.take();
+        summaries.drainTo(summaryBatch);
+        int rows = samples.size + summaryBatch.size();
+        if (rows == 0) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                insertSummaries(connection, summaryBatch);
+                insertSamples(connection, samples);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+            samplesWritten.add(samples.size);
+            summariesWritten.add(summaryBatch.size());
+        } catch (SQLException e) {
+            rowsFailed.add(rows);
+            log.warn("Failed to write {} journey analytics rows: {}", rows, e.getMessage());
+        } finally {
+            samples.clear();
+            summaryBatch.clear();
+            flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void insertSamples(Connection connection, PositionSampleBuffer.Batch samples)
+            throws SQLException {
+        for (int from = 0; from < samples.size; from += MAX_ROWS_PER_STATEMENT) {
+            int rows = Math.min(MAX_ROWS_PER_STATEMENT, samples.size - from);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    multiRowInsertSql(SAMPLES_TABLE, SAMPLE_COLUMNS, 5, rows))) {
+                int parameter = 1;
+                for (int i = from; i < from + rows; i++) {
+                    statement.setString(parameter++, samples.journeyIds[i]);
+                    statement.setObject(parameter++, timestamp(samples.timestamps[i]));
+                    statement.setDouble(parameter++, samples.latitudes[i]);
+                    statement.setDouble(parameter++, samples.longitudes[i]);
+                    statement.setDouble(parameter++, samples.progress[i]);
+                }
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private static void insertSummaries(Connection connection, List<JourneySummary> batch) throws SQLException {
+        for (int from = 0; from < batch.size(); from += MAX_ROWS_PER_STATEMENT) {
+            int rows = Math.min(MAX_ROWS_PER_STATEMENT, batch.size() - from);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    multiRowInsertSql(SUMMARIES_TABLE, SUMMARY_COLUMNS, 11, rows))) {
+                int parameter = 1;
+                for (JourneySummary summary : batch.subList(from, from + rows)) {
+                    statement.setString(parameter++, summary.journeyId());
+                    statement.setString(parameter++, summary.routeId());
+                    statement.setString(parameter++, summary.status());
+                    if (summary.startedAtMillis() != null) {
+                        statement.setObject(parameter++, timestamp(summary.startedAtMillis()));
+                    } else {
+                        statement.setNull(parameter++, Types.TIMESTAMP_WITH_TIMEZONE);
+                    }
+                    statement.setObject(parameter++, timestamp(summary.endedAtMillis()));
+                    statement.setDouble(parameter++, summary.distanceTravelledMeters());
+                    statement.setDouble(parameter++, summary.routeDistanceMeters());
+                    statement.setDouble(parameter++, summary.progressPercentage());
+                    statement.setDouble(parameter++, summary.speedMetersPerSecond());
+                    statement.setDouble(parameter++, summary.endLatitude());
+                    statement.setDouble(parameter++, summary.endLongitude());
+                }
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Build "INSERT INTO table (columns) VALUES (?, ...), (?, ...)" for the given number of rows.
+     */
+    static String multiRowInsertSql(String table, String columns, int columnCount, int rows) {
+        String row = "(" + "?, ".repeat(columnCount - 1) + "?)";
+        StringBuilder sql = new StringBuilder(32 + table.length() + columns.length() + rows * (row.length() + 2))
+                .append("INSERT INTO ").append(table).append(" (").append(columns).append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    private static OffsetDateTime timestamp(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    /**
+     * Summary of a stopped journey, waiting to be written.
+     */
+    private record JourneySummary(
+            String journeyId,
+            String routeId,
+            String status,
+            Long startedAtMillis,
+            long endedAtMillis,
+            double distanceTravelledMeters,
+            double routeDistanceMeters,
+            double progressPercentage,
+            double speedMetersPerSecond,
+            double endLatitude,
+            double endLongitude) {}
+}
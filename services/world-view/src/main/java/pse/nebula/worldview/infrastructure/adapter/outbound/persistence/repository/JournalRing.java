@@ -0,0 +1,125 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import pse.nebula.worldview.domain.model.JourneyState;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded multi-producer, single-consumer ring of journal records.
+ *
+ * Producers claim a sequence number with one atomic increment, copy the record's values into
+ * the pre-allocated slot and publish it by writing the slot's sequence. Nothing is allocated
+ * and no lock is taken. The single consumer reads slots in sequence order and frees them by
+ * advancing its own counter. A producer only waits when the ring is full, i.e. when the
+ * consumer is a whole ring behind.
+ */
+final class JournalRing {
+
+    static final byte UPSERT = 1;
+    static final byte DELETE = 2;
+
+    private static final long FULL_PARK_NANOS = 10_000;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+
+    // Written by the consumer only
+    private volatile long consumed;
+
+    JournalRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two, got: " + capacity);
+        }
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Publish an upsert record with the current values of a journey.
+     */
+    void publishUpsert(JourneyState state) {
+        long sequence = claim();
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.type = UPSERT;
+        slot.journeyId = state.getJourneyId();
+        slot.routeId = state.getRoute().id();
+        slot.status = (byte) state.getStatus().ordinal();
+        slot.speedMetersPerSecond = state.getSpeedMetersPerSecond();
+        slot.distanceTravelledMeters = state.getDistanceTravelledMeters();
+        slot.sequence = sequence;
+    }
+
+    /**
+     * Publish a delete record.
+     */
+    void publishDelete(String journeyId) {
+        long sequence = claim();
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.type = DELETE;
+        slot.journeyId = journeyId;
+        slot.routeId = null;
+        slot.sequence = sequence;
+    }
+
+    /**
+     * The next published record, or null if the consumer has caught up. Consumer thread only;
+     * the slot stays valid until {@link #release}.
+     */
+    Slot peek() {
+        long next = consumed;
+        Slot slot = slots[(int) (next & mask)];
+        return slot.sequence == next ? slot : null;
+    }
+
+    /**
+     * Free the slot returned by the last {@link #peek}. Consumer thread only.
+     */
+    void release(Slot slot) {
+        slot.journeyId = null;
+        slot.routeId = null;
+        consumed = consumed + 1;
+    }
+
+    /**
+     * Number of records claimed so far; all of them are consumed once {@link #consumedCount} reaches it.
+     */
+    long claimedCount() {
+        return claimed.get();
+    }
+
+    long consumedCount() {
+        return consumed;
+    }
+
+    int pendingCount() {
+        return (int) Math.max(0, claimed.get() - consumed);
+    }
+
+    private long claim() {
+        long sequence = claimed.getAndIncrement();
+        while (sequence - consumed >= slots.length) {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        return sequence;
+    }
+
+    /**
+     * One record. The fields are written by the claiming producer before the volatile sequence,
+     * and read by the consumer after it.
+     */
+    static final class Slot {
+
+        private volatile long sequence = -1;
+        byte type;
+        String journeyId;
+        String routeId;
+        byte status;
+        double speedMetersPerSecond;
+        double distanceTravelledMeters;
+    }
+}
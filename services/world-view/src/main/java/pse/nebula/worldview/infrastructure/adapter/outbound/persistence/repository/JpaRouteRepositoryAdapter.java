@@ -1,19 +1,29 @@
 package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import pse.nebula.worldview.domain.exception.RouteAlreadyExistsException;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.PackedPolyline;
 import pse.nebula.worldview.domain.port.outbound.RouteRepository;
-import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.entity.RouteEntity;
 import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.jpa.JpaRouteRepository;
 import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.mapper.RouteEntityMapper;
+import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.mapper.WaypointBlobCodec;
+import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.mapper.WaypointStorageMode;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.*;
 
 /**
@@ -23,17 +33,46 @@ import java.util.*;
  * Destination: Dealership
  * Address: Porschestraße 1, 70435 Stuttgart, Germany
  * Coordinates: 48.8354, 9.1520
+ *
+ * With route.storage.waypoint-mode=compressed, waypoints are written as one compressed
+ * encoded_waypoints value per route instead of one waypoints row per coordinate, and routes
+ * still stored as rows are migrated at startup. Both representations can always be read.
+ * Waypoint rows are written with JDBC batch inserts, since their IDENTITY ids keep Hibernate
+ * from batching them.
  */
 @Slf4j
 @Repository
 @Primary
-@RequiredArgsConstructor
 public class JpaRouteRepositoryAdapter implements RouteRepository {
 
     private static final Coordinate DEALERSHIP = new Coordinate(48.8354, 9.1520);
 
+    // Waypoint rows sent per JDBC batch; the id comes from the column's identity default
+    private static final int WAYPOINT_BATCH_SIZE = 1_000;
+    static final String INSERT_WAYPOINT_SQL =
+            "INSERT INTO world_view.waypoints (route_id, latitude, longitude, sequence_order) VALUES (?, ?, ?, ?)";
+
     private final JpaRouteRepository jpaRouteRepository;
     private final RouteEntityMapper routeEntityMapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WaypointStorageMode storageMode;
+
+    public JpaRouteRepositoryAdapter(
+            JpaRouteRepository jpaRouteRepository,
+            RouteEntityMapper routeEntityMapper,
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${route.storage.waypoint-mode:rows}") String waypointMode) {
+        this.jpaRouteRepository = jpaRouteRepository;
+        this.routeEntityMapper = routeEntityMapper;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.storageMode = WaypointStorageMode.fromProperty(waypointMode);
+    }
 
     @PostConstruct
     @Transactional
@@ -44,7 +83,39 @@ public class JpaRouteRepositoryAdapter implements RouteRepository {
             log.info("Successfully initialized {} routes", jpaRouteRepository.count());
         } else {
             log.info("Routes already exist in database. Found {} routes.", jpaRouteRepository.count());
+            if (storageMode == WaypointStorageMode.COMPRESSED) {
+                migrateWaypointRows();
+            }
+        }
+    }
+
+    /**
+     * Move the waypoints of every route still stored as rows into its encoded_waypoints
+     * column and delete the rows. Each route is migrated in its own transaction, so an
+     * interrupted migration simply continues on the next start.
+     *
+     * @return The number of migrated routes
+     */
+    public int migrateWaypointRows() {
+        List<String> routeIds = jpaRouteRepository.findRouteIdsWithWaypointRows();
+        int migrated = 0;
+        for (String routeId : routeIds) {
+            Boolean done = transactionTemplate.execute(status -> jpaRouteRepository.findById(routeId)
+                    .filter(entity -> entity.getEncodedWaypoints() == null)
+                    .map(entity -> {
+                        entity.setEncodedWaypoints(WaypointBlobCodec.encode(routeEntityMapper.packWaypointRows(entity)));
+                        entity.getWaypoints().clear();
+                        return true;
+                    })
+                    .orElse(false));
+            if (Boolean.TRUE.equals(done)) {
+                migrated++;
+            }
         }
+        if (migrated > 0) {
+            log.info("Migrated the waypoints of {} routes to compressed storage", migrated);
+        }
+        return migrated;
     }
 
     private void initializeAllRoutes() {
@@ -59,8 +130,7 @@ public class JpaRouteRepositoryAdapter implements RouteRepository {
     }
 
     private void saveRoute(DrivingRoute route) {
-        RouteEntity entity = routeEntityMapper.toEntity(route);
-        jpaRouteRepository.save(entity);
+        save(route);
         log.info("Saved route: {} with {} waypoints", route.name(), route.waypoints().size());
     }
 
@@ -885,4 +955,48 @@ public class JpaRouteRepositoryAdapter implements RouteRepository {
     public int count() {
         return (int) jpaRouteRepository.count();
     }
+
+    @Override
+    public void save(DrivingRoute route) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jpaRouteRepository.existsById(route.id())) {
+                throw new RouteAlreadyExistsException(route.id());
+            }
+            if (storageMode == WaypointStorageMode.COMPRESSED) {
+                entityManager.persist(routeEntityMapper.toEntity(route, storageMode));
+                return;
+            }
+
+            // The route row must exist before its waypoint rows reference it
+            entityManager.persist(routeEntityMapper.toEntityWithoutWaypoints(route));
+            entityManager.flush();
+            entityManager.clear();
+            insertWaypointRows(route.id(), route.polyline());
+        });
+    }
+
+    /**
+     * Insert the waypoint rows of a route in JDBC batches, within the current transaction.
+     */
+    private void insertWaypointRows(String routeId, PackedPolyline polyline) {
+        for (int from = 0; from < polyline.size(); from += WAYPOINT_BATCH_SIZE) {
+            int batchFrom = from;
+            int batchSize = Math.min(polyline.size() - from, WAYPOINT_BATCH_SIZE);
+            jdbcTemplate.batchUpdate(INSERT_WAYPOINT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    int index = batchFrom + i;
+                    statement.setString(1, routeId);
+                    statement.setDouble(2, polyline.latitude(index));
+                    statement.setDouble(3, polyline.longitude(index));
+                    statement.setInt(4, index);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batchSize;
+                }
+            });
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,670 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.port.outbound.JourneyStateRepository;
+import pse.nebula.worldview.domain.port.outbound.RouteRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Durable implementation of JourneyStateRepository.
+ *
+ * Journey states are served from memory like in the in-memory adapter, and every save or
+ * delete is additionally appended to a memory-mapped journal segment. Saving only copies the
+ * journey's values into a pre-allocated lock-free ring (see {@link JournalRing}); a single
+ * writer thread drains the ring into the mapped segment, so the tick loop neither waits for
+ * the disk nor for other savers. The operating system writes the pages back and they survive
+ * a crash of the JVM; records still in the ring at the moment of a crash are lost.
+ *
+ * The writer keeps its own copy of the last record of every journey. A background thread
+ * periodically compacts the journal: the writer rolls over to a new segment and hands over
+ * that copy, and the compactor writes it as a snapshot and deletes the segments it replaces.
+ * A full segment also triggers a compaction, and the compactor maps the next segment ahead
+ * of time so that a roll-over does not stall the writer. On startup the snapshot is loaded
+ * and the newer segments are replayed, so recovery reads at most one snapshot plus the
+ * segments written since the last compaction. Journeys resume from their last logged
+ * position; records after a torn write are ignored.
+ *
+ * Record layout (little-endian): payload length (int32), CRC32 of the payload (int32), payload.
+ * Upsert payload: type 1, status ordinal, speed (float64), distance travelled (float64),
+ * journey ID and route ID (each a UTF-16 length-prefixed string). Delete payload: type 2,
+ * journey ID. A payload length of 0 marks the end of a segment.
+ *
+ * Enabled with journey.state.store=mapped-log.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "journey.state.store", havingValue = "mapped-log")
+public class MappedLogJourneyStateRepositoryAdapter implements JourneyStateRepository {
+
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private static final String SNAPSHOT_TEMP_FILE = "snapshot.tmp";
+    private static final String JOURNAL_PREFIX = "journal-";
+    private static final String JOURNAL_SUFFIX = ".log";
+    private static final String SPARE_PREFIX = "spare-";
+    private static final String SPARE_SUFFIX = ".tmp";
+    private static final int SNAPSHOT_MAGIC = 0x4E4A5353;
+    private static final int FORMAT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_BYTES = 20;
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final int MIN_SEGMENT_BYTES = 64 * 1024;
+    private static final int RING_CAPACITY = 1 << 16;
+    private static final int MAX_BATCH = 4096;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FLUSH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final JourneyStatus[] STATUSES = JourneyStatus.values();
+
+    private final Map<String, JourneyState> journeyStates = new ConcurrentHashMap<>();
+    private final RouteRepository routeRepository;
+    private final Path directory;
+    private final int segmentBytes;
+    private final Timer snapshotTimer;
+    private final ScheduledExecutorService compactor;
+    private final AtomicBoolean compactionRequested = new AtomicBoolean();
+    private final JournalRing ring = new JournalRing(RING_CAPACITY);
+    private final AtomicReference<CompletableFuture<Checkpoint>> checkpointRequest = new AtomicReference<>();
+    private final AtomicReference<Segment> spareSegment = new AtomicReference<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+    private volatile long journalBytes;
+
+    // Only touched by the writer thread, and by recovery before it starts
+    private final CRC32 crc = new CRC32();
+    private final Map<String, StoredJourney> written = new LinkedHashMap<>();
+    private MappedByteBuffer journal;
+    private long generation;
+
+    public MappedLogJourneyStateRepositoryAdapter(
+            RouteRepository routeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${journey.state.directory:data/journey-state}") String directory,
+            @Value("${journey.state.segment-bytes:67108864}") int segmentBytes,
+            @Value("${journey.state.snapshot-interval-ms:30000}") long snapshotIntervalMs) {
+        if (segmentBytes < MIN_SEGMENT_BYTES) {
+            throw new IllegalArgumentException(
+                "Journal segment must be at least " + MIN_SEGMENT_BYTES + " bytes, got: " + segmentBytes);
+        }
+        this.routeRepository = routeRepository;
+        this.directory = Path.of(directory);
+        this.segmentBytes = segmentBytes;
+        this.snapshotTimer = Timer.builder("worldview.journey.state.snapshot.duration")
+                .description("Time taken to write a compacted snapshot of all journey states")
+                .register(meterRegistry);
+        Gauge.builder("worldview.journey.state.journal.bytes", this, adapter -> adapter.journalBytes)
+                .description("Bytes written to the current journal segment")
+                .register(meterRegistry);
+        Gauge.builder("worldview.journey.state.journal.pending", ring, JournalRing::pendingCount)
+                .description("Saved journey states waiting to be written to the journal")
+                .register(meterRegistry);
+
+        this.compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "journey-state-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writer = new Thread(this::writeLoop, "journey-state-journal");
+        this.writer.setDaemon(true);
+
+        recover();
+
+        compactor.scheduleWithFixedDelay(this::compactSafely, snapshotIntervalMs, snapshotIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Write a final snapshot so the next start does not need to replay the journal, then
+     * stop the writer.
+     */
+    @PreDestroy
+    public void shutdown() {
+        compactor.shutdown();
+        try {
+            if (!compactor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                compactor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            compactor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        compactSafely();
+
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+            if (writer.isAlive()) {
+                log.warn("Journey state journal writer did not terminate gracefully");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void save(JourneyState journeyState) {
+        journeyStates.put(journeyState.getJourneyId(), journeyState);
+        ring.publishUpsert(journeyState);
+    }
+
+    @Override
+    public Optional<JourneyState> findById(String journeyId) {
+        return Optional.ofNullable(journeyStates.get(journeyId));
+    }
+
+    @Override
+    public JourneyState findByIdOrNull(String journeyId) {
+        return journeyStates.get(journeyId);
+    }
+
+    @Override
+    public void delete(String journeyId) {
+        if (journeyStates.remove(journeyId) != null) {
+            ring.publishDelete(journeyId);
+        }
+    }
+
+    @Override
+    public boolean exists(String journeyId) {
+        return journeyStates.containsKey(journeyId);
+    }
+
+    @Override
+    public List<JourneyState> findAll() {
+        return List.copyOf(journeyStates.values());
+    }
+
+    /**
+     * Wait until every save and delete made so far has been written to the journal.
+     */
+    void flush() {
+        long target = ring.claimedCount();
+        while (ring.consumedCount() < target) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(FLUSH_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Let the writer roll over to a new journal segment, snapshot its copy of all journeys and
+     * delete the segments that the snapshot replaces. Only called from the compactor thread,
+     * on startup and on shutdown.
+     */
+    void compact() {
+        if (!running) {
+            throw new IllegalStateException("Journey state journal writer is stopped");
+        }
+        long startNanos = System.nanoTime();
+        try {
+            compactionRequested.set(false);
+            CompletableFuture<Checkpoint> request = new CompletableFuture<>();
+            checkpointRequest.set(request);
+            LockSupport.unpark(writer);
+            Checkpoint checkpoint = request.join();
+            ByteBuffer snapshot = encodeSnapshot(checkpoint);
+
+            Path temp = directory.resolve(SNAPSHOT_TEMP_FILE);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (snapshot.hasRemaining()) {
+                    channel.write(snapshot);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, directory.resolve(SNAPSHOT_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            for (Map.Entry<Long, Path> segment : listJournals().entrySet()) {
+                if (segment.getKey() < checkpoint.generation()) {
+                    Files.deleteIfExists(segment.getValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write journey state snapshot", e);
+        } finally {
+            snapshotTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void compactSafely() {
+        try {
+            compact();
+        } catch (Exception e) {
+            log.error("Journey state compaction failed", e);
+        }
+    }
+
+    // ---------------------------------------------------------------- writing
+
+    private void writeLoop() {
+        while (running) {
+            boolean worked = drainRing();
+            worked |= serveCheckpoint();
+            if (!worked) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drainRing();
+    }
+
+    /**
+     * Write up to one batch of records from the ring.
+     *
+     * @return true if any record was taken from the ring
+     */
+    private boolean drainRing() {
+        int count = 0;
+        for (JournalRing.Slot slot; count < MAX_BATCH && (slot = ring.peek()) != null; count++) {
+            try {
+                append(slot);
+            } catch (RuntimeException e) {
+                log.error("[Journey: {}] Failed to write journal record", slot.journeyId, e);
+            }
+            ring.release(slot);
+        }
+        if (count > 0 && journal != null) {
+            journalBytes = journal.position();
+        }
+        return count > 0;
+    }
+
+    /**
+     * Roll over and hand the written journeys to a waiting compaction. The records drained
+     * before are all in the segments the snapshot replaces.
+     */
+    private boolean serveCheckpoint() {
+        CompletableFuture<Checkpoint> request = checkpointRequest.getAndSet(null);
+        if (request == null) {
+            return false;
+        }
+        try {
+            rollOver();
+            journalBytes = 0;
+            request.complete(new Checkpoint(generation, List.copyOf(written.values())));
+        } catch (RuntimeException e) {
+            request.completeExceptionally(e);
+        }
+        return true;
+    }
+
+    /**
+     * Append one record. A record that the map already contradicts is skipped: the save or
+     * delete that changed the map afterwards has its own record further back in the ring, so
+     * the journal ends in the same state as the map even when a save and a delete of the same
+     * journey race.
+     */
+    private void append(JournalRing.Slot slot) {
+        boolean upsert = slot.type == JournalRing.UPSERT;
+        if (upsert != journeyStates.containsKey(slot.journeyId)) {
+            return;
+        }
+        int payloadBytes = upsert ? upsertBytes(slot.journeyId, slot.routeId) : deleteBytes(slot.journeyId);
+        if (journal == null || journal.remaining() < FRAME_HEADER_BYTES + payloadBytes + FRAME_HEADER_BYTES) {
+            rollOver();
+            if (compactionRequested.compareAndSet(false, true)) {
+                submitToCompactor(this::compactSafely);
+            }
+        }
+        if (upsert) {
+            writeFrame(journal, crc, JournalRing.UPSERT, slot.journeyId, slot.routeId, slot.status,
+                    slot.speedMetersPerSecond, slot.distanceTravelledMeters, payloadBytes);
+            written.put(slot.journeyId, new StoredJourney(slot.journeyId, slot.routeId, STATUSES[slot.status],
+                    slot.speedMetersPerSecond, slot.distanceTravelledMeters));
+        } else {
+            writeFrame(journal, crc, JournalRing.DELETE, slot.journeyId, null, (byte) 0, 0, 0, payloadBytes);
+            written.remove(slot.journeyId);
+        }
+    }
+
+    /**
+     * Write one frame at the buffer's position. The length is written last, so a frame
+     * interrupted half-way still reads as the end of the segment.
+     */
+    private static void writeFrame(ByteBuffer buffer, CRC32 checksum, byte type, String journeyId, String routeId,
+                                   byte status, double speed, double distance, int payloadBytes) {
+        int frameStart = buffer.position();
+        int payloadStart = frameStart + FRAME_HEADER_BYTES;
+        buffer.position(payloadStart);
+        buffer.put(type);
+        if (type == JournalRing.UPSERT) {
+            buffer.put(status);
+            buffer.putDouble(speed);
+            buffer.putDouble(distance);
+            putString(buffer, journeyId);
+            putString(buffer, routeId);
+        } else {
+            putString(buffer, journeyId);
+        }
+        int frameEnd = buffer.position();
+
+        checksum.reset();
+        buffer.limit(frameEnd).position(payloadStart);
+        checksum.update(buffer);
+        buffer.limit(buffer.capacity());
+
+        buffer.putInt(frameStart + 4, (int) checksum.getValue());
+        buffer.putInt(frameStart, payloadBytes);
+        buffer.position(frameEnd);
+    }
+
+    private static ByteBuffer encodeSnapshot(Checkpoint checkpoint) {
+        List<StoredJourney> journeys = checkpoint.journeys();
+        int size = SNAPSHOT_HEADER_BYTES;
+        for (StoredJourney journey : journeys) {
+            size += FRAME_HEADER_BYTES + upsertBytes(journey.journeyId(), journey.routeId());
+        }
+
+        CRC32 checksum = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(SNAPSHOT_MAGIC);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putLong(checkpoint.generation());
+        buffer.putInt(journeys.size());
+        for (StoredJourney journey : journeys) {
+            writeFrame(buffer, checksum, JournalRing.UPSERT, journey.journeyId(), journey.routeId(),
+                    (byte) journey.status().ordinal(), journey.speedMetersPerSecond(),
+                    journey.distanceTravelledMeters(), upsertBytes(journey.journeyId(), journey.routeId()));
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Start the next journal segment, taking the pre-mapped spare when it is the right one.
+     * Writer thread only.
+     */
+    private void rollOver() {
+        long next = generation + 1;
+        Path path = directory.resolve(journalFileName(next));
+        Segment spare = spareSegment.getAndSet(null);
+        try {
+            if (spare != null && spare.generation() == next) {
+                Files.move(spare.path(), path, StandardCopyOption.ATOMIC_MOVE);
+                journal = spare.buffer();
+            } else {
+                if (spare != null) {
+                    Files.deleteIfExists(spare.path());
+                }
+                journal = mapSegment(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create journal segment " + path, e);
+        }
+        generation = next;
+        submitToCompactor(() -> prepareSpare(next + 1));
+    }
+
+    /**
+     * Map the segment of a future generation under a spare name. Compactor thread only.
+     */
+    private void prepareSpare(long sparedGeneration) {
+        if (spareSegment.get() != null) {
+            return;
+        }
+        Path path = directory.resolve(SPARE_PREFIX + String.format("%016d", sparedGeneration) + SPARE_SUFFIX);
+        try {
+            spareSegment.set(new Segment(sparedGeneration, path, mapSegment(path)));
+        } catch (IOException e) {
+            log.warn("Failed to prepare journal segment {}, mapping it on roll-over instead", path, e);
+        }
+    }
+
+    private MappedByteBuffer mapSegment(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    private void submitToCompactor(Runnable task) {
+        try {
+            compactor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the final compaction runs regardless
+        }
+    }
+
+    private static int upsertBytes(String journeyId, String routeId) {
+        return 2 + 16 + stringBytes(journeyId) + stringBytes(routeId);
+    }
+
+    private static int deleteBytes(String journeyId) {
+        return 1 + stringBytes(journeyId);
+    }
+
+    private static int stringBytes(String value) {
+        return 2 + 2 * value.length();
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        buffer.putShort((short) value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer.putChar(value.charAt(i));
+        }
+    }
+
+    // --------------------------------------------------------------- recovery
+
+    private void recover() {
+        long startNanos = System.nanoTime();
+        Map<String, StoredJourney> stored = new LinkedHashMap<>();
+        long lastGeneration;
+        try {
+            Files.createDirectories(directory);
+            deleteSpares();
+            long snapshotGeneration = readSnapshot(stored);
+            lastGeneration = snapshotGeneration;
+            for (Map.Entry<Long, Path> segment : listJournals().entrySet()) {
+                lastGeneration = Math.max(lastGeneration, segment.getKey());
+                if (segment.getKey() >= snapshotGeneration) {
+                    replayJournal(segment.getValue(), stored);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover journey states from " + directory, e);
+        }
+
+        for (StoredJourney journey : stored.values()) {
+            restore(journey).ifPresent(state -> {
+                journeyStates.put(state.getJourneyId(), state);
+                written.put(journey.journeyId(), journey);
+            });
+        }
+
+        // Continue after the newest segment and compact right away so the next start is fast too
+        generation = lastGeneration;
+        writer.start();
+        compact();
+
+        log.info("Recovered {} journeys from {} in {} ms", journeyStates.size(), directory.toAbsolutePath(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private Optional<JourneyState> restore(StoredJourney journey) {
+        if (journey.status() == JourneyStatus.COMPLETED) {
+            return Optional.empty();
+        }
+        Optional<DrivingRoute> route = routeRepository.findById(journey.routeId());
+        if (route.isEmpty()) {
+            log.warn("[Journey: {}] Route {} no longer exists, journey not resumed",
+                    journey.journeyId(), journey.routeId());
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JourneyState.restore(journey.journeyId(), route.get(),
+                    journey.speedMetersPerSecond(), journey.status(), journey.distanceTravelledMeters()));
+        } catch (IllegalArgumentException e) {
+            log.warn("[Journey: {}] Stored state is invalid, journey not resumed: {}",
+                    journey.journeyId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private long readSnapshot(Map<String, StoredJourney> stored) throws IOException {
+        Path path = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < SNAPSHOT_HEADER_BYTES
+                || buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            log.warn("Ignoring unreadable journey state snapshot {}", path);
+            return 0;
+        }
+        long snapshotGeneration = buffer.getLong();
+        int count = buffer.getInt();
+        if (readFrames(buffer, stored) != count) {
+            log.warn("Journey state snapshot {} is incomplete", path);
+        }
+        return snapshotGeneration;
+    }
+
+    private void replayJournal(Path path, Map<String, StoredJourney> stored) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            int records = readFrames(buffer, stored);
+            log.debug("Replayed {} records from {}", records, path.getFileName());
+        }
+    }
+
+    /**
+     * Apply frames until the end marker or the first frame that fails its checksum.
+     *
+     * @return The number of frames applied
+     */
+    private static int readFrames(ByteBuffer buffer, Map<String, StoredJourney> stored) {
+        CRC32 checksum = new CRC32();
+        int frames = 0;
+        while (buffer.remaining() >= FRAME_HEADER_BYTES) {
+            int payloadBytes = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (payloadBytes <= 0 || payloadBytes > buffer.remaining()) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(buffer.position(), payloadBytes).order(ByteOrder.LITTLE_ENDIAN);
+            checksum.reset();
+            checksum.update(payload.duplicate());
+            if ((int) checksum.getValue() != expectedCrc) {
+                break;
+            }
+            buffer.position(buffer.position() + payloadBytes);
+
+            byte type = payload.get();
+            if (type == JournalRing.UPSERT) {
+                int status = payload.get();
+                double speed = payload.getDouble();
+                double distance = payload.getDouble();
+                String journeyId = getString(payload);
+                String routeId = getString(payload);
+                if (status < 0 || status >= STATUSES.length) {
+                    break;
+                }
+                stored.put(journeyId, new StoredJourney(journeyId, routeId, STATUSES[status], speed, distance));
+            } else if (type == JournalRing.DELETE) {
+                stored.remove(getString(payload));
+            } else {
+                break;
+            }
+            frames++;
+        }
+        return frames;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        char[] chars = new char[Short.toUnsignedInt(buffer.getShort())];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = buffer.getChar();
+        }
+        return new String(chars);
+    }
+
+    private TreeMap<Long, Path> listJournals() throws IOException {
+        TreeMap<Long, Path> journals = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith(JOURNAL_PREFIX) && name.endsWith(JOURNAL_SUFFIX)) {
+                    String number = name.substring(JOURNAL_PREFIX.length(), name.length() - JOURNAL_SUFFIX.length());
+                    try {
+                        journals.put(Long.parseLong(number), file);
+                    } catch (NumberFormatException e) {
+                        log.warn("Ignoring unexpected file {} in journey state directory", name);
+                    }
+                }
+            });
+        }
+        return journals;
+    }
+
+    /**
+     * Delete segments that were mapped ahead of time but never used.
+     */
+    private void deleteSpares() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SPARE_PREFIX) && name.endsWith(SPARE_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static String journalFileName(long generation) {
+        return String.format("%s%016d%s", JOURNAL_PREFIX, generation, JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Journey state as read back from disk, before its route has been resolved.
+     */
+    private record StoredJourney(String journeyId, String routeId, JourneyStatus status,
+                                 double speedMetersPerSecond, double distanceTravelledMeters) {}
+
+    /**
+     * The journeys written before the writer rolled over to {@code generation}.
+     */
+    private record Checkpoint(long generation, List<StoredJourney> journeys) {}
+
+    /**
+     * A journal segment mapped ahead of time under a spare file name.
+     */
+    private record Segment(long generation, Path path, MappedByteBuffer buffer) {}
+}
@@ -0,0 +1,36 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.port.outbound.JourneyAnalyticsRepository;
+
+/**
+ * JourneyAnalyticsRepository that keeps no history.
+ * Used when journey analytics are disabled (journey.analytics.enabled=false).
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "journey.analytics.enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpJourneyAnalyticsRepositoryAdapter implements JourneyAnalyticsRepository {
+
+    public NoOpJourneyAnalyticsRepositoryAdapter() {
+        log.info("NoOpJourneyAnalyticsRepositoryAdapter initialized - journey analytics are disabled");
+    }
+
+    @Override
+    public void recordJourneyStarted(JourneyState journeyState, long timestampMillis) {
+        // No history is kept
+    }
+
+    @Override
+    public void recordPosition(JourneyState journeyState, long timestampMillis, double elapsedSeconds) {
+        // No history is kept
+    }
+
+    @Override
+    public void recordJourneyEnded(JourneyState journeyState, long timestampMillis) {
+        // No history is kept
+    }
+}
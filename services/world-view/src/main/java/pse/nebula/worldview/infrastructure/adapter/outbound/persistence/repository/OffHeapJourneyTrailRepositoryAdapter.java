@@ -0,0 +1,253 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.JourneyTrail;
+import pse.nebula.worldview.domain.model.TrailPoint;
+import pse.nebula.worldview.domain.port.outbound.JourneyTrailRepository;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JourneyTrailRepository that keeps positions in fixed-size ring buffers outside the Java heap.
+ *
+ * Storage is allocated as direct ByteBuffer chunks, each split into {@value #SLOTS_PER_CHUNK}
+ * slots of {@code capacity} entries. A journey takes a free slot on its first position and
+ * returns it on release, so after warm-up recording allocates nothing and the garbage
+ * collector never scans the positions. Chunks are allocated on demand up to
+ * {@code maxJourneys} slots; positions of journeys beyond that limit are dropped and counted.
+ * The IDs of recently released journeys are remembered until the journey is opened again,
+ * so a position appended while or after the journey is stopped does not take a new slot.
+ *
+ * Entry layout, 16 bytes, big-endian:
+ * <pre>
+ * offset size field
+ *      0    8 timestamp in epoch milliseconds
+ *      8    4 latitude in 1e-7 degrees
+ *     12    4 longitude in 1e-7 degrees
+ * </pre>
+ */
+@Slf4j
+@Repository
+public class OffHeapJourneyTrailRepositoryAdapter implements JourneyTrailRepository {
+
+    static final int ENTRY_BYTES = 16;
+    static final int SLOTS_PER_CHUNK = 64;
+
+    private static final double E7 = 1e7;
+    private static final int MIN_REMEMBERED_RELEASES = 1024;
+
+    private final int capacity;
+    private final int maxJourneys;
+    private final int slotBytes;
+    private final Counter droppedCounter;
+
+    private final Map<String, Trail> trails = new ConcurrentHashMap<>();
+
+    // Guards chunk allocation, the free slot stack, releases and the released IDs
+    private final Object poolLock = new Object();
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private int[] freeSlots = new int[0];
+    private int freeSlotCount;
+    private final Set<String> releasedJourneys;
+
+    // Handed to appends of released journeys; ignores every position
+    private final Trail releasedTrail;
+
+    public OffHeapJourneyTrailRepositoryAdapter(
+            MeterRegistry meterRegistry,
+            @Value("${journey.trail.capacity:1024}") int capacity,
+            @Value("${journey.trail.max-journeys:10000}") int maxJourneys) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Trail capacity must be at least 2, got: " + capacity);
+        }
+        this.capacity = capacity;
+        this.maxJourneys = Math.max(1, maxJourneys);
+        this.slotBytes = Math.multiplyExact(capacity, ENTRY_BYTES);
+        // A late append follows its release within a tick, so the most recent releases are enough
+        int rememberedReleases = Math.max(MIN_REMEMBERED_RELEASES, this.maxJourneys);
+        this.releasedJourneys = Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > rememberedReleases;
+            }
+        });
+        this.releasedTrail = new Trail(-1, null, 0);
+        this.releasedTrail.released = true;
+
+        this.droppedCounter = Counter.builder("worldview.trail.points.dropped")
+                .description("Positions not recorded because every trail buffer was in use")
+                .register(meterRegistry);
+        Gauge.builder("worldview.trail.buffers.active", trails, Map::size)
+                .description("Journeys currently holding a trail buffer")
+                .register(meterRegistry);
+        Gauge.builder("worldview.trail.memory.bytes", this, OffHeapJourneyTrailRepositoryAdapter::getAllocatedBytes)
+                .description("Off-heap memory allocated for trail buffers")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("Journey trails: {} positions per journey, up to {} journeys ({} KiB per journey, off-heap)",
+                capacity, this.maxJourneys, slotBytes / 1024);
+    }
+
+    @Override
+    public void open(String journeyId) {
+        synchronized (poolLock) {
+            releasedJourneys.remove(journeyId);
+        }
+    }
+
+    @Override
+    public void append(String journeyId, long timestampMillis, double latitude, double longitude) {
+        Trail trail = trails.get(journeyId);
+        if (trail == null) {
+            trail = acquire(journeyId);
+            if (trail == null) {
+                droppedCounter.increment();
+                return;
+            }
+        }
+        trail.append(timestampMillis, latitude, longitude);
+    }
+
+    @Override
+    public Optional<JourneyTrail> findTrail(String journeyId, int maxPoints) {
+        if (maxPoints < 1) {
+            throw new IllegalArgumentException("maxPoints must be at least 1, got: " + maxPoints);
+        }
+        Trail trail = trails.get(journeyId);
+        return trail == null ? Optional.empty() : Optional.ofNullable(trail.read(journeyId, maxPoints));
+    }
+
+    @Override
+    public void release(String journeyId) {
+        // Under the pool lock, so a concurrent first append either sees the mark or its trail is removed here
+        synchronized (poolLock) {
+            releasedJourneys.add(journeyId);
+            Trail trail = trails.remove(journeyId);
+            if (trail == null) {
+                return;
+            }
+            synchronized (trail) {
+                trail.released = true;
+            }
+            freeSlots[freeSlotCount++] = trail.slot;
+        }
+    }
+
+    /**
+     * Get the off-heap memory allocated for trail buffers so far.
+     */
+    public long getAllocatedBytes() {
+        synchronized (poolLock) {
+            return (long) chunks.size() * SLOTS_PER_CHUNK * slotBytes;
+        }
+    }
+
+    private Trail acquire(String journeyId) {
+        synchronized (poolLock) {
+            Trail existing = trails.get(journeyId);
+            if (existing != null) {
+                return existing;
+            }
+            if (releasedJourneys.contains(journeyId)) {
+                return releasedTrail;
+            }
+            if (freeSlotCount == 0 && !allocateChunk()) {
+                return null;
+            }
+            int slot = freeSlots[--freeSlotCount];
+            ByteBuffer chunk = chunks.get(slot / SLOTS_PER_CHUNK);
+            Trail trail = new Trail(slot, chunk, (slot % SLOTS_PER_CHUNK) * slotBytes);
+            trails.put(journeyId, trail);
+            return trail;
+        }
+    }
+
+    private boolean allocateChunk() {
+        int firstSlot = chunks.size() * SLOTS_PER_CHUNK;
+        if (firstSlot >= maxJourneys) {
+            return false;
+        }
+        int slots = Math.min(SLOTS_PER_CHUNK, maxJourneys - firstSlot);
+        chunks.add(ByteBuffer.allocateDirect(Math.multiplyExact(slots, slotBytes)));
+
+        if (freeSlots.length < firstSlot + slots) {
+            int[] grown = new int[firstSlot + slots];
+            System.arraycopy(freeSlots, 0, grown, 0, freeSlotCount);
+            freeSlots = grown;
+        }
+        // Push in reverse so slots are handed out in ascending order
+        for (int slot = firstSlot + slots - 1; slot >= firstSlot; slot--) {
+            freeSlots[freeSlotCount++] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Ring buffer of one journey inside a chunk. Appends and reads synchronize on the trail;
+     * there is one writer per journey, so the lock is uncontended except while a client reads.
+     */
+    private final class Trail {
+        private final int slot;
+        private final ByteBuffer chunk;
+        private final int baseOffset;
+        private long written;
+        private boolean released;
+
+        private Trail(int slot, ByteBuffer chunk, int baseOffset) {
+            this.slot = slot;
+            this.chunk = chunk;
+            this.baseOffset = baseOffset;
+        }
+
+        private synchronized void append(long timestampMillis, double latitude, double longitude) {
+            if (released) {
+                return;
+            }
+            int offset = offsetOf(written);
+            chunk.putLong(offset, timestampMillis);
+            chunk.putInt(offset + 8, (int) Math.round(latitude * E7));
+            chunk.putInt(offset + 12, (int) Math.round(longitude * E7));
+            written++;
+        }
+
+        private synchronized JourneyTrail read(String journeyId, int maxPoints) {
+            if (released) {
+                return null;
+            }
+            int retained = (int) Math.min(written, capacity);
+            long first = written - retained;
+            int count = Math.min(retained, maxPoints);
+
+            List<TrailPoint> points = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                // Evenly spaced indexes that always include the first and the latest position
+                long index = count == retained ? first + i
+                        : count == 1 ? written - 1
+                        : first + Math.round((double) i * (retained - 1) / (count - 1));
+                int offset = offsetOf(index);
+                points.add(new TrailPoint(chunk.getLong(offset),
+                        new Coordinate(chunk.getInt(offset + 8) / E7, chunk.getInt(offset + 12) / E7)));
+            }
+            return new JourneyTrail(journeyId, retained, points);
+        }
+
+        private int offsetOf(long index) {
+            return baseOffset + (int) (index % capacity) * ENTRY_BYTES;
+        }
+    }
+}
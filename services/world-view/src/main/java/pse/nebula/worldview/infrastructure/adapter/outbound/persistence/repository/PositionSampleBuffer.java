@@ -0,0 +1,103 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import java.util.Arrays;
+
+/**
+ * Double-buffered store of position samples between the simulation and a single writer thread.
+ *
+ * Producers copy a sample into preallocated primitive columns of the active batch; the writer
+ * swaps in the other batch and persists the full one without holding the lock. The lock only
+ * covers a few array stores, so producers never wait for storage, and nothing is allocated
+ * per sample. When the active batch is full, new samples are rejected until the next swap.
+ */
+class PositionSampleBuffer {
+
+    private final Object lock = new Object();
+    private Batch active;
+    private Batch spare;
+
+    PositionSampleBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Sample buffer capacity must be positive, got: " + capacity);
+        }
+        this.active = new Batch(capacity);
+        this.spare = new Batch(capacity);
+    }
+
+    /**
+     * Add a sample to the active batch.
+     *
+     * @return The number of pending samples including this one, or -1 if the batch was full
+     */
+    int offer(String journeyId, long timestampMillis, double latitude, double longitude, double progressPercentage) {
+        synchronized (lock) {
+            Batch batch = active;
+            int index = batch.size;
+            if (index == batch.journeyIds.length) {
+                return -1;
+            }
+            batch.journeyIds[index] = journeyId;
+            batch.timestamps[index] = timestampMillis;
+            batch.latitudes[index] = latitude;
+            batch.longitudes[index] = longitude;
+            batch.progress[index] = progressPercentage;
+            batch.size = index + 1;
+            return batch.size;
+        }
+    }
+
+    /**
+     * Take the pending samples. Only called by the writer thread, which must
+     * {@link Batch#clear() clear} the returned batch before taking the next one.
+     *
+     * @return The batch of pending samples, possibly empty
+     */
+    Batch take() {
+        synchronized (lock) {
+            Batch full = active;
+            active = spare;
+            spare = full;
+            return full;
+        }
+    }
+
+    /**
+     * Get the number of samples waiting for the writer.
+     *
+     * @return The pending sample count
+     */
+    int pendingCount() {
+        synchronized (lock) {
+            return active.size;
+        }
+    }
+
+    /**
+     * Samples in column form.
+     */
+    static final class Batch {
+
+        final String[] journeyIds;
+        final long[] timestamps;
+        final double[] latitudes;
+        final double[] longitudes;
+        final double[] progress;
+        int size;
+
+        private Batch(int capacity) {
+            journeyIds = new String[capacity];
+            timestamps = new long[capacity];
+            latitudes = new double[capacity];
+            longitudes = new double[capacity];
+            progress = new double[capacity];
+        }
+
+        /**
+         * Empty the batch and drop its journey ID references.
+         */
+        void clear() {
+            Arrays.fill(journeyIds, 0, size, null);
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pse.nebula.worldview.domain.port.outbound.ShardLeaseRepository;
+
+/**
+ * ShardLeaseRepository for a single world-view instance.
+ * Every lease is granted immediately, so this instance simulates the whole fleet.
+ * Used when sharding is disabled (the default).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "journey.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalShardLeaseRepositoryAdapter implements ShardLeaseRepository {
+
+    public LocalShardLeaseRepositoryAdapter() {
+        log.info("LocalShardLeaseRepositoryAdapter initialized - sharding is disabled, this instance runs all journeys");
+    }
+
+    @Override
+    public int countMembers() {
+        return 1;
+    }
+
+    @Override
+    public boolean tryAcquire(int shard) {
+        return true;
+    }
+
+    @Override
+    public void release(int shard) {
+        // Nothing to release
+    }
+
+    @Override
+    public boolean leasesIntact() {
+        return true;
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+
+    @Override
+    public void releaseAll() {
+        // Nothing to release
+    }
+}
@@ -0,0 +1,281 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.sharding;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+import pse.nebula.worldview.domain.port.outbound.ShardLeaseRepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * ShardLeaseRepository backed by PostgreSQL session-level advisory locks, so instances
+ * sharing the world-view database coordinate without any additional infrastructure.
+ *
+ * A lease is the advisory lock (namespace, shard). Membership is the advisory lock
+ * (namespace + 1, slot) on the first free slot, and the number of members is read from
+ * pg_locks. All locks belong to one dedicated connection opened outside the application's
+ * connection pool: if the instance dies or the connection breaks, PostgreSQL releases them and
+ * other instances take the shards over. A connection that fails validation is aborted rather
+ * than returned anywhere, and its backend is terminated from the new session before that
+ * session takes any lock, so a backend that was only slow cannot keep holding the old locks.
+ *
+ * Enabled with journey.sharding.enabled=true.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "journey.sharding.enabled", havingValue = "true")
+public class PostgresAdvisoryLockShardLeaseAdapter implements ShardLeaseRepository {
+
+    static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?, ?)";
+    static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?, ?)";
+    static final String UNLOCK_ALL_SQL = "SELECT pg_advisory_unlock_all()";
+    static final String BACKEND_SQL =
+            "SELECT pid, backend_start FROM pg_stat_activity WHERE pid = pg_backend_pid()";
+    // Matching backend_start as well keeps a reused pid of an unrelated backend safe
+    static final String TERMINATE_SQL =
+            "SELECT pg_terminate_backend(pid, ?) FROM pg_stat_activity WHERE pid = ? AND backend_start = ?";
+    static final String COUNT_MEMBERS_SQL = """
+            SELECT count(*) FROM pg_locks
+            WHERE locktype = 'advisory' AND granted AND classid::bigint = ?
+              AND database = (SELECT oid FROM pg_database WHERE datname = current_database())
+            """;
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final long TERMINATE_TIMEOUT_MILLIS = 5_000;
+
+    // Opens unpooled connections, so the session holds no slot of the application's pool
+    private final DataSource sessionSource;
+    private final int shardNamespace;
+    private final int memberNamespace;
+    private final int maxInstances;
+
+    // Guarded by this
+    private Connection session;
+    private boolean sessionLost;
+    private int memberSlot = -1;
+    private int sessionPid = -1;
+    private Timestamp sessionStart;
+    // Backend of the last lost session, terminated before the next session takes locks
+    private int lostPid = -1;
+    private Timestamp lostStart;
+
+    @Autowired
+    public PostgresAdvisoryLockShardLeaseAdapter(
+            DataSourceProperties dataSourceProperties,
+            @Value("${journey.sharding.lock-namespace:57560000}") int lockNamespace,
+            @Value("${journey.sharding.max-instances:64}") int maxInstances) {
+        this(new DriverManagerDataSource(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+                lockNamespace, maxInstances);
+    }
+
+    /**
+     * @param sessionSource Source of the session connection; must not hand out pooled connections
+     */
+    PostgresAdvisoryLockShardLeaseAdapter(DataSource sessionSource, int lockNamespace, int maxInstances) {
+        if (lockNamespace < 0 || lockNamespace == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Lock namespace must be between 0 and " + (Integer.MAX_VALUE - 1));
+        }
+        this.sessionSource = sessionSource;
+        this.shardNamespace = lockNamespace;
+        this.memberNamespace = lockNamespace + 1;
+        this.maxInstances = Math.max(1, maxInstances);
+        log.info("PostgresAdvisoryLockShardLeaseAdapter initialized - lock namespace {}", lockNamespace);
+    }
+
+    @Override
+    public synchronized int countMembers() {
+        try {
+            Connection connection = session();
+            joinMembership(connection);
+            try (PreparedStatement statement = connection.prepareStatement(COUNT_MEMBERS_SQL)) {
+                statement.setLong(1, memberNamespace);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? Math.max(1, resultSet.getInt(1)) : 1;
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to count world-view instances", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(int shard) {
+        try {
+            return tryLock(session(), shardNamespace, shard);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to acquire lease on shard " + shard, e);
+        }
+    }
+
+    @Override
+    public synchronized void release(int shard) {
+        if (session == null) {
+            return;
+        }
+        try (PreparedStatement statement = session.prepareStatement(UNLOCK_SQL)) {
+            statement.setInt(1, shardNamespace);
+            statement.setInt(2, shard);
+            statement.execute();
+        } catch (SQLException e) {
+            // A broken session has released the lock already
+            log.warn("Failed to release lease on shard {}: {}", shard, e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized boolean leasesIntact() {
+        try {
+            session();
+        } catch (SQLException e) {
+            log.warn("Lease store unavailable: {}", e.getMessage());
+        }
+        boolean intact = !sessionLost;
+        sessionLost = false;
+        return intact;
+    }
+
+    @Override
+    @PreDestroy
+    public synchronized void releaseAll() {
+        if (session == null) {
+            return;
+        }
+        try (PreparedStatement statement = session.prepareStatement(UNLOCK_ALL_SQL)) {
+            statement.execute();
+        } catch (SQLException e) {
+            log.warn("Failed to release advisory locks: {}", e.getMessage());
+        }
+        closeSession();
+    }
+
+    /**
+     * Get the connection holding this instance's locks, reconnecting if it broke.
+     * A broken connection means every lock it held is gone: it is aborted, and its backend is
+     * terminated from the new connection before that connection is used.
+     */
+    private Connection session() throws SQLException {
+        if (session != null && !session.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+            log.warn("Lease connection lost, all shard leases were released");
+            abortSession();
+            sessionLost = true;
+        }
+        if (session == null) {
+            Connection connection = sessionSource.getConnection();
+            try {
+                connection.setAutoCommit(true);
+                terminateLostBackend(connection);
+                readBackend(connection);
+            } catch (SQLException e) {
+                connection.abort(Runnable::run);
+                throw e;
+            }
+            session = connection;
+        }
+        return session;
+    }
+
+    private void readBackend(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(BACKEND_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+            if (resultSet.next()) {
+                sessionPid = resultSet.getInt(1);
+                sessionStart = resultSet.getTimestamp(2);
+            } else {
+                sessionPid = -1;
+                sessionStart = null;
+            }
+        }
+    }
+
+    /**
+     * Terminate the backend of the lost session if it is still running, waiting until it has
+     * exited and released its locks.
+     */
+    private void terminateLostBackend(Connection connection) throws SQLException {
+        if (lostPid < 0) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(TERMINATE_SQL)) {
+            statement.setLong(1, TERMINATE_TIMEOUT_MILLIS);
+            statement.setInt(2, lostPid);
+            statement.setTimestamp(3, lostStart);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    if (!resultSet.getBoolean(1)) {
+                        throw new SQLException("Backend " + lostPid + " of the lost lease connection is still running");
+                    }
+                    log.info("Terminated backend {} of the lost lease connection", lostPid);
+                }
+            }
+        }
+        lostPid = -1;
+        lostStart = null;
+    }
+
+    private void joinMembership(Connection connection) throws SQLException {
+        if (memberSlot >= 0) {
+            return;
+        }
+        for (int slot = 0; slot < maxInstances; slot++) {
+            if (tryLock(connection, memberNamespace, slot)) {
+                memberSlot = slot;
+                log.info("Joined world-view shard membership as instance slot {}", slot);
+                return;
+            }
+        }
+        throw new IllegalStateException("All " + maxInstances + " world-view instance slots are taken");
+    }
+
+    private static boolean tryLock(Connection connection, int namespace, int key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(TRY_LOCK_SQL)) {
+            statement.setInt(1, namespace);
+            statement.setInt(2, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void closeSession() {
+        try {
+            session.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close lease connection: {}", e.getMessage());
+        }
+        clearSession();
+    }
+
+    /**
+     * Drop a session that failed validation without waiting for it, and remember its backend.
+     */
+    private void abortSession() {
+        try {
+            session.abort(Runnable::run);
+        } catch (SQLException e) {
+            log.debug("Failed to abort lease connection: {}", e.getMessage());
+        }
+        if (sessionPid >= 0) {
+            lostPid = sessionPid;
+            lostStart = sessionStart;
+        }
+        clearSession();
+    }
+
+    private void clearSession() {
+        session = null;
+        memberSlot = -1;
+        sessionPid = -1;
+        sessionStart = null;
+    }
+}
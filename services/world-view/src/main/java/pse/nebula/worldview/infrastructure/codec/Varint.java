@@ -0,0 +1,124 @@
+package pse.nebula.worldview.infrastructure.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned LEB128 varints and zig-zag folded signed varints, shared by the binary route
+ * encodings of the web API and the encoded waypoints of the database.
+ *
+ * An unsigned value is written 7 bits at a time, least significant group first, with the
+ * high bit set on every byte but the last. Signed values are zig-zag folded first
+ * (0, -1, 1, -2, ... become 0, 1, 2, 3, ...), so small magnitudes of either sign take one byte.
+ */
+public final class Varint {
+
+    private Varint() {
+    }
+
+    /**
+     * Write an unsigned varint.
+     */
+    public static void writeUnsigned(long value, OutputStream out) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.write((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Append an unsigned varint to an in-memory stream, which cannot fail.
+     */
+    public static void writeUnsigned(long value, ByteArrayOutputStream out) {
+        try {
+            writeUnsigned(value, (OutputStream) out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a zig-zag folded signed varint.
+     */
+    public static void writeSigned(long value, OutputStream out) throws IOException {
+        writeUnsigned(fold(value), out);
+    }
+
+    /**
+     * Append a zig-zag folded signed varint to an in-memory stream, which cannot fail.
+     */
+    public static void writeSigned(long value, ByteArrayOutputStream out) {
+        writeUnsigned(fold(value), out);
+    }
+
+    /**
+     * Read an unsigned varint.
+     *
+     * @throws EOFException if the stream ends inside the varint
+     * @throws IOException if the varint is longer than 64 bits
+     */
+    public static long readUnsigned(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated varint");
+            }
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint longer than 64 bits");
+    }
+
+    /**
+     * Read an unsigned varint.
+     *
+     * @throws IOException if the buffer ends inside the varint or the varint is longer than 64 bits
+     */
+    public static long readUnsigned(ByteBuffer in) throws IOException {
+        long value = 0;
+        try {
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = in.get();
+                value |= (long) (b & 0x7f) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Truncated varint");
+        }
+        throw new IOException("Varint longer than 64 bits");
+    }
+
+    /**
+     * Read a zig-zag folded signed varint.
+     */
+    public static long readSigned(InputStream in) throws IOException {
+        return unfold(readUnsigned(in));
+    }
+
+    /**
+     * Read a zig-zag folded signed varint.
+     */
+    public static long readSigned(ByteBuffer in) throws IOException {
+        return unfold(readUnsigned(in));
+    }
+
+    private static long fold(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unfold(long folded) {
+        return (folded >>> 1) ^ -(folded & 1);
+    }
+}
@@ -0,0 +1,27 @@
+package pse.nebula.worldview.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import pse.nebula.worldview.domain.model.GeofenceType;
+
+import java.util.List;
+
+/**
+ * Geofence settings bound from "journey.geofence".
+ *
+ * @param enabled Whether any geofences are loaded
+ * @param dealershipRadiusMeters Radius of the fence around the dealership; 0 disables it
+ * @param fences Additional circular geofences
+ */
+@ConfigurationProperties(prefix = "journey.geofence")
+public record GeofenceProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("150") double dealershipRadiusMeters,
+        @DefaultValue List<Fence> fences) {
+
+    /**
+     * One configured circular geofence.
+     */
+    public record Fence(String id, String name, @DefaultValue("CUSTOM") GeofenceType type,
+                        double latitude, double longitude, double radiusMeters) {}
+}
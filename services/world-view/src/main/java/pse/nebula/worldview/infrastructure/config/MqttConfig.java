@@ -3,11 +3,18 @@ package pse.nebula.worldview.infrastructure.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.BinaryCoordinateUpdateCodec;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.CoordinateUpdateCodec;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.DeadReckoningFilter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.JourneyFrameBuilder;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.JsonCoordinateUpdateCodec;
 import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.MqttCoordinatePublisherAdapter;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
 
@@ -39,6 +46,33 @@ public class MqttConfig {
     @Value("${mqtt.topic.prefix:nebula/journey}")
     private String topicPrefix;
 
+    @Value("${mqtt.publisher.event-queue-capacity:1024}")
+    private int eventQueueCapacity;
+
+    @Value("${mqtt.publisher.max-in-flight:64}")
+    private int maxInFlight;
+
+    @Value("${mqtt.publisher.position-encoding:json}")
+    private String positionEncoding;
+
+    @Value("${mqtt.publisher.position-mode:full}")
+    private String positionMode;
+
+    @Value("${mqtt.publisher.dead-reckoning.keyframe-interval-ms:60000}")
+    private long keyframeIntervalMs;
+
+    @Value("${mqtt.publisher.frame.enabled:false}")
+    private boolean frameEnabled;
+
+    @Value("${mqtt.publisher.frame.min-interval-ms:500}")
+    private long frameMinIntervalMs;
+
+    @Value("${mqtt.publisher.frame.delta:true}")
+    private boolean frameDelta;
+
+    @Value("${mqtt.publisher.frame.keyframe-every:20}")
+    private int frameKeyframeEvery;
+
     @Bean
     @ConditionalOnProperty(name = "mqtt.enabled", havingValue = "true", matchIfMissing = true)
     public Mqtt5AsyncClient mqttClient() {
@@ -78,8 +112,34 @@ public class MqttConfig {
     public MqttCoordinatePublisherAdapter mqttCoordinatePublisher(
             Mqtt5AsyncClient mqttClient,
             DtoMapper dtoMapper, 
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            SimulationClock simulationClock) {
         log.info("Creating MqttCoordinatePublisherAdapter with topic prefix: {}", topicPrefix);
-        return new MqttCoordinatePublisherAdapter(mqttClient, dtoMapper, objectMapper, topicPrefix);
+        return new MqttCoordinatePublisherAdapter(mqttClient, dtoMapper, objectMapper, topicPrefix,
+                positionCodec(objectMapper), meterRegistry, eventQueueCapacity, maxInFlight,
+                deadReckoningFilter(simulationClock), frameBuilder());
+    }
+
+    private JourneyFrameBuilder frameBuilder() {
+        return frameEnabled ? new JourneyFrameBuilder(frameMinIntervalMs, frameDelta, frameKeyframeEvery) : null;
+    }
+
+    private DeadReckoningFilter deadReckoningFilter(SimulationClock simulationClock) {
+        return switch (positionMode.trim().toLowerCase()) {
+            case "full" -> null;
+            case "dead-reckoning" -> new DeadReckoningFilter(simulationClock, keyframeIntervalMs);
+            default -> throw new IllegalArgumentException(
+                    "Unsupported mqtt.publisher.position-mode: " + positionMode + " (expected full or dead-reckoning)");
+        };
+    }
+
+    private CoordinateUpdateCodec positionCodec(ObjectMapper objectMapper) {
+        return switch (positionEncoding.trim().toLowerCase()) {
+            case "json" -> new JsonCoordinateUpdateCodec(objectMapper);
+            case "binary" -> new BinaryCoordinateUpdateCodec();
+            default -> throw new IllegalArgumentException(
+                    "Unsupported mqtt.publisher.position-encoding: " + positionEncoding + " (expected json or binary)");
+        };
     }
 }
\ No newline at end of file
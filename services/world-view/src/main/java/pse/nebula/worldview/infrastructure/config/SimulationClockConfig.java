@@ -0,0 +1,36 @@
+package pse.nebula.worldview.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.clock.AcceleratedSimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.clock.ManualSimulationClock;
+
+/**
+ * Selects the clock the simulation runs on.
+ * Real-time (optionally accelerated) by default; a manual clock in headless batch mode.
+ */
+@Slf4j
+@Configuration
+public class SimulationClockConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "journey.simulation.headless.enabled", havingValue = "false", matchIfMissing = true)
+    public SimulationClock acceleratedSimulationClock(
+            @Value("${journey.simulation.acceleration:1.0}") double accelerationFactor) {
+        if (accelerationFactor != 1.0) {
+            log.info("Simulation time runs {}x faster than real time", accelerationFactor);
+        }
+        return new AcceleratedSimulationClock(accelerationFactor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "journey.simulation.headless.enabled", havingValue = "true")
+    public ManualSimulationClock manualSimulationClock() {
+        log.info("Headless batch mode: simulation time is advanced by the batch runner");
+        return new ManualSimulationClock(System.currentTimeMillis());
+    }
+}
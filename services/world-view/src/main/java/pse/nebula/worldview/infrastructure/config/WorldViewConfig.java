@@ -1,14 +1,17 @@
 package pse.nebula.worldview.infrastructure.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Application configuration for the World View service.
- * Enables scheduling for the journey update scheduler.
+ * Enables scheduling for the shard rebalancing and binds the geofence settings.
+ * Journey ticks run on the dedicated JourneyTickScheduler thread instead.
  */
 @Configuration
 @EnableScheduling
+@EnableConfigurationProperties(GeofenceProperties.class)
 public class WorldViewConfig {
 
     // Additional configuration beans can be added here as needed
@@ -7,12 +7,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import pse.nebula.worldview.domain.exception.JourneyNotFoundException;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
 import pse.nebula.worldview.domain.model.JourneyState;
 import pse.nebula.worldview.domain.model.JourneyStatus;
 import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
 import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+import pse.nebula.worldview.domain.port.outbound.ShardLeaseRepository;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.clock.AcceleratedSimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.clock.ManualSimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.NoOpCoordinatePublisherAdapter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.sharding.LocalShardLeaseRepositoryAdapter;
 
 import java.util.Arrays;
 import java.util.List;
@@ -56,12 +64,34 @@ class AutoJourneySchedulerServiceTest {
         );
 
         // Create with short delay for testing
-        schedulerService = new AutoJourneySchedulerService(
+        schedulerService = createScheduler(100L, 1);
+    }
+
+    private AutoJourneySchedulerService createScheduler(long delayBetweenJourneysMs, int maxActiveJourneys) {
+        return createScheduler(new AcceleratedSimulationClock(1.0), delayBetweenJourneysMs, maxActiveJourneys);
+    }
+
+    private AutoJourneySchedulerService createScheduler(SimulationClock clock, long delayBetweenJourneysMs,
+                                                        int maxActiveJourneys) {
+        return createScheduler(clock, new ShardOwnershipService(
+                new LocalShardLeaseRepositoryAdapter(), new SimpleMeterRegistry(), 16, maxActiveJourneys, 500L),
+                delayBetweenJourneysMs);
+    }
+
+    private AutoJourneySchedulerService createScheduler(SimulationClock clock, ShardOwnershipService shardOwnership,
+                                                        long delayBetweenJourneysMs) {
+        JourneySimulationEngine engine = new JourneySimulationEngine(
+                journeyUseCase, new NoOpCoordinatePublisherAdapter(), new SimpleMeterRegistry(), 1, 64);
+        return new AutoJourneySchedulerService(
                 journeyUseCase,
                 routeUseCase,
-                500L,   // updateIntervalMs
-                13.89,  // defaultSpeedMps
-                100L    // delayBetweenJourneysMs (short for testing)
+                engine,
+                clock,
+                shardOwnership,
+                500L,                   // updateIntervalMs
+                13.89,                  // defaultSpeedMps
+                delayBetweenJourneysMs,
+                100                     // maxStartsPerTick
         );
     }
 
@@ -77,14 +107,14 @@ class AutoJourneySchedulerServiceTest {
             newState.start();
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(newState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(newState);
 
             // When
             schedulerService.manageJourneys();
 
             // Then
             verify(routeUseCase).getRandomRoute();
-            verify(journeyUseCase).startNewJourney(argThat(id -> id.startsWith("auto-journey-")), eq(13.89));
+            verify(journeyUseCase).startNewJourney(argThat(id -> id.startsWith("auto-journey-")), eq(testRoute), eq(13.89));
             assertTrue(schedulerService.hasActiveJourney());
         }
 
@@ -96,15 +126,14 @@ class AutoJourneySchedulerServiceTest {
             journeyState.start();
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys(); // Start journey
 
             String journeyId = schedulerService.getActiveJourneyId().orElse("");
 
-            when(journeyUseCase.journeyExists(journeyId)).thenReturn(true);
             when(journeyUseCase.getJourneyState(journeyId)).thenReturn(journeyState);
-            when(journeyUseCase.advanceJourney(eq(journeyId), anyDouble())).thenReturn(journeyState.getCurrentPosition());
+            when(journeyUseCase.advanceJourney(eq(journeyId), anyDouble())).thenReturn(false);
 
             // When
             schedulerService.manageJourneys();
@@ -121,20 +150,20 @@ class AutoJourneySchedulerServiceTest {
             journeyState.start();
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys(); // Start journey
 
             String journeyId = schedulerService.getActiveJourneyId().orElse("");
 
             // Journey no longer exists
-            when(journeyUseCase.journeyExists(journeyId)).thenReturn(false);
+            when(journeyUseCase.getJourneyState(journeyId)).thenThrow(new JourneyNotFoundException(journeyId));
 
             // When
             schedulerService.manageJourneys();
 
-            // Then
-            assertFalse(schedulerService.hasActiveJourney());
+            // Then - The vanished journey is dropped and its slot is refilled
+            assertFalse(schedulerService.getActiveJourneyIds().contains(journeyId));
         }
 
         @Test
@@ -142,18 +171,15 @@ class AutoJourneySchedulerServiceTest {
         void shouldHandleCompletedJourney() {
             // Given - Start a journey first
             JourneyState journeyState = mock(JourneyState.class);
-            when(journeyState.getStatus()).thenReturn(JourneyStatus.IN_PROGRESS);
-            when(journeyState.getRoute()).thenReturn(testRoute);
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys(); // Start journey
 
             String journeyId = schedulerService.getActiveJourneyId().orElse("");
 
             // Journey is now completed
-            when(journeyUseCase.journeyExists(journeyId)).thenReturn(true);
             when(journeyState.getStatus()).thenReturn(JourneyStatus.COMPLETED);
             when(journeyUseCase.getJourneyState(journeyId)).thenReturn(journeyState);
 
@@ -173,20 +199,20 @@ class AutoJourneySchedulerServiceTest {
             journeyState.start();
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys(); // Start journey
 
             String journeyId = schedulerService.getActiveJourneyId().orElse("");
 
             // Throw exception when checking journey
-            when(journeyUseCase.journeyExists(journeyId)).thenThrow(new RuntimeException("DB error"));
+            when(journeyUseCase.getJourneyState(journeyId)).thenThrow(new RuntimeException("DB error"));
 
             // When
             schedulerService.manageJourneys();
 
-            // Then - Should clear active journey on error
-            assertFalse(schedulerService.hasActiveJourney());
+            // Then - Should clear the failed journey on error
+            assertFalse(schedulerService.getActiveJourneyIds().contains(journeyId));
         }
 
         @Test
@@ -203,6 +229,56 @@ class AutoJourneySchedulerServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("manageSlots() and advanceJourneys() Tests")
+    class PerJourneyTickTests {
+
+        @Test
+        @DisplayName("Should start journeys without advancing them")
+        void shouldStartJourneysWithoutAdvancing() {
+            // Given
+            JourneyState journeyState = new JourneyState("auto-journey-test", testRoute, 13.89);
+            journeyState.start();
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
+
+            // When
+            schedulerService.manageSlots();
+
+            // Then
+            assertTrue(schedulerService.hasActiveJourney());
+            verify(journeyUseCase, never()).advanceJourney(anyString(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should advance journeys by their own elapsed time and clean up completed ones")
+        void shouldAdvanceJourneysIndividually() {
+            // Given
+            JourneyState journeyState = mock(JourneyState.class);
+            when(journeyState.getStatus()).thenReturn(JourneyStatus.IN_PROGRESS);
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
+            schedulerService.manageSlots();
+            String journeyId = schedulerService.getActiveJourneyId().orElseThrow();
+            when(journeyUseCase.getJourneyState(journeyId)).thenReturn(journeyState);
+
+            // When
+            schedulerService.advanceJourneys(new String[]{journeyId}, new double[]{1.25}, 1);
+
+            // Then
+            verify(journeyUseCase).advanceJourney(journeyId, 1.25);
+
+            // When - the journey reached its destination
+            when(journeyState.getStatus()).thenReturn(JourneyStatus.COMPLETED);
+            schedulerService.advanceJourneys(new String[]{journeyId}, new double[]{1.25}, 1);
+
+            // Then
+            verify(journeyUseCase).stopJourney(journeyId);
+            assertFalse(schedulerService.hasActiveJourney());
+            assertEquals(1, schedulerService.getCompletedJourneyCount());
+        }
+    }
+
     @Nested
     @DisplayName("getActiveJourneyId() Tests")
     class GetActiveJourneyIdTests {
@@ -222,7 +298,7 @@ class AutoJourneySchedulerServiceTest {
             journeyState.start();
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys();
 
@@ -253,7 +329,7 @@ class AutoJourneySchedulerServiceTest {
             journeyState.start();
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys();
 
@@ -281,7 +357,7 @@ class AutoJourneySchedulerServiceTest {
             journeyState.start();
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys();
 
@@ -303,7 +379,7 @@ class AutoJourneySchedulerServiceTest {
             journeyState.start();
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys();
 
@@ -326,23 +402,18 @@ class AutoJourneySchedulerServiceTest {
         @DisplayName("Should wait before starting new journey after completion")
         void shouldWaitBeforeStartingNewJourneyAfterCompletion() {
             // Given - Create scheduler with longer delay
-            AutoJourneySchedulerService longDelayScheduler = new AutoJourneySchedulerService(
-                    journeyUseCase, routeUseCase, 500L, 13.89, 1000L // 1-second delay
-            );
+            AutoJourneySchedulerService longDelayScheduler = createScheduler(1000L, 1); // 1-second delay
 
             JourneyState journeyState = mock(JourneyState.class);
-            when(journeyState.getStatus()).thenReturn(JourneyStatus.IN_PROGRESS);
-            when(journeyState.getRoute()).thenReturn(testRoute);
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             // Start first journey
             longDelayScheduler.manageJourneys();
             String journeyId = longDelayScheduler.getActiveJourneyId().orElse("");
 
             // Complete the journey
-            when(journeyUseCase.journeyExists(journeyId)).thenReturn(true);
             when(journeyState.getStatus()).thenReturn(JourneyStatus.COMPLETED);
             when(journeyUseCase.getJourneyState(journeyId)).thenReturn(journeyState);
 
@@ -368,17 +439,14 @@ class AutoJourneySchedulerServiceTest {
         void shouldHandleStopJourneyExceptionDuringCompletion() {
             // Given
             JourneyState journeyState = mock(JourneyState.class);
-            when(journeyState.getStatus()).thenReturn(JourneyStatus.IN_PROGRESS);
-            when(journeyState.getRoute()).thenReturn(testRoute);
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys(); // Start journey
             String journeyId = schedulerService.getActiveJourneyId().orElse("");
 
             // Journey completes but stopJourney throws
-            when(journeyUseCase.journeyExists(journeyId)).thenReturn(true);
             when(journeyState.getStatus()).thenReturn(JourneyStatus.COMPLETED);
             when(journeyUseCase.getJourneyState(journeyId)).thenReturn(journeyState);
             doThrow(new RuntimeException("Already deleted")).when(journeyUseCase).stopJourney(journeyId);
@@ -396,20 +464,17 @@ class AutoJourneySchedulerServiceTest {
             // Given
             JourneyState journeyState = mock(JourneyState.class);
             when(journeyState.getStatus())
-                    .thenReturn(JourneyStatus.IN_PROGRESS)  // First call (start check)
-                    .thenReturn(JourneyStatus.IN_PROGRESS)  // Second call (during active journey handling)
-                    .thenReturn(JourneyStatus.COMPLETED);    // Third call (after advance)
-            when(journeyState.getRoute()).thenReturn(testRoute);
+                    .thenReturn(JourneyStatus.IN_PROGRESS)  // First call (before advance)
+                    .thenReturn(JourneyStatus.COMPLETED);    // Second call (after advance)
 
             when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
-            when(journeyUseCase.startNewJourney(anyString(), eq(13.89))).thenReturn(journeyState);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
 
             schedulerService.manageJourneys(); // Start journey
             String journeyId = schedulerService.getActiveJourneyId().orElse("");
 
-            when(journeyUseCase.journeyExists(journeyId)).thenReturn(true);
             when(journeyUseCase.getJourneyState(journeyId)).thenReturn(journeyState);
-            when(journeyUseCase.advanceJourney(eq(journeyId), anyDouble())).thenReturn(testRoute.endPoint());
+            when(journeyUseCase.advanceJourney(eq(journeyId), anyDouble())).thenReturn(true);
 
             // When
             schedulerService.manageJourneys();
@@ -418,4 +483,381 @@ class AutoJourneySchedulerServiceTest {
             verify(journeyUseCase).stopJourney(journeyId);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Multiple Journeys Tests")
+    class MultipleJourneysTests {
+
+        @Test
+        @DisplayName("Should fill all journey slots")
+        void shouldFillAllJourneySlots() {
+            // Given
+            AutoJourneySchedulerService fleetScheduler = createScheduler(100L, 3);
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89)))
+                    .thenAnswer(invocation -> new JourneyState(invocation.getArgument(0), testRoute, 13.89));
+
+            // When
+            fleetScheduler.manageJourneys();
+
+            // Then
+            assertEquals(3, fleetScheduler.getActiveJourneyIds().size());
+            verify(journeyUseCase, times(3)).startNewJourney(anyString(), eq(testRoute), eq(13.89));
+        }
+
+        @Test
+        @DisplayName("Should advance every active journey on each tick")
+        void shouldAdvanceEveryActiveJourney() {
+            // Given
+            AutoJourneySchedulerService fleetScheduler = createScheduler(100L, 3);
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenAnswer(invocation -> {
+                JourneyState state = new JourneyState(invocation.getArgument(0), testRoute, 13.89);
+                state.start();
+                when(journeyUseCase.getJourneyState(state.getJourneyId())).thenReturn(state);
+                return state;
+            });
+            fleetScheduler.manageJourneys();
+
+            // When
+            fleetScheduler.manageJourneys();
+
+            // Then
+            for (String journeyId : fleetScheduler.getActiveJourneyIds()) {
+                verify(journeyUseCase).advanceJourney(journeyId, 0.5);
+            }
+        }
+
+        @Test
+        @DisplayName("Should only refill the slot of a completed journey")
+        void shouldOnlyRefillSlotOfCompletedJourney() {
+            // Given
+            AutoJourneySchedulerService fleetScheduler = createScheduler(1000L, 2);
+            JourneyState completedState = mock(JourneyState.class);
+            when(completedState.getStatus()).thenReturn(JourneyStatus.COMPLETED);
+            JourneyState runningState = mock(JourneyState.class);
+            when(runningState.getStatus()).thenReturn(JourneyStatus.IN_PROGRESS);
+
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(completedState, runningState);
+            fleetScheduler.manageJourneys();
+
+            List<String> journeyIds = fleetScheduler.getActiveJourneyIds();
+            when(journeyUseCase.getJourneyState(journeyIds.get(0))).thenReturn(completedState);
+            when(journeyUseCase.getJourneyState(journeyIds.get(1))).thenReturn(runningState);
+
+            // When
+            fleetScheduler.manageJourneys();
+
+            // Then - Completed journey is removed, its slot is still cooling down
+            verify(journeyUseCase).stopJourney(journeyIds.get(0));
+            assertEquals(List.of(journeyIds.get(1)), fleetScheduler.getActiveJourneyIds());
+            verify(journeyUseCase, times(2)).startNewJourney(anyString(), eq(testRoute), eq(13.89));
+        }
+    }
+
+    @Nested
+    @DisplayName("Stored Journey Resume Tests")
+    class StoredJourneyResumeTests {
+
+        @Test
+        @DisplayName("Should resume stored journeys instead of starting new ones")
+        void shouldResumeStoredJourneys() {
+            // Given
+            JourneyState storedState = JourneyState.restore("auto-journey-stored", testRoute, 13.89,
+                    JourneyStatus.IN_PROGRESS, 2500.0);
+            when(journeyUseCase.getAllJourneyStates()).thenReturn(List.of(storedState));
+            when(journeyUseCase.getJourneyState("auto-journey-stored")).thenReturn(storedState);
+
+            // When
+            schedulerService.manageJourneys();
+
+            // Then
+            assertEquals(List.of("auto-journey-stored"), schedulerService.getActiveJourneyIds());
+            verify(journeyUseCase).advanceJourney("auto-journey-stored", 0.5);
+            verify(journeyUseCase, never()).startNewJourney(anyString(), any(DrivingRoute.class), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should clean up stored journeys that already completed")
+        void shouldStopCompletedStoredJourneys() {
+            // Given
+            JourneyState completedState = JourneyState.restore("auto-journey-done", testRoute, 13.89,
+                    JourneyStatus.COMPLETED, 0.0);
+            when(journeyUseCase.getAllJourneyStates()).thenReturn(List.of(completedState));
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89)))
+                    .thenAnswer(invocation -> new JourneyState(invocation.getArgument(0), testRoute, 13.89));
+
+            // When
+            schedulerService.manageJourneys();
+
+            // Then
+            verify(journeyUseCase).stopJourney("auto-journey-done");
+            assertFalse(schedulerService.getActiveJourneyIds().contains("auto-journey-done"));
+        }
+
+        @Test
+        @DisplayName("Should resume no more stored journeys than the fleet has slots and keep the others stored")
+        void shouldResumeStoredJourneysWithinCapacity() {
+            // Given - a fleet of one slot and two stored journeys
+            JourneyState first = JourneyState.restore("auto-journey-first", testRoute, 13.89,
+                    JourneyStatus.IN_PROGRESS, 100.0);
+            JourneyState second = JourneyState.restore("auto-journey-second", testRoute, 13.89,
+                    JourneyStatus.IN_PROGRESS, 200.0);
+            when(journeyUseCase.getAllJourneyStates()).thenReturn(List.of(first, second));
+            when(journeyUseCase.getJourneyState("auto-journey-first")).thenReturn(first);
+
+            // When
+            schedulerService.manageJourneys();
+
+            // Then
+            assertEquals(List.of("auto-journey-first"), schedulerService.getActiveJourneyIds());
+            verify(journeyUseCase, never()).stopJourney(anyString());
+            verify(journeyUseCase, never()).startNewJourney(anyString(), any(DrivingRoute.class), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should resume a waiting stored journey once a slot is free")
+        void shouldResumeWaitingJourneyWhenSlotFrees() {
+            // Given - the resumed journey disappears, freeing the only slot
+            JourneyState first = JourneyState.restore("auto-journey-first", testRoute, 13.89,
+                    JourneyStatus.IN_PROGRESS, 100.0);
+            JourneyState second = JourneyState.restore("auto-journey-second", testRoute, 13.89,
+                    JourneyStatus.IN_PROGRESS, 200.0);
+            when(journeyUseCase.getAllJourneyStates()).thenReturn(List.of(first, second));
+            when(journeyUseCase.getJourneyState("auto-journey-first"))
+                    .thenThrow(new JourneyNotFoundException("auto-journey-first"));
+
+            // When
+            schedulerService.manageJourneys();
+
+            // Then
+            assertEquals(List.of("auto-journey-second"), schedulerService.getActiveJourneyIds());
+            verify(journeyUseCase, never()).stopJourney("auto-journey-second");
+        }
+
+        @Test
+        @DisplayName("Should keep stored journeys stored while no shard is owned")
+        void shouldKeepStoredJourneysWithoutOwnedShards() {
+            // Given
+            ShardLeaseRepository leases = mock(ShardLeaseRepository.class);
+            when(leases.countMembers()).thenReturn(1);
+            when(leases.leasesIntact()).thenReturn(true);
+            ShardOwnershipService shardOwnership = new ShardOwnershipService(leases, new SimpleMeterRegistry(), 16, 4, 500L);
+            AutoJourneySchedulerService scheduler = createScheduler(new AcceleratedSimulationClock(1.0), shardOwnership, 100L);
+            JourneyState stored = JourneyState.restore("auto-journey-stored", testRoute, 13.89,
+                    JourneyStatus.IN_PROGRESS, 100.0);
+            when(journeyUseCase.getAllJourneyStates()).thenReturn(List.of(stored));
+
+            // When - the lease of shard 0 is only granted by the second rebalance
+            shardOwnership.rebalance();
+            scheduler.manageSlots();
+            when(leases.tryAcquire(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) == 0);
+            shardOwnership.rebalance();
+            scheduler.manageSlots();
+
+            // Then
+            verify(journeyUseCase, never()).stopJourney(anyString());
+            assertEquals(List.of("auto-journey-stored"), scheduler.getActiveJourneyIds());
+        }
+
+        @Test
+        @DisplayName("Should only look for stored journeys on the first tick")
+        void shouldResumeOnlyOnce() {
+            // Given
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89)))
+                    .thenAnswer(invocation -> new JourneyState(invocation.getArgument(0), testRoute, 13.89));
+
+            // When
+            schedulerService.manageJourneys();
+            schedulerService.manageJourneys();
+
+            // Then
+            verify(journeyUseCase, times(1)).getAllJourneyStates();
+        }
+    }
+
+    @Nested
+    @DisplayName("Sharding Tests")
+    class ShardingTests {
+
+        @Mock
+        private ShardLeaseRepository shardLeases;
+
+        private ShardOwnershipService shardOwnership;
+
+        @BeforeEach
+        void setUpShards() {
+            // Two instances; this one holds the even shards, the fleet of 4 lives in shards 0-3
+            when(shardLeases.countMembers()).thenReturn(2);
+            when(shardLeases.leasesIntact()).thenReturn(true);
+            when(shardLeases.tryAcquire(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) % 2 == 0);
+            shardOwnership = new ShardOwnershipService(shardLeases, new SimpleMeterRegistry(), 16, 4, 500L);
+
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenAnswer(invocation -> {
+                JourneyState state = new JourneyState(invocation.getArgument(0), testRoute, 13.89);
+                state.start();
+                return state;
+            });
+        }
+
+        @Test
+        @DisplayName("Should only fill the slots of owned shards")
+        void shouldOnlyFillOwnedShards() {
+            // Given
+            AutoJourneySchedulerService shardedScheduler = createScheduler(
+                    new AcceleratedSimulationClock(1.0), shardOwnership, 100L);
+
+            // When
+            shardedScheduler.manageJourneys();
+
+            // Then - shards 0 and 2 have one slot each
+            assertEquals(2, shardedScheduler.getActiveJourneyIds().size());
+        }
+
+        @Test
+        @DisplayName("Should stop journeys when the shard leases are lost")
+        void shouldStopJourneysWhenLeasesLost() {
+            // Given
+            AutoJourneySchedulerService shardedScheduler = createScheduler(
+                    new AcceleratedSimulationClock(1.0), shardOwnership, 100L);
+            shardedScheduler.manageJourneys();
+            List<String> journeyIds = shardedScheduler.getActiveJourneyIds();
+            journeyIds.forEach(journeyId -> when(journeyUseCase.getJourneyState(journeyId))
+                    .thenReturn(new JourneyState(journeyId, testRoute, 13.89)));
+            when(shardLeases.leasesIntact()).thenReturn(false);
+            shardOwnership.rebalance();
+
+            // When
+            shardedScheduler.manageJourneys();
+
+            // Then
+            assertTrue(shardedScheduler.getActiveJourneyIds().isEmpty());
+            journeyIds.forEach(journeyId -> verify(journeyUseCase).stopJourney(journeyId));
+        }
+
+        @Test
+        @DisplayName("Should hold back journey updates while the leases are not confirmed")
+        void shouldNotAdvanceJourneysWithUnconfirmedLeases() throws InterruptedException {
+            // Given - a shared lease store whose last confirmation is older than three 1 ms intervals
+            when(shardLeases.isShared()).thenReturn(true);
+            ShardOwnershipService fencedOwnership = new ShardOwnershipService(
+                    shardLeases, new SimpleMeterRegistry(), 16, 4, 1L);
+            AutoJourneySchedulerService shardedScheduler = createScheduler(
+                    new ManualSimulationClock(0), fencedOwnership, 100L);
+            shardedScheduler.manageSlots();
+            Thread.sleep(20);
+
+            // When
+            shardedScheduler.manageJourneys();
+            shardedScheduler.advanceJourneys(shardedScheduler.getActiveJourneyIds().toArray(String[]::new),
+                    new double[] {0.5, 0.5}, 2);
+
+            // Then - the journeys are kept, but neither advanced nor published
+            assertEquals(2, shardedScheduler.getActiveJourneyIds().size());
+            verify(journeyUseCase, never()).getJourneyState(anyString());
+            verify(journeyUseCase, never()).advanceJourney(anyString(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should keep journeys of a draining shard running and release it once they completed")
+        void shouldReleaseDrainedShardAfterCompletion() {
+            // Given
+            ManualSimulationClock clock = new ManualSimulationClock(0);
+            AutoJourneySchedulerService shardedScheduler = createScheduler(clock, shardOwnership, 100L);
+            shardedScheduler.manageJourneys();
+            List<String> journeyIds = shardedScheduler.getActiveJourneyIds();
+            journeyIds.forEach(journeyId -> when(journeyUseCase.getJourneyState(journeyId))
+                    .thenReturn(new JourneyState(journeyId, testRoute, 13.89)));
+
+            // When - a third instance joins, this one drains its highest shards including shard 2
+            when(shardLeases.countMembers()).thenReturn(16);
+            shardOwnership.rebalance();
+            shardedScheduler.manageJourneys();
+
+            // Then - the journeys keep running and the lease is kept
+            assertTrue(shardOwnership.isDraining(2));
+            assertEquals(journeyIds, shardedScheduler.getActiveJourneyIds());
+            verify(shardLeases, never()).release(2);
+
+            // When - the journeys complete
+            JourneyState completed = mock(JourneyState.class);
+            when(completed.getStatus()).thenReturn(JourneyStatus.COMPLETED);
+            journeyIds.forEach(journeyId -> when(journeyUseCase.getJourneyState(journeyId)).thenReturn(completed));
+            shardedScheduler.manageJourneys();
+            clock.advance(1_000);
+            shardedScheduler.manageJourneys();
+
+            // Then - the drained shard is handed back, no new journey started in it,
+            // and its lease is given up by the next rebalance rather than on the tick
+            assertFalse(shardOwnership.owns(2));
+            verify(shardLeases, never()).release(2);
+            shardOwnership.rebalance();
+            verify(shardLeases).release(2);
+            verify(journeyUseCase, times(3)).startNewJourney(anyString(), eq(testRoute), eq(13.89));
+        }
+    }
+
+    @Nested
+    @DisplayName("Simulation Clock Tests")
+    class SimulationClockTests {
+
+        private void givenRunningJourneys() {
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenAnswer(invocation -> {
+                JourneyState state = new JourneyState(invocation.getArgument(0), testRoute, 13.89);
+                state.start();
+                when(journeyUseCase.getJourneyState(state.getJourneyId())).thenReturn(state);
+                return state;
+            });
+        }
+
+        @Test
+        @DisplayName("Should advance journeys by the interval times the acceleration factor")
+        void shouldApplyAccelerationFactor() {
+            // Given
+            AutoJourneySchedulerService warpScheduler = createScheduler(new AcceleratedSimulationClock(60.0), 100L, 1);
+            givenRunningJourneys();
+            warpScheduler.manageJourneys();
+            String journeyId = warpScheduler.getActiveJourneyId().orElseThrow();
+
+            // When
+            warpScheduler.manageJourneys();
+
+            // Then - 500ms interval at 60x covers 30 simulated seconds
+            verify(journeyUseCase).advanceJourney(journeyId, 30.0);
+        }
+
+        @Test
+        @DisplayName("Should measure the delay between journeys in simulated time")
+        void shouldMeasureDelayInSimulatedTime() {
+            // Given
+            ManualSimulationClock clock = new ManualSimulationClock(0);
+            AutoJourneySchedulerService manualScheduler = createScheduler(clock, 5000L, 1);
+            JourneyState journeyState = mock(JourneyState.class);
+            when(routeUseCase.getRandomRoute()).thenReturn(testRoute);
+            when(journeyUseCase.startNewJourney(anyString(), eq(testRoute), eq(13.89))).thenReturn(journeyState);
+            manualScheduler.manageJourneys();
+            String journeyId = manualScheduler.getActiveJourneyId().orElseThrow();
+            when(journeyState.getStatus()).thenReturn(JourneyStatus.COMPLETED);
+            when(journeyUseCase.getJourneyState(journeyId)).thenReturn(journeyState);
+            manualScheduler.manageJourneys();
+
+            // When - Just before and at the end of the delay
+            clock.advance(4999);
+            manualScheduler.manageJourneys();
+            boolean activeBeforeDelay = manualScheduler.hasActiveJourney();
+            clock.advance(1);
+            manualScheduler.manageJourneys();
+
+            // Then
+            assertFalse(activeBeforeDelay);
+            assertTrue(manualScheduler.hasActiveJourney());
+            assertEquals(2, manualScheduler.getStartedJourneyCount());
+            assertEquals(1, manualScheduler.getCompletedJourneyCount());
+        }
+    }
+}
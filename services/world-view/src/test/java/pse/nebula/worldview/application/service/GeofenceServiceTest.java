@@ -0,0 +1,192 @@
+package pse.nebula.worldview.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
+import pse.nebula.worldview.domain.model.GeofenceIndex;
+import pse.nebula.worldview.domain.model.GeofenceTransition;
+import pse.nebula.worldview.domain.model.GeofenceType;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.port.outbound.GeofenceRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GeofenceService Unit Tests")
+class GeofenceServiceTest {
+
+    // Straight 1.1 km route heading north through a 200 m fence centered halfway
+    private static final DrivingRoute ROUTE = new DrivingRoute("route-1", "Test Route", null,
+            List.of(new Coordinate(48.8000, 9.1500), new Coordinate(48.8100, 9.1500)), 1112, 100);
+    private static final Geofence MIDDLE = new Geofence(
+            "middle", "Middle", GeofenceType.SPEED_ZONE, new Coordinate(48.8050, 9.1500), 200);
+    private static final Geofence START = new Geofence(
+            "start", "Start", GeofenceType.CITY_ZONE, new Coordinate(48.8000, 9.1500), 100);
+
+    private GeofenceRepository geofenceRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private GeofenceService geofenceService;
+
+    @BeforeEach
+    void setUp() {
+        geofenceRepository = mock(GeofenceRepository.class);
+        when(geofenceRepository.findAll()).thenReturn(List.of(START, MIDDLE));
+        meterRegistry = new SimpleMeterRegistry();
+        geofenceService = new GeofenceService(geofenceRepository, meterRegistry, 0.01);
+    }
+
+    private double eventCount(String transition) {
+        return meterRegistry.get("worldview.geofence.events").tag("transition", transition).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Evaluation Tests")
+    class EvaluationTests {
+
+        @Test
+        @DisplayName("Should emit enter and exit events as the journey crosses fences")
+        void shouldEmitEnterAndExitEvents() {
+            // Given
+            JourneyState journey = new JourneyState("journey-1", ROUTE, 10.0);
+            journey.start();
+
+            // When - start inside START, then drive through MIDDLE
+            List<GeofenceEvent> events = new ArrayList<>(geofenceService.evaluate(journey));
+            while (journey.getStatus() != JourneyStatus.COMPLETED) {
+                journey.advance(1.0);
+                events.addAll(geofenceService.evaluate(journey));
+            }
+
+            // Then
+            assertEquals(List.of("ENTER start", "EXIT start", "ENTER middle", "EXIT middle"),
+                    events.stream().map(e -> e.transition() + " " + e.geofence().id()).toList());
+            assertTrue(events.stream().allMatch(e -> e.journeyId().equals("journey-1")));
+            assertEquals(2.0, eventCount("enter"));
+            assertEquals(2.0, eventCount("exit"));
+        }
+
+        @Test
+        @DisplayName("Should emit nothing while membership is unchanged")
+        void shouldEmitNothingWhileUnchanged() {
+            JourneyState journey = new JourneyState("journey-1", ROUTE, 1.0);
+            journey.start();
+            geofenceService.evaluate(journey);
+
+            journey.advance(1.0);
+
+            assertTrue(geofenceService.evaluate(journey).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should emit exits before enters")
+        void shouldEmitExitsFirst() {
+            // Given two adjacent fences the journey moves between in one step
+            Geofence south = new Geofence("south", "South", GeofenceType.CUSTOM, new Coordinate(48.8000, 9.1500), 300);
+            Geofence north = new Geofence("north", "North", GeofenceType.CUSTOM, new Coordinate(48.8100, 9.1500), 300);
+            when(geofenceRepository.findAll()).thenReturn(List.of(north, south));
+            GeofenceService service = new GeofenceService(geofenceRepository, new SimpleMeterRegistry(), 0.01);
+            JourneyState journey = new JourneyState("journey-1", ROUTE, 1000.0);
+            journey.start();
+            service.evaluate(journey);
+
+            // When
+            journey.advance(1.0);
+            List<GeofenceEvent> events = service.evaluate(journey);
+
+            // Then
+            assertEquals(2, events.size());
+            assertEquals(GeofenceTransition.EXIT, events.get(0).transition());
+            assertEquals("south", events.get(0).geofence().id());
+            assertEquals(GeofenceTransition.ENTER, events.get(1).transition());
+            assertEquals("north", events.get(1).geofence().id());
+        }
+
+        @Test
+        @DisplayName("Should treat a forgotten journey as outside every fence")
+        void shouldForgetJourney() {
+            JourneyState journey = new JourneyState("journey-1", ROUTE, 1.0);
+            journey.start();
+            geofenceService.evaluate(journey);
+
+            geofenceService.forgetJourney("journey-1");
+
+            assertEquals(1, geofenceService.evaluate(journey).size());
+        }
+
+        @Test
+        @DisplayName("Should load geofences only once")
+        void shouldLoadGeofencesOnce() {
+            geofenceService.getAllGeofences();
+            geofenceService.getGeofencesAt(new Coordinate(48.8050, 9.1500));
+
+            verify(geofenceRepository, times(1)).findAll();
+            assertEquals(List.of(MIDDLE), geofenceService.getGeofencesAt(new Coordinate(48.8050, 9.1500)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Scale Tests")
+    class ScaleTests {
+
+        @Test
+        @DisplayName("Should evaluate 10k journeys against 50k fences checking only nearby fences")
+        void shouldEvaluateManyJourneysAgainstNearbyFences() {
+            // Given 50k fences of 50-500 m scattered over the Stuttgart region
+            Random random = new Random(5);
+            List<Geofence> fences = new ArrayList<>(50_000);
+            for (int i = 0; i < 50_000; i++) {
+                fences.add(new Geofence("fence-" + i, "Fence " + i, GeofenceType.CUSTOM,
+                        new Coordinate(48.6 + random.nextDouble() * 0.4, 8.9 + random.nextDouble() * 0.6),
+                        50 + random.nextDouble() * 450));
+            }
+            when(geofenceRepository.findAll()).thenReturn(fences);
+            GeofenceService service = new GeofenceService(geofenceRepository, new SimpleMeterRegistry(), 0.01);
+            GeofenceIndex index = GeofenceIndex.build(fences, 0.01);
+
+            List<JourneyState> journeys = new ArrayList<>(10_000);
+            for (int i = 0; i < 10_000; i++) {
+                double lat = 48.6 + random.nextDouble() * 0.4;
+                double lon = 8.9 + random.nextDouble() * 0.6;
+                DrivingRoute route = new DrivingRoute("route-" + i, "Route", null,
+                        List.of(new Coordinate(lat, lon), new Coordinate(lat + 0.05, lon)), 5560, 400);
+                JourneyState journey = new JourneyState("journey-" + i, route, 13.89);
+                journey.start();
+                journeys.add(journey);
+            }
+
+            // When - ten ticks over all journeys
+            long events = 0;
+            int maxCandidates = 0;
+            for (int tick = 0; tick < 10; tick++) {
+                for (JourneyState journey : journeys) {
+                    journey.advance(2.0);
+                    events += service.evaluate(journey).size();
+                    maxCandidates = Math.max(maxCandidates,
+                            index.candidateCount(journey.getCurrentLatitude(), journey.getCurrentLongitude()));
+                }
+            }
+
+            // Then - every lookup checks a few dozen fences instead of all 50k, and finds the right ones
+            assertTrue(events > 0);
+            assertTrue(maxCandidates <= fences.size() / 200, "a lookup checked " + maxCandidates + " fences");
+            for (JourneyState journey : journeys.subList(0, 100)) {
+                Coordinate position = journey.getCurrentPosition();
+                List<Geofence> expected = fences.stream()
+                        .filter(fence -> fence.contains(position.latitude(), position.longitude()))
+                        .toList();
+                assertEquals(expected, service.getGeofencesAt(position));
+            }
+        }
+    }
+}
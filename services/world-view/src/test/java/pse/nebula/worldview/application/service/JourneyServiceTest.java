@@ -13,11 +13,20 @@ import pse.nebula.worldview.domain.exception.JourneyAlreadyExistsException;
 import pse.nebula.worldview.domain.exception.JourneyNotFoundException;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
+import pse.nebula.worldview.domain.model.GeofenceTransition;
+import pse.nebula.worldview.domain.model.GeofenceType;
 import pse.nebula.worldview.domain.model.JourneyState;
 import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.model.JourneyTrail;
+import pse.nebula.worldview.domain.port.inbound.GeofenceUseCase;
 import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
 import pse.nebula.worldview.domain.port.outbound.CoordinatePublisher;
+import pse.nebula.worldview.domain.port.outbound.JourneyAnalyticsRepository;
 import pse.nebula.worldview.domain.port.outbound.JourneyStateRepository;
+import pse.nebula.worldview.domain.port.outbound.JourneyTrailRepository;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
 
 import java.util.Arrays;
 import java.util.List;
@@ -40,6 +49,18 @@ class JourneyServiceTest {
     @Mock
     private CoordinatePublisher coordinatePublisher;
 
+    @Mock
+    private GeofenceUseCase geofenceUseCase;
+
+    @Mock
+    private JourneyTrailRepository journeyTrailRepository;
+
+    @Mock
+    private SimulationClock simulationClock;
+
+    @Mock
+    private JourneyAnalyticsRepository journeyAnalyticsRepository;
+
     @InjectMocks
     private JourneyService journeyService;
 
@@ -107,6 +128,22 @@ class JourneyServiceTest {
             verify(journeyStateRepository, never()).save(any());
             verify(coordinatePublisher, never()).publishJourneyStarted(any());
         }
+
+        @Test
+        @DisplayName("Should start journey on the given route without selecting another")
+        void shouldStartJourneyOnGivenRoute() {
+            // Given
+            when(journeyStateRepository.exists(JOURNEY_ID)).thenReturn(false);
+
+            // When
+            JourneyState result = journeyService.startNewJourney(JOURNEY_ID, testRoute, DEFAULT_SPEED);
+
+            // Then
+            assertEquals(testRoute, result.getRoute());
+            assertEquals(JourneyStatus.IN_PROGRESS, result.getStatus());
+            verify(routeUseCase, never()).getRandomRoute();
+            verify(journeyStateRepository).save(result);
+        }
     }
 
 
@@ -119,7 +156,7 @@ class JourneyServiceTest {
         void shouldReturnJourneyStateWhenFound() {
             // Given
             JourneyState expectedState = new JourneyState(JOURNEY_ID, testRoute, DEFAULT_SPEED);
-            when(journeyStateRepository.findById(JOURNEY_ID)).thenReturn(Optional.of(expectedState));
+            when(journeyStateRepository.findByIdOrNull(JOURNEY_ID)).thenReturn(expectedState);
 
             // When
             JourneyState result = journeyService.getJourneyState(JOURNEY_ID);
@@ -133,7 +170,7 @@ class JourneyServiceTest {
         @DisplayName("Should throw JourneyNotFoundException when not found")
         void shouldThrowExceptionWhenNotFound() {
             // Given
-            when(journeyStateRepository.findById(JOURNEY_ID)).thenReturn(Optional.empty());
+            when(journeyStateRepository.findByIdOrNull(JOURNEY_ID)).thenReturn(null);
 
             // When & Then
             assertThrows(JourneyNotFoundException.class,
@@ -146,20 +183,21 @@ class JourneyServiceTest {
     class AdvanceJourneyTests {
 
         @Test
-        @DisplayName("Should advance journey and return new position")
-        void shouldAdvanceJourneyAndReturnPosition() {
+        @DisplayName("Should advance journey and publish the new position")
+        void shouldAdvanceJourneyAndPublishPosition() {
             // Given
             JourneyState journeyState = new JourneyState(JOURNEY_ID, testRoute, DEFAULT_SPEED);
             journeyState.start();
-            when(journeyStateRepository.findById(JOURNEY_ID)).thenReturn(Optional.of(journeyState));
+            when(journeyStateRepository.findByIdOrNull(JOURNEY_ID)).thenReturn(journeyState);
 
             // When
-            Coordinate result = journeyService.advanceJourney(JOURNEY_ID, 2.0);
+            boolean completed = journeyService.advanceJourney(JOURNEY_ID, 2.0);
 
             // Then
-            assertNotNull(result);
+            assertFalse(completed);
+            assertTrue(journeyState.getDistanceTravelledMeters() > 0);
             verify(journeyStateRepository).save(journeyState);
-            verify(coordinatePublisher).publishCoordinateUpdate(eq(JOURNEY_ID), any(Coordinate.class), eq(journeyState));
+            verify(coordinatePublisher).publishCoordinateUpdate(journeyState);
         }
 
         @Test
@@ -167,7 +205,7 @@ class JourneyServiceTest {
         void shouldPublishCompletedWhenDestinationReached() {
             // Given - Create a very short route that will complete quickly
             JourneyState journeyState = getJourneyState();
-            when(journeyStateRepository.findById(JOURNEY_ID)).thenReturn(Optional.of(journeyState));
+            when(journeyStateRepository.findByIdOrNull(JOURNEY_ID)).thenReturn(journeyState);
 
             // When - Advance enough to complete the journey
             journeyService.advanceJourney(JOURNEY_ID, 10.0);
@@ -205,6 +243,118 @@ class JourneyServiceTest {
 
             // Then
             verify(journeyStateRepository).delete(JOURNEY_ID);
+            verify(geofenceUseCase).forgetJourney(JOURNEY_ID);
+            verify(journeyTrailRepository).release(JOURNEY_ID);
+            verify(journeyAnalyticsRepository, never()).recordJourneyEnded(any(), anyLong());
+            verify(coordinatePublisher).publishJourneyStopped(JOURNEY_ID);
+        }
+
+        @Test
+        @DisplayName("Should record a journey summary before deleting its state")
+        void shouldRecordSummaryBeforeDeleting() {
+            // Given
+            JourneyState journeyState = new JourneyState(JOURNEY_ID, testRoute, DEFAULT_SPEED);
+            when(journeyStateRepository.findByIdOrNull(JOURNEY_ID)).thenReturn(journeyState);
+            when(simulationClock.currentTimeMillis()).thenReturn(5_000L);
+
+            // When
+            journeyService.stopJourney(JOURNEY_ID);
+
+            // Then
+            var order = inOrder(journeyAnalyticsRepository, journeyStateRepository);
+            order.verify(journeyAnalyticsRepository).recordJourneyEnded(journeyState, 5_000L);
+            order.verify(journeyStateRepository).delete(JOURNEY_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Trail Tests")
+    class TrailTests {
+
+        @Test
+        @DisplayName("Should record every position with simulation time")
+        void shouldRecordPositions() {
+            // Given
+            when(journeyStateRepository.exists(JOURNEY_ID)).thenReturn(false);
+            when(simulationClock.currentTimeMillis()).thenReturn(1_000L, 3_000L);
+
+            // When
+            JourneyState journeyState = journeyService.startNewJourney(JOURNEY_ID, testRoute, DEFAULT_SPEED);
+            when(journeyStateRepository.findByIdOrNull(JOURNEY_ID)).thenReturn(journeyState);
+            journeyService.advanceJourney(JOURNEY_ID, 2.0);
+
+            // Then
+            verify(journeyTrailRepository).open(JOURNEY_ID);
+            verify(journeyTrailRepository).append(JOURNEY_ID, 1_000L, 48.8973, 9.1920);
+            verify(journeyTrailRepository).append(JOURNEY_ID, 3_000L,
+                    journeyState.getCurrentLatitude(), journeyState.getCurrentLongitude());
+            verify(journeyAnalyticsRepository).recordJourneyStarted(journeyState, 1_000L);
+            verify(journeyAnalyticsRepository).recordPosition(journeyState, 3_000L, 2.0);
+        }
+
+        @Test
+        @DisplayName("Should return an empty trail when nothing was recorded")
+        void shouldReturnEmptyTrail() {
+            // Given
+            when(journeyStateRepository.exists(JOURNEY_ID)).thenReturn(true);
+            when(journeyTrailRepository.findTrail(JOURNEY_ID, 10)).thenReturn(Optional.empty());
+
+            // When
+            JourneyTrail trail = journeyService.getJourneyTrail(JOURNEY_ID, 10);
+
+            // Then
+            assertEquals(JOURNEY_ID, trail.journeyId());
+            assertTrue(trail.points().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown journeys and invalid maxPoints")
+        void shouldRejectInvalidRequests() {
+            when(journeyStateRepository.exists("missing")).thenReturn(false);
+
+            assertThrows(JourneyNotFoundException.class, () -> journeyService.getJourneyTrail("missing", 10));
+            assertThrows(IllegalArgumentException.class, () -> journeyService.getJourneyTrail(JOURNEY_ID, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Geofence Tests")
+    class GeofenceTests {
+
+        @Test
+        @DisplayName("Should publish geofence events after the coordinate update")
+        void shouldPublishGeofenceEvents() {
+            // Given
+            JourneyState journeyState = new JourneyState(JOURNEY_ID, testRoute, DEFAULT_SPEED);
+            journeyState.start();
+            Geofence fence = new Geofence("zone", "Zone", GeofenceType.CITY_ZONE, new Coordinate(48.88, 9.17), 500);
+            GeofenceEvent exit = new GeofenceEvent(JOURNEY_ID, fence, GeofenceTransition.EXIT, new Coordinate(48.89, 9.18));
+            GeofenceEvent enter = new GeofenceEvent(JOURNEY_ID, fence, GeofenceTransition.ENTER, new Coordinate(48.89, 9.18));
+            when(journeyStateRepository.findByIdOrNull(JOURNEY_ID)).thenReturn(journeyState);
+            when(geofenceUseCase.evaluate(journeyState)).thenReturn(List.of(exit, enter));
+
+            // When
+            journeyService.advanceJourney(JOURNEY_ID, 2.0);
+
+            // Then
+            var inOrder = inOrder(coordinatePublisher);
+            inOrder.verify(coordinatePublisher).publishCoordinateUpdate(journeyState);
+            inOrder.verify(coordinatePublisher).publishGeofenceEvent(exit, journeyState);
+            inOrder.verify(coordinatePublisher).publishGeofenceEvent(enter, journeyState);
+        }
+
+        @Test
+        @DisplayName("Should evaluate geofences at the start position")
+        void shouldEvaluateGeofencesOnStart() {
+            // Given
+            when(journeyStateRepository.exists(JOURNEY_ID)).thenReturn(false);
+
+            // When
+            JourneyState journeyState = journeyService.startNewJourney(JOURNEY_ID, testRoute, DEFAULT_SPEED);
+
+            // Then
+            verify(geofenceUseCase).evaluate(journeyState);
+            verify(coordinatePublisher, never()).publishGeofenceEvent(any(), any());
         }
     }
 
@@ -0,0 +1,299 @@
+package pse.nebula.worldview.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pse.nebula.worldview.domain.exception.JourneyNotFoundException;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
+import pse.nebula.worldview.domain.port.outbound.CoordinatePublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JourneySimulationEngine.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JourneySimulationEngine Tests")
+class JourneySimulationEngineTest {
+
+    @Mock
+    private JourneyUseCase journeyUseCase;
+
+    @Mock
+    private CoordinatePublisher coordinatePublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JourneySimulationEngine engine;
+    private DrivingRoute testRoute;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new JourneySimulationEngine(journeyUseCase, coordinatePublisher, meterRegistry, 4, 8);
+        testRoute = new DrivingRoute(
+                "test-route",
+                "Test Route",
+                "A test route",
+                List.of(new Coordinate(48.8973, 9.1920), new Coordinate(48.8354, 9.1520)),
+                10000,
+                600
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private JourneyState startedJourney(String journeyId) {
+        JourneyState state = new JourneyState(journeyId, testRoute, 13.89);
+        state.start();
+        return state;
+    }
+
+    @Nested
+    @DisplayName("Registration Tests")
+    class RegistrationTests {
+
+        @Test
+        @DisplayName("Should report registered journeys in registration order")
+        void shouldReportJourneysInRegistrationOrder() {
+            engine.register("journey-1");
+            engine.register("journey-2");
+            engine.register("journey-1");
+
+            assertEquals(List.of("journey-1", "journey-2"), engine.getActiveJourneyIds());
+            assertEquals(2, engine.getActiveJourneyCount());
+            assertEquals("journey-1", engine.getOldestActiveJourneyId().orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should forget unregistered journeys")
+        void shouldForgetUnregisteredJourneys() {
+            engine.register("journey-1");
+            engine.register("journey-2");
+
+            engine.unregister("journey-1");
+
+            assertEquals(List.of("journey-2"), engine.getActiveJourneyIds());
+        }
+
+        @Test
+        @DisplayName("Should report no oldest journey when empty")
+        void shouldReportNoOldestJourneyWhenEmpty() {
+            assertTrue(engine.getOldestActiveJourneyId().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should change the registration version only when the journeys change")
+        void shouldTrackRegistrationVersion() {
+            long initial = engine.getRegistrationVersion();
+
+            engine.register("journey-1");
+            long registered = engine.getRegistrationVersion();
+            engine.register("journey-1");
+            engine.unregister("journey-2");
+
+            assertNotEquals(initial, registered);
+            assertEquals(registered, engine.getRegistrationVersion());
+            engine.unregister("journey-1");
+            assertNotEquals(registered, engine.getRegistrationVersion());
+        }
+    }
+
+    @Nested
+    @DisplayName("tick() Tests")
+    class TickTests {
+
+        @Test
+        @DisplayName("Should advance every journey exactly once across partitions")
+        void shouldAdvanceEveryJourneyExactlyOnce() {
+            // Given - enough journeys to be split across all four workers
+            Map<String, Integer> advanceCounts = new ConcurrentHashMap<>();
+            Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+            for (int i = 0; i < 200; i++) {
+                String journeyId = "journey-" + i;
+                engine.register(journeyId);
+                when(journeyUseCase.getJourneyState(journeyId)).thenReturn(startedJourney(journeyId));
+            }
+            when(journeyUseCase.advanceJourney(anyString(), eq(0.5))).thenAnswer(invocation -> {
+                advanceCounts.merge(invocation.getArgument(0), 1, Integer::sum);
+                workerThreads.add(Thread.currentThread().getName());
+                return false;
+            });
+
+            // When
+            JourneySimulationEngine.TickResult result = engine.tick(0.5);
+
+            // Then
+            assertEquals(200, advanceCounts.size());
+            assertTrue(advanceCounts.values().stream().allMatch(count -> count == 1));
+            assertTrue(workerThreads.size() > 1, "Expected work to be spread across workers");
+            assertTrue(result.completedJourneyIds().isEmpty());
+            assertTrue(result.lostJourneyIds().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should merge the results of several partitions on every tick")
+        void shouldMergePartitionResults() {
+            // Given - 64 journeys in four slices; the first and last journey complete
+            JourneyState completed = mock(JourneyState.class);
+            when(completed.getStatus()).thenReturn(JourneyStatus.COMPLETED);
+            for (int i = 0; i < 64; i++) {
+                String journeyId = "journey-" + i;
+                engine.register(journeyId);
+                when(journeyUseCase.getJourneyState(journeyId))
+                        .thenReturn(i == 0 || i == 63 ? completed : startedJourney(journeyId));
+            }
+
+            // When & Then - slices are reused, so every tick reports the same
+            for (int tick = 0; tick < 3; tick++) {
+                JourneySimulationEngine.TickResult result = engine.tick(0.5);
+                assertEquals(List.of("journey-0", "journey-63"), result.completedJourneyIds());
+                assertTrue(result.lostJourneyIds().isEmpty());
+            }
+            verify(journeyUseCase, times(3)).advanceJourney("journey-1", 0.5);
+        }
+
+        @Test
+        @DisplayName("Should report completed journeys")
+        void shouldReportCompletedJourneys() {
+            JourneyState completed = mock(JourneyState.class);
+            when(completed.getStatus()).thenReturn(JourneyStatus.COMPLETED);
+            engine.register("journey-1");
+            when(journeyUseCase.getJourneyState("journey-1")).thenReturn(completed);
+
+            JourneySimulationEngine.TickResult result = engine.tick(0.5);
+
+            assertEquals(List.of("journey-1"), result.completedJourneyIds());
+            verify(journeyUseCase, never()).advanceJourney(anyString(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should report journeys that no longer exist as lost")
+        void shouldReportMissingJourneysAsLost() {
+            engine.register("journey-1");
+            when(journeyUseCase.getJourneyState("journey-1")).thenThrow(new JourneyNotFoundException("journey-1"));
+
+            JourneySimulationEngine.TickResult result = engine.tick(0.5);
+
+            assertEquals(List.of("journey-1"), result.lostJourneyIds());
+        }
+
+        @Test
+        @DisplayName("Should keep advancing other journeys when one fails")
+        void shouldIsolateFailingJourney() {
+            engine.register("journey-1");
+            engine.register("journey-2");
+            when(journeyUseCase.getJourneyState("journey-1")).thenThrow(new RuntimeException("boom"));
+            when(journeyUseCase.getJourneyState("journey-2")).thenReturn(startedJourney("journey-2"));
+
+            JourneySimulationEngine.TickResult result = engine.tick(0.5);
+
+            assertEquals(List.of("journey-1"), result.lostJourneyIds());
+            verify(journeyUseCase).advanceJourney("journey-2", 0.5);
+        }
+
+        @Test
+        @DisplayName("Should skip journeys that are not registered")
+        void shouldSkipUnregisteredJourneys() {
+            // Given - journey-2 was unregistered after the caller picked it, journey-3 never was registered
+            engine.register("journey-1");
+            engine.register("journey-2");
+            engine.unregister("journey-2");
+            when(journeyUseCase.getJourneyState("journey-1")).thenReturn(startedJourney("journey-1"));
+
+            // When
+            JourneySimulationEngine.TickResult result = engine.advance(
+                    new String[] {"journey-1", "journey-2", "journey-3"}, new double[] {0.5, 0.5, 0.5}, 3);
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(journeyUseCase).advanceJourney("journey-1", 0.5);
+            verify(journeyUseCase, never()).getJourneyState("journey-2");
+            verify(journeyUseCase, never()).getJourneyState("journey-3");
+        }
+
+        @Test
+        @DisplayName("Should advance a subset of journeys by individual amounts")
+        void shouldAdvanceSubsetByIndividualAmounts() {
+            // Given - more journeys than fit one partition, each with its own elapsed time
+            int count = 40;
+            String[] journeyIds = new String[count + 5];
+            double[] elapsedSeconds = new double[count + 5];
+            Map<String, Double> advancedBy = new ConcurrentHashMap<>();
+            for (int i = 0; i < count; i++) {
+                journeyIds[i] = "journey-" + i;
+                elapsedSeconds[i] = i + 0.5;
+                engine.register(journeyIds[i]);
+                when(journeyUseCase.getJourneyState(journeyIds[i])).thenReturn(startedJourney(journeyIds[i]));
+            }
+            engine.register("not-due");
+            when(journeyUseCase.advanceJourney(anyString(), anyDouble())).thenAnswer(invocation -> {
+                advancedBy.put(invocation.getArgument(0), invocation.getArgument(1));
+                return false;
+            });
+
+            // When
+            JourneySimulationEngine.TickResult result = engine.advance(journeyIds, elapsedSeconds, count);
+
+            // Then
+            assertEquals(count, advancedBy.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i + 0.5, advancedBy.get("journey-" + i));
+            }
+            assertFalse(advancedBy.containsKey("not-due"));
+            assertTrue(result.completedJourneyIds().isEmpty());
+            assertTrue(result.lostJourneyIds().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should signal tick completion once per tick after all partitions are done")
+        void shouldSignalTickCompletionOncePerTick() {
+            // Given - enough journeys to be split across workers
+            for (int i = 0; i < 100; i++) {
+                String journeyId = "journey-" + i;
+                engine.register(journeyId);
+                when(journeyUseCase.getJourneyState(journeyId)).thenReturn(startedJourney(journeyId));
+            }
+
+            // When
+            engine.tick(0.5);
+            engine.advance(new String[] {"journey-0"}, new double[] {0.25}, 1);
+
+            // Then
+            InOrder order = inOrder(journeyUseCase, coordinatePublisher);
+            order.verify(journeyUseCase, times(100)).advanceJourney(anyString(), eq(0.5));
+            order.verify(coordinatePublisher).publishTickCompleted();
+            order.verify(journeyUseCase).advanceJourney("journey-0", 0.25);
+            order.verify(coordinatePublisher).publishTickCompleted();
+        }
+
+        @Test
+        @DisplayName("Should record tick duration metric")
+        void shouldRecordTickDuration() {
+            engine.tick(0.5);
+            engine.tick(0.5);
+
+            assertEquals(2, meterRegistry.get("worldview.simulation.tick.duration").timer().count());
+        }
+    }
+}
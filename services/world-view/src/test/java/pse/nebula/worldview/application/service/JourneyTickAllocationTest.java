@@ -0,0 +1,208 @@
+package pse.nebula.worldview.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceType;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+import pse.nebula.worldview.infrastructure.adapter.outbound.clock.AcceleratedSimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.CompositeCoordinatePublisher;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.JourneyFrameBuilder;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.JsonCoordinateUpdateCodec;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.MqttCoordinatePublisherAdapter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.SseCoordinatePublisherAdapter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository.InMemoryJourneyStateRepositoryAdapter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository.NoOpJourneyAnalyticsRepositoryAdapter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository.OffHeapJourneyTrailRepositoryAdapter;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that a steady-state journey tick allocates nothing on the ticking thread. The tick
+ * runs through the real services and adapters: the journey is advanced, saved, published over
+ * MQTT and SSE, recorded in its trail and checked against a geofence it stays inside.
+ * Encoding the MQTT payload happens on the publisher's dispatcher thread and is not measured.
+ * With several simulation workers, the workers are measured along with the ticking thread.
+ *
+ * Runs in its own surefire execution: classes mocked by other tests stay instrumented by
+ * Mockito for the lifetime of the JVM, and the instrumentation allocates on every call.
+ */
+@DisplayName("Journey Tick Allocation Tests")
+class JourneyTickAllocationTest {
+
+    private static final int JOURNEYS = 16;
+    private static final int PARTITIONED_JOURNEYS = 64;
+    private static final int PARTITIONED_WORKERS = 4;
+    private static final int WARM_UP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 5_000;
+    private static final double TICK_SECONDS = 0.01;
+
+    private JourneySimulationEngine engine;
+    private MqttCoordinatePublisherAdapter mqttPublisher;
+    private SseCoordinatePublisherAdapter ssePublisher;
+    private JourneyService journeyService;
+    private String[] journeyIds;
+    private double[] elapsedSeconds;
+
+    /**
+     * Build the services and start the journeys, ticked by {@code workers} simulation workers
+     * with at least {@code minJourneysPerWorker} journeys each.
+     */
+    private void startJourneys(int journeys, int workers, int minJourneysPerWorker) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DtoMapper dtoMapper = new DtoMapper();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        Mqtt5AsyncClient mqttClient = mock(Mqtt5AsyncClient.class);
+        when(mqttClient.publish(any(Mqtt5Publish.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(mock(Mqtt5PublishResult.class)));
+        mqttPublisher = new MqttCoordinatePublisherAdapter(mqttClient, dtoMapper, objectMapper, "nebula/journey",
+                new JsonCoordinateUpdateCodec(objectMapper), meterRegistry, 16, 4, null,
+                new JourneyFrameBuilder(0, true, 20));
+        ssePublisher = new SseCoordinatePublisherAdapter(dtoMapper, objectMapper, meterRegistry,
+                60_000, 16, 2000, 1, 0);
+
+        // A long straight route; the journeys stay well inside the first quarter and the fence
+        List<Coordinate> waypoints = new ArrayList<>();
+        for (int i = 0; i <= 100; i++) {
+            waypoints.add(new Coordinate(48.0 + i * 0.01, 9.0));
+        }
+        DrivingRoute route = new DrivingRoute("route-1", "Long Route", "Northbound", waypoints, 111_000, 8000);
+        Geofence fence = new Geofence("depot", "Depot", GeofenceType.CITY_ZONE, waypoints.get(0), 5000);
+        GeofenceService geofenceService = new GeofenceService(() -> List.of(fence), meterRegistry, 0.01);
+
+        CompositeCoordinatePublisher coordinatePublisher =
+                new CompositeCoordinatePublisher(List.of(mqttPublisher, ssePublisher));
+        journeyService = new JourneyService(mock(RouteUseCase.class), new InMemoryJourneyStateRepositoryAdapter(),
+                coordinatePublisher, geofenceService,
+                new OffHeapJourneyTrailRepositoryAdapter(meterRegistry, 1024, 64), new AcceleratedSimulationClock(1.0),
+                new NoOpJourneyAnalyticsRepositoryAdapter());
+        engine = new JourneySimulationEngine(journeyService, coordinatePublisher, meterRegistry,
+                workers, minJourneysPerWorker);
+
+        journeyIds = new String[journeys];
+        elapsedSeconds = new double[journeys];
+        for (int i = 0; i < journeys; i++) {
+            journeyIds[i] = "journey-" + i;
+            elapsedSeconds[i] = TICK_SECONDS;
+            journeyService.startNewJourney(journeyIds[i], route, 13.89);
+            engine.register(journeyIds[i]);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (engine == null) {
+            return;
+        }
+        engine.shutdown();
+        mqttPublisher.shutdown();
+        ssePublisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should not allocate on the ticking thread in steady state")
+    void shouldNotAllocateInSteadyState() {
+        // Given
+        com.sun.management.ThreadMXBean threads = allocationAccounting();
+        startJourneys(JOURNEYS, 1, 64);
+        runTicks(WARM_UP_TICKS);
+
+        // When
+        long before = threads.getCurrentThreadAllocatedBytes();
+        runTicks(MEASURED_TICKS);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Then - any object allocated per tick adds at least 16 bytes per tick; rare one-off
+        // allocations by the JVM itself, e.g. around a recompilation, round down to zero
+        assertEquals(0, allocated / MEASURED_TICKS, allocated + " bytes allocated over " + MEASURED_TICKS + " ticks");
+        assertJourneysInProgress();
+    }
+
+    @Test
+    @DisplayName("Should not allocate on the ticking thread or the workers when the journeys are partitioned")
+    void shouldNotAllocateWhenPartitioned() {
+        // Given - four slices of 16 journeys
+        com.sun.management.ThreadMXBean threads = allocationAccounting();
+        startJourneys(PARTITIONED_JOURNEYS, PARTITIONED_WORKERS, PARTITIONED_JOURNEYS / PARTITIONED_WORKERS / 2);
+        runTicks(WARM_UP_TICKS);
+        long[] threadIds = tickingThreadIds();
+        assertEquals(PARTITIONED_WORKERS + 1, threadIds.length);
+
+        // When
+        long before = sum(threads.getThreadAllocatedBytes(threadIds));
+        runTicks(MEASURED_TICKS);
+        long allocated = sum(threads.getThreadAllocatedBytes(threadIds)) - before;
+
+        // Then
+        assertEquals(0, allocated / MEASURED_TICKS, allocated + " bytes allocated over " + MEASURED_TICKS + " ticks");
+        assertJourneysInProgress();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationAccounting() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "Per-thread allocation accounting is not available");
+        return threads;
+    }
+
+    /**
+     * IDs of the current thread and the simulation workers.
+     */
+    private static long[] tickingThreadIds() {
+        List<Long> ids = new ArrayList<>();
+        ids.add(Thread.currentThread().getId());
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("journey-simulation-")) {
+                ids.add(thread.getId());
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private void assertJourneysInProgress() {
+        for (String journeyId : journeyIds) {
+            JourneyState state = journeyService.getJourneyState(journeyId);
+            assertEquals(JourneyStatus.IN_PROGRESS, state.getStatus());
+            assertTrue(state.getProgressPercentage() < 25.0);
+        }
+    }
+
+    private void runTicks(int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            JourneySimulationEngine.TickResult result = engine.advance(journeyIds, elapsedSeconds, journeyIds.length);
+            if (!result.isEmpty()) {
+                fail("Unexpected tick result: " + result);
+            }
+        }
+    }
+}
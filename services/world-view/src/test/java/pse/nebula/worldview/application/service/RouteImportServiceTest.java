@@ -0,0 +1,144 @@
+package pse.nebula.worldview.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pse.nebula.worldview.domain.exception.RouteAlreadyExistsException;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.RouteImportResult;
+import pse.nebula.worldview.domain.model.RouteImportSpec;
+import pse.nebula.worldview.domain.model.WaypointSource;
+import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+import pse.nebula.worldview.domain.port.outbound.RouteRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RouteImportService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RouteImportService Unit Tests")
+class RouteImportServiceTest {
+
+    @Mock
+    private RouteRepository routeRepository;
+
+    @Mock
+    private RouteUseCase routeUseCase;
+
+    private RouteImportService routeImportService;
+
+    @BeforeEach
+    void setUp() {
+        routeImportService = new RouteImportService(routeRepository, routeUseCase, 1_000_000, 10.0);
+    }
+
+    /**
+     * A straight track north along a meridian, one point every ~1.1 m.
+     */
+    private static WaypointSource straightTrack(int points) {
+        return builder -> {
+            for (int i = 0; i < points; i++) {
+                builder.add(48.80 + i * 1e-5, 9.15);
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("Import Tests")
+    class ImportTests {
+
+        @Test
+        @DisplayName("Should store the route with its measured distance and invalidate the catalogue")
+        void shouldStoreMeasuredRoute() {
+            // Given
+            when(routeRepository.findById("route-9")).thenReturn(Optional.empty());
+
+            // When
+            RouteImportResult result = routeImportService.importRoute(
+                    new RouteImportSpec("route-9", "Track", "Recorded", 0), straightTrack(1_001));
+
+            // Then
+            ArgumentCaptor<DrivingRoute> saved = ArgumentCaptor.forClass(DrivingRoute.class);
+            verify(routeRepository).save(saved.capture());
+            verify(routeUseCase).invalidateRouteCatalogue();
+
+            DrivingRoute route = saved.getValue();
+            double expectedMeters = new Coordinate(48.80, 9.15).distanceTo(new Coordinate(48.81, 9.15));
+            assertEquals(expectedMeters, route.totalDistanceMeters(), 0.01);
+            assertEquals(Math.round(expectedMeters / 10.0), route.estimatedDurationSeconds());
+            assertEquals(1_001, route.getTotalWaypoints());
+            assertEquals(1_001, result.pointsRead());
+            assertSame(route, result.route());
+        }
+
+        @Test
+        @DisplayName("Should simplify the waypoints but keep the measured distance")
+        void shouldSimplifyWaypoints() {
+            // Given
+            when(routeRepository.findById("route-9")).thenReturn(Optional.empty());
+
+            // When
+            RouteImportResult result = routeImportService.importRoute(
+                    new RouteImportSpec("route-9", "Track", null, 5), straightTrack(1_001));
+
+            // Then - a straight line simplifies to its end points
+            DrivingRoute route = result.route();
+            assertEquals(2, route.getTotalWaypoints());
+            assertEquals(route.polyline().distanceBetween(0, 1), route.totalDistanceMeters(), 0.01);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject an existing route ID before reading the track")
+        void shouldRejectExistingRoute() {
+            // Given
+            DrivingRoute existing = new DrivingRoute("route-1", "Route 1", null,
+                    List.of(new Coordinate(48.0, 9.0), new Coordinate(48.1, 9.0)), 1000, 100);
+            when(routeRepository.findById("route-1")).thenReturn(Optional.of(existing));
+            WaypointSource source = mock(WaypointSource.class);
+
+            // When & Then
+            assertThrows(RouteAlreadyExistsException.class, () -> routeImportService.importRoute(
+                    new RouteImportSpec("route-1", "Track", null, 0), source));
+            verifyNoInteractions(source);
+            verify(routeRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should not store anything when the track is invalid")
+        void shouldRejectInvalidTrack() {
+            // Given
+            when(routeRepository.findById("route-9")).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> routeImportService.importRoute(
+                    new RouteImportSpec("route-9", "Track", null, 0), builder -> builder.add(95.0, 9.0)));
+            verify(routeRepository, never()).save(any());
+            verifyNoInteractions(routeUseCase);
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid route ID")
+        void shouldRejectInvalidRouteId() {
+            assertThrows(IllegalArgumentException.class, () -> new RouteImportSpec("../etc", "Track", null, 0));
+            assertThrows(IllegalArgumentException.class, () -> new RouteImportSpec("route-9", " ", null, 0));
+            assertThrows(IllegalArgumentException.class, () -> new RouteImportSpec("route-9", "Track", null, -1));
+        }
+    }
+}
@@ -5,12 +5,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import pse.nebula.worldview.domain.exception.RouteNotFoundException;
+import pse.nebula.worldview.domain.model.BoundingBox;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.RouteCatalogue;
+import pse.nebula.worldview.domain.model.RouteLevelsOfDetail;
+import pse.nebula.worldview.domain.model.RouteMatch;
 import pse.nebula.worldview.domain.port.outbound.RouteRepository;
 
 import java.util.Arrays;
@@ -19,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,7 +32,6 @@ class RouteServiceTest {
     @Mock
     private RouteRepository routeRepository;
 
-    @InjectMocks
     private RouteService routeService;
 
     private DrivingRoute testRoute1;
@@ -36,6 +39,8 @@ class RouteServiceTest {
 
     @BeforeEach
     void setUp() {
+        routeService = new RouteService(routeRepository, RouteLevelsOfDetail.DEFAULT_TOLERANCES_METERS);
+
         Coordinate start1 = new Coordinate(48.8973, 9.1920);
         Coordinate end = new Coordinate(48.8354, 9.1520);
         List<Coordinate> waypoints1 = Arrays.asList(start1, end);
@@ -108,7 +113,7 @@ class RouteServiceTest {
         @DisplayName("Should return route when found")
         void shouldReturnRouteWhenFound() {
             // Given
-            when(routeRepository.findById("route-1")).thenReturn(Optional.of(testRoute1));
+            when(routeRepository.findAll()).thenReturn(Arrays.asList(testRoute1, testRoute2));
 
             // When
             DrivingRoute result = routeService.getRouteById("route-1");
@@ -117,19 +122,19 @@ class RouteServiceTest {
             assertNotNull(result);
             assertEquals("route-1", result.id());
             assertEquals("Test Route 1", result.name());
-            verify(routeRepository, times(1)).findById("route-1");
+            verify(routeRepository, never()).findById(anyString());
         }
 
         @Test
         @DisplayName("Should throw RouteNotFoundException when route not found")
         void shouldThrowExceptionWhenNotFound() {
             // Given
-            when(routeRepository.findById("non-existent")).thenReturn(Optional.empty());
+            when(routeRepository.findAll()).thenReturn(Arrays.asList(testRoute1, testRoute2));
 
             // When & Then
             assertThrows(RouteNotFoundException.class,
                     () -> routeService.getRouteById("non-existent"));
-            verify(routeRepository, times(1)).findById("non-existent");
+            verify(routeRepository, never()).findById(anyString());
         }
     }
 
@@ -187,21 +192,21 @@ class RouteServiceTest {
         @DisplayName("Should return correct count of routes")
         void shouldReturnCorrectCount() {
             // Given
-            when(routeRepository.count()).thenReturn(8);
+            when(routeRepository.findAll()).thenReturn(Arrays.asList(testRoute1, testRoute2));
 
             // When
             int result = routeService.getRouteCount();
 
             // Then
-            assertEquals(8, result);
-            verify(routeRepository, times(1)).count();
+            assertEquals(2, result);
+            verify(routeRepository, never()).count();
         }
 
         @Test
         @DisplayName("Should return zero when no routes")
         void shouldReturnZeroWhenNoRoutes() {
             // Given
-            when(routeRepository.count()).thenReturn(0);
+            when(routeRepository.findAll()).thenReturn(Collections.emptyList());
 
             // When
             int result = routeService.getRouteCount();
@@ -210,4 +215,107 @@ class RouteServiceTest {
             assertEquals(0, result);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Route Catalogue Tests")
+    class RouteCatalogueTests {
+
+        @Test
+        @DisplayName("Should load routes from repository only once")
+        void shouldLoadRoutesOnlyOnce() {
+            // Given
+            when(routeRepository.findAll()).thenReturn(Arrays.asList(testRoute1, testRoute2));
+
+            // When
+            routeService.getAllRoutes();
+            routeService.getRandomRoute();
+            routeService.getRouteById("route-2");
+            routeService.getRouteCount();
+
+            // Then
+            verify(routeRepository, times(1)).findAll();
+            verifyNoMoreInteractions(routeRepository);
+        }
+
+        @Test
+        @DisplayName("Should reload routes with a new version after invalidation")
+        void shouldReloadAfterInvalidation() {
+            // Given
+            when(routeRepository.findAll())
+                    .thenReturn(Collections.singletonList(testRoute1))
+                    .thenReturn(Arrays.asList(testRoute1, testRoute2));
+            RouteCatalogue first = routeService.getRouteCatalogue();
+
+            // When
+            routeService.invalidateRouteCatalogue();
+            RouteCatalogue second = routeService.getRouteCatalogue();
+
+            // Then
+            assertEquals(1, first.size());
+            assertEquals(2, second.size());
+            assertTrue(second.version() > first.version());
+            assertEquals(testRoute2, routeService.getRouteById("route-2"));
+            verify(routeRepository, times(2)).findAll();
+        }
+
+        @Test
+        @DisplayName("Should return the same snapshot until invalidated")
+        void shouldReturnSameSnapshot() {
+            // Given
+            when(routeRepository.findAll()).thenReturn(Arrays.asList(testRoute1, testRoute2));
+
+            // When & Then
+            assertSame(routeService.getRouteCatalogue(), routeService.getRouteCatalogue());
+        }
+    }
+
+    @Nested
+    @DisplayName("Spatial Query Tests")
+    class SpatialQueryTests {
+
+        @Test
+        @DisplayName("Should find routes near a point from the catalogue index")
+        void shouldFindRoutesNear() {
+            // Given
+            when(routeRepository.findAll()).thenReturn(Arrays.asList(testRoute1, testRoute2));
+
+            // When
+            List<RouteMatch> matches = routeService.findRoutesNear(new Coordinate(48.8973, 9.1920), 100);
+
+            // Then
+            assertEquals(1, matches.size());
+            assertEquals(testRoute1, matches.get(0).route());
+        }
+
+        @Test
+        @DisplayName("Should find routes in a bounding box")
+        void shouldFindRoutesInBoundingBox() {
+            // Given
+            when(routeRepository.findAll()).thenReturn(Arrays.asList(testRoute1, testRoute2));
+
+            // When
+            List<DrivingRoute> routes = routeService.findRoutesInBoundingBox(new BoundingBox(48.83, 9.15, 48.84, 9.16));
+
+            // Then
+            assertEquals(Arrays.asList(testRoute1, testRoute2), routes);
+        }
+
+        @Test
+        @DisplayName("Should snap to the nearest route or return empty without routes")
+        void shouldSnapToRoute() {
+            // Given
+            when(routeRepository.findAll())
+                    .thenReturn(Collections.singletonList(testRoute2))
+                    .thenReturn(Collections.emptyList());
+
+            // When
+            Optional<RouteMatch> match = routeService.snapToRoute(new Coordinate(48.8821, 9.1678));
+            routeService.invalidateRouteCatalogue();
+            Optional<RouteMatch> none = routeService.snapToRoute(new Coordinate(48.8821, 9.1678));
+
+            // Then
+            assertEquals(testRoute2, match.orElseThrow().route());
+            assertTrue(none.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package pse.nebula.worldview.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.port.outbound.ShardLeaseRepository;
+import pse.nebula.worldview.infrastructure.adapter.outbound.sharding.LocalShardLeaseRepositoryAdapter;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ShardOwnershipService.
+ * Several instances share an in-memory lease store that behaves like the advisory locks.
+ */
+@DisplayName("ShardOwnershipService Tests")
+class ShardOwnershipServiceTest {
+
+    private static final int SHARDS = 16;
+
+    private LeaseStore leaseStore;
+
+    @BeforeEach
+    void setUp() {
+        leaseStore = new LeaseStore();
+    }
+
+    private ShardOwnershipService startInstance(LeaseStore.Instance leases) {
+        return new ShardOwnershipService(leases, new SimpleMeterRegistry(), SHARDS, 32, 500L);
+    }
+
+    private static BitSet owned(ShardOwnershipService service) {
+        BitSet owned = new BitSet();
+        IntStream.range(0, SHARDS).filter(service::owns).forEach(owned::set);
+        return owned;
+    }
+
+    @Nested
+    @DisplayName("Single Instance Tests")
+    class SingleInstanceTests {
+
+        @Test
+        @DisplayName("Should own every shard when running alone")
+        void shouldOwnEveryShard() {
+            ShardOwnershipService service = startInstance(leaseStore.join());
+
+            assertEquals(SHARDS, service.getOwnedShardCount());
+            assertTrue(service.acceptsNewJourneys(7));
+        }
+
+        @Test
+        @DisplayName("Should spread the fleet evenly over the shards")
+        void shouldSpreadFleetEvenly() {
+            ShardOwnershipService service = new ShardOwnershipService(
+                    leaseStore.join(), new SimpleMeterRegistry(), 4, 10, 500L);
+
+            assertEquals(3, service.capacityOf(0));
+            assertEquals(3, service.capacityOf(1));
+            assertEquals(2, service.capacityOf(2));
+            assertEquals(2, service.capacityOf(3));
+            assertEquals(10, IntStream.range(0, 4).map(service::capacityOf).sum());
+        }
+
+        @Test
+        @DisplayName("Should reject a shard count below one")
+        void shouldRejectInvalidShardCount() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new ShardOwnershipService(leaseStore.join(), new SimpleMeterRegistry(), 0, 10, 500L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebalance Tests")
+    class RebalanceTests {
+
+        @Test
+        @DisplayName("Should split the shards between instances started together")
+        void shouldSplitShardsBetweenInstances() {
+            // Given - both instances joined before either claimed shards
+            LeaseStore.Instance leasesA = leaseStore.join();
+            LeaseStore.Instance leasesB = leaseStore.join();
+            leasesA.countMembers();
+            leasesB.countMembers();
+
+            // When
+            ShardOwnershipService instanceA = startInstance(leasesA);
+            ShardOwnershipService instanceB = startInstance(leasesB);
+
+            // Then
+            assertEquals(8, instanceA.getOwnedShardCount());
+            assertEquals(8, instanceB.getOwnedShardCount());
+            assertFalse(owned(instanceA).intersects(owned(instanceB)));
+        }
+
+        @Test
+        @DisplayName("Should drain shards for a joining instance before it can take them")
+        void shouldDrainShardsForJoiningInstance() {
+            // Given
+            ShardOwnershipService instanceA = startInstance(leaseStore.join());
+            ShardOwnershipService instanceB = startInstance(leaseStore.join());
+            assertEquals(0, instanceB.getOwnedShardCount());
+
+            // When
+            instanceA.rebalance();
+
+            // Then - half of A's shards are draining but still owned, so B cannot take them yet
+            int draining = (int) IntStream.range(0, SHARDS).filter(instanceA::isDraining).count();
+            assertEquals(8, draining);
+            instanceB.rebalance();
+            assertEquals(0, instanceB.getOwnedShardCount());
+
+            // When - A's journeys in the draining shards completed and A gave up the leases
+            IntStream.range(0, SHARDS).filter(instanceA::isDraining).forEach(instanceA::releaseDrainedShard);
+            assertEquals(8, instanceA.getOwnedShardCount());
+            instanceA.rebalance();
+            instanceB.rebalance();
+
+            // Then
+            assertEquals(8, instanceA.getOwnedShardCount());
+            assertEquals(8, instanceB.getOwnedShardCount());
+            assertFalse(owned(instanceA).intersects(owned(instanceB)));
+        }
+
+        @Test
+        @DisplayName("Should take over the shards of an instance that left")
+        void shouldTakeOverShardsOfLeavingInstance() {
+            // Given
+            LeaseStore.Instance leasesA = leaseStore.join();
+            LeaseStore.Instance leasesB = leaseStore.join();
+            leasesA.countMembers();
+            leasesB.countMembers();
+            ShardOwnershipService instanceA = startInstance(leasesA);
+            ShardOwnershipService instanceB = startInstance(leasesB);
+
+            // When
+            instanceB.shutdown();
+            instanceA.rebalance();
+
+            // Then
+            assertEquals(SHARDS, instanceA.getOwnedShardCount());
+            assertEquals(0, instanceB.getOwnedShardCount());
+        }
+
+        @Test
+        @DisplayName("Should take back draining shards when the joining instance leaves again")
+        void shouldUndrainShards() {
+            // Given
+            ShardOwnershipService instanceA = startInstance(leaseStore.join());
+            ShardOwnershipService instanceB = startInstance(leaseStore.join());
+            instanceA.rebalance();
+
+            // When
+            instanceB.shutdown();
+            instanceA.rebalance();
+
+            // Then
+            assertTrue(IntStream.range(0, SHARDS).noneMatch(instanceA::isDraining));
+            assertEquals(SHARDS, instanceA.getOwnedShardCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Ownership Snapshot Tests")
+    class OwnershipSnapshotTests {
+
+        @Test
+        @DisplayName("Should answer ownership queries while a rebalance is stuck in the lease store")
+        void shouldReadOwnershipWithoutWaitingForLeaseStore() throws Exception {
+            // Given - a rebalance blocked inside the lease store
+            LeaseStore.Instance leases = leaseStore.join();
+            ShardOwnershipService service = startInstance(leases);
+            CountDownLatch inLeaseStore = new CountDownLatch(1);
+            CountDownLatch unblock = new CountDownLatch(1);
+            leases.onCountMembers = () -> {
+                inLeaseStore.countDown();
+                awaitQuietly(unblock);
+            };
+            Thread rebalancer = new Thread(service::rebalance);
+            rebalancer.start();
+            assertTrue(inLeaseStore.await(5, TimeUnit.SECONDS));
+
+            // When
+            ExecutorService tickThread = Executors.newSingleThreadExecutor();
+            Future<Boolean> accepts = tickThread.submit(() -> service.acceptsNewJourneys(3)
+                    && service.owns(3) && !service.isDraining(3) && service.getOwnedShardCount() == SHARDS);
+
+            // Then
+            try {
+                assertTrue(accepts.get(1, TimeUnit.SECONDS));
+            } finally {
+                unblock.countDown();
+                rebalancer.join();
+                tickThread.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should give up the lease of a released shard on the next rebalance")
+        void shouldReleaseLeaseOnNextRebalance() {
+            // Given - a second instance made A drain half of its shards
+            LeaseStore.Instance leasesA = leaseStore.join();
+            ShardOwnershipService instanceA = startInstance(leasesA);
+            startInstance(leaseStore.join());
+            instanceA.rebalance();
+            int shard = IntStream.range(0, SHARDS).filter(instanceA::isDraining).findFirst().orElseThrow();
+
+            // When
+            instanceA.releaseDrainedShard(shard);
+
+            // Then - the snapshot changes immediately, the lease store only on the rebalance
+            assertFalse(instanceA.owns(shard));
+            assertSame(leasesA, leaseStore.holders.get(shard));
+            instanceA.rebalance();
+            assertNull(leaseStore.holders.get(shard));
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lease Loss Tests")
+    class LeaseLossTests {
+
+        @Test
+        @DisplayName("Should drop all shards when leases were lost")
+        void shouldDropShardsWhenLeasesLost() {
+            // Given
+            LeaseStore.Instance leases = leaseStore.join();
+            ShardOwnershipService service = startInstance(leases);
+            long version = service.getOwnershipVersion();
+
+            // When
+            leaseStore.loseSession(leases);
+            service.rebalance();
+
+            // Then - ownership is cleared and only claimed again on the next rebalance
+            assertEquals(0, service.getOwnedShardCount());
+            assertNotEquals(version, service.getOwnershipVersion());
+            service.rebalance();
+            assertEquals(SHARDS, service.getOwnedShardCount());
+        }
+
+        @Test
+        @DisplayName("Should drop all shards and stop confirming when a lease check finds them lost")
+        void shouldDetectLossOnLeaseCheck() {
+            // Given - a check interval far longer than the test
+            LeaseStore.Instance leases = leaseStore.join();
+            ShardOwnershipService service = new ShardOwnershipService(leases, new SimpleMeterRegistry(), SHARDS, 32, 60_000L);
+            assertTrue(service.leasesConfirmed());
+
+            // When
+            leaseStore.loseSession(leases);
+            service.checkLeases();
+
+            // Then
+            assertEquals(0, service.getOwnedShardCount());
+            assertFalse(service.leasesConfirmed());
+        }
+
+        @Test
+        @DisplayName("Should stop confirming leases when no check succeeded for three intervals")
+        void shouldExpireConfirmation() throws InterruptedException {
+            // Given
+            LeaseStore.Instance leases = leaseStore.join();
+            ShardOwnershipService service = new ShardOwnershipService(leases, new SimpleMeterRegistry(), SHARDS, 32, 1L);
+
+            // When - the lease store hangs, so no check completes
+            Thread.sleep(20);
+
+            // Then
+            assertFalse(service.leasesConfirmed());
+            assertEquals(SHARDS, service.getOwnedShardCount());
+        }
+
+        @Test
+        @DisplayName("Should never hold back journeys when no other instance shares the lease store")
+        void shouldNotFenceUnsharedLeaseStore() throws InterruptedException {
+            ShardOwnershipService service = new ShardOwnershipService(
+                    new LocalShardLeaseRepositoryAdapter(), new SimpleMeterRegistry(), SHARDS, 32, 1L);
+
+            Thread.sleep(20);
+
+            assertTrue(service.leasesConfirmed());
+        }
+
+        @Test
+        @DisplayName("Should keep ownership when the lease store fails temporarily")
+        void shouldSurviveLeaseStoreFailures() {
+            // Given
+            LeaseStore.Instance leases = leaseStore.join();
+            ShardOwnershipService service = startInstance(leases);
+
+            // When
+            leases.failing = true;
+
+            // Then
+            assertDoesNotThrow(service::rebalance);
+            assertEquals(SHARDS, service.getOwnedShardCount());
+        }
+    }
+
+    /**
+     * Lease store shared by several instances, mirroring PostgreSQL advisory locks:
+     * a lease is held by at most one instance and a lost session releases everything.
+     */
+    private static final class LeaseStore {
+
+        private final Map<Integer, Instance> holders = new HashMap<>();
+        private final Set<Instance> members = new HashSet<>();
+
+        Instance join() {
+            return new Instance();
+        }
+
+        void loseSession(Instance instance) {
+            holders.values().removeIf(holder -> holder == instance);
+            members.remove(instance);
+            instance.lost = true;
+        }
+
+        final class Instance implements ShardLeaseRepository {
+
+            boolean lost;
+            boolean failing;
+            Runnable onCountMembers = () -> { };
+
+            @Override
+            public int countMembers() {
+                check();
+                onCountMembers.run();
+                members.add(this);
+                return members.size();
+            }
+
+            @Override
+            public boolean tryAcquire(int shard) {
+                check();
+                return holders.putIfAbsent(shard, this) == null || holders.get(shard) == this;
+            }
+
+            @Override
+            public void release(int shard) {
+                holders.remove(shard, this);
+            }
+
+            @Override
+            public boolean leasesIntact() {
+                boolean intact = !lost;
+                lost = false;
+                return intact;
+            }
+
+            @Override
+            public void releaseAll() {
+                holders.values().removeIf(holder -> holder == this);
+                members.remove(this);
+            }
+
+            private void check() {
+                if (failing) {
+                    throw new IllegalStateException("lease store unavailable");
+                }
+            }
+        }
+    }
+}
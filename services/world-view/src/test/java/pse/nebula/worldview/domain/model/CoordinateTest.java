@@ -145,6 +145,30 @@ class CoordinateTest {
         }
     }
 
+    @Nested
+    @DisplayName("bearingTo() Tests")
+    class BearingToTests {
+
+        @Test
+        @DisplayName("Should return cardinal bearings")
+        void shouldReturnCardinalBearings() {
+            Coordinate origin = new Coordinate(0, 0);
+
+            assertEquals(0.0, origin.bearingTo(new Coordinate(1, 0)), 1e-9);
+            assertEquals(90.0, origin.bearingTo(new Coordinate(0, 1)), 1e-9);
+            assertEquals(180.0, origin.bearingTo(new Coordinate(-1, 0)), 1e-9);
+            assertEquals(270.0, origin.bearingTo(new Coordinate(0, -1)), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null target")
+        void shouldThrowExceptionForNullTarget() {
+            Coordinate coord = new Coordinate(48.8354, 9.1520);
+
+            assertThrows(IllegalArgumentException.class, () -> coord.bearingTo(null));
+        }
+    }
+
     @Nested
     @DisplayName("interpolateTo() Tests")
     class InterpolateToTests {
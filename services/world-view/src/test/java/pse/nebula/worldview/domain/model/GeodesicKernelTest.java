@@ -0,0 +1,193 @@
+package pse.nebula.worldview.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GeodesicKernel.
+ */
+@DisplayName("GeodesicKernel Tests")
+class GeodesicKernelTest {
+
+    /**
+     * A random walk with the given maximum step per coordinate, starting at a latitude.
+     */
+    private static PackedPolyline randomWalk(int points, long seed, double startLatitude, double maxStepDegrees) {
+        Random random = new Random(seed);
+        double[] latLng = new double[points * 2];
+        double lat = startLatitude;
+        double lng = 9.19;
+        for (int i = 0; i < points; i++) {
+            latLng[2 * i] = lat;
+            latLng[2 * i + 1] = lng;
+            lat = Math.max(-90, Math.min(90, lat + (random.nextDouble() * 2 - 1) * maxStepDegrees));
+            lng = Math.max(-180, Math.min(180, lng + (random.nextDouble() * 2 - 1) * maxStepDegrees));
+        }
+        return PackedPolyline.fromLatLng(latLng);
+    }
+
+    @Nested
+    @DisplayName("Segment Length Tests")
+    class SegmentLengthTests {
+
+        @Test
+        @DisplayName("Should stay within the documented error bound on short segments at every latitude")
+        void shouldStayWithinErrorBoundOnShortSegments() {
+            for (double latitude = -89.5; latitude <= 89.5; latitude += 8.5) {
+                // Given
+                PackedPolyline polyline = randomWalk(257, Double.doubleToLongBits(latitude), latitude,
+                        GeodesicKernel.FAST_PATH_MAX_DELTA_DEGREES);
+
+                // When
+                double[] lengths = GeodesicKernel.segmentLengths(polyline);
+
+                // Then
+                for (int i = 0; i < lengths.length; i++) {
+                    double haversine = polyline.distanceBetween(i, i + 1);
+                    assertEquals(haversine, lengths[i], haversine * GeodesicKernel.FAST_PATH_MAX_RELATIVE_ERROR,
+                            "segment " + i + " near latitude " + latitude);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should match Haversine exactly on long segments")
+        void shouldMatchHaversineOnLongSegments() {
+            // Given
+            PackedPolyline polyline = randomWalk(101, 5, 48.9, 2.0);
+
+            // When
+            double[] lengths = GeodesicKernel.segmentLengths(polyline);
+
+            // Then
+            for (int i = 0; i < lengths.length; i++) {
+                if (Math.abs(polyline.latitude(i + 1) - polyline.latitude(i)) > GeodesicKernel.FAST_PATH_MAX_DELTA_DEGREES) {
+                    assertEquals(polyline.distanceBetween(i, i + 1), lengths[i], 0.0);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should measure segments crossing the antimeridian the short way")
+        void shouldMeasureAcrossAntimeridian() {
+            // Given
+            Coordinate west = new Coordinate(10.0, 179.99);
+            Coordinate east = new Coordinate(10.0, -179.99);
+            PackedPolyline polyline = PackedPolyline.fromLatLng(new double[] {10.0, 179.99, 10.0, -179.99});
+
+            // When
+            double[] lengths = GeodesicKernel.segmentLengths(polyline);
+
+            // Then
+            assertEquals(west.distanceTo(east), lengths[0], 0.0);
+            assertTrue(lengths[0] < 2_500);
+        }
+
+        @Test
+        @DisplayName("Should agree with the scalar loop for every polyline length")
+        void shouldAgreeWithScalarLoop() {
+            for (int points = 2; points <= 40; points++) {
+                // Given
+                PackedPolyline polyline = randomWalk(points, points, 48.9, 0.3);
+                double[] scalar = new double[points - 1];
+                GeodesicKernel.scalarSegmentLengths(polyline.toLatLngArray(), 0, points, scalar, 0);
+
+                // When
+                double[] lengths = GeodesicKernel.segmentLengths(polyline);
+
+                // Then
+                for (int i = 0; i < scalar.length; i++) {
+                    assertEquals(scalar[i], lengths[i], scalar[i] * 1e-12, "segment " + i + " of " + points);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should write lengths at an offset")
+        void shouldWriteAtOffset() {
+            // Given
+            PackedPolyline polyline = randomWalk(10, 1, 48.9, 0.01);
+            double[] out = new double[12];
+
+            // When
+            GeodesicKernel.segmentLengths(polyline, out, 2);
+
+            // Then
+            assertEquals(0.0, out[0]);
+            assertEquals(0.0, out[1]);
+            assertEquals(0.0, out[11]);
+            double[] lengths = GeodesicKernel.segmentLengths(polyline);
+            for (int i = 0; i < lengths.length; i++) {
+                assertEquals(lengths[i], out[i + 2]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject arrays too small for the lengths")
+        void shouldRejectSmallArrays() {
+            PackedPolyline polyline = randomWalk(10, 1, 48.9, 0.01);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> GeodesicKernel.segmentLengths(polyline, new double[8], 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> GeodesicKernel.segmentLengths(polyline, new double[9], 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> GeodesicKernel.segmentLengths(polyline, new double[9], -1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Projection Tests")
+    class ProjectionTests {
+
+        @Test
+        @DisplayName("Should project points to meters around the origin")
+        void shouldProjectAroundOrigin() {
+            // Given
+            PackedPolyline polyline = randomWalk(37, 3, 48.9, 0.01);
+            double[] x = new double[37];
+            double[] y = new double[37];
+            double lngScale = GeodesicKernel.METERS_PER_DEGREE * Math.cos(Math.toRadians(48.9));
+
+            // When
+            GeodesicKernel.project(polyline, 48.9, 9.19, x, y);
+
+            // Then
+            for (int i = 0; i < 37; i++) {
+                assertEquals((polyline.longitude(i) - 9.19) * lngScale, x[i], 1e-6);
+                assertEquals((polyline.latitude(i) - 48.9) * GeodesicKernel.METERS_PER_DEGREE, y[i], 1e-6);
+            }
+        }
+
+        @Test
+        @DisplayName("Should approximate short distances from the origin")
+        void shouldApproximateShortDistances() {
+            // Given
+            Coordinate origin = new Coordinate(48.9, 9.19);
+            Coordinate target = new Coordinate(48.905, 9.197);
+            PackedPolyline polyline = PackedPolyline.of(List.of(origin, target));
+            double[] x = new double[2];
+            double[] y = new double[2];
+
+            // When
+            GeodesicKernel.project(polyline, origin.latitude(), origin.longitude(), x, y);
+
+            // Then
+            assertEquals(0.0, x[0]);
+            assertEquals(0.0, y[0]);
+            assertEquals(origin.distanceTo(target), Math.hypot(x[1], y[1]), 0.5);
+        }
+
+        @Test
+        @DisplayName("Should reject arrays too small for the points")
+        void shouldRejectSmallArrays() {
+            PackedPolyline polyline = randomWalk(10, 1, 48.9, 0.01);
+
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> GeodesicKernel.project(polyline, 48.9, 9.19, new double[9], new double[10]));
+        }
+    }
+}
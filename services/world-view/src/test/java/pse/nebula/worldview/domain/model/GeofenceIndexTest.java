@@ -0,0 +1,107 @@
+package pse.nebula.worldview.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GeofenceIndex.
+ */
+@DisplayName("GeofenceIndex Tests")
+class GeofenceIndexTest {
+
+    private static final Geofence DEALERSHIP = new Geofence(
+            "dealership", "Dealership", GeofenceType.DEALERSHIP, new Coordinate(48.8354, 9.1520), 150);
+    private static final Geofence CITY = new Geofence(
+            "city", "City", GeofenceType.CITY_ZONE, new Coordinate(48.8300, 9.1700), 2500);
+    private static final Geofence REGION = new Geofence(
+            "region", "Region", GeofenceType.CUSTOM, new Coordinate(48.7758, 9.1829), 60_000);
+
+    @Test
+    @DisplayName("Should find every fence containing a point in ascending order")
+    void shouldFindContainingFences() {
+        GeofenceIndex index = GeofenceIndex.build(List.of(DEALERSHIP, CITY, REGION));
+
+        assertArrayEquals(new int[]{0, 1, 2}, index.containing(48.8354, 9.1520));
+        assertArrayEquals(new int[]{1, 2}, index.containing(48.8300, 9.1700));
+        assertArrayEquals(new int[]{2}, index.containing(48.7000, 9.0000));
+        assertArrayEquals(new int[0], index.containing(52.5200, 13.4050));
+    }
+
+    @Test
+    @DisplayName("Should respect the exact radius rather than the grid cells")
+    void shouldUseExactRadius() {
+        GeofenceIndex index = GeofenceIndex.build(List.of(DEALERSHIP));
+        double metersPerDegree = 111_195;
+
+        assertArrayEquals(new int[]{0}, index.containing(48.8354 + 140 / metersPerDegree, 9.1520));
+        assertArrayEquals(new int[0], index.containing(48.8354 + 160 / metersPerDegree, 9.1520));
+    }
+
+    @Test
+    @DisplayName("Should only count the fences of the point's cell and the oversized fences as candidates")
+    void shouldCountCandidates() {
+        GeofenceIndex index = GeofenceIndex.build(List.of(DEALERSHIP, CITY, REGION));
+
+        // REGION spans more than MAX_CELLS_PER_FENCE cells and is a candidate everywhere
+        assertEquals(3, index.candidateCount(48.8354, 9.1520));
+        assertEquals(1, index.candidateCount(52.5200, 13.4050));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void shouldRejectInvalidArguments() {
+        List<Geofence> withNull = new ArrayList<>();
+        withNull.add(null);
+
+        assertThrows(IllegalArgumentException.class, () -> GeofenceIndex.build(null));
+        assertThrows(IllegalArgumentException.class, () -> GeofenceIndex.build(withNull));
+        assertThrows(IllegalArgumentException.class, () -> GeofenceIndex.build(List.of(), 0));
+        assertThrows(IllegalArgumentException.class, () -> GeofenceIndex.build(List.of(), 0.005));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Geofence("f", "F", GeofenceType.CUSTOM, new Coordinate(0, 0), 0));
+    }
+
+    @Test
+    @DisplayName("Should find fences in the last cells of the grid with the smallest cell size")
+    void shouldFindFencesWithSmallestCells() {
+        Geofence east = new Geofence("east", "East", GeofenceType.CUSTOM, new Coordinate(89.999, 179.999), 50);
+        Geofence west = new Geofence("west", "West", GeofenceType.CUSTOM, new Coordinate(-89.999, -179.999), 50);
+        GeofenceIndex index = GeofenceIndex.build(List.of(DEALERSHIP, east, west), GeofenceIndex.MIN_CELL_SIZE_DEGREES);
+
+        assertArrayEquals(new int[]{0}, index.containing(48.8354, 9.1520));
+        assertArrayEquals(new int[]{1}, index.containing(89.999, 179.999));
+        assertArrayEquals(new int[]{2}, index.containing(-89.999, -179.999));
+    }
+
+    @Test
+    @DisplayName("Should agree with an exhaustive check for many fences")
+    void shouldAgreeWithExhaustiveCheck() {
+        Random random = new Random(3);
+        List<Geofence> fences = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            fences.add(new Geofence("f" + i, "Fence " + i, GeofenceType.CUSTOM,
+                    new Coordinate(48.6 + random.nextDouble() * 0.4, 8.9 + random.nextDouble() * 0.6),
+                    50 + random.nextDouble() * (i % 100 == 0 ? 20_000 : 1_000)));
+        }
+        GeofenceIndex index = GeofenceIndex.build(fences);
+
+        for (int q = 0; q < 1_000; q++) {
+            double lat = 48.6 + random.nextDouble() * 0.4;
+            double lon = 8.9 + random.nextDouble() * 0.6;
+            List<Integer> expected = new ArrayList<>();
+            for (int f = 0; f < fences.size(); f++) {
+                if (fences.get(f).contains(lat, lon)) {
+                    expected.add(f);
+                }
+            }
+
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), index.containing(lat, lon));
+        }
+    }
+}
@@ -310,6 +310,32 @@ class JourneyStateTest {
         assertTrue(journey.getProgressPercentage() < 100);
     }
 
+    @Test
+    void shouldDeriveProgressFromTravelledDistance() {
+        DrivingRoute route = createTestRoute();
+        JourneyState journey = new JourneyState("journey-1", route, 100.0);
+        journey.start();
+
+        journey.advance(30.0); // 3 km along the route
+
+        assertEquals(3000.0, journey.getDistanceTravelledMeters(), 1e-6);
+        assertEquals(30.0, journey.getProgressPercentage(), 1e-6);
+        assertEquals(route.geometry().findSegmentIndex(3000.0), journey.getCurrentWaypointIndex());
+    }
+
+    @Test
+    void shouldLandExactlyOnWaypoint() {
+        DrivingRoute route = createTestRoute();
+        double firstSegment = route.geometry().getSegmentLength(0);
+        JourneyState journey = new JourneyState("journey-1", route, firstSegment);
+        journey.start();
+
+        journey.advance(1.0);
+
+        assertEquals(1, journey.getCurrentWaypointIndex());
+        assertEquals(route.getWaypointAt(1), journey.getCurrentPosition());
+    }
+
     @Test
     void shouldGetRoute() {
         DrivingRoute route = createTestRoute();
@@ -325,4 +351,51 @@ class JourneyStateTest {
 
         assertEquals("journey-1", journey.getJourneyId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRestoreToSamePositionAsSimulation() {
+        DrivingRoute route = createTestRoute();
+        JourneyState simulated = new JourneyState("journey-1", route, 100.0);
+        simulated.start();
+        simulated.advance(30.0);
+
+        JourneyState restored = JourneyState.restore("journey-1", route, 100.0,
+                JourneyStatus.IN_PROGRESS, simulated.getDistanceTravelledMeters());
+
+        assertEquals(simulated.getCurrentPosition(), restored.getCurrentPosition());
+        assertEquals(simulated.getCurrentWaypointIndex(), restored.getCurrentWaypointIndex());
+        assertEquals(simulated.getProgressPercentage(), restored.getProgressPercentage(), 1e-9);
+        assertEquals(JourneyStatus.IN_PROGRESS, restored.getStatus());
+    }
+
+    @Test
+    void shouldRestoreCompletedJourneyAtDestination() {
+        DrivingRoute route = createTestRoute();
+
+        JourneyState restored = JourneyState.restore("journey-1", route, 100.0, JourneyStatus.COMPLETED, 0.0);
+
+        assertEquals(route.endPoint(), restored.getCurrentPosition());
+        assertEquals(100.0, restored.getProgressPercentage());
+        assertTrue(restored.advance(1.0));
+    }
+
+    @Test
+    void shouldContinueAdvancingAfterRestore() {
+        DrivingRoute route = createTestRoute();
+        JourneyState restored = JourneyState.restore("journey-1", route, 100.0, JourneyStatus.IN_PROGRESS, 1000.0);
+
+        restored.advance(10.0);
+
+        assertEquals(2000.0, restored.getDistanceTravelledMeters(), 1e-6);
+    }
+
+    @Test
+    void shouldRejectInvalidRestoredDistance() {
+        DrivingRoute route = createTestRoute();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> JourneyState.restore("journey-1", route, 100.0, JourneyStatus.IN_PROGRESS, -1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> JourneyState.restore("journey-1", route, 100.0, JourneyStatus.IN_PROGRESS, Double.NaN));
+    }
+}
@@ -0,0 +1,210 @@
+package pse.nebula.worldview.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for PackedPolyline.
+ */
+@DisplayName("PackedPolyline Tests")
+class PackedPolylineTest {
+
+    private static final Coordinate START = new Coordinate(48.8973, 9.1920);
+    private static final Coordinate MIDDLE = new Coordinate(48.8800, 9.1800);
+    private static final Coordinate END = new Coordinate(48.8354, 9.1520);
+
+    @Nested
+    @DisplayName("Construction Tests")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Should pack coordinates in order")
+        void shouldPackCoordinatesInOrder() {
+            PackedPolyline polyline = PackedPolyline.of(List.of(START, MIDDLE, END));
+
+            assertEquals(3, polyline.size());
+            assertEquals(START.latitude(), polyline.latitude(0));
+            assertEquals(MIDDLE.longitude(), polyline.longitude(1));
+            assertEquals(END, polyline.get(2));
+            assertArrayEquals(
+                    new double[] {48.8973, 9.1920, 48.8800, 9.1800, 48.8354, 9.1520},
+                    polyline.toLatLngArray());
+        }
+
+        @Test
+        @DisplayName("Should copy interleaved input")
+        void shouldCopyInterleavedInput() {
+            double[] latLng = {48.8973, 9.1920, 48.8354, 9.1520};
+            PackedPolyline polyline = PackedPolyline.fromLatLng(latLng);
+
+            latLng[0] = 0.0;
+
+            assertEquals(START, polyline.get(0));
+        }
+
+        @Test
+        @DisplayName("Should take only the requested number of points")
+        void shouldTakeRequestedPointCount() {
+            double[] buffer = {48.8973, 9.1920, 48.8354, 9.1520, 0.0, 0.0, 0.0, 0.0};
+
+            PackedPolyline polyline = PackedPolyline.fromLatLng(buffer, 2);
+
+            assertEquals(2, polyline.size());
+            assertEquals(END, polyline.get(1));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed input")
+        void shouldRejectMalformedInput() {
+            List<Coordinate> single = List.of(START);
+            List<Coordinate> withNull = Arrays.asList(START, null);
+
+            assertThrows(IllegalArgumentException.class, () -> PackedPolyline.of(single));
+            assertThrows(IllegalArgumentException.class, () -> PackedPolyline.of(withNull));
+            assertThrows(IllegalArgumentException.class, () -> PackedPolyline.fromLatLng(new double[] {1, 2, 3}));
+            assertThrows(IllegalArgumentException.class, () -> PackedPolyline.fromLatLng(null));
+        }
+
+        @Test
+        @DisplayName("Should validate coordinate ranges")
+        void shouldValidateCoordinateRanges() {
+            double[] invalid = {48.8973, 9.1920, 91.0, 9.1520};
+
+            assertThrows(IllegalArgumentException.class, () -> PackedPolyline.fromLatLng(invalid));
+        }
+
+        @Test
+        @DisplayName("Should reject out of range indices")
+        void shouldRejectOutOfRangeIndices() {
+            PackedPolyline polyline = PackedPolyline.of(List.of(START, END));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> polyline.get(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> polyline.latitude(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("List View Tests")
+    class ListViewTests {
+
+        @Test
+        @DisplayName("Should behave like the source list")
+        void shouldBehaveLikeSourceList() {
+            List<Coordinate> source = List.of(START, MIDDLE, END);
+
+            List<Coordinate> view = PackedPolyline.of(source).asList();
+
+            assertEquals(source, view);
+            assertEquals(source.hashCode(), view.hashCode());
+        }
+
+        @Test
+        @DisplayName("Should be unmodifiable")
+        void shouldBeUnmodifiable() {
+            List<Coordinate> view = PackedPolyline.of(List.of(START, END)).asList();
+
+            assertThrows(UnsupportedOperationException.class, () -> view.add(MIDDLE));
+            assertThrows(UnsupportedOperationException.class, () -> view.set(0, MIDDLE));
+        }
+
+        @Test
+        @DisplayName("Should reuse storage when packing its own view")
+        void shouldReuseStorageWhenPackingOwnView() {
+            PackedPolyline polyline = PackedPolyline.of(List.of(START, END));
+
+            assertSame(polyline, PackedPolyline.of(polyline.asList()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Measurement Tests")
+    class MeasurementTests {
+
+        @Test
+        @DisplayName("Should match Coordinate distance and bearing")
+        void shouldMatchCoordinateMeasurements() {
+            PackedPolyline polyline = PackedPolyline.of(List.of(START, END));
+
+            assertEquals(START.distanceTo(END), polyline.distanceBetween(0, 1), 1e-9);
+            assertEquals(START.bearingTo(END), polyline.bearingBetween(0, 1), 1e-9);
+        }
+    }
+
+    @Nested
+    @DisplayName("Memory Footprint Tests")
+    class MemoryFootprintTests {
+
+        private static final int POINT_COUNT = 1_000_000;
+
+        @Test
+        @DisplayName("Should store a 1M-point route in less than half the memory of Coordinate records")
+        void shouldStoreLargeRouteCompactly() {
+            com.sun.management.ThreadMXBean threadBean = threadMXBean();
+            double[] source = syntheticRoute(POINT_COUNT);
+
+            // Record layout: presized list of Coordinate records, as List.copyOf used to retain
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            List<Coordinate> records = new ArrayList<>(POINT_COUNT);
+            for (int i = 0; i < POINT_COUNT; i++) {
+                records.add(new Coordinate(source[i * 2], source[i * 2 + 1]));
+            }
+            long recordBytes = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+            // Packed layout: one interleaved primitive array
+            before = threadBean.getCurrentThreadAllocatedBytes();
+            PackedPolyline packed = PackedPolyline.fromLatLng(source);
+            long packedBytes = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+            assertEquals(records.size(), packed.size());
+            assertTrue(packedBytes >= 16L * POINT_COUNT, "Packed layout should hold 16 bytes per point");
+            assertTrue(packedBytes < 16L * POINT_COUNT + 1024,
+                    "Packed layout should not allocate per point, allocated " + packedBytes);
+            assertTrue(packedBytes * 2 < recordBytes,
+                    "Packed " + packedBytes + " bytes vs records " + recordBytes + " bytes");
+        }
+
+        @Test
+        @DisplayName("Should not materialise Coordinates when building a route from a packed polyline")
+        void shouldNotMaterialiseCoordinatesForRoute() {
+            com.sun.management.ThreadMXBean threadBean = threadMXBean();
+            PackedPolyline packed = PackedPolyline.fromLatLng(syntheticRoute(POINT_COUNT));
+
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            DrivingRoute route = DrivingRoute.fromPolyline("large", "Large Route", null, packed, 100_000, 3_600);
+            long routeBytes = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+            // Only the prefix-sum index (8 bytes per point) should be allocated
+            assertEquals(POINT_COUNT, route.getTotalWaypoints());
+            assertTrue(routeBytes < 8L * POINT_COUNT + 4096,
+                    "Route construction allocated " + routeBytes + " bytes");
+        }
+
+        private com.sun.management.ThreadMXBean threadMXBean() {
+            assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                    "Per-thread allocation counters are not available on this JVM");
+            com.sun.management.ThreadMXBean threadBean =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled(),
+                    "Per-thread allocation counters are disabled");
+            return threadBean;
+        }
+
+        private double[] syntheticRoute(int pointCount) {
+            double[] latLng = new double[pointCount * 2];
+            for (int i = 0; i < pointCount; i++) {
+                latLng[i * 2] = 48.0 + i * 1e-6;
+                latLng[i * 2 + 1] = 9.0 + i * 1e-6;
+            }
+            return latLng;
+        }
+    }
+}
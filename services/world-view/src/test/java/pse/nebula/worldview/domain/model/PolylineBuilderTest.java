@@ -0,0 +1,109 @@
+package pse.nebula.worldview.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PolylineBuilder.
+ */
+@DisplayName("PolylineBuilder Tests")
+class PolylineBuilderTest {
+
+    @Nested
+    @DisplayName("Building Tests")
+    class BuildingTests {
+
+        @Test
+        @DisplayName("Should pack points in order and measure the segments")
+        void shouldPackAndMeasure() {
+            // Given
+            PolylineBuilder builder = new PolylineBuilder(100);
+
+            // When
+            builder.add(48.8973, 9.1920);
+            builder.add(48.8800, 9.1750);
+            builder.add(48.8354, 9.1520);
+            PackedPolyline polyline = builder.build();
+
+            // Then
+            assertEquals(3, polyline.size());
+            assertEquals(48.8800, polyline.latitude(1));
+            double expected = polyline.distanceBetween(0, 1) + polyline.distanceBetween(1, 2);
+            assertEquals(expected, builder.distanceMeters(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should drop consecutive duplicate points")
+        void shouldDropDuplicates() {
+            // Given
+            PolylineBuilder builder = new PolylineBuilder(100);
+
+            // When
+            builder.add(48.8973, 9.1920);
+            builder.add(48.8973, 9.1920);
+            builder.add(48.8354, 9.1520);
+
+            // Then
+            assertEquals(2, builder.size());
+            assertEquals(3, builder.pointsRead());
+        }
+
+        @Test
+        @DisplayName("Should grow beyond its initial capacity")
+        void shouldGrow() {
+            // Given
+            PolylineBuilder builder = new PolylineBuilder(10_000);
+
+            // When
+            for (int i = 0; i < 5_000; i++) {
+                builder.add(48.0 + i * 1e-5, 9.0);
+            }
+
+            // Then
+            PackedPolyline polyline = builder.build();
+            assertEquals(5_000, polyline.size());
+            assertEquals(48.0 + 4_999 * 1e-5, polyline.latitude(4_999));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject invalid coordinates")
+        void shouldRejectInvalidCoordinates() {
+            PolylineBuilder builder = new PolylineBuilder(100);
+
+            assertThrows(IllegalArgumentException.class, () -> builder.add(91.0, 9.0));
+            assertThrows(IllegalArgumentException.class, () -> builder.add(48.0, Double.NaN));
+        }
+
+        @Test
+        @DisplayName("Should reject more points than the maximum")
+        void shouldRejectTooManyPoints() {
+            // Given
+            PolylineBuilder builder = new PolylineBuilder(2);
+            builder.add(48.0, 9.0);
+            builder.add(48.1, 9.0);
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> builder.add(48.2, 9.0));
+        }
+
+        @Test
+        @DisplayName("Should require two distinct points")
+        void shouldRequireTwoDistinctPoints() {
+            // Given
+            PolylineBuilder builder = new PolylineBuilder(100);
+            builder.add(48.0, 9.0);
+            builder.add(48.0, 9.0);
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, builder::build);
+        }
+    }
+}
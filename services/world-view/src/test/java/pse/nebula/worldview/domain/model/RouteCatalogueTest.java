@@ -0,0 +1,111 @@
+package pse.nebula.worldview.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RouteCatalogue.
+ */
+@DisplayName("RouteCatalogue Tests")
+class RouteCatalogueTest {
+
+    private static DrivingRoute route(String id) {
+        return new DrivingRoute(
+                id,
+                "Route " + id,
+                null,
+                List.of(new Coordinate(48.8973, 9.1920), new Coordinate(48.8354, 9.1520)),
+                10000,
+                600
+        );
+    }
+
+    @Test
+    @DisplayName("Should index routes by position and ID")
+    void shouldIndexRoutes() {
+        DrivingRoute first = route("route-1");
+        DrivingRoute second = route("route-2");
+
+        RouteCatalogue catalogue = RouteCatalogue.of(3, List.of(first, second));
+
+        assertEquals(3, catalogue.version());
+        assertEquals(2, catalogue.size());
+        assertSame(second, catalogue.get(1));
+        assertSame(first, catalogue.findById("route-1").orElseThrow());
+        assertTrue(catalogue.findById("missing").isEmpty());
+        assertTrue(catalogue.findById(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not be affected by changes to the source list")
+    void shouldSnapshotSourceList() {
+        List<DrivingRoute> source = new ArrayList<>(List.of(route("route-1")));
+        RouteCatalogue catalogue = RouteCatalogue.of(1, source);
+
+        source.add(route("route-2"));
+
+        assertEquals(1, catalogue.size());
+        assertThrows(UnsupportedOperationException.class, () -> catalogue.routes().add(route("route-3")));
+    }
+
+    @Test
+    @DisplayName("Should keep the first route for duplicate IDs")
+    void shouldKeepFirstRouteForDuplicateIds() {
+        DrivingRoute first = route("route-1");
+
+        RouteCatalogue catalogue = RouteCatalogue.of(1, List.of(first, route("route-1")));
+
+        assertEquals(2, catalogue.size());
+        assertSame(first, catalogue.findById("route-1").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should support empty catalogues")
+    void shouldSupportEmptyCatalogue() {
+        RouteCatalogue catalogue = RouteCatalogue.of(1, List.of());
+
+        assertTrue(catalogue.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> catalogue.get(0));
+    }
+
+    @Test
+    @DisplayName("Should reject null input")
+    void shouldRejectNullInput() {
+        List<DrivingRoute> withNull = Arrays.asList(route("route-1"), null);
+
+        assertThrows(IllegalArgumentException.class, () -> RouteCatalogue.of(1, null));
+        assertThrows(IllegalArgumentException.class, () -> RouteCatalogue.of(1, withNull));
+    }
+
+    @Test
+    @DisplayName("Should build a spatial index over all routes")
+    void shouldBuildSpatialIndex() {
+        RouteCatalogue catalogue = RouteCatalogue.of(1, List.of(route("route-1"), route("route-2")));
+
+        assertEquals(2, catalogue.spatialIndex().segmentCount());
+        assertEquals(2, catalogue.spatialIndex().findWithinRadius(new Coordinate(48.8354, 9.1520), 10).size());
+    }
+
+    @Test
+    @DisplayName("Should precompute levels of detail for every route")
+    void shouldPrecomputeLevelsOfDetail() {
+        List<Coordinate> waypoints = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            waypoints.add(new Coordinate(48.9 - i * 0.001, 9.19 + (i % 2) * 0.00001));
+        }
+        DrivingRoute wiggly = new DrivingRoute("route-1", "Route", null, waypoints, 5500, 400);
+        DrivingRoute unknown = route("route-2");
+
+        RouteCatalogue catalogue = RouteCatalogue.of(1, List.of(wiggly), List.of(10.0));
+
+        assertEquals(2, catalogue.detailLevel(wiggly, 10).waypoints().size());
+        assertSame(wiggly.polyline(), catalogue.detailLevel(wiggly, 5).waypoints());
+        assertTrue(catalogue.detailLevel(unknown, 10).isFull());
+    }
+}
@@ -0,0 +1,108 @@
+package pse.nebula.worldview.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RouteGeometry Tests")
+class RouteGeometryTest {
+
+    private static final Coordinate A = new Coordinate(48.9000, 9.2000);
+    private static final Coordinate B = new Coordinate(48.8800, 9.1800);
+    private static final Coordinate C = new Coordinate(48.8600, 9.1600);
+    private static final Coordinate D = new Coordinate(48.8354, 9.1520);
+
+    private final RouteGeometry geometry = RouteGeometry.of(List.of(A, B, C, D));
+
+    private static double tolerance(double meters) {
+        return meters * GeodesicKernel.FAST_PATH_MAX_RELATIVE_ERROR;
+    }
+
+    @Nested
+    @DisplayName("Construction Tests")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Should precompute segment lengths within the kernel's bound of Haversine distances")
+        void shouldPrecomputeSegmentLengths() {
+            assertEquals(3, geometry.getSegmentCount());
+            assertEquals(4, geometry.getWaypointCount());
+            assertEquals(A.distanceTo(B), geometry.getSegmentLength(0), tolerance(A.distanceTo(B)));
+            assertEquals(B.distanceTo(C), geometry.getSegmentLength(1), tolerance(B.distanceTo(C)));
+            assertEquals(C.distanceTo(D), geometry.getSegmentLength(2), tolerance(C.distanceTo(D)));
+        }
+
+        @Test
+        @DisplayName("Should precompute cumulative distances as prefix sums")
+        void shouldPrecomputeCumulativeDistances() {
+            double total = A.distanceTo(B) + B.distanceTo(C) + C.distanceTo(D);
+            assertEquals(0.0, geometry.getDistanceToWaypoint(0));
+            assertEquals(A.distanceTo(B), geometry.getDistanceToWaypoint(1), tolerance(total));
+            assertEquals(A.distanceTo(B) + B.distanceTo(C), geometry.getDistanceToWaypoint(2), tolerance(total));
+            assertEquals(total, geometry.getTotalLengthMeters(), tolerance(total));
+            assertEquals(geometry.getDistanceToWaypoint(1) + geometry.getSegmentLength(1),
+                    geometry.getDistanceToWaypoint(2), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should precompute segment bearings")
+        void shouldPrecomputeSegmentBearings() {
+            assertEquals(A.bearingTo(B), geometry.getSegmentBearing(0), 1e-9);
+            assertEquals(C.bearingTo(D), geometry.getSegmentBearing(2), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should reject fewer than 2 waypoints")
+        void shouldRejectTooFewWaypoints() {
+            List<Coordinate> single = List.of(A);
+            assertThrows(IllegalArgumentException.class, () -> RouteGeometry.of(single));
+            assertThrows(IllegalArgumentException.class, () -> RouteGeometry.of(null));
+        }
+
+        @Test
+        @DisplayName("Should reject out of range indices")
+        void shouldRejectOutOfRangeIndices() {
+            assertThrows(IndexOutOfBoundsException.class, () -> geometry.getSegmentLength(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> geometry.getDistanceToWaypoint(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("findSegmentIndex() Tests")
+    class FindSegmentIndexTests {
+
+        @Test
+        @DisplayName("Should find the segment containing a distance")
+        void shouldFindContainingSegment() {
+            double insideSecond = geometry.getDistanceToWaypoint(1) + 1.0;
+            assertEquals(1, geometry.findSegmentIndex(insideSecond));
+        }
+
+        @Test
+        @DisplayName("Should return the segment starting at an exact waypoint distance")
+        void shouldReturnSegmentStartingAtWaypoint() {
+            assertEquals(0, geometry.findSegmentIndex(0.0));
+            assertEquals(2, geometry.findSegmentIndex(geometry.getDistanceToWaypoint(2)));
+        }
+
+        @Test
+        @DisplayName("Should clamp distances outside the route")
+        void shouldClampOutOfRangeDistances() {
+            assertEquals(0, geometry.findSegmentIndex(-10.0));
+            assertEquals(2, geometry.findSegmentIndex(geometry.getTotalLengthMeters() + 1000));
+        }
+
+        @Test
+        @DisplayName("Should skip zero-length segments")
+        void shouldSkipZeroLengthSegments() {
+            RouteGeometry withDuplicate = RouteGeometry.of(List.of(A, B, B, C));
+
+            assertEquals(0.0, withDuplicate.getSegmentLength(1));
+            assertEquals(2, withDuplicate.findSegmentIndex(withDuplicate.getDistanceToWaypoint(1)));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package pse.nebula.worldview.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RouteLevelsOfDetail.
+ */
+@DisplayName("RouteLevelsOfDetail Tests")
+class RouteLevelsOfDetailTest {
+
+    private DrivingRoute route;
+
+    @BeforeEach
+    void setUp() {
+        // A zigzag with about 15 m amplitude and a long bend
+        List<Coordinate> waypoints = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            double bend = i < 50 ? 0 : (i - 50) * 0.0005;
+            waypoints.add(new Coordinate(48.9 - i * 0.001, 9.19 + bend + (i % 2) * 0.0002));
+        }
+        route = new DrivingRoute("route-1", "Route", null, waypoints, 11_000, 800);
+    }
+
+    @Test
+    @DisplayName("Should build coarser levels with fewer waypoints")
+    void shouldBuildCoarserLevels() {
+        RouteLevelsOfDetail levels = RouteLevelsOfDetail.build(route, List.of(320.0, 5.0, 80.0, 20.0));
+
+        List<RouteDetailLevel> built = levels.levels();
+        assertEquals(List.of(5.0, 20.0, 80.0, 320.0), built.stream().map(RouteDetailLevel::toleranceMeters).toList());
+        assertEquals(route.getTotalWaypoints(), built.get(0).waypoints().size());
+        assertTrue(built.get(1).waypoints().size() <= 4);
+        // Only the start, the bend and the end remain
+        assertEquals(3, built.get(3).waypoints().size());
+    }
+
+    @Test
+    @DisplayName("Should share the polyline of a level that drops nothing")
+    void shouldShareUnchangedPolylines() {
+        RouteLevelsOfDetail levels = RouteLevelsOfDetail.build(route, List.of(1.0, 5.0));
+
+        assertSame(route.polyline(), levels.levels().get(0).waypoints());
+        assertSame(route.polyline(), levels.levels().get(1).waypoints());
+    }
+
+    @Test
+    @DisplayName("Should select the coarsest level within the tolerance")
+    void shouldSelectCoarsestLevel() {
+        RouteLevelsOfDetail levels = RouteLevelsOfDetail.build(route, RouteLevelsOfDetail.DEFAULT_TOLERANCES_METERS);
+
+        assertTrue(levels.select(4.9).isFull());
+        assertEquals(5.0, levels.select(5).toleranceMeters());
+        assertEquals(80.0, levels.select(200).toleranceMeters());
+        assertEquals(320.0, levels.select(10_000).toleranceMeters());
+    }
+
+    @Test
+    @DisplayName("Should convert zoom levels to the size of a pixel")
+    void shouldConvertZoomToTolerance() {
+        assertEquals(156_543.03392, RouteLevelsOfDetail.toleranceForZoom(0, 0), 1e-6);
+        assertEquals(RouteLevelsOfDetail.toleranceForZoom(10, 48.8) / 2, RouteLevelsOfDetail.toleranceForZoom(11, 48.8), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> RouteLevelsOfDetail.toleranceForZoom(23, 48.8));
+        assertThrows(IllegalArgumentException.class, () -> RouteLevelsOfDetail.toleranceForZoom(-1, 48.8));
+    }
+}
@@ -0,0 +1,134 @@
+package pse.nebula.worldview.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RouteSimplifier.
+ */
+@DisplayName("RouteSimplifier Tests")
+class RouteSimplifierTest {
+
+    private static PackedPolyline polyline(Coordinate... points) {
+        return PackedPolyline.of(List.of(points));
+    }
+
+    /**
+     * A random walk heading south, with up to a few hundred meters between points.
+     */
+    private static PackedPolyline randomRoute(int points, long seed) {
+        return randomRoute(points, seed, 0.001);
+    }
+
+    private static PackedPolyline randomRoute(int points, long seed, double stepDegrees) {
+        Random random = new Random(seed);
+        double[] latLng = new double[points * 2];
+        double lat = 48.9;
+        double lng = 9.19;
+        for (int i = 0; i < points; i++) {
+            latLng[2 * i] = lat;
+            latLng[2 * i + 1] = lng;
+            lat -= stepDegrees * (1 + random.nextDouble() * 2);
+            lng += (random.nextDouble() - 0.5) * stepDegrees * 4;
+        }
+        return PackedPolyline.fromLatLng(latLng);
+    }
+
+    /**
+     * Distance from a point to the nearest segment of a polyline, in meters.
+     */
+    private static double distanceToPolyline(Coordinate point, PackedPolyline polyline) {
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < polyline.size() - 1; i++) {
+            Coordinate a = polyline.get(i);
+            Coordinate b = polyline.get(i + 1);
+            // Sample the segment every few meters; precise enough for a bound check
+            for (int step = 0; step <= 100; step++) {
+                double t = step / 100.0;
+                Coordinate onSegment = new Coordinate(
+                        a.latitude() + (b.latitude() - a.latitude()) * t,
+                        a.longitude() + (b.longitude() - a.longitude()) * t);
+                best = Math.min(best, point.distanceTo(onSegment));
+            }
+        }
+        return best;
+    }
+
+    @Test
+    @DisplayName("Should drop points on a straight line")
+    void shouldDropCollinearPoints() {
+        PackedPolyline line = polyline(
+                new Coordinate(48.90, 9.19),
+                new Coordinate(48.89, 9.19),
+                new Coordinate(48.88, 9.19),
+                new Coordinate(48.87, 9.19));
+
+        PackedPolyline simplified = RouteSimplifier.simplify(line, 1);
+
+        assertEquals(2, simplified.size());
+        assertEquals(line.get(0), simplified.get(0));
+        assertEquals(line.get(3), simplified.get(1));
+    }
+
+    @Test
+    @DisplayName("Should keep a corner that deviates more than the tolerance")
+    void shouldKeepCorners() {
+        // The middle point is about 730 m east of the line between the others
+        PackedPolyline corner = polyline(
+                new Coordinate(48.90, 9.19),
+                new Coordinate(48.89, 9.20),
+                new Coordinate(48.88, 9.19));
+
+        assertEquals(3, RouteSimplifier.simplify(corner, 500).size());
+        assertEquals(2, RouteSimplifier.simplify(corner, 1000).size());
+    }
+
+    @Test
+    @DisplayName("Should keep every dropped point within the tolerance of the result")
+    void shouldStayWithinTolerance() {
+        PackedPolyline route = randomRoute(300, 42);
+
+        for (double tolerance : new double[]{5, 20, 80, 320}) {
+            PackedPolyline simplified = RouteSimplifier.simplify(route, tolerance);
+
+            assertTrue(simplified.size() < route.size(), "tolerance " + tolerance);
+            assertEquals(route.get(0), simplified.get(0));
+            assertEquals(route.get(route.size() - 1), simplified.get(simplified.size() - 1));
+            for (int i = 0; i < route.size(); i += 7) {
+                double deviation = distanceToPolyline(route.get(i), simplified);
+                assertTrue(deviation <= tolerance * 1.01 + 2, "deviation " + deviation + " m at tolerance " + tolerance);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the same polyline when nothing can be dropped")
+    void shouldReturnSamePolyline() {
+        PackedPolyline route = randomRoute(20, 7);
+
+        assertSame(route, RouteSimplifier.simplify(route, 0));
+        assertSame(route, RouteSimplifier.simplify(route, 0.001));
+    }
+
+    @Test
+    @DisplayName("Should simplify long routes without recursion")
+    void shouldSimplifyLongRoutes() {
+        PackedPolyline route = randomRoute(200_000, 1, 0.0001);
+
+        assertDoesNotThrow(() -> RouteSimplifier.simplify(route, 50));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid tolerance")
+    void shouldRejectInvalidTolerance() {
+        PackedPolyline route = randomRoute(5, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> RouteSimplifier.simplify(route, -1));
+        assertThrows(IllegalArgumentException.class, () -> RouteSimplifier.simplify(route, Double.NaN));
+    }
+}
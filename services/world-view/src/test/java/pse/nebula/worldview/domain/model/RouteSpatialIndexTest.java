@@ -0,0 +1,295 @@
+package pse.nebula.worldview.domain.model;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RouteSpatialIndex.
+ */
+@DisplayName("RouteSpatialIndex Tests")
+class RouteSpatialIndexTest {
+
+    // Ludwigsburg to the dealership, heading south-west
+    private static final DrivingRoute NORTH_ROUTE = new DrivingRoute(
+            "route-north", "North Route", null,
+            List.of(new Coordinate(48.8973, 9.1920), new Coordinate(48.8700, 9.1700), new Coordinate(48.8354, 9.1520)),
+            8000, 600);
+
+    // East-west route south of the dealership
+    private static final DrivingRoute SOUTH_ROUTE = new DrivingRoute(
+            "route-south", "South Route", null,
+            List.of(new Coordinate(48.7800, 9.0500), new Coordinate(48.7800, 9.2500)),
+            14600, 900);
+
+    @Nested
+    @DisplayName("Build Tests")
+    class BuildTests {
+
+        @Test
+        @DisplayName("Should count one segment per pair of consecutive waypoints")
+        void shouldCountSegments() {
+            RouteSpatialIndex index = RouteSpatialIndex.build(List.of(NORTH_ROUTE, SOUTH_ROUTE));
+
+            assertEquals(3, index.segmentCount());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid arguments")
+        void shouldRejectInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> RouteSpatialIndex.build(null));
+            assertThrows(IllegalArgumentException.class, () -> RouteSpatialIndex.build(List.of(), 0));
+            assertThrows(IllegalArgumentException.class, () -> RouteSpatialIndex.build(List.of(), 0.005));
+            assertThrows(IllegalArgumentException.class, () -> RouteSpatialIndex.build(List.of(), Double.NaN));
+        }
+
+        @Test
+        @DisplayName("Should find routes in the last cells of the grid with the smallest cell size")
+        void shouldFindRoutesWithSmallestCells() {
+            DrivingRoute polar = new DrivingRoute("route-polar", "Polar Route", null,
+                    List.of(new Coordinate(89.990, 179.990), new Coordinate(89.995, 179.995)), 600, 60);
+            RouteSpatialIndex index = RouteSpatialIndex.build(List.of(SOUTH_ROUTE, polar),
+                    RouteSpatialIndex.MIN_CELL_SIZE_DEGREES);
+
+            assertEquals("route-polar", index.snapToNearest(new Coordinate(89.993, 179.993)).orElseThrow().route().id());
+            assertEquals(List.of(SOUTH_ROUTE), index.findIntersecting(new BoundingBox(48.77, 9.1, 48.79, 9.2)));
+        }
+
+        @Test
+        @DisplayName("Should answer every query on an empty index")
+        void shouldHandleEmptyIndex() {
+            RouteSpatialIndex index = RouteSpatialIndex.build(List.of());
+            Coordinate point = new Coordinate(48.85, 9.15);
+
+            assertTrue(index.findWithinRadius(point, 1000).isEmpty());
+            assertTrue(index.findIntersecting(new BoundingBox(48, 9, 49, 10)).isEmpty());
+            assertTrue(index.snapToNearest(point).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Radius Query Tests")
+    class RadiusQueryTests {
+
+        private final RouteSpatialIndex index = RouteSpatialIndex.build(List.of(NORTH_ROUTE, SOUTH_ROUTE));
+
+        @Test
+        @DisplayName("Should find the nearest point between waypoints")
+        void shouldFindPointBetweenWaypoints() {
+            // Given a point 100 m north of the middle of the east-west route
+            Coordinate query = new Coordinate(48.7800 + 100 / 111_195.0, 9.1500);
+
+            // When
+            List<RouteMatch> matches = index.findWithinRadius(query, 200);
+
+            // Then
+            assertEquals(1, matches.size());
+            RouteMatch match = matches.get(0);
+            assertSame(SOUTH_ROUTE, match.route());
+            assertEquals(0, match.segmentIndex());
+            assertEquals(100, match.distanceMeters(), 0.5);
+            assertEquals(48.7800, match.nearestPoint().latitude(), 1e-6);
+            assertEquals(9.1500, match.nearestPoint().longitude(), 1e-6);
+        }
+
+        @Test
+        @DisplayName("Should return one match per route, closest first")
+        void shouldReturnClosestRouteFirst() {
+            Coordinate query = new Coordinate(48.8354, 9.1520);
+
+            List<RouteMatch> matches = index.findWithinRadius(query, 10_000);
+
+            assertEquals(2, matches.size());
+            assertSame(NORTH_ROUTE, matches.get(0).route());
+            assertEquals(0, matches.get(0).distanceMeters(), 1e-6);
+            assertSame(SOUTH_ROUTE, matches.get(1).route());
+        }
+
+        @Test
+        @DisplayName("Should not return routes outside the radius")
+        void shouldExcludeRoutesOutsideRadius() {
+            Coordinate query = new Coordinate(48.8100, 9.1500);
+
+            assertTrue(index.findWithinRadius(query, 100).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject negative radius")
+        void shouldRejectNegativeRadius() {
+            Coordinate query = new Coordinate(48.8100, 9.1500);
+
+            assertThrows(IllegalArgumentException.class, () -> index.findWithinRadius(query, -1));
+            assertThrows(IllegalArgumentException.class, () -> index.findWithinRadius(null, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounding Box Query Tests")
+    class BoundingBoxQueryTests {
+
+        private final RouteSpatialIndex index = RouteSpatialIndex.build(List.of(NORTH_ROUTE, SOUTH_ROUTE));
+
+        @Test
+        @DisplayName("Should find a route crossing the box without a waypoint inside it")
+        void shouldFindRouteCrossingBox() {
+            BoundingBox box = new BoundingBox(48.77, 9.10, 48.79, 9.11);
+
+            assertEquals(List.of(SOUTH_ROUTE), index.findIntersecting(box));
+        }
+
+        @Test
+        @DisplayName("Should return routes in index order")
+        void shouldReturnRoutesInIndexOrder() {
+            BoundingBox box = new BoundingBox(48.70, 9.00, 48.95, 9.30);
+
+            assertEquals(List.of(NORTH_ROUTE, SOUTH_ROUTE), index.findIntersecting(box));
+        }
+
+        @Test
+        @DisplayName("Should not match a box that only overlaps the segment bounds")
+        void shouldNotMatchBoxBesideDiagonalSegment() {
+            // South-east of the diagonal first segment, inside its bounding rectangle
+            BoundingBox box = new BoundingBox(48.8710, 9.1880, 48.8720, 9.1910);
+
+            assertTrue(index.findIntersecting(box).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Snap Tests")
+    class SnapTests {
+
+        private final RouteSpatialIndex index = RouteSpatialIndex.build(List.of(NORTH_ROUTE, SOUTH_ROUTE));
+
+        @Test
+        @DisplayName("Should snap to the closest route")
+        void shouldSnapToClosestRoute() {
+            Coordinate query = new Coordinate(48.7850, 9.2000);
+
+            RouteMatch match = index.snapToNearest(query).orElseThrow();
+
+            assertSame(SOUTH_ROUTE, match.route());
+            assertEquals(48.7800, match.nearestPoint().latitude(), 1e-6);
+            assertEquals(9.2000, match.nearestPoint().longitude(), 1e-6);
+        }
+
+        @Test
+        @DisplayName("Should snap positions far away from every route")
+        void shouldSnapFarAwayPositions() {
+            Coordinate berlin = new Coordinate(52.5200, 13.4050);
+
+            RouteMatch match = index.snapToNearest(berlin).orElseThrow();
+
+            assertSame(NORTH_ROUTE, match.route());
+            assertEquals(48.8973, match.nearestPoint().latitude(), 1e-6);
+            assertEquals(9.1920, match.nearestPoint().longitude(), 1e-6);
+        }
+    }
+
+    @Nested
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    @DisplayName("Large Catalogue Tests")
+    class LargeCatalogueTests {
+
+        private static final int ROUTES = 200;
+        private static final int WAYPOINTS_PER_ROUTE = 600;
+
+        private List<DrivingRoute> routes;
+        private RouteSpatialIndex index;
+
+        @BeforeAll
+        void buildIndex() {
+            // Random walks with ~30 m steps across the Stuttgart region
+            Random random = new Random(42);
+            routes = new ArrayList<>(ROUTES);
+            for (int r = 0; r < ROUTES; r++) {
+                double[] latLng = new double[WAYPOINTS_PER_ROUTE * 2];
+                double lat = 48.6 + random.nextDouble() * 0.4;
+                double lng = 8.9 + random.nextDouble() * 0.6;
+                double heading = random.nextDouble() * 2 * Math.PI;
+                for (int i = 0; i < WAYPOINTS_PER_ROUTE; i++) {
+                    latLng[2 * i] = lat;
+                    latLng[2 * i + 1] = lng;
+                    heading += (random.nextDouble() - 0.5) * 0.6;
+                    lat += Math.cos(heading) * 0.00027;
+                    lng += Math.sin(heading) * 0.00041;
+                }
+                routes.add(DrivingRoute.fromPolyline("route-" + r, "Route " + r, null,
+                        PackedPolyline.fromLatLng(latLng), 18000, 1800));
+            }
+            index = RouteSpatialIndex.build(routes);
+        }
+
+        private double bruteForceDistance(DrivingRoute route, Coordinate query) {
+            RouteSpatialIndex single = RouteSpatialIndex.build(List.of(route), 10);
+            return single.findWithinRadius(query, 1_000_000).get(0).distanceMeters();
+        }
+
+        @Test
+        @DisplayName("Should index more than 100k segments")
+        void shouldIndexManySegments() {
+            assertTrue(index.segmentCount() > 100_000, "segments: " + index.segmentCount());
+        }
+
+        @Test
+        @DisplayName("Should agree with an exhaustive search")
+        void shouldAgreeWithExhaustiveSearch() {
+            Random random = new Random(7);
+            for (int q = 0; q < 25; q++) {
+                Coordinate query = new Coordinate(48.6 + random.nextDouble() * 0.4, 8.9 + random.nextDouble() * 0.6);
+
+                double nearest = Double.POSITIVE_INFINITY;
+                List<String> expectedNearby = new ArrayList<>();
+                for (DrivingRoute route : routes) {
+                    double distance = bruteForceDistance(route, query);
+                    nearest = Math.min(nearest, distance);
+                    if (distance <= 1500) {
+                        expectedNearby.add(route.id());
+                    }
+                }
+
+                assertEquals(nearest, index.snapToNearest(query).orElseThrow().distanceMeters(), 1e-6);
+                List<String> nearby = index.findWithinRadius(query, 1500).stream()
+                        .map(match -> match.route().id())
+                        .sorted()
+                        .toList();
+                assertEquals(expectedNearby.stream().sorted().toList(), nearby);
+            }
+        }
+
+        @Test
+        @DisplayName("Should answer queries in well under a millisecond")
+        void shouldAnswerQueriesQuickly() {
+            Random random = new Random(11);
+            int queries = 5_000;
+            Coordinate[] points = new Coordinate[queries];
+            for (int i = 0; i < queries; i++) {
+                points[i] = new Coordinate(48.6 + random.nextDouble() * 0.4, 8.9 + random.nextDouble() * 0.6);
+            }
+
+            // Warm up, then measure
+            for (Coordinate point : points) {
+                index.snapToNearest(point);
+                index.findWithinRadius(point, 500);
+            }
+            long start = System.nanoTime();
+            int found = 0;
+            for (Coordinate point : points) {
+                found += index.snapToNearest(point).isPresent() ? 1 : 0;
+                found += index.findWithinRadius(point, 500).size();
+            }
+            double averageMillis = (System.nanoTime() - start) / 1e6 / (2.0 * queries);
+
+            assertTrue(found >= queries);
+            assertTrue(averageMillis < 1.0, "average query took " + averageMillis + " ms");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import pse.nebula.worldview.application.service.AutoJourneySchedulerService;
+import pse.nebula.worldview.application.service.GeofenceService;
+import pse.nebula.worldview.application.service.JourneyService;
+import pse.nebula.worldview.application.service.JourneySimulationEngine;
+import pse.nebula.worldview.application.service.ShardOwnershipService;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+import pse.nebula.worldview.infrastructure.adapter.outbound.clock.ManualSimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.NoOpCoordinatePublisherAdapter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository.InMemoryJourneyStateRepositoryAdapter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository.NoOpJourneyAnalyticsRepositoryAdapter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository.OffHeapJourneyTrailRepositoryAdapter;
+import pse.nebula.worldview.infrastructure.adapter.outbound.sharding.LocalShardLeaseRepositoryAdapter;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HeadlessSimulationRunner.
+ */
+@DisplayName("HeadlessSimulationRunner Tests")
+class HeadlessSimulationRunnerTest {
+
+    private JourneySimulationEngine engine;
+    private AutoJourneySchedulerService scheduler;
+    private ManualSimulationClock clock;
+    private HeadlessSimulationRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        // 1 km route at 10 m/s takes 100 simulated seconds
+        DrivingRoute route = new DrivingRoute("route-1", "Test Route", "Test description",
+                List.of(new Coordinate(48.8000, 9.1500), new Coordinate(48.8090, 9.1500)), 1000.0, 100);
+        RouteUseCase routeUseCase = mock(RouteUseCase.class);
+        when(routeUseCase.getRandomRoute()).thenReturn(route);
+
+        clock = new ManualSimulationClock(0);
+        JourneyService journeyService = new JourneyService(
+                routeUseCase, new InMemoryJourneyStateRepositoryAdapter(), new NoOpCoordinatePublisherAdapter(),
+                new GeofenceService(List::of, new SimpleMeterRegistry(), 0.01),
+                new OffHeapJourneyTrailRepositoryAdapter(new SimpleMeterRegistry(), 256, 16), clock,
+                new NoOpJourneyAnalyticsRepositoryAdapter());
+        engine = new JourneySimulationEngine(journeyService, new NoOpCoordinatePublisherAdapter(),
+                new SimpleMeterRegistry(), 1, 64);
+        ShardOwnershipService shardOwnership = new ShardOwnershipService(
+                new LocalShardLeaseRepositoryAdapter(), new SimpleMeterRegistry(), 16, 4, 500L);
+        scheduler = new AutoJourneySchedulerService(journeyService, routeUseCase, engine, clock, shardOwnership,
+                1000L, 10.0, 10_000L, 100);
+        runner = new HeadlessSimulationRunner(scheduler, clock, mock(ConfigurableApplicationContext.class),
+                Duration.ofHours(1), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should replay an hour of traffic without waiting on the wall clock")
+    void shouldReplayHourQuickly() {
+        HeadlessSimulationRunner.BatchReport report = runner.runFor(Duration.ofHours(1));
+
+        assertEquals(3600, report.ticks());
+        assertEquals(Duration.ofHours(1), report.simulatedTime());
+        assertEquals(3_600_000, clock.currentTimeMillis());
+        assertTrue(report.wallTime().compareTo(Duration.ofSeconds(30)) < 0, "took " + report.wallTime());
+        assertTrue(report.speedUp() > 100, "speed-up " + report.speedUp());
+    }
+
+    @Test
+    @DisplayName("Should complete journeys and refill slots in simulated time")
+    void shouldCompleteJourneysInSimulatedTime() {
+        // Each of the 4 slots cycles every ~100s of driving plus 10s of delay
+        HeadlessSimulationRunner.BatchReport report = runner.runFor(Duration.ofHours(1));
+
+        long cyclesPerSlot = 3600 / 111;
+        assertTrue(report.journeysCompleted() >= 4 * (cyclesPerSlot - 1), "completed " + report.journeysCompleted());
+        assertTrue(report.journeysStarted() - report.journeysCompleted() <= 4);
+    }
+
+    @Test
+    @DisplayName("Should continue from where the previous run stopped")
+    void shouldContinueFromPreviousRun() {
+        HeadlessSimulationRunner.BatchReport first = runner.runFor(Duration.ofMinutes(30));
+        HeadlessSimulationRunner.BatchReport second = runner.runFor(Duration.ofMinutes(30));
+
+        assertEquals(1800, first.ticks());
+        assertEquals(1800, second.ticks());
+        assertEquals(3_600_000, clock.currentTimeMillis());
+        assertTrue(second.journeysCompleted() > 0);
+    }
+}
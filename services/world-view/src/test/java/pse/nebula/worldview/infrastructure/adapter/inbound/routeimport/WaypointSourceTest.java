@@ -0,0 +1,300 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.routeimport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.PackedPolyline;
+import pse.nebula.worldview.domain.model.PolylineBuilder;
+import pse.nebula.worldview.domain.model.WaypointSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streaming GPX and GeoJSON waypoint sources.
+ */
+@DisplayName("Route File Waypoint Source Tests")
+class WaypointSourceTest {
+
+    private static PackedPolyline read(RouteFileFormat format, String content) {
+        PolylineBuilder builder = new PolylineBuilder(10_000_000);
+        format.open(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))).readInto(builder);
+        return builder.build();
+    }
+
+    @Nested
+    @DisplayName("GPX Tests")
+    class GpxTests {
+
+        @Test
+        @DisplayName("Should read track points of all segments in order")
+        void shouldReadTrackPoints() {
+            // Given
+            String gpx = """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <gpx version="1.1" creator="test" xmlns="http://www.topografix.com/GPX/1/1">
+                      <wpt lat="10.0" lon="10.0"><name>Ignored marker</name></wpt>
+                      <trk><name>Morning drive</name>
+                        <trkseg>
+                          <trkpt lat="48.8973" lon="9.1920"><ele>290</ele></trkpt>
+                          <trkpt lat="48.8800" lon="9.1750"/>
+                        </trkseg>
+                        <trkseg>
+                          <trkpt lat="48.8354" lon="9.1520"/>
+                        </trkseg>
+                      </trk>
+                    </gpx>
+                    """;
+
+            // When
+            PackedPolyline polyline = read(RouteFileFormat.GPX, gpx);
+
+            // Then
+            assertEquals(3, polyline.size());
+            assertEquals(48.8973, polyline.latitude(0));
+            assertEquals(9.1520, polyline.longitude(2));
+        }
+
+        @Test
+        @DisplayName("Should read route points of planned routes")
+        void shouldReadRoutePoints() {
+            String gpx = "<gpx><rte><rtept lat=\"48.0\" lon=\"9.0\"/><rtept lat=\"48.1\" lon=\"9.1\"/></rte></gpx>";
+
+            assertEquals(2, read(RouteFileFormat.GPX, gpx).size());
+        }
+
+        @Test
+        @DisplayName("Should report the line of an invalid point")
+        void shouldReportInvalidPoint() {
+            String gpx = "<gpx><trk><trkseg>\n<trkpt lat=\"48.0\" lon=\"9.0\"/>\n<trkpt lat=\"148.0\" lon=\"9.0\"/>"
+                    + "</trkseg></trk></gpx>";
+
+            IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                    () -> read(RouteFileFormat.GPX, gpx));
+            assertTrue(error.getMessage().contains("line 3"), error.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject malformed XML and missing attributes")
+        void shouldRejectMalformedGpx() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> read(RouteFileFormat.GPX, "<gpx><trk><trkseg><trkpt lat=\"48.0\" lon=\"9.0\">"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> read(RouteFileFormat.GPX, "<gpx><trk><trkseg><trkpt lat=\"48.0\"/></trkseg></trk></gpx>"));
+        }
+
+        @Test
+        @DisplayName("Should not resolve external entities")
+        void shouldNotResolveExternalEntities() {
+            String gpx = """
+                    <?xml version="1.0"?>
+                    <!DOCTYPE gpx [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                    <gpx><trk><name>&xxe;</name><trkseg>
+                      <trkpt lat="48.0" lon="9.0"/><trkpt lat="48.1" lon="9.0"/>
+                    </trkseg></trk></gpx>
+                    """;
+
+            assertThrows(IllegalArgumentException.class, () -> read(RouteFileFormat.GPX, gpx));
+        }
+    }
+
+    @Nested
+    @DisplayName("GeoJSON Tests")
+    class GeoJsonTests {
+
+        @Test
+        @DisplayName("Should read a bare LineString")
+        void shouldReadLineString() {
+            // Given
+            String geoJson = "{\"type\":\"LineString\",\"coordinates\":[[9.1920,48.8973,290.5],[9.1520,48.8354]]}";
+
+            // When
+            PackedPolyline polyline = read(RouteFileFormat.GEOJSON, geoJson);
+
+            // Then
+            assertEquals(2, polyline.size());
+            assertEquals(48.8973, polyline.latitude(0));
+            assertEquals(9.1920, polyline.longitude(0));
+        }
+
+        @Test
+        @DisplayName("Should join the lines of a FeatureCollection and skip other geometries")
+        void shouldReadFeatureCollection() {
+            // Given
+            String geoJson = """
+                    {"type": "FeatureCollection", "features": [
+                      {"type": "Feature", "properties": {"name": "Start", "tags": [1, 2]},
+                       "geometry": {"type": "Point", "coordinates": [0.0, 0.0]}},
+                      {"type": "Feature", "properties": null,
+                       "geometry": {"type": "MultiLineString", "coordinates": [
+                         [[9.0, 48.0], [9.1, 48.1]],
+                         [[9.2, 48.2]]]}},
+                      {"type": "Feature",
+                       "geometry": {"type": "GeometryCollection", "geometries": [
+                         {"type": "LineString", "coordinates": [[9.3, 48.3]]}]}}
+                    ]}
+                    """;
+
+            // When
+            PackedPolyline polyline = read(RouteFileFormat.GEOJSON, geoJson);
+
+            // Then
+            assertEquals(4, polyline.size());
+            assertEquals(48.3, polyline.latitude(3));
+        }
+
+        @Test
+        @DisplayName("Should reject coordinates before the geometry type")
+        void shouldRejectCoordinatesBeforeType() {
+            String geoJson = "{\"coordinates\":[[9.0,48.0],[9.1,48.1]],\"type\":\"LineString\"}";
+
+            assertThrows(IllegalArgumentException.class, () -> read(RouteFileFormat.GEOJSON, geoJson));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed JSON and invalid positions")
+        void shouldRejectMalformedGeoJson() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> read(RouteFileFormat.GEOJSON, "{\"type\":\"LineString\",\"coordinates\":[[9.0,48.0],"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> read(RouteFileFormat.GEOJSON, "{\"type\":\"LineString\",\"coordinates\":[[\"9\",48.0]]}"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> read(RouteFileFormat.GEOJSON, "{\"type\":\"LineString\",\"coordinates\":[[9.0,98.0]]}"));
+            assertThrows(IllegalArgumentException.class, () -> read(RouteFileFormat.GEOJSON, "[]"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Format Tests")
+    class FormatTests {
+
+        @Test
+        @DisplayName("Should detect the format from media types and file names")
+        void shouldDetectFormat() {
+            assertEquals(RouteFileFormat.GPX, RouteFileFormat.fromMediaType("application/gpx+xml; charset=UTF-8"));
+            assertEquals(RouteFileFormat.GEOJSON, RouteFileFormat.fromMediaType("application/geo+json"));
+            assertEquals(RouteFileFormat.GPX, RouteFileFormat.fromFileName("Track.GPX"));
+            assertEquals(RouteFileFormat.GEOJSON, RouteFileFormat.fromFileName("route.geojson"));
+            assertThrows(IllegalArgumentException.class, () -> RouteFileFormat.fromMediaType("text/csv"));
+            assertThrows(IllegalArgumentException.class, () -> RouteFileFormat.fromMediaType(null));
+            assertThrows(IllegalArgumentException.class, () -> RouteFileFormat.fromFileName("route.kml"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming Tests")
+    class StreamingTests {
+
+        private static final int POINTS = 1_000_000;
+
+        // Parser buffers hold a few chunks at most; a parser reading the whole file first lags by all of it
+        private static final int MAX_POINTS_AHEAD = 10 * GeneratedInputStream.POINTS_PER_CHUNK;
+
+        private void assertStreamsMillionPoints(RouteFileFormat format, String header,
+                                                IntFunction<String> point, String footer) {
+            // Given - the file is generated while it is read, it never exists in memory
+            PolylineBuilder builder = new PolylineBuilder(POINTS);
+            GeneratedInputStream input = new GeneratedInputStream(header, point, POINTS, footer, builder::size);
+            WaypointSource source = format.open(input);
+
+            // When
+            source.readInto(builder);
+
+            // Then
+            assertEquals(POINTS, builder.build().size());
+            assertTrue(input.maxPointsAhead() <= MAX_POINTS_AHEAD,
+                    format + " read " + input.maxPointsAhead() + " points ahead of the builder");
+        }
+
+        @Test
+        @DisplayName("Should hand GPX track points to the builder while the file is still being read")
+        void shouldStreamLargeGpx() {
+            assertStreamsMillionPoints(RouteFileFormat.GPX,
+                    "<?xml version=\"1.0\"?><gpx version=\"1.1\"><trk><trkseg>\n",
+                    i -> "<trkpt lat=\"" + (48.0 + i * 1e-6) + "\" lon=\"9.15\"><ele>300</ele></trkpt>\n",
+                    "</trkseg></trk></gpx>");
+        }
+
+        @Test
+        @DisplayName("Should hand GeoJSON coordinates to the builder while the file is still being read")
+        void shouldStreamLargeGeoJson() {
+            assertStreamsMillionPoints(RouteFileFormat.GEOJSON,
+                    "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[",
+                    i -> (i > 0 ? "," : "") + "[9.15," + (48.0 + i * 1e-6) + "]",
+                    "]}}");
+        }
+    }
+
+    /**
+     * Input stream producing a file of generated points chunk by chunk. Before each chunk it
+     * records how many generated points the consumer has not received yet.
+     */
+    private static final class GeneratedInputStream extends InputStream {
+
+        private static final int POINTS_PER_CHUNK = 1_000;
+
+        private final IntFunction<String> point;
+        private final int points;
+        private final String footer;
+        private final IntSupplier pointsReceived;
+        private byte[] chunk;
+        private int position;
+        private int nextPoint;
+        private boolean footerWritten;
+        private int maxPointsAhead;
+
+        GeneratedInputStream(String header, IntFunction<String> point, int points, String footer,
+                             IntSupplier pointsReceived) {
+            this.point = point;
+            this.points = points;
+            this.footer = footer;
+            this.pointsReceived = pointsReceived;
+            this.chunk = header.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int read() {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == chunk.length && !nextChunk()) {
+                return -1;
+            }
+            int count = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        int maxPointsAhead() {
+            return maxPointsAhead;
+        }
+
+        private boolean nextChunk() {
+            maxPointsAhead = Math.max(maxPointsAhead, nextPoint - pointsReceived.getAsInt());
+            if (nextPoint < points) {
+                StringBuilder text = new StringBuilder(POINTS_PER_CHUNK * 64);
+                int end = Math.min(points, nextPoint + POINTS_PER_CHUNK);
+                for (; nextPoint < end; nextPoint++) {
+                    text.append(point.apply(nextPoint));
+                }
+                chunk = text.toString().getBytes(StandardCharsets.UTF_8);
+            } else if (!footerWritten) {
+                chunk = footer.getBytes(StandardCharsets.UTF_8);
+                footerWritten = true;
+            } else {
+                return false;
+            }
+            position = 0;
+            return true;
+        }
+    }
+}
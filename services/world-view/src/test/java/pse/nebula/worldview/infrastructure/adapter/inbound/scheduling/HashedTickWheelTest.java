@@ -0,0 +1,123 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HashedTickWheel.
+ */
+@DisplayName("HashedTickWheel Tests")
+class HashedTickWheelTest {
+
+    private HashedTickWheel<Entry> wheel;
+    private List<Entry> expired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTickWheel<>(8);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Should expire timeouts at their deadline tick")
+    void shouldExpireAtDeadline() {
+        // Given
+        Entry first = new Entry("first");
+        Entry second = new Entry("second");
+        wheel.schedule(first, 2);
+        wheel.schedule(second, 5);
+
+        // When & Then
+        wheel.advanceTo(1, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advanceTo(4, expired::add);
+        assertEquals(List.of(first), expired);
+        wheel.advanceTo(5, expired::add);
+        assertEquals(List.of(first, second), expired);
+        assertEquals(0, wheel.size());
+        assertFalse(first.isScheduled());
+    }
+
+    @Test
+    @DisplayName("Should keep timeouts beyond one revolution until their round")
+    void shouldKeepTimeoutsForLaterRounds() {
+        // Given - tick 3 and tick 19 share a bucket of the 8 bucket wheel
+        Entry near = new Entry("near");
+        Entry far = new Entry("far");
+        wheel.schedule(near, 3);
+        wheel.schedule(far, 19);
+
+        // When
+        wheel.advanceTo(3, expired::add);
+        wheel.advanceTo(11, expired::add);
+
+        // Then
+        assertEquals(List.of(near), expired);
+        assertEquals(1, wheel.size());
+        wheel.advanceTo(19, expired::add);
+        assertEquals(List.of(near, far), expired);
+    }
+
+    @Test
+    @DisplayName("Should expire everything that is due after falling behind by several revolutions")
+    void shouldCatchUpAfterFallingBehind() {
+        // Given
+        for (int deadline = 1; deadline <= 30; deadline++) {
+            wheel.schedule(new Entry("entry-" + deadline), deadline);
+        }
+
+        // When
+        wheel.advanceTo(25, expired::add);
+
+        // Then
+        assertEquals(25, expired.size());
+        assertTrue(expired.stream().allMatch(entry -> entry.deadlineTick() <= 25));
+        assertEquals(5, wheel.size());
+        assertEquals(25, wheel.currentTick());
+    }
+
+    @Test
+    @DisplayName("Should allow rescheduling an expired timeout")
+    void shouldRescheduleExpiredTimeout() {
+        Entry entry = new Entry("entry");
+        wheel.schedule(entry, 1);
+        wheel.advanceTo(1, expired::add);
+
+        wheel.schedule(entry, 9);
+        wheel.advanceTo(9, expired::add);
+
+        assertEquals(List.of(entry, entry), expired);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid schedules")
+    void shouldRejectInvalidSchedules() {
+        Entry entry = new Entry("entry");
+        wheel.advanceTo(4, expired::add);
+
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(entry, 4));
+        wheel.schedule(entry, 5);
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(entry, 6));
+        assertThrows(IllegalArgumentException.class, () -> new HashedTickWheel<Entry>(12));
+    }
+
+    private static final class Entry extends HashedTickWheel.Timeout {
+
+        private final String name;
+
+        private Entry(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
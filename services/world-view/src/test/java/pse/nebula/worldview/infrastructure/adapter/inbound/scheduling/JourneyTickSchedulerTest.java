@@ -0,0 +1,343 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import pse.nebula.worldview.application.service.AutoJourneySchedulerService;
+import pse.nebula.worldview.application.service.JourneySimulationEngine;
+import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.clock.AcceleratedSimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.clock.ManualSimulationClock;
+import pse.nebula.worldview.infrastructure.adapter.outbound.messaging.NoOpCoordinatePublisherAdapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JourneyTickScheduler. Ticks are run with explicit timestamps instead of
+ * the tick thread; the wheel resolution is 10ms and the update interval 100ms.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("JourneyTickScheduler Tests")
+class JourneyTickSchedulerTest {
+
+    private static final long T0 = 1_000_000_000L;
+
+    @Mock
+    private AutoJourneySchedulerService journeyScheduler;
+
+    @Mock
+    private JourneyUseCase journeyUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JourneySimulationEngine engine;
+    private List<Map<String, Double>> advances;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new JourneySimulationEngine(journeyUseCase, new NoOpCoordinatePublisherAdapter(),
+                new SimpleMeterRegistry(), 1, 64);
+        advances = new ArrayList<>();
+        doAnswer(invocation -> {
+            String[] journeyIds = invocation.getArgument(0);
+            double[] elapsedSeconds = invocation.getArgument(1);
+            int count = invocation.getArgument(2);
+            Map<String, Double> advance = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                advance.put(journeyIds[i], elapsedSeconds[i]);
+            }
+            advances.add(advance);
+            return null;
+        }).when(journeyScheduler).advanceJourneys(any(), any(), anyInt());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private JourneyTickScheduler createScheduler(String overrunPolicy) {
+        return createScheduler(new AcceleratedSimulationClock(1.0), overrunPolicy);
+    }
+
+    private JourneyTickScheduler createScheduler(SimulationClock clock, String overrunPolicy) {
+        return new JourneyTickScheduler(journeyScheduler, engine, clock, meterRegistry, 100, 10, overrunPolicy);
+    }
+
+    private static long at(long millis) {
+        return T0 + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Run the scheduler at every wheel tick in [fromMillis, toMillis].
+     */
+    private static void runTicks(JourneyTickScheduler scheduler, long fromMillis, long toMillis) {
+        for (long millis = fromMillis; millis <= toMillis; millis += 10) {
+            scheduler.runTick(at(millis));
+        }
+    }
+
+    private int advanceCount(String journeyId) {
+        return (int) advances.stream().filter(advance -> advance.containsKey(journeyId)).count();
+    }
+
+    private double lastElapsed(String journeyId) {
+        for (int i = advances.size() - 1; i >= 0; i--) {
+            Double elapsed = advances.get(i).get(journeyId);
+            if (elapsed != null) {
+                return elapsed;
+            }
+        }
+        throw new AssertionError("Journey " + journeyId + " was not advanced");
+    }
+
+    @Nested
+    @DisplayName("Scheduling Tests")
+    class SchedulingTests {
+
+        @Test
+        @DisplayName("Should manage slots on the first tick and then every update interval")
+        void shouldManageSlotsEveryUpdateInterval() {
+            JourneyTickScheduler scheduler = createScheduler("catch-up");
+
+            runTicks(scheduler, 0, 290);
+
+            verify(journeyScheduler, times(3)).manageSlots();
+        }
+
+        @Test
+        @DisplayName("Should advance every journey once per interval, spread over the wheel ticks")
+        void shouldSpreadJourneysOverInterval() {
+            // Given
+            for (int i = 0; i < 20; i++) {
+                engine.register("journey-" + i);
+            }
+            JourneyTickScheduler scheduler = createScheduler("catch-up");
+
+            // When
+            runTicks(scheduler, 0, 100);
+
+            // Then - every journey ran once, in ten groups of two
+            for (int i = 0; i < 20; i++) {
+                assertEquals(1, advanceCount("journey-" + i));
+            }
+            assertEquals(10, advances.size());
+            assertTrue(advances.stream().allMatch(advance -> advance.size() == 2));
+
+            // When - one more interval
+            runTicks(scheduler, 110, 200);
+
+            // Then - a full interval of simulated time each
+            for (int i = 0; i < 20; i++) {
+                assertEquals(2, advanceCount("journey-" + i));
+                assertEquals(0.1, lastElapsed("journey-" + i), 1e-9);
+            }
+        }
+
+        @Test
+        @DisplayName("Should honour per-journey tick intervals")
+        void shouldHonourPerJourneyIntervals() {
+            // Given
+            engine.register("fast");
+            engine.register("default");
+            JourneyTickScheduler scheduler = createScheduler("catch-up");
+            scheduler.setTickInterval("fast", Duration.ofMillis(20));
+            runTicks(scheduler, 0, 100);
+            advances.clear();
+
+            // When
+            runTicks(scheduler, 110, 300);
+
+            // Then
+            assertEquals(2, advanceCount("default"));
+            assertTrue(advanceCount("fast") >= 9, "fast journey ran " + advanceCount("fast") + " times");
+            assertEquals(0.02, lastElapsed("fast"), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should stop advancing journeys that were unregistered")
+        void shouldDropUnregisteredJourneys() {
+            // Given
+            engine.register("journey-1");
+            JourneyTickScheduler scheduler = createScheduler("catch-up");
+            runTicks(scheduler, 0, 100);
+
+            // When
+            engine.unregister("journey-1");
+            runTicks(scheduler, 110, 400);
+
+            // Then
+            assertEquals(1, advanceCount("journey-1"));
+            assertEquals(0.0, meterRegistry.get("worldview.scheduler.journeys.scheduled").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should scale elapsed time by the clock acceleration")
+        void shouldApplyAcceleration() {
+            engine.register("journey-1");
+            JourneyTickScheduler scheduler = createScheduler(new AcceleratedSimulationClock(4.0), "catch-up");
+
+            runTicks(scheduler, 0, 200);
+
+            assertEquals(0.4, lastElapsed("journey-1"), 1e-9);
+        }
+    }
+
+    @Nested
+    @DisplayName("Overrun Tests")
+    class OverrunTests {
+
+        @Test
+        @DisplayName("Should catch up on missed time with the catch-up policy")
+        void shouldCatchUp() {
+            // Given - the journey first runs at 10ms, next due at 110ms
+            engine.register("journey-1");
+            JourneyTickScheduler scheduler = createScheduler("catch-up");
+            runTicks(scheduler, 0, 100);
+
+            // When - the tick thread stalls until 460ms
+            scheduler.runTick(at(460));
+
+            // Then
+            assertEquals(0.45, lastElapsed("journey-1"), 1e-9);
+            assertEquals(1.0, meterRegistry.get("worldview.scheduler.tick.overruns").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should drop missed time with the skip policy")
+        void shouldSkip() {
+            engine.register("journey-1");
+            JourneyTickScheduler scheduler = createScheduler("skip");
+            runTicks(scheduler, 0, 100);
+
+            scheduler.runTick(at(460));
+
+            assertEquals(0.1, lastElapsed("journey-1"), 1e-9);
+            assertEquals(1.0, meterRegistry.get("worldview.scheduler.tick.overruns").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should cap the catch-up at ten intervals")
+        void shouldCapCatchUp() {
+            engine.register("journey-1");
+            JourneyTickScheduler scheduler = createScheduler("catch-up");
+            runTicks(scheduler, 0, 100);
+
+            scheduler.runTick(at(60_000));
+
+            assertEquals(1.0, lastElapsed("journey-1"), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should keep the journey's phase instead of running missed ticks back to back")
+        void shouldKeepPhaseAfterOverrun() {
+            // Given
+            engine.register("journey-1");
+            JourneyTickScheduler scheduler = createScheduler("catch-up");
+            runTicks(scheduler, 0, 100);
+            scheduler.runTick(at(460));
+            int advancesAfterStall = advanceCount("journey-1");
+
+            // When - back on schedule
+            runTicks(scheduler, 470, 500);
+
+            // Then - next run at 510ms, in the original 10ms phase
+            assertEquals(advancesAfterStall, advanceCount("journey-1"));
+            scheduler.runTick(at(510));
+            assertEquals(advancesAfterStall + 1, advanceCount("journey-1"));
+            assertEquals(0.05, lastElapsed("journey-1"), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should record tick lag and duration histograms")
+        void shouldRecordHistograms() {
+            engine.register("journey-1");
+            JourneyTickScheduler scheduler = createScheduler("catch-up");
+            runTicks(scheduler, 0, 100);
+
+            scheduler.runTick(at(135));
+
+            assertTrue(meterRegistry.get("worldview.scheduler.tick.lag").timer()
+                    .max(TimeUnit.MILLISECONDS) >= 15.0);
+            assertTrue(meterRegistry.get("worldview.scheduler.tick.duration").timer().count() > 0);
+            assertEquals(0.0, meterRegistry.get("worldview.scheduler.tick.overruns").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tick Thread Tests")
+    class TickThreadTests {
+
+        @Test
+        @DisplayName("Should drive the journeys from the tick thread with a wall-clock driven clock")
+        void shouldTickWithWallClock() {
+            JourneyTickScheduler scheduler = createScheduler("catch-up");
+
+            scheduler.start();
+            try {
+                verify(journeyScheduler, timeout(2000).atLeast(2)).manageSlots();
+            } finally {
+                scheduler.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should not start the tick thread when the clock is advanced manually")
+        void shouldNotTickWithManualClock() throws InterruptedException {
+            JourneyTickScheduler scheduler = createScheduler(new ManualSimulationClock(0), "catch-up");
+
+            scheduler.start();
+            Thread.sleep(150);
+            scheduler.shutdown();
+
+            verifyNoInteractions(journeyScheduler);
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration Tests")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("Should parse the overrun policy")
+        void shouldParseOverrunPolicy() {
+            assertEquals(TickOverrunPolicy.SKIP, createScheduler(" Skip ").getOverrunPolicy());
+            assertThrows(IllegalArgumentException.class, () -> createScheduler("drop"));
+        }
+
+        @Test
+        @DisplayName("Should reject a wheel tick longer than the update interval")
+        void shouldRejectInvalidWheelTick() {
+            assertThrows(IllegalArgumentException.class, () -> new JourneyTickScheduler(
+                    journeyScheduler, engine, new AcceleratedSimulationClock(1.0), meterRegistry, 100, 200, "skip"));
+        }
+
+        @Test
+        @DisplayName("Should reject a non-positive journey tick interval")
+        void shouldRejectInvalidInterval() {
+            JourneyTickScheduler scheduler = createScheduler("skip");
+
+            assertThrows(IllegalArgumentException.class, () -> scheduler.setTickInterval("journey-1", Duration.ZERO));
+        }
+    }
+}
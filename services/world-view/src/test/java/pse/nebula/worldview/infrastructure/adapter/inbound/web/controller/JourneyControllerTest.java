@@ -5,25 +5,36 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import pse.nebula.worldview.application.service.AutoJourneySchedulerService;
 import pse.nebula.worldview.domain.exception.JourneyNotFoundException;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
 import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyTrail;
+import pse.nebula.worldview.domain.model.TrailPoint;
+import pse.nebula.worldview.domain.port.inbound.JourneyStreamUseCase;
 import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneySnapshotDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyStateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyTrailDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.SerializedRouteCache;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -42,6 +53,15 @@ class JourneyControllerTest {
     @Mock
     private DtoMapper dtoMapper;
 
+    @Mock
+    private JourneyStreamUseCase<SseEmitter> journeyStreamUseCase;
+
+    @Captor
+    private ArgumentCaptor<Supplier<Optional<JourneyState>>> stateCaptor;
+
+    @Mock
+    private SerializedRouteCache serializedRouteCache;
+
     @InjectMocks
     private JourneyController journeyController;
 
@@ -185,4 +205,175 @@ class JourneyControllerTest {
             verify(journeyUseCase).getJourneyState("non-existent");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Stream Endpoint Tests")
+    class StreamTests {
+
+        @Test
+        @DisplayName("Should open a stream for the current journey")
+        void shouldOpenStreamForCurrentJourney() {
+            // Given
+            SseEmitter emitter = new SseEmitter();
+            when(autoJourneySchedulerService.getActiveJourneyState()).thenReturn(Optional.of(testJourneyState));
+            when(journeyStreamUseCase.openStream(eq("journey-1"), any())).thenReturn(emitter);
+
+            // When
+            ResponseEntity<SseEmitter> response = journeyController.streamCurrentJourney();
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertSame(emitter, response.getBody());
+        }
+
+        @Test
+        @DisplayName("Should return 204 when streaming without an active journey")
+        void shouldReturnNoContentWhenNoActiveJourney() {
+            // Given
+            when(autoJourneySchedulerService.getActiveJourneyState()).thenReturn(Optional.empty());
+
+            // When
+            ResponseEntity<SseEmitter> response = journeyController.streamCurrentJourney();
+
+            // Then
+            assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+            verifyNoInteractions(journeyStreamUseCase);
+        }
+
+        @Test
+        @DisplayName("Should open a stream for a journey by ID")
+        void shouldOpenStreamForJourneyById() {
+            // Given
+            SseEmitter emitter = new SseEmitter();
+            when(journeyUseCase.getJourneyState("journey-1")).thenReturn(testJourneyState);
+            when(journeyStreamUseCase.openStream(eq("journey-1"), any())).thenReturn(emitter);
+
+            // When & Then
+            assertSame(emitter, journeyController.streamJourney("journey-1"));
+        }
+
+        @Test
+        @DisplayName("Should let the stream read the journey state again once it is registered")
+        void shouldReadStateAgainForStream() {
+            // Given
+            when(journeyUseCase.getJourneyState("journey-1")).thenReturn(testJourneyState);
+            journeyController.streamJourney("journey-1");
+            verify(journeyStreamUseCase).openStream(eq("journey-1"), stateCaptor.capture());
+
+            // When - the journey is removed before the stream reads its state
+            when(journeyUseCase.getJourneyState("journey-1")).thenThrow(new JourneyNotFoundException("journey-1"));
+
+            // Then
+            assertTrue(stateCaptor.getValue().get().isEmpty());
+            verify(journeyUseCase, times(2)).getJourneyState("journey-1");
+        }
+
+        @Test
+        @DisplayName("Should not open a stream for an unknown journey")
+        void shouldNotOpenStreamForUnknownJourney() {
+            // Given
+            when(journeyUseCase.getJourneyState("non-existent"))
+                    .thenThrow(new JourneyNotFoundException("non-existent"));
+
+            // When & Then
+            assertThrows(JourneyNotFoundException.class, () -> journeyController.streamJourney("non-existent"));
+            verifyNoInteractions(journeyStreamUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Endpoint Tests")
+    class SnapshotTests {
+
+        private final JourneySnapshotDto snapshotDto = JourneySnapshotDto.builder()
+                .journeyId("journey-1")
+                .routeId("route-1")
+                .routeVersion("0123456789abcdef")
+                .build();
+
+        private void givenRouteVersion() {
+            when(serializedRouteCache.get(testRoute)).thenReturn(
+                    new SerializedRouteCache.SerializedRoute(testRoute, new byte[0], "0123456789abcdef"));
+        }
+
+        @Test
+        @DisplayName("Should return snapshot of the current journey with its route version")
+        void shouldReturnCurrentSnapshot() {
+            // Given
+            givenRouteVersion();
+            when(autoJourneySchedulerService.getActiveJourneyState()).thenReturn(Optional.of(testJourneyState));
+            when(dtoMapper.toSnapshot(testJourneyState, "0123456789abcdef")).thenReturn(snapshotDto);
+
+            // When
+            ResponseEntity<JourneySnapshotDto> response = journeyController.getCurrentJourneySnapshot();
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertSame(snapshotDto, response.getBody());
+            verify(dtoMapper, never()).toDto(any(JourneyState.class));
+        }
+
+        @Test
+        @DisplayName("Should return 204 when there is no active journey")
+        void shouldReturnNoContentWithoutActiveJourney() {
+            // Given
+            when(autoJourneySchedulerService.getActiveJourneyState()).thenReturn(Optional.empty());
+
+            // When
+            ResponseEntity<JourneySnapshotDto> response = journeyController.getCurrentJourneySnapshot();
+
+            // Then
+            assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+            assertNull(response.getBody());
+        }
+
+        @Test
+        @DisplayName("Should return snapshot of a journey by ID")
+        void shouldReturnSnapshotById() {
+            // Given
+            givenRouteVersion();
+            when(journeyUseCase.getJourneyState("journey-1")).thenReturn(testJourneyState);
+            when(dtoMapper.toSnapshot(testJourneyState, "0123456789abcdef")).thenReturn(snapshotDto);
+
+            // When
+            ResponseEntity<JourneySnapshotDto> response = journeyController.getJourneySnapshot("journey-1");
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals("route-1", response.getBody().getRouteId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Trail Tests")
+    class TrailTests {
+
+        @Test
+        @DisplayName("Should return the downsampled trail of a journey")
+        void shouldReturnTrail() {
+            // Given
+            JourneyTrail trail = new JourneyTrail("journey-1", 3,
+                    List.of(new TrailPoint(1_000L, new Coordinate(48.8973, 9.1920))));
+            JourneyTrailDto trailDto = JourneyTrailDto.builder().journeyId("journey-1").recordedPoints(3).build();
+            when(journeyUseCase.getJourneyTrail("journey-1", 50)).thenReturn(trail);
+            when(dtoMapper.toDto(trail)).thenReturn(trailDto);
+
+            // When
+            ResponseEntity<JourneyTrailDto> response = journeyController.getJourneyTrail("journey-1", 50);
+
+            // Then
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertSame(trailDto, response.getBody());
+        }
+
+        @Test
+        @DisplayName("Should propagate JourneyNotFoundException for unknown journeys")
+        void shouldPropagateNotFound() {
+            // Given
+            when(journeyUseCase.getJourneyTrail("missing", 500)).thenThrow(new JourneyNotFoundException("missing"));
+
+            // When & Then
+            assertThrows(JourneyNotFoundException.class, () -> journeyController.getJourneyTrail("missing", 500));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import pse.nebula.worldview.domain.exception.JourneyNotFoundException;
+import pse.nebula.worldview.domain.port.inbound.JourneyTickIntervalUseCase;
+import pse.nebula.worldview.domain.port.inbound.JourneyUseCase;
+
+import java.time.Duration;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for JourneyTickIntervalController.
+ */
+@WebMvcTest(controllers = JourneyTickIntervalController.class,
+        properties = "journey.scheduler.tick-interval-api.enabled=true")
+@DisplayName("JourneyTickIntervalController Unit Tests")
+class JourneyTickIntervalControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JourneyUseCase journeyUseCase;
+
+    @MockitoBean
+    private JourneyTickIntervalUseCase journeyTickIntervalUseCase;
+
+    @Nested
+    @DisplayName("PUT /api/v1/admin/journeys/{journeyId}/tick-interval Tests")
+    class SetTickIntervalTests {
+
+        @Test
+        @DisplayName("Should set the tick interval and return 204")
+        void shouldSetTickInterval() throws Exception {
+            // When & Then
+            mockMvc.perform(put("/api/v1/admin/journeys/journey-1/tick-interval")
+                            .param("intervalMs", "200"))
+                    .andExpect(status().isNoContent());
+
+            verify(journeyTickIntervalUseCase).setTickInterval("journey-1", Duration.ofMillis(200));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for a non-positive interval")
+        void shouldRejectNonPositiveInterval() throws Exception {
+            // When & Then
+            mockMvc.perform(put("/api/v1/admin/journeys/journey-1/tick-interval")
+                            .param("intervalMs", "0"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error", is("INVALID_ARGUMENT")));
+
+            verify(journeyTickIntervalUseCase, never()).setTickInterval(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should return 404 for an unknown journey")
+        void shouldRejectUnknownJourney() throws Exception {
+            // Given
+            when(journeyUseCase.getJourneyState("unknown"))
+                    .thenThrow(new JourneyNotFoundException("unknown"));
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/admin/journeys/unknown/tick-interval")
+                            .param("intervalMs", "200"))
+                    .andExpect(status().isNotFound());
+
+            verify(journeyTickIntervalUseCase, never()).setTickInterval(anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/v1/admin/journeys/{journeyId}/tick-interval Tests")
+    class ResetTickIntervalTests {
+
+        @Test
+        @DisplayName("Should reset the tick interval and return 204")
+        void shouldResetTickInterval() throws Exception {
+            // When & Then
+            mockMvc.perform(delete("/api/v1/admin/journeys/journey-1/tick-interval"))
+                    .andExpect(status().isNoContent());
+
+            verify(journeyTickIntervalUseCase).setTickInterval("journey-1", null);
+        }
+
+        @Test
+        @DisplayName("Should return 404 for an unknown journey")
+        void shouldRejectUnknownJourney() throws Exception {
+            // Given
+            when(journeyUseCase.getJourneyState("unknown"))
+                    .thenThrow(new JourneyNotFoundException("unknown"));
+
+            // When & Then
+            mockMvc.perform(delete("/api/v1/admin/journeys/unknown/tick-interval"))
+                    .andExpect(status().isNotFound());
+
+            verify(journeyTickIntervalUseCase, never()).setTickInterval(anyString(), any());
+        }
+    }
+}
@@ -6,25 +6,44 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import pse.nebula.worldview.domain.exception.RouteNotFoundException;
+import pse.nebula.worldview.domain.model.BoundingBox;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.RouteCatalogue;
+import pse.nebula.worldview.domain.model.RouteDetailLevel;
+import pse.nebula.worldview.domain.model.RouteLevelsOfDetail;
+import pse.nebula.worldview.domain.model.RouteMatch;
 import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.EncodedRouteDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteMatchDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteSummaryDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.BinaryRouteCodec;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.SerializedRouteCache;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(RouteController.class)
+@Import(SerializedRouteCache.class)
 @DisplayName("RouteController Unit Tests")
 class RouteControllerTest {
 
@@ -78,6 +97,7 @@ class RouteControllerTest {
                     .estimatedDurationSeconds(route.estimatedDurationSeconds())
                     .build();
         });
+        when(routeUseCase.getRouteCatalogue()).thenReturn(RouteCatalogue.of(1, List.of(testRoute1, testRoute2)));
     }
 
     @Nested
@@ -95,6 +115,7 @@ class RouteControllerTest {
             mockMvc.perform(get("/api/v1/routes"))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
                     .andExpect(jsonPath("$", hasSize(2)))
                     .andExpect(jsonPath("$[0].id", is("route-1")))
                     .andExpect(jsonPath("$[1].id", is("route-2")));
@@ -146,8 +167,193 @@ class RouteControllerTest {
             mockMvc.perform(get("/api/v1/routes/non-existent"))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("Should return a strong ETag")
+        void shouldReturnStrongEtag() throws Exception {
+            // Given
+            when(routeUseCase.getRouteById("route-1")).thenReturn(testRoute1);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes/route-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]{16}\"")))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                    .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+        }
+
+        @Test
+        @DisplayName("Should return 304 when If-None-Match matches the ETag")
+        void shouldReturn304WhenEtagMatches() throws Exception {
+            // Given
+            when(routeUseCase.getRouteById("route-1")).thenReturn(testRoute1);
+            String etag = mockMvc.perform(get("/api/v1/routes/route-1"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes/route-1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            // Serialized once for both requests
+            verify(dtoMapper, times(1)).toDto(testRoute1);
+        }
+
+        @Test
+        @DisplayName("Should return the route when If-None-Match is stale")
+        void shouldReturnRouteWhenEtagIsStale() throws Exception {
+            // Given
+            when(routeUseCase.getRouteById("route-1")).thenReturn(testRoute1);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes/route-1").header(HttpHeaders.IF_NONE_MATCH, "\"0000000000000000\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is("route-1")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Level of Detail Tests")
+    class LevelOfDetailTests {
+
+        @BeforeEach
+        void setUpLevels() {
+            when(routeUseCase.getRouteDetailLevel(any(DrivingRoute.class), anyDouble())).thenAnswer(invocation -> {
+                DrivingRoute route = invocation.getArgument(0);
+                return new RouteDetailLevel(20.0, route.polyline());
+            });
+            when(dtoMapper.toDto(any(DrivingRoute.class), any(RouteDetailLevel.class))).thenAnswer(invocation -> {
+                DrivingRoute route = invocation.getArgument(0);
+                RouteDetailLevel level = invocation.getArgument(1);
+                return pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteDto.builder()
+                        .id(route.id())
+                        .simplificationToleranceMeters(level.toleranceMeters())
+                        .build();
+            });
+        }
+
+        @Test
+        @DisplayName("Should return simplified routes for a tolerance")
+        void shouldReturnSimplifiedRoutesForTolerance() throws Exception {
+            // Given
+            when(routeUseCase.getAllRoutes()).thenReturn(Arrays.asList(testRoute1, testRoute2));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes").param("tolerance", "25"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].simplification_tolerance_meters", is(20.0)));
+
+            verify(routeUseCase).getRouteDetailLevel(testRoute1, 25.0);
+            verify(dtoMapper, never()).toDto(testRoute1);
+        }
+
+        @Test
+        @DisplayName("Should convert a zoom level to the tolerance of one pixel")
+        void shouldConvertZoomToTolerance() throws Exception {
+            // Given
+            when(routeUseCase.getRouteById("route-1")).thenReturn(testRoute1);
+            double expectedTolerance = RouteLevelsOfDetail.toleranceForZoom(12, testRoute1.startPoint().latitude());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes/route-1").param("zoom", "12"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.simplification_tolerance_meters", is(20.0)));
+
+            verify(routeUseCase).getRouteDetailLevel(eq(testRoute1), eq(expectedTolerance));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for invalid detail parameters")
+        void shouldRejectInvalidDetailParameters() throws Exception {
+            mockMvc.perform(get("/api/v1/routes").param("tolerance", "20").param("zoom", "12"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/routes").param("tolerance", "-1"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/routes/route-1").param("zoom", "23"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(routeUseCase);
+        }
     }
 
+    @Nested
+    @DisplayName("Content Negotiation Tests")
+    class ContentNegotiationTests {
+
+        @BeforeEach
+        void setUpEncodedMapper() {
+            when(dtoMapper.toEncodedDto(any(DrivingRoute.class), any(RouteDetailLevel.class))).thenAnswer(invocation -> {
+                DrivingRoute route = invocation.getArgument(0);
+                return EncodedRouteDto.builder().id(route.id()).polyline("_p~iF~ps|U").polylinePrecision(5).build();
+            });
+        }
+
+        @Test
+        @DisplayName("Should return encoded polylines when requested")
+        void shouldReturnEncodedPolylines() throws Exception {
+            // Given
+            when(routeUseCase.getAllRoutes()).thenReturn(Arrays.asList(testRoute1, testRoute2));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes").accept(EncodedRouteDto.CONTENT_TYPE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(EncodedRouteDto.CONTENT_TYPE))
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].polyline", is("_p~iF~ps|U")))
+                    .andExpect(jsonPath("$[0].waypoints").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return binary routes when requested")
+        void shouldReturnBinaryRoutes() throws Exception {
+            // Given
+            when(routeUseCase.getAllRoutes()).thenReturn(Arrays.asList(testRoute1, testRoute2));
+
+            // When
+            byte[] body = mockMvc.perform(get("/api/v1/routes")
+                            .header(HttpHeaders.ACCEPT, BinaryRouteCodec.CONTENT_TYPE + ", application/json;q=0.5"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(BinaryRouteCodec.CONTENT_TYPE))
+                    .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            // Then
+            List<BinaryRouteCodec.DecodedRoute> routes = BinaryRouteCodec.decodeList(body);
+            assertEquals(List.of("route-1", "route-2"), routes.stream().map(BinaryRouteCodec.DecodedRoute::id).toList());
+        }
+
+        @Test
+        @DisplayName("Should serve a route in each format with its own ETag")
+        void shouldServeRouteFormatsWithOwnEtags() throws Exception {
+            // Given
+            when(routeUseCase.getRouteById("route-1")).thenReturn(testRoute1);
+
+            // When
+            String jsonEtag = mockMvc.perform(get("/api/v1/routes/route-1").accept(MediaType.ALL))
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            String binaryEtag = mockMvc.perform(get("/api/v1/routes/route-1").accept(BinaryRouteCodec.CONTENT_TYPE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(BinaryRouteCodec.CONTENT_TYPE))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Then
+            assertNotEquals(jsonEtag, binaryEtag);
+            mockMvc.perform(get("/api/v1/routes/route-1").accept(BinaryRouteCodec.CONTENT_TYPE)
+                            .header(HttpHeaders.IF_NONE_MATCH, binaryEtag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+        }
+
+        @Test
+        @DisplayName("Should return 406 for unsupported media types")
+        void shouldRejectUnsupportedMediaTypes() throws Exception {
+            mockMvc.perform(get("/api/v1/routes").accept(MediaType.APPLICATION_XML))
+                    .andExpect(status().isNotAcceptable());
+        }
+    }
 
     @Nested
     @DisplayName("GET /api/v1/routes/count Tests")
@@ -167,4 +373,112 @@ class RouteControllerTest {
             verify(routeUseCase, times(1)).getRouteCount();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Spatial Query Tests")
+    class SpatialQueryTests {
+
+        private RouteMatch match;
+
+        @BeforeEach
+        void setUpMatch() {
+            match = new RouteMatch(testRoute1, 0, new Coordinate(48.8500, 9.1600), 12.5);
+            when(dtoMapper.toSummary(any(DrivingRoute.class))).thenAnswer(invocation -> {
+                DrivingRoute route = invocation.getArgument(0);
+                return RouteSummaryDto.builder().id(route.id()).name(route.name()).build();
+            });
+            when(dtoMapper.toDto(any(RouteMatch.class))).thenAnswer(invocation -> {
+                RouteMatch m = invocation.getArgument(0);
+                return RouteMatchDto.builder()
+                        .route(RouteSummaryDto.builder().id(m.route().id()).build())
+                        .segmentIndex(m.segmentIndex())
+                        .distanceMeters(m.distanceMeters())
+                        .build();
+            });
+        }
+
+        @Test
+        @DisplayName("Should return routes near a point")
+        void shouldReturnRoutesNear() throws Exception {
+            // Given
+            when(routeUseCase.findRoutesNear(new Coordinate(48.85, 9.16), 250.0)).thenReturn(List.of(match));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes/near").param("lat", "48.85").param("lon", "9.16").param("radius", "250"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].route.id", is("route-1")))
+                    .andExpect(jsonPath("$[0].distance_meters", is(12.5)));
+        }
+
+        @Test
+        @DisplayName("Should reject a radius above the limit")
+        void shouldRejectLargeRadius() throws Exception {
+            mockMvc.perform(get("/api/v1/routes/near").param("lat", "48.85").param("lon", "9.16").param("radius", "50001"))
+                    .andExpect(status().isBadRequest());
+
+            verify(routeUseCase, never()).findRoutesNear(any(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should return 400 for missing or malformed coordinates")
+        void shouldRejectBadCoordinates() throws Exception {
+            mockMvc.perform(get("/api/v1/routes/near").param("lat", "48.85"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/routes/snap").param("lat", "north").param("lon", "9.16"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/routes/snap").param("lat", "95").param("lon", "9.16"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should return route summaries in a bounding box")
+        void shouldReturnRoutesInBoundingBox() throws Exception {
+            // Given
+            when(routeUseCase.findRoutesInBoundingBox(new BoundingBox(48.8, 9.1, 48.9, 9.2)))
+                    .thenReturn(List.of(testRoute1, testRoute2));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes/within")
+                            .param("minLat", "48.8").param("minLon", "9.1")
+                            .param("maxLat", "48.9").param("maxLon", "9.2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[1].id", is("route-2")))
+                    .andExpect(jsonPath("$[0].waypoints").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should reject an inverted bounding box")
+        void shouldRejectInvertedBoundingBox() throws Exception {
+            mockMvc.perform(get("/api/v1/routes/within")
+                            .param("minLat", "48.9").param("minLon", "9.1")
+                            .param("maxLat", "48.8").param("maxLon", "9.2"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should snap to the nearest route")
+        void shouldSnapToRoute() throws Exception {
+            // Given
+            when(routeUseCase.snapToRoute(new Coordinate(48.85, 9.16))).thenReturn(Optional.of(match));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes/snap").param("lat", "48.85").param("lon", "9.16"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.route.id", is("route-1")))
+                    .andExpect(jsonPath("$.segment_index", is(0)));
+        }
+
+        @Test
+        @DisplayName("Should return 404 when there is no route to snap to")
+        void shouldReturn404WhenNoRoutes() throws Exception {
+            // Given
+            when(routeUseCase.snapToRoute(any())).thenReturn(Optional.empty());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/routes/snap").param("lat", "48.85").param("lon", "9.16"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+}
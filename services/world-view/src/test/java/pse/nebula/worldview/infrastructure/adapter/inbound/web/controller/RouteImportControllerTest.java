@@ -0,0 +1,141 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import pse.nebula.worldview.domain.exception.RouteAlreadyExistsException;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.PolylineBuilder;
+import pse.nebula.worldview.domain.model.RouteImportResult;
+import pse.nebula.worldview.domain.model.RouteImportSpec;
+import pse.nebula.worldview.domain.model.WaypointSource;
+import pse.nebula.worldview.domain.port.inbound.RouteImportUseCase;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for RouteImportController.
+ * The use case mock drains the waypoint source, so the real parsers run on the request body.
+ */
+@WebMvcTest(controllers = RouteImportController.class, properties = "route.import.enabled=true")
+@Import(DtoMapper.class)
+@DisplayName("RouteImportController Unit Tests")
+class RouteImportControllerTest {
+
+    private static final String GPX = """
+            <gpx><trk><trkseg>
+              <trkpt lat="48.8973" lon="9.1920"/><trkpt lat="48.8800" lon="9.1750"/><trkpt lat="48.8354" lon="9.1520"/>
+            </trkseg></trk></gpx>
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RouteImportUseCase routeImportUseCase;
+
+    private void importByParsing() {
+        when(routeImportUseCase.importRoute(any(RouteImportSpec.class), any(WaypointSource.class))).thenAnswer(invocation -> {
+            RouteImportSpec spec = invocation.getArgument(0);
+            PolylineBuilder builder = new PolylineBuilder(1_000);
+            invocation.<WaypointSource>getArgument(1).readInto(builder);
+            DrivingRoute route = DrivingRoute.fromPolyline(spec.id(), spec.name(), spec.description(),
+                    builder.build(), builder.distanceMeters(), 600);
+            return new RouteImportResult(route, builder.pointsRead(), 5);
+        });
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/admin/routes/import Tests")
+    class ImportTests {
+
+        @Test
+        @DisplayName("Should import a GPX body and return 201 with the location")
+        void shouldImportGpx() throws Exception {
+            // Given
+            importByParsing();
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/admin/routes/import")
+                            .param("id", "route-9")
+                            .param("name", "Morning Drive")
+                            .contentType("application/gpx+xml")
+                            .content(GPX))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string("Location", "/api/v1/routes/route-9"))
+                    .andExpect(jsonPath("$.id", is("route-9")))
+                    .andExpect(jsonPath("$.total_waypoints", is(3)))
+                    .andExpect(jsonPath("$.points_read", is(3)));
+        }
+
+        @Test
+        @DisplayName("Should import a GeoJSON body")
+        void shouldImportGeoJson() throws Exception {
+            // Given
+            importByParsing();
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/admin/routes/import")
+                            .param("id", "route-9")
+                            .param("name", "Planned")
+                            .contentType("application/geo+json")
+                            .content("{\"type\":\"LineString\",\"coordinates\":[[9.19,48.89],[9.15,48.83]]}"))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.total_waypoints", is(2)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for malformed files")
+        void shouldRejectMalformedFile() throws Exception {
+            // Given
+            importByParsing();
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/admin/routes/import")
+                            .param("id", "route-9")
+                            .param("name", "Broken")
+                            .contentType("application/gpx+xml")
+                            .content("<gpx><trk><trkseg><trkpt lat=\"95\" lon=\"9\"/>"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error", is("INVALID_ARGUMENT")));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for unsupported content types")
+        void shouldRejectUnsupportedContentType() throws Exception {
+            mockMvc.perform(post("/api/v1/admin/routes/import")
+                            .param("id", "route-9")
+                            .param("name", "CSV")
+                            .contentType("text/csv")
+                            .content("48.0,9.0"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should return 409 when the route exists")
+        void shouldRejectExistingRoute() throws Exception {
+            // Given
+            when(routeImportUseCase.importRoute(any(RouteImportSpec.class), any(WaypointSource.class)))
+                    .thenThrow(new RouteAlreadyExistsException("route-1"));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/admin/routes/import")
+                            .param("id", "route-1")
+                            .param("name", "Duplicate")
+                            .contentType("application/gpx+xml")
+                            .content(GPX))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error", is("ROUTE_ALREADY_EXISTS")));
+        }
+    }
+}
@@ -9,7 +9,9 @@ import pse.nebula.worldview.domain.model.DrivingRoute;
 import pse.nebula.worldview.domain.model.JourneyState;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateUpdateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneySnapshotDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyStateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.MotionUpdateDto;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteDto;
 
 import java.util.Arrays;
@@ -222,5 +224,99 @@ class DtoMapperTest {
             assertNotNull(result.getTimestamp());
         }
     }
-}
 
+    @Nested
+    @DisplayName("toSnapshot Tests")
+    class ToSnapshotTests {
+
+        @Test
+        @DisplayName("Should reference the route instead of embedding it")
+        void shouldReferenceRoute() {
+            // Given
+            JourneyState journeyState = new JourneyState("journey-1", testRoute, 13.89);
+            journeyState.start();
+            journeyState.advance(10);
+
+            // When
+            JourneySnapshotDto result = dtoMapper.toSnapshot(journeyState, "abc123");
+
+            // Then
+            assertEquals("journey-1", result.getJourneyId());
+            assertEquals("route-1", result.getRouteId());
+            assertEquals("abc123", result.getRouteVersion());
+            assertEquals("IN_PROGRESS", result.getStatus());
+            assertEquals(journeyState.getProgressPercentage(), result.getProgressPercentage());
+            assertEquals(journeyState.getCurrentPosition().latitude(), result.getCurrentPosition().getLatitude());
+        }
+    }
+
+    @Nested
+    @DisplayName("toMotionUpdate Tests")
+    class ToMotionUpdateTests {
+
+        private double extrapolateLatitude(MotionUpdateDto motion, double seconds) {
+            double fraction = Math.min(1.0, motion.getSpeedMps() * seconds / motion.getRemainingSegmentMeters());
+            double start = motion.getReferencePosition().getLatitude();
+            return start + (motion.getSegmentEnd().getLatitude() - start) * fraction;
+        }
+
+        @Test
+        @DisplayName("Should let clients extrapolate the simulated position along the segment")
+        void shouldExtrapolateAlongSegment() {
+            // Given
+            JourneyState journeyState = new JourneyState("journey-1", testRoute, 10.0);
+            journeyState.start();
+            journeyState.advance(20);
+
+            // When
+            MotionUpdateDto motion = dtoMapper.toMotionUpdate(journeyState, 1.0);
+            journeyState.advance(30);
+
+            // Then
+            assertEquals(0, motion.getSegmentIndex());
+            assertEquals(0, journeyState.getCurrentWaypointIndex());
+            assertEquals(journeyState.getCurrentPosition().latitude(), extrapolateLatitude(motion, 30), 1e-9);
+            assertEquals(testRoute.getWaypointAt(1).latitude(), motion.getSegmentEnd().getLatitude());
+            assertEquals(testRoute.getWaypointAt(1).latitude(), extrapolateLatitude(motion, 3600));
+            assertEquals(testRoute.geometry().getSegmentBearing(0), motion.getBearingDegrees());
+        }
+
+        @Test
+        @DisplayName("Should scale the speed by the time-warp factor")
+        void shouldScaleSpeed() {
+            // Given
+            JourneyState journeyState = new JourneyState("journey-1", testRoute, 10.0);
+            journeyState.start();
+
+            // When
+            MotionUpdateDto motion = dtoMapper.toMotionUpdate(journeyState, 60.0);
+
+            // Then
+            assertEquals(600.0, motion.getSpeedMps());
+            assertNotNull(motion.getReferenceTimestamp());
+        }
+
+        @Test
+        @DisplayName("Should report a stationary car for paused and completed journeys")
+        void shouldReportStationaryCar() {
+            // Given
+            JourneyState paused = new JourneyState("journey-1", testRoute, 10.0);
+            paused.start();
+            paused.pause();
+            JourneyState completed = new JourneyState("journey-2", testRoute, 10.0);
+            completed.start();
+            completed.advance(100_000);
+
+            // When
+            MotionUpdateDto pausedMotion = dtoMapper.toMotionUpdate(paused, 1.0);
+            MotionUpdateDto completedMotion = dtoMapper.toMotionUpdate(completed, 1.0);
+
+            // Then
+            assertEquals(0.0, pausedMotion.getSpeedMps());
+            assertEquals("COMPLETED", completedMotion.getStatus());
+            assertEquals(0.0, completedMotion.getSpeedMps());
+            assertEquals(0.0, completedMotion.getRemainingSegmentMeters());
+            assertEquals(testRoute.endPoint().latitude(), completedMotion.getSegmentEnd().getLatitude());
+        }
+    }
+}
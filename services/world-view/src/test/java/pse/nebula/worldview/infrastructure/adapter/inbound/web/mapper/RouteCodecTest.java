@@ -0,0 +1,193 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.PackedPolyline;
+import pse.nebula.worldview.domain.model.RouteDetailLevel;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.BinaryRouteCodec.DecodedRoute;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the compact route encodings, pinning their precision.
+ */
+@DisplayName("Route Codec Tests")
+class RouteCodecTest {
+
+    /**
+     * A road-like route: a random walk with 50-300 m between waypoints.
+     */
+    private static PackedPolyline roadPolyline(int points) {
+        Random random = new Random(17);
+        double[] latLng = new double[points * 2];
+        double lat = 48.8973;
+        double lng = 9.1920;
+        for (int i = 0; i < points; i++) {
+            latLng[2 * i] = lat;
+            latLng[2 * i + 1] = lng;
+            lat -= 0.0005 + random.nextDouble() * 0.002;
+            lng += (random.nextDouble() - 0.5) * 0.003;
+        }
+        return PackedPolyline.fromLatLng(latLng);
+    }
+
+    private static double maxError(PackedPolyline expected, PackedPolyline actual) {
+        assertEquals(expected.size(), actual.size());
+        double max = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            max = Math.max(max, Math.abs(expected.latitude(i) - actual.latitude(i)));
+            max = Math.max(max, Math.abs(expected.longitude(i) - actual.longitude(i)));
+        }
+        return max;
+    }
+
+    @Nested
+    @DisplayName("Encoded Polyline Tests")
+    class EncodedPolylineTests {
+
+        @Test
+        @DisplayName("Should match the reference example of the format")
+        void shouldMatchReferenceExample() {
+            PackedPolyline polyline = PackedPolyline.of(List.of(
+                    new Coordinate(38.5, -120.2),
+                    new Coordinate(40.7, -120.95),
+                    new Coordinate(43.252, -126.453)));
+
+            assertEquals("_p~iF~ps|U_ulLnnqC_mqNvxq`@", EncodedPolylineCodec.encode(polyline));
+            assertEquals(polyline, EncodedPolylineCodec.decode("_p~iF~ps|U_ulLnnqC_mqNvxq`@"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {5, 6, 7})
+        @DisplayName("Should round-trip within half a unit of the precision without accumulating errors")
+        void shouldRoundTripWithinPrecision(int precision) {
+            PackedPolyline polyline = roadPolyline(10_000);
+
+            PackedPolyline decoded = EncodedPolylineCodec.decode(EncodedPolylineCodec.encode(polyline, precision), precision);
+
+            assertTrue(maxError(polyline, decoded) <= 0.5 / Math.pow(10, precision) + 1e-12);
+        }
+
+        @Test
+        @DisplayName("Should reject malformed strings and precisions")
+        void shouldRejectMalformedInput() {
+            assertThrows(IllegalArgumentException.class, () -> EncodedPolylineCodec.decode("_p~iF~ps|U_ulL"));
+            assertThrows(IllegalArgumentException.class, () -> EncodedPolylineCodec.decode("_p~iF~ps|U_ulLnnqC_mqN"));
+            assertThrows(IllegalArgumentException.class, () -> EncodedPolylineCodec.decode("_p~iF~ps|U\u0001"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> EncodedPolylineCodec.encode(roadPolyline(2), 8));
+        }
+    }
+
+    @Nested
+    @DisplayName("Varint Polyline Tests")
+    class VarintPolylineTests {
+
+        @Test
+        @DisplayName("Should round-trip within half a microdegree without accumulating errors")
+        void shouldRoundTripWithinPrecision() throws IOException {
+            PackedPolyline polyline = roadPolyline(10_000);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            VarintPolylineCodec.write(polyline, out);
+            PackedPolyline decoded = VarintPolylineCodec.read(ByteBuffer.wrap(out.toByteArray()));
+
+            assertTrue(maxError(polyline, decoded) <= 0.5e-6 + 1e-12);
+        }
+
+        @Test
+        @DisplayName("Should take under 6 bytes per road waypoint")
+        void shouldBeCompact() {
+            PackedPolyline polyline = roadPolyline(1_000);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            VarintPolylineCodec.write(polyline, out);
+
+            assertTrue(out.size() < 6 * polyline.size(), out.size() + " bytes for " + polyline.size() + " points");
+        }
+
+        @Test
+        @DisplayName("Should reject truncated data")
+        void shouldRejectTruncatedData() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            VarintPolylineCodec.write(roadPolyline(10), out);
+            byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+
+            assertThrows(IOException.class, () -> VarintPolylineCodec.read(ByteBuffer.wrap(truncated)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Binary Route Tests")
+    class BinaryRouteTests {
+
+        private final DrivingRoute route = DrivingRoute.fromPolyline("route-1", "Ludwigsburg Route", "Via B27",
+                roadPolyline(200), 25_000.5, 1800);
+
+        @Test
+        @DisplayName("Should round-trip a route")
+        void shouldRoundTripRoute() throws IOException {
+            DecodedRoute decoded = BinaryRouteCodec.decode(BinaryRouteCodec.encode(route, RouteDetailLevel.full(route)));
+
+            assertEquals("route-1", decoded.id());
+            assertEquals("Ludwigsburg Route", decoded.name());
+            assertEquals("Via B27", decoded.description());
+            assertEquals(25_000.5, decoded.totalDistanceMeters());
+            assertEquals(1800, decoded.estimatedDurationSeconds());
+            assertEquals(200, decoded.totalWaypoints());
+            assertEquals(0.0, decoded.simplificationToleranceMeters());
+            assertTrue(maxError(route.polyline(), decoded.waypoints()) <= 0.5e-6 + 1e-12);
+        }
+
+        @Test
+        @DisplayName("Should round-trip a list of routes at a level of detail")
+        void shouldRoundTripRouteList() throws IOException {
+            DrivingRoute undescribed = DrivingRoute.fromPolyline("route-2", "Route 2", null, roadPolyline(3), 900, 60);
+            RouteDetailLevel simplified = new RouteDetailLevel(20.0, roadPolyline(2));
+
+            List<DecodedRoute> decoded = BinaryRouteCodec.decodeList(BinaryRouteCodec.encodeList(
+                    List.of(route, undescribed), List.of(simplified, RouteDetailLevel.full(undescribed))));
+
+            assertEquals(2, decoded.size());
+            assertEquals(20.0, decoded.get(0).simplificationToleranceMeters());
+            assertEquals(2, decoded.get(0).waypoints().size());
+            assertEquals(200, decoded.get(0).totalWaypoints());
+            assertNull(decoded.get(1).description());
+        }
+
+        @Test
+        @DisplayName("Should be several times smaller than the JSON waypoints")
+        void shouldBeSmallerThanJson() throws Exception {
+            byte[] binary = BinaryRouteCodec.encode(route, RouteDetailLevel.full(route));
+            byte[] json = new ObjectMapper().writeValueAsBytes(new DtoMapper().toDto(route));
+
+            assertTrue(binary.length * 4 < json.length, binary.length + " vs " + json.length + " bytes");
+        }
+
+        @Test
+        @DisplayName("Should reject other schema versions and trailing bytes")
+        void shouldRejectInvalidFrames() {
+            byte[] frame = BinaryRouteCodec.encode(route, RouteDetailLevel.full(route));
+            byte[] otherVersion = frame.clone();
+            otherVersion[0] = 2;
+            byte[] trailing = Arrays.copyOf(frame, frame.length + 1);
+
+            assertThrows(IOException.class, () -> BinaryRouteCodec.decode(otherVersion));
+            assertThrows(IOException.class, () -> BinaryRouteCodec.decode(trailing));
+            assertThrows(IOException.class, () -> BinaryRouteCodec.decode(Arrays.copyOf(frame, 20)));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.RouteCatalogue;
+import pse.nebula.worldview.domain.model.RouteDetailLevel;
+import pse.nebula.worldview.domain.port.inbound.RouteUseCase;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.RouteDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.SerializedRouteCache.SerializedRoute;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SerializedRouteCache.
+ */
+@DisplayName("SerializedRouteCache Tests")
+class SerializedRouteCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DtoMapper dtoMapper;
+    private RouteUseCase routeUseCase;
+    private SerializedRouteCache cache;
+
+    @BeforeEach
+    void setUp() {
+        dtoMapper = spy(new DtoMapper());
+        routeUseCase = mock(RouteUseCase.class);
+        when(routeUseCase.getRouteCatalogue()).thenReturn(RouteCatalogue.of(1, List.of()));
+        cache = new SerializedRouteCache(dtoMapper, objectMapper, routeUseCase);
+    }
+
+    private static DrivingRoute route(String name) {
+        return new DrivingRoute("route-1", name, "Test description",
+                List.of(new Coordinate(48.8973, 9.1920), new Coordinate(48.8354, 9.1520)), 5000.0, 600);
+    }
+
+    @Test
+    @DisplayName("Should serialize a route once and reuse the bytes")
+    void shouldSerializeOnce() throws Exception {
+        DrivingRoute route = route("Test Route");
+
+        SerializedRoute first = cache.get(route);
+        SerializedRoute second = cache.get(route);
+
+        assertSame(first, second);
+        verify(dtoMapper, times(1)).toDto(route);
+        assertEquals("route-1", objectMapper.readValue(first.body(), RouteDto.class).getId());
+    }
+
+    @Test
+    @DisplayName("Should derive a stable strong ETag from the content")
+    void shouldDeriveStableEtag() {
+        SerializedRoute first = cache.get(route("Test Route"));
+        SerializedRoute equalContent = new SerializedRouteCache(new DtoMapper(), objectMapper, routeUseCase).get(route("Test Route"));
+
+        assertEquals(16, first.version().length());
+        assertEquals("\"" + first.version() + "\"", first.etag());
+        assertEquals(first.version(), equalContent.version());
+    }
+
+    @Test
+    @DisplayName("Should replace the entry when the route is reloaded with new content")
+    void shouldReplaceReloadedRoute() {
+        SerializedRoute original = cache.get(route("Test Route"));
+        DrivingRoute reloaded = route("Renamed Route");
+
+        SerializedRoute updated = cache.get(reloaded);
+
+        assertSame(reloaded, updated.route());
+        assertNotEquals(original.version(), updated.version());
+        assertSame(updated, cache.get(reloaded));
+    }
+
+    @Test
+    @DisplayName("Should cache each level of detail separately")
+    void shouldCacheLevelsSeparately() throws Exception {
+        DrivingRoute route = route("Test Route");
+        RouteDetailLevel level = new RouteDetailLevel(20.0, route.polyline());
+
+        SerializedRoute full = cache.get(route);
+        SerializedRoute simplified = cache.get(route, level);
+
+        assertSame(simplified, cache.get(route, level));
+        assertSame(full, cache.get(route));
+        assertNotEquals(full.version(), simplified.version());
+        assertEquals(20.0, objectMapper.readValue(simplified.body(), RouteDto.class).getSimplificationToleranceMeters());
+    }
+
+    @Test
+    @DisplayName("Should drop the entries of routes missing from a swapped catalogue")
+    void shouldPruneRemovedRoutes() {
+        // Given
+        DrivingRoute kept = route("Test Route");
+        DrivingRoute removed = new DrivingRoute("route-2", "Removed Route", null,
+                List.of(new Coordinate(48.8821, 9.1678), new Coordinate(48.8354, 9.1520)), 4000.0, 400);
+        when(routeUseCase.getRouteCatalogue()).thenReturn(RouteCatalogue.of(2, List.of(kept, removed)));
+        SerializedRoute cachedKept = cache.get(kept);
+        cache.get(removed);
+        cache.get(removed, new RouteDetailLevel(20.0, removed.polyline()));
+
+        // When
+        when(routeUseCase.getRouteCatalogue()).thenReturn(RouteCatalogue.of(3, List.of(kept)));
+
+        // Then
+        assertSame(cachedKept, cache.get(kept));
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,79 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.clock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SimulationClock adapters.
+ */
+@DisplayName("SimulationClock Tests")
+class SimulationClockTest {
+
+    @Nested
+    @DisplayName("AcceleratedSimulationClock Tests")
+    class AcceleratedSimulationClockTests {
+
+        @Test
+        @DisplayName("Should run faster than the wall clock by the acceleration factor")
+        void shouldRunFasterThanWallClock() throws InterruptedException {
+            AcceleratedSimulationClock clock = new AcceleratedSimulationClock(100.0);
+            long simulatedStart = clock.currentTimeMillis();
+            long wallStart = System.nanoTime();
+
+            Thread.sleep(50);
+
+            long simulatedElapsed = clock.currentTimeMillis() - simulatedStart;
+            long wallElapsedMillis = (System.nanoTime() - wallStart) / 1_000_000;
+            assertTrue(simulatedElapsed >= 50 * 100 - 100, "simulated " + simulatedElapsed + "ms");
+            assertTrue(simulatedElapsed <= (wallElapsedMillis + 1) * 100, "simulated " + simulatedElapsed + "ms");
+        }
+
+        @Test
+        @DisplayName("Should start at the current wall-clock time")
+        void shouldStartAtWallClockTime() {
+            long before = System.currentTimeMillis();
+            AcceleratedSimulationClock clock = new AcceleratedSimulationClock(1.0);
+
+            assertTrue(Math.abs(clock.currentTimeMillis() - before) < 1000);
+            assertEquals(1.0, clock.accelerationFactor());
+            assertTrue(clock.isWallClockDriven());
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive acceleration factors")
+        void shouldRejectInvalidFactors() {
+            assertThrows(IllegalArgumentException.class, () -> new AcceleratedSimulationClock(0));
+            assertThrows(IllegalArgumentException.class, () -> new AcceleratedSimulationClock(-2));
+            assertThrows(IllegalArgumentException.class, () -> new AcceleratedSimulationClock(Double.NaN));
+        }
+    }
+
+    @Nested
+    @DisplayName("ManualSimulationClock Tests")
+    class ManualSimulationClockTests {
+
+        @Test
+        @DisplayName("Should only move when advanced")
+        void shouldOnlyMoveWhenAdvanced() throws InterruptedException {
+            ManualSimulationClock clock = new ManualSimulationClock(1_000);
+
+            Thread.sleep(5);
+            assertEquals(1_000, clock.currentTimeMillis());
+
+            assertEquals(1_500, clock.advance(500));
+            assertEquals(1_500, clock.currentTimeMillis());
+            assertFalse(clock.isWallClockDriven());
+        }
+
+        @Test
+        @DisplayName("Should reject moving backwards")
+        void shouldRejectMovingBackwards() {
+            ManualSimulationClock clock = new ManualSimulationClock(0);
+
+            assertThrows(IllegalArgumentException.class, () -> clock.advance(-1));
+        }
+    }
+}
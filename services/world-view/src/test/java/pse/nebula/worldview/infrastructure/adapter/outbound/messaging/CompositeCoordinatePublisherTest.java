@@ -0,0 +1,80 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
+import pse.nebula.worldview.domain.model.GeofenceTransition;
+import pse.nebula.worldview.domain.model.GeofenceType;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.port.outbound.CoordinatePublisher;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CompositeCoordinatePublisher.
+ */
+@DisplayName("CompositeCoordinatePublisher Tests")
+class CompositeCoordinatePublisherTest {
+
+    private CoordinatePublisher first;
+    private CoordinatePublisher second;
+    private CompositeCoordinatePublisher composite;
+    private JourneyState testJourneyState;
+
+    @BeforeEach
+    void setUp() {
+        first = mock(CoordinatePublisher.class);
+        second = mock(CoordinatePublisher.class);
+        composite = new CompositeCoordinatePublisher(List.of(first, second));
+
+        DrivingRoute testRoute = new DrivingRoute(
+                "route-1",
+                "Test Route",
+                "Test description",
+                Arrays.asList(new Coordinate(48.8973, 9.1920), new Coordinate(48.8354, 9.1520)),
+                5000.0,
+                600
+        );
+        testJourneyState = new JourneyState("journey-1", testRoute, 13.89);
+    }
+
+    @Test
+    @DisplayName("Should forward every message to all delegates")
+    void shouldForwardToAllDelegates() {
+        Coordinate position = testJourneyState.getCurrentPosition();
+        GeofenceEvent geofenceEvent = new GeofenceEvent("journey-1",
+                new Geofence("zone", "Zone", GeofenceType.CITY_ZONE, position, 100), GeofenceTransition.ENTER, position);
+
+        composite.publishJourneyStarted(testJourneyState);
+        composite.publishCoordinateUpdate(testJourneyState);
+        composite.publishGeofenceEvent(geofenceEvent, testJourneyState);
+        composite.publishJourneyCompleted(testJourneyState);
+        composite.publishJourneyStopped("journey-1");
+
+        for (CoordinatePublisher delegate : List.of(first, second)) {
+            verify(delegate).publishJourneyStopped("journey-1");
+            verify(delegate).publishJourneyStarted(testJourneyState);
+            verify(delegate).publishCoordinateUpdate(testJourneyState);
+            verify(delegate).publishGeofenceEvent(geofenceEvent, testJourneyState);
+            verify(delegate).publishJourneyCompleted(testJourneyState);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep publishing to other delegates when one fails")
+    void shouldIsolateFailingDelegate() {
+        doThrow(new IllegalStateException("broker down")).when(first).publishJourneyStarted(testJourneyState);
+
+        assertDoesNotThrow(() -> composite.publishJourneyStarted(testJourneyState));
+
+        verify(second).publishJourneyStarted(testJourneyState);
+    }
+}
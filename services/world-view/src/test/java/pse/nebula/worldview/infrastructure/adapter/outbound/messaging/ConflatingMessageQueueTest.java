@@ -0,0 +1,125 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConflatingMessageQueue.
+ */
+@DisplayName("ConflatingMessageQueue Tests")
+class ConflatingMessageQueueTest {
+
+    @Nested
+    @DisplayName("Conflation Tests")
+    class ConflationTests {
+
+        @Test
+        @DisplayName("Should keep only the latest message per key")
+        void shouldKeepOnlyLatestMessagePerKey() {
+            ConflatingMessageQueue<String> queue = new ConflatingMessageQueue<>(10);
+
+            queue.offerLatest("journey-1", "position-1");
+            queue.offerLatest("journey-1", "position-2");
+            queue.offerLatest("journey-1", "position-3");
+
+            assertEquals(1, queue.pendingLatestCount());
+            assertEquals(2, queue.conflatedCount());
+            assertEquals("position-3", queue.poll());
+            assertNull(queue.poll());
+        }
+
+        @Test
+        @DisplayName("Should serve keys in the order they became pending")
+        void shouldServeKeysInArrivalOrder() {
+            ConflatingMessageQueue<String> queue = new ConflatingMessageQueue<>(10);
+
+            queue.offerLatest("journey-1", "a1");
+            queue.offerLatest("journey-2", "b1");
+            queue.offerLatest("journey-1", "a2");
+
+            assertEquals("a2", queue.poll());
+            assertEquals("b1", queue.poll());
+            assertNull(queue.poll());
+        }
+
+        @Test
+        @DisplayName("Should accept a new message for a key after it was polled")
+        void shouldAcceptNewMessageAfterPoll() {
+            ConflatingMessageQueue<String> queue = new ConflatingMessageQueue<>(10);
+
+            queue.offerLatest("journey-1", "a1");
+            queue.poll();
+            queue.offerLatest("journey-1", "a2");
+
+            assertEquals("a2", queue.poll());
+            assertEquals(0, queue.conflatedCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Event Lane Tests")
+    class EventLaneTests {
+
+        @Test
+        @DisplayName("Should deliver events before conflated messages")
+        void shouldPrioritiseEvents() {
+            ConflatingMessageQueue<String> queue = new ConflatingMessageQueue<>(10);
+
+            queue.offerLatest("journey-1", "position");
+            queue.offerEvent("started");
+
+            assertEquals("started", queue.poll());
+            assertEquals("position", queue.poll());
+        }
+
+        @Test
+        @DisplayName("Should drop events when the lane is full")
+        void shouldDropEventsWhenFull() {
+            ConflatingMessageQueue<String> queue = new ConflatingMessageQueue<>(2);
+
+            assertTrue(queue.offerEvent("e1"));
+            assertTrue(queue.offerEvent("e2"));
+            assertFalse(queue.offerEvent("e3"));
+
+            assertEquals(1, queue.droppedCount());
+            assertEquals(2, queue.pendingEventCount());
+            assertEquals("e1", queue.poll());
+            assertEquals("e2", queue.poll());
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive capacity")
+        void shouldRejectNonPositiveCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new ConflatingMessageQueue<String>(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("awaitWork() Tests")
+    class AwaitWorkTests {
+
+        @Test
+        @DisplayName("Should time out when nothing was offered")
+        void shouldTimeOutWhenIdle() throws InterruptedException {
+            ConflatingMessageQueue<String> queue = new ConflatingMessageQueue<>(10);
+
+            assertFalse(queue.awaitWork(10, TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("Should wake up once for several offers")
+        void shouldWakeUpOnceForSeveralOffers() throws InterruptedException {
+            ConflatingMessageQueue<String> queue = new ConflatingMessageQueue<>(10);
+            queue.offerLatest("journey-1", "a1");
+            queue.offerEvent("started");
+
+            assertTrue(queue.awaitWork(10, TimeUnit.MILLISECONDS));
+            assertFalse(queue.awaitWork(10, TimeUnit.MILLISECONDS));
+        }
+    }
+}
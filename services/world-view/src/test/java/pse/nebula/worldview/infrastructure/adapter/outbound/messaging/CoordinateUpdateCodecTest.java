@@ -0,0 +1,140 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateUpdateDto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trip tests for the coordinate update codecs.
+ */
+@DisplayName("CoordinateUpdateCodec Tests")
+class CoordinateUpdateCodecTest {
+
+    private static CoordinateUpdateDto sampleUpdate(String status) {
+        return CoordinateUpdateDto.builder()
+                .journeyId("auto-journey-a1b2c3d4")
+                .coordinate(CoordinateDto.builder().latitude(48.8756123).longitude(9.1845678).build())
+                .progressPercentage(45.25)
+                .status(status)
+                .currentWaypointIndex(20)
+                .totalWaypoints(45)
+                .timestamp(Instant.parse("2026-01-09T10:30:45.123Z"))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("JSON Codec Tests")
+    class JsonCodecTests {
+
+        private final JsonCoordinateUpdateCodec codec =
+                new JsonCoordinateUpdateCodec(new ObjectMapper().findAndRegisterModules());
+
+        @Test
+        @DisplayName("Should round-trip a coordinate update exactly")
+        void shouldRoundTrip() throws IOException {
+            CoordinateUpdateDto update = sampleUpdate("IN_PROGRESS");
+
+            assertEquals(update, codec.decode(codec.encode(update)));
+        }
+
+        @Test
+        @DisplayName("Should advertise JSON content type")
+        void shouldAdvertiseContentType() {
+            assertEquals("application/json", codec.contentType());
+            assertTrue(codec.isText());
+        }
+    }
+
+    @Nested
+    @DisplayName("Binary Codec Tests")
+    class BinaryCodecTests {
+
+        private final BinaryCoordinateUpdateCodec codec = new BinaryCoordinateUpdateCodec();
+
+        @ParameterizedTest
+        @ValueSource(strings = {"NOT_STARTED", "IN_PROGRESS", "PAUSED", "COMPLETED"})
+        @DisplayName("Should round-trip every journey status")
+        void shouldRoundTripEveryStatus(String status) throws IOException {
+            CoordinateUpdateDto update = sampleUpdate(status);
+
+            CoordinateUpdateDto decoded = codec.decode(codec.encode(update));
+
+            assertEquals(update.getJourneyId(), decoded.getJourneyId());
+            assertEquals(status, decoded.getStatus());
+            assertEquals(update.getCoordinate().getLatitude(), decoded.getCoordinate().getLatitude(), 1e-7);
+            assertEquals(update.getCoordinate().getLongitude(), decoded.getCoordinate().getLongitude(), 1e-7);
+            assertEquals(update.getProgressPercentage(), decoded.getProgressPercentage(), 1e-4);
+            assertEquals(20, decoded.getCurrentWaypointIndex());
+            assertEquals(45, decoded.getTotalWaypoints());
+            assertEquals(update.getTimestamp(), decoded.getTimestamp());
+        }
+
+        @Test
+        @DisplayName("Should use the documented little-endian layout")
+        void shouldUseDocumentedLayout() throws IOException {
+            byte[] payload = codec.encode(sampleUpdate("COMPLETED"));
+            ByteBuffer buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+
+            assertEquals(BinaryCoordinateUpdateCodec.HEADER_SIZE + "auto-journey-a1b2c3d4".length(), payload.length);
+            assertEquals(1, buffer.get(0));
+            assertEquals(3, buffer.get(1));
+            assertEquals(21, buffer.getShort(2));
+            assertEquals(488756123, buffer.getInt(4));
+            assertEquals(91845678, buffer.getInt(8));
+            assertEquals(Instant.parse("2026-01-09T10:30:45.123Z").toEpochMilli(), buffer.getLong(24));
+        }
+
+        @Test
+        @DisplayName("Should be several times smaller than JSON")
+        void shouldBeSmallerThanJson() throws IOException {
+            CoordinateUpdateDto update = sampleUpdate("IN_PROGRESS");
+            JsonCoordinateUpdateCodec json = new JsonCoordinateUpdateCodec(new ObjectMapper().findAndRegisterModules());
+
+            int binarySize = codec.encode(update).length;
+            int jsonSize = json.encode(update).length;
+
+            assertTrue(binarySize * 3 < jsonSize, "binary " + binarySize + " bytes vs JSON " + jsonSize + " bytes");
+        }
+
+        @Test
+        @DisplayName("Should reject unsupported schema versions")
+        void shouldRejectUnsupportedVersion() throws IOException {
+            byte[] payload = codec.encode(sampleUpdate("IN_PROGRESS"));
+            payload[0] = 2;
+
+            IOException exception = assertThrows(IOException.class, () -> codec.decode(payload));
+            assertTrue(exception.getMessage().contains("schema version"));
+        }
+
+        @Test
+        @DisplayName("Should reject truncated payloads")
+        void shouldRejectTruncatedPayloads() throws IOException {
+            byte[] payload = codec.encode(sampleUpdate("IN_PROGRESS"));
+            byte[] truncated = Arrays.copyOf(payload, payload.length - 1);
+
+            assertThrows(IOException.class, () -> codec.decode(truncated));
+            assertThrows(IOException.class, () -> codec.decode(new byte[4]));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown statuses when encoding")
+        void shouldRejectUnknownStatus() {
+            CoordinateUpdateDto update = sampleUpdate("TELEPORTING");
+
+            assertThrows(IOException.class, () -> codec.encode(update));
+        }
+    }
+}
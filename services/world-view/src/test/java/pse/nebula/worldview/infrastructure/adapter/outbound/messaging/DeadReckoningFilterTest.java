@@ -0,0 +1,167 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DeadReckoningFilter.
+ */
+@DisplayName("DeadReckoningFilter Tests")
+class DeadReckoningFilterTest {
+
+    private static final long KEYFRAME_INTERVAL_MS = 60_000;
+
+    private SimulationClock simulationClock;
+    private DrivingRoute route;
+
+    @BeforeEach
+    void setUp() {
+        simulationClock = mock(SimulationClock.class);
+        when(simulationClock.accelerationFactor()).thenReturn(1.0);
+
+        // About 10 km heading south with 45 waypoints, like the seeded routes
+        List<Coordinate> waypoints = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            waypoints.add(new Coordinate(48.9 - i * 0.002, 9.19 + (i % 2) * 0.001));
+        }
+        route = new DrivingRoute("route-1", "Test Route", "Test description", waypoints, 10_000, 720);
+    }
+
+    private JourneyState startedJourney() {
+        JourneyState journeyState = new JourneyState("journey-1", route, 13.89);
+        journeyState.start();
+        return journeyState;
+    }
+
+    @Nested
+    @DisplayName("Change Detection Tests")
+    class ChangeDetectionTests {
+
+        @Test
+        @DisplayName("Should publish the first update and suppress unchanged motion")
+        void shouldSuppressUnchangedMotion() {
+            // Given
+            DeadReckoningFilter filter = new DeadReckoningFilter(simulationClock, KEYFRAME_INTERVAL_MS);
+            JourneyState journeyState = startedJourney();
+
+            // When & Then
+            assertTrue(filter.shouldPublish(journeyState, 0));
+            journeyState.advance(0.5);
+            assertFalse(filter.shouldPublish(journeyState, 500));
+        }
+
+        @Test
+        @DisplayName("Should publish when the car enters the next segment")
+        void shouldPublishOnSegmentChange() {
+            // Given
+            DeadReckoningFilter filter = new DeadReckoningFilter(simulationClock, KEYFRAME_INTERVAL_MS);
+            JourneyState journeyState = startedJourney();
+            filter.shouldPublish(journeyState, 0);
+
+            // When
+            journeyState.advance(route.geometry().getSegmentLength(0) / 13.89 + 0.1);
+
+            // Then
+            assertEquals(1, journeyState.getCurrentWaypointIndex());
+            assertTrue(filter.shouldPublish(journeyState, 100));
+        }
+
+        @Test
+        @DisplayName("Should publish when the speed, time-warp or status changes")
+        void shouldPublishOnSpeedOrStatusChange() {
+            // Given
+            DeadReckoningFilter filter = new DeadReckoningFilter(simulationClock, KEYFRAME_INTERVAL_MS);
+            JourneyState journeyState = startedJourney();
+            filter.shouldPublish(journeyState, 0);
+
+            // When & Then
+            journeyState.setSpeedMetersPerSecond(20.0);
+            assertTrue(filter.shouldPublish(journeyState, 1));
+
+            when(simulationClock.accelerationFactor()).thenReturn(10.0);
+            assertTrue(filter.shouldPublish(journeyState, 2));
+
+            journeyState.pause();
+            assertEquals(JourneyStatus.PAUSED, journeyState.getStatus());
+            assertTrue(filter.shouldPublish(journeyState, 3));
+            assertFalse(filter.shouldPublish(journeyState, 4));
+        }
+
+        @Test
+        @DisplayName("Should resend unchanged motion as a keyframe")
+        void shouldSendKeyframes() {
+            // Given
+            DeadReckoningFilter filter = new DeadReckoningFilter(simulationClock, KEYFRAME_INTERVAL_MS);
+            JourneyState journeyState = startedJourney();
+            filter.shouldPublish(journeyState, 0);
+
+            // When & Then
+            assertFalse(filter.shouldPublish(journeyState, KEYFRAME_INTERVAL_MS - 1));
+            assertTrue(filter.shouldPublish(journeyState, KEYFRAME_INTERVAL_MS));
+            assertFalse(filter.shouldPublish(journeyState, KEYFRAME_INTERVAL_MS + 1));
+        }
+
+        @Test
+        @DisplayName("Should start over for a forgotten journey")
+        void shouldForgetJourney() {
+            // Given
+            DeadReckoningFilter filter = new DeadReckoningFilter(simulationClock, 0);
+            JourneyState journeyState = startedJourney();
+            filter.shouldPublish(journeyState, 0);
+
+            // When
+            filter.forget("journey-1");
+
+            // Then
+            assertEquals(0, filter.trackedJourneyCount());
+            assertTrue(filter.shouldPublish(journeyState, 1));
+        }
+
+        @Test
+        @DisplayName("Should reject a negative keyframe interval")
+        void shouldRejectNegativeKeyframeInterval() {
+            assertThrows(IllegalArgumentException.class, () -> new DeadReckoningFilter(simulationClock, -1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Message Volume Tests")
+    class MessageVolumeTests {
+
+        @Test
+        @DisplayName("Should send at least ten times fewer messages than one per tick")
+        void shouldCutMessageVolume() {
+            // Given
+            DeadReckoningFilter filter = new DeadReckoningFilter(simulationClock, KEYFRAME_INTERVAL_MS);
+            JourneyState journeyState = startedJourney();
+            int ticks = 0;
+            int published = 0;
+
+            // When - drive the whole route with the scheduler's 500 ms tick
+            while (journeyState.getStatus() == JourneyStatus.IN_PROGRESS) {
+                journeyState.advance(0.5);
+                ticks++;
+                if (filter.shouldPublish(journeyState, ticks * 500L)) {
+                    published++;
+                }
+            }
+
+            // Then
+            assertTrue(ticks >= 10 * published, published + " messages for " + ticks + " ticks");
+        }
+    }
+}
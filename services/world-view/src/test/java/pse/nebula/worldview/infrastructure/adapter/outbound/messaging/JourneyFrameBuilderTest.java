@@ -0,0 +1,144 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyFrameDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.JourneyFrameEntryDto;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JourneyFrameBuilder.
+ */
+@DisplayName("JourneyFrameBuilder Tests")
+class JourneyFrameBuilderTest {
+
+    private static JourneyFrameDto frame(JourneyFrameBuilder builder, double journey1Latitude, boolean withJourney2) {
+        builder.begin();
+        builder.add("journey-1", journey1Latitude, 9.15, 10.0, JourneyStatus.IN_PROGRESS);
+        if (withJourney2) {
+            builder.add("journey-2", 48.90, 9.20, 50.0, JourneyStatus.IN_PROGRESS);
+        }
+        return builder.finish(1000);
+    }
+
+    private static List<String> journeyIds(JourneyFrameDto frame) {
+        return frame.getJourneys().stream().map(JourneyFrameEntryDto::getJourneyId).toList();
+    }
+
+    @Nested
+    @DisplayName("Delta Encoding Tests")
+    class DeltaEncodingTests {
+
+        @Test
+        @DisplayName("Should list every journey in the first frame")
+        void shouldStartWithKeyframe() {
+            JourneyFrameBuilder builder = new JourneyFrameBuilder(0, true, 10);
+
+            JourneyFrameDto frame = frame(builder, 48.80, true);
+
+            assertTrue(frame.isKeyframe());
+            assertEquals(0, frame.getSequence());
+            assertNull(frame.getBaseSequence());
+            assertEquals(List.of("journey-1", "journey-2"), journeyIds(frame));
+            assertEquals(2, frame.getActiveJourneys());
+        }
+
+        @Test
+        @DisplayName("Should only list changed journeys in delta frames")
+        void shouldListOnlyChangedJourneys() {
+            JourneyFrameBuilder builder = new JourneyFrameBuilder(0, true, 10);
+            frame(builder, 48.80, true);
+
+            JourneyFrameDto frame = frame(builder, 48.81, true);
+
+            assertFalse(frame.isKeyframe());
+            assertEquals(1, frame.getSequence());
+            assertEquals(0L, frame.getBaseSequence());
+            assertEquals(List.of("journey-1"), journeyIds(frame));
+            assertEquals(48.81, frame.getJourneys().get(0).getLatitude());
+            assertEquals(2, frame.getActiveJourneys());
+            assertTrue(frame.getRemoved().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should report journeys that are gone as removed")
+        void shouldReportRemovedJourneys() {
+            JourneyFrameBuilder builder = new JourneyFrameBuilder(0, true, 10);
+            frame(builder, 48.80, true);
+
+            JourneyFrameDto frame = frame(builder, 48.80, false);
+
+            assertTrue(frame.getJourneys().isEmpty());
+            assertEquals(List.of("journey-2"), frame.getRemoved());
+            assertEquals(1, frame.getActiveJourneys());
+        }
+
+        @Test
+        @DisplayName("Should skip delta frames without changes and keep the sequence contiguous")
+        void shouldSkipUnchangedDeltaFrames() {
+            JourneyFrameBuilder builder = new JourneyFrameBuilder(0, true, 10);
+            frame(builder, 48.80, true);
+
+            assertNull(frame(builder, 48.80, true));
+            JourneyFrameDto frame = frame(builder, 48.80, false);
+
+            assertEquals(1, frame.getSequence());
+            assertEquals(0L, frame.getBaseSequence());
+            assertEquals(List.of("journey-2"), frame.getRemoved());
+        }
+
+        @Test
+        @DisplayName("Should send a keyframe every keyframe interval")
+        void shouldSendPeriodicKeyframes() {
+            JourneyFrameBuilder builder = new JourneyFrameBuilder(0, true, 3);
+            frame(builder, 48.80, true);
+            frame(builder, 48.81, true);
+            frame(builder, 48.82, true);
+
+            JourneyFrameDto frame = frame(builder, 48.83, true);
+
+            assertTrue(frame.isKeyframe());
+            assertEquals(3, frame.getSequence());
+            assertEquals(List.of("journey-1", "journey-2"), journeyIds(frame));
+        }
+
+        @Test
+        @DisplayName("Should list every journey in every frame without delta encoding")
+        void shouldAlwaysSendKeyframesWithoutDelta() {
+            JourneyFrameBuilder builder = new JourneyFrameBuilder(0, false, 10);
+            frame(builder, 48.80, true);
+
+            JourneyFrameDto frame = frame(builder, 48.80, true);
+
+            assertTrue(frame.isKeyframe());
+            assertEquals(List.of("journey-1", "journey-2"), journeyIds(frame));
+        }
+    }
+
+    @Nested
+    @DisplayName("Frame Interval Tests")
+    class FrameIntervalTests {
+
+        @Test
+        @DisplayName("Should produce at most one frame per minimum interval")
+        void shouldRateLimitFrames() {
+            JourneyFrameBuilder builder = new JourneyFrameBuilder(500, true, 10);
+
+            assertTrue(builder.isFrameDue(1000));
+            assertFalse(builder.isFrameDue(1200));
+            assertTrue(builder.isFrameDue(1500));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid settings")
+        void shouldRejectInvalidSettings() {
+            assertThrows(IllegalArgumentException.class, () -> new JourneyFrameBuilder(-1, true, 10));
+            assertThrows(IllegalArgumentException.class, () -> new JourneyFrameBuilder(0, true, 0));
+        }
+    }
+}
@@ -1,18 +1,38 @@
 package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceEvent;
+import pse.nebula.worldview.domain.model.GeofenceTransition;
+import pse.nebula.worldview.domain.model.GeofenceType;
 import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.port.outbound.SimulationClock;
 import pse.nebula.worldview.infrastructure.adapter.inbound.web.dto.CoordinateUpdateDto;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for MqttCoordinatePublisherAdapter.
@@ -23,6 +43,7 @@ class MqttCoordinatePublisherAdapterTest {
 
     private JourneyState testJourneyState;
     private DrivingRoute testRoute;
+    private MqttCoordinatePublisherAdapter adapter;
 
     @BeforeEach
     void setUp() {
@@ -44,6 +65,13 @@ class MqttCoordinatePublisherAdapterTest {
         testJourneyState.start();
     }
 
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.shutdown();
+        }
+    }
+
     @Nested
     @DisplayName("JourneyEventMessage Tests")
     class JourneyEventMessageTests {
@@ -93,4 +121,281 @@ class MqttCoordinatePublisherAdapterTest {
             assertEquals(message1.hashCode(), message2.hashCode());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Outbound Queue Tests")
+    class OutboundQueueTests {
+
+        private final Mqtt5AsyncClient mqttClient = mock(Mqtt5AsyncClient.class);
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final List<Mqtt5Publish> sent = new CopyOnWriteArrayList<>();
+        private final List<CompletableFuture<Mqtt5PublishResult>> acknowledgements = new CopyOnWriteArrayList<>();
+
+        @BeforeEach
+        void setUpBroker() {
+            // A broker that only acknowledges when the test completes the future
+            when(mqttClient.publish(any(Mqtt5Publish.class))).thenAnswer(invocation -> {
+                sent.add(invocation.getArgument(0));
+                CompletableFuture<Mqtt5PublishResult> ack = new CompletableFuture<>();
+                acknowledgements.add(ack);
+                return ack;
+            });
+        }
+
+        private void createAdapter(int eventQueueCapacity, int maxInFlight) {
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            createAdapter(new JsonCoordinateUpdateCodec(objectMapper), eventQueueCapacity, maxInFlight);
+        }
+
+        private void createAdapter(CoordinateUpdateCodec positionCodec, int eventQueueCapacity, int maxInFlight) {
+            adapter = new MqttCoordinatePublisherAdapter(mqttClient, new DtoMapper(),
+                    new ObjectMapper().findAndRegisterModules(), "nebula/journey", positionCodec,
+                    meterRegistry, eventQueueCapacity, maxInFlight);
+        }
+
+        private void createDeadReckoningAdapter() {
+            SimulationClock simulationClock = mock(SimulationClock.class);
+            when(simulationClock.accelerationFactor()).thenReturn(1.0);
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            adapter = new MqttCoordinatePublisherAdapter(mqttClient, new DtoMapper(), objectMapper,
+                    "nebula/journey", new JsonCoordinateUpdateCodec(objectMapper), meterRegistry, 16, 4,
+                    new DeadReckoningFilter(simulationClock, 60_000));
+        }
+
+        private void createFrameAdapter() {
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            adapter = new MqttCoordinatePublisherAdapter(mqttClient, new DtoMapper(), objectMapper,
+                    "nebula/journey", new JsonCoordinateUpdateCodec(objectMapper), meterRegistry, 16, 4, null,
+                    new JourneyFrameBuilder(0, true, 20));
+        }
+
+        private String userProperty(Mqtt5Publish publish, String name) {
+            return publish.getUserProperties().asList().stream()
+                    .filter(property -> property.getName().toString().equals(name))
+                    .map(property -> property.getValue().toString())
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        private void awaitSentCount(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(expected, sent.size());
+        }
+
+        private String payloadOf(Mqtt5Publish publish) {
+            return new String(publish.getPayloadAsBytes(), StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("Should publish position updates to the journey position topic")
+        void shouldPublishPositionUpdate() throws InterruptedException {
+            createAdapter(16, 4);
+
+            adapter.publishCoordinateUpdate(testJourneyState);
+
+            awaitSentCount(1);
+            assertEquals("nebula/journey/journey-1/position", sent.get(0).getTopic().toString());
+            assertTrue(payloadOf(sent.get(0)).contains("\"journey_id\":\"journey-1\""));
+        }
+
+        @Test
+        @DisplayName("Should advertise binary position encoding through MQTT5 properties")
+        void shouldAdvertiseBinaryEncoding() throws Exception {
+            BinaryCoordinateUpdateCodec codec = new BinaryCoordinateUpdateCodec();
+            createAdapter(codec, 16, 4);
+
+            adapter.publishCoordinateUpdate(testJourneyState);
+
+            awaitSentCount(1);
+            Mqtt5Publish publish = sent.get(0);
+            assertEquals(BinaryCoordinateUpdateCodec.CONTENT_TYPE, publish.getContentType().orElseThrow().toString());
+            assertEquals("coordinate-update", userProperty(publish, "schema"));
+            assertEquals("1", userProperty(publish, "schema-version"));
+            assertEquals("journey-1", codec.decode(publish.getPayloadAsBytes()).getJourneyId());
+        }
+
+        @Test
+        @DisplayName("Should publish lifecycle events as JSON regardless of position encoding")
+        void shouldPublishEventsAsJson() throws InterruptedException {
+            createAdapter(new BinaryCoordinateUpdateCodec(), 16, 4);
+
+            adapter.publishJourneyStarted(testJourneyState);
+
+            awaitSentCount(1);
+            Mqtt5Publish publish = sent.get(0);
+            assertEquals("application/json", publish.getContentType().orElseThrow().toString());
+            assertEquals("journey-event", userProperty(publish, "schema"));
+            assertTrue(payloadOf(publish).contains("\"eventType\":\"STARTED\""));
+        }
+
+        @Test
+        @DisplayName("Should publish geofence events to the journey events topic")
+        void shouldPublishGeofenceEvents() throws InterruptedException {
+            createAdapter(16, 4);
+            Geofence dealership = new Geofence("dealership", "Dealership", GeofenceType.DEALERSHIP,
+                    new Coordinate(48.8354, 9.1520), 150);
+
+            adapter.publishGeofenceEvent(new GeofenceEvent("journey-1", dealership, GeofenceTransition.ENTER,
+                    testJourneyState.getCurrentPosition()), testJourneyState);
+
+            awaitSentCount(1);
+            Mqtt5Publish publish = sent.get(0);
+            assertEquals("nebula/journey/journey-1/events", publish.getTopic().toString());
+            assertTrue(payloadOf(publish).contains("\"eventType\":\"GEOFENCE_ENTER\""));
+            assertTrue(payloadOf(publish).contains("\"id\":\"dealership\""));
+        }
+
+        @Test
+        @DisplayName("Should conflate position updates while the broker is slow")
+        void shouldConflatePositionUpdatesWhileBrokerIsSlow() throws InterruptedException {
+            createAdapter(16, 1);
+
+            // First update occupies the only in-flight slot
+            adapter.publishCoordinateUpdate(testJourneyState);
+            awaitSentCount(1);
+
+            List<Double> progressValues = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                testJourneyState.advance(1.0);
+                progressValues.add(testJourneyState.getProgressPercentage());
+                adapter.publishCoordinateUpdate(testJourneyState);
+            }
+
+            // Broker catches up: only the freshest pending update is sent
+            acknowledgements.get(0).complete(mock(Mqtt5PublishResult.class));
+            awaitSentCount(2);
+            Thread.sleep(50);
+
+            assertEquals(2, sent.size());
+            String lastProgress = String.valueOf(progressValues.get(progressValues.size() - 1));
+            assertTrue(payloadOf(sent.get(1)).contains("\"progress_percentage\":" + lastProgress));
+            assertEquals(49.0, meterRegistry.get("worldview.mqtt.messages.conflated").functionCounter().count());
+            assertEquals(1.0, meterRegistry.get("worldview.mqtt.messages.published").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should publish all journeys as one frame when a tick completes")
+        void shouldPublishJourneyFrame() throws InterruptedException {
+            createFrameAdapter();
+            JourneyState secondJourney = new JourneyState("journey-2", testRoute, 13.89);
+            secondJourney.start();
+
+            adapter.publishCoordinateUpdate(testJourneyState);
+            adapter.publishCoordinateUpdate(secondJourney);
+            adapter.publishTickCompleted();
+
+            awaitSentCount(3);
+            Mqtt5Publish frame = sent.get(2);
+            assertEquals("nebula/journey/all/frame", frame.getTopic().toString());
+            assertEquals("journey-frame", userProperty(frame, "schema"));
+            assertTrue(payloadOf(frame).contains("\"keyframe\":true"));
+            assertTrue(payloadOf(frame).contains("\"journey_id\":\"journey-1\""));
+            assertTrue(payloadOf(frame).contains("\"journey_id\":\"journey-2\""));
+        }
+
+        @Test
+        @DisplayName("Should list completed journeys as removed in the next frame")
+        void shouldRemoveCompletedJourneysFromFrame() throws InterruptedException {
+            createFrameAdapter();
+            adapter.publishCoordinateUpdate(testJourneyState);
+            adapter.publishTickCompleted();
+            awaitSentCount(2);
+
+            adapter.publishJourneyCompleted(testJourneyState);
+            adapter.publishTickCompleted();
+
+            awaitSentCount(4);
+            Mqtt5Publish frame = sent.get(3);
+            assertEquals("nebula/journey/all/frame", frame.getTopic().toString());
+            assertTrue(payloadOf(frame).contains("\"removed\":[\"journey-1\"]"));
+            assertTrue(payloadOf(frame).contains("\"base_sequence\":0"));
+        }
+
+        @Test
+        @DisplayName("Should list journeys stopped without completing as removed in the next frame")
+        void shouldRemoveStoppedJourneysFromFrame() throws InterruptedException {
+            createFrameAdapter();
+            adapter.publishCoordinateUpdate(testJourneyState);
+            adapter.publishTickCompleted();
+            awaitSentCount(2);
+
+            adapter.publishJourneyStopped("journey-1");
+            adapter.publishTickCompleted();
+
+            awaitSentCount(3);
+            Mqtt5Publish frame = sent.get(2);
+            assertEquals("nebula/journey/all/frame", frame.getTopic().toString());
+            assertTrue(payloadOf(frame).contains("\"removed\":[\"journey-1\"]"));
+            assertEquals(0.0, meterRegistry.get("worldview.mqtt.queue.positions").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should drop lifecycle events when the event queue is full")
+        void shouldDropEventsWhenQueueIsFull() throws InterruptedException {
+            createAdapter(2, 1);
+
+            adapter.publishJourneyStarted(testJourneyState);
+            awaitSentCount(1);
+
+            for (int i = 0; i < 5; i++) {
+                adapter.publishJourneyCompleted(testJourneyState);
+            }
+
+            assertEquals(3.0, meterRegistry.get("worldview.mqtt.messages.dropped").functionCounter().count());
+            assertEquals(2.0, meterRegistry.get("worldview.mqtt.queue.events").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should count failed publishes and keep sending")
+        void shouldCountFailedPublishes() throws InterruptedException {
+            createAdapter(16, 1);
+
+            adapter.publishJourneyStarted(testJourneyState);
+            awaitSentCount(1);
+            acknowledgements.get(0).completeExceptionally(new RuntimeException("broker unavailable"));
+
+            adapter.publishJourneyCompleted(testJourneyState);
+            awaitSentCount(2);
+
+            assertEquals(1.0, meterRegistry.get("worldview.mqtt.messages.failed").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should publish motion updates only when the motion changes in dead-reckoning mode")
+        void shouldPublishMotionUpdatesOnChange() throws InterruptedException {
+            createDeadReckoningAdapter();
+
+            adapter.publishCoordinateUpdate(testJourneyState);
+            awaitSentCount(1);
+            for (int i = 0; i < 10; i++) {
+                testJourneyState.advance(0.5);
+                adapter.publishCoordinateUpdate(testJourneyState);
+            }
+            Thread.sleep(50);
+
+            Mqtt5Publish publish = sent.get(0);
+            assertEquals(1, sent.size());
+            assertEquals("nebula/journey/journey-1/motion", publish.getTopic().toString());
+            assertEquals("motion-update", userProperty(publish, "schema"));
+            assertTrue(payloadOf(publish).contains("\"segment_end\""));
+            assertEquals(10.0, meterRegistry.get("worldview.mqtt.positions.suppressed").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should publish a motion update when the journey completes in dead-reckoning mode")
+        void shouldPublishMotionUpdateOnCompletion() throws InterruptedException {
+            createDeadReckoningAdapter();
+            adapter.publishCoordinateUpdate(testJourneyState);
+            awaitSentCount(1);
+
+            testJourneyState.advance(100_000);
+            adapter.publishCoordinateUpdate(testJourneyState);
+
+            awaitSentCount(2);
+            assertTrue(payloadOf(sent.get(1)).contains("\"status\":\"COMPLETED\""));
+        }
+    }
+}
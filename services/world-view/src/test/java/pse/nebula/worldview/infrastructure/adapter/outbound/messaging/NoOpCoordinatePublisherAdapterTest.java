@@ -46,10 +46,8 @@ class NoOpCoordinatePublisherAdapterTest {
     @Test
     @DisplayName("Should not throw when publishing coordinate update")
     void shouldNotThrowWhenPublishingCoordinateUpdate() {
-        Coordinate coordinate = new Coordinate(48.86, 9.17);
-
         assertDoesNotThrow(() ->
-                adapter.publishCoordinateUpdate("journey-1", coordinate, testJourneyState));
+                adapter.publishCoordinateUpdate(testJourneyState));
     }
 
     @Test
@@ -69,12 +67,9 @@ class NoOpCoordinatePublisherAdapterTest {
     @Test
     @DisplayName("Should handle multiple calls without issues")
     void shouldHandleMultipleCallsWithoutIssues() {
-        Coordinate coordinate = new Coordinate(48.86, 9.17);
-
         for (int i = 0; i < 100; i++) {
-            final int index = i;
             assertDoesNotThrow(() -> {
-                adapter.publishCoordinateUpdate("journey-" + index, coordinate, testJourneyState);
+                adapter.publishCoordinateUpdate(testJourneyState);
                 adapter.publishJourneyStarted(testJourneyState);
                 adapter.publishJourneyCompleted(testJourneyState);
             });
@@ -0,0 +1,308 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.infrastructure.adapter.inbound.web.mapper.DtoMapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SseCoordinatePublisherAdapter.
+ */
+@DisplayName("SseCoordinatePublisherAdapter Tests")
+class SseCoordinatePublisherAdapterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SseCoordinatePublisherAdapter adapter;
+    private JourneyState testJourneyState;
+
+    /**
+     * Emitter that records frames instead of writing to a servlet response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writeGate;
+        private volatile boolean completed;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch writeGate) {
+            this.writeGate = writeGate;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                writeGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            frames.add(items);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        String text(int index) {
+            return frames.get(index).stream()
+                    .map(item -> item.getData().toString())
+                    .collect(Collectors.joining());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Coordinate> waypoints = Arrays.asList(
+                new Coordinate(48.8973, 9.1920),
+                new Coordinate(48.8354, 9.1520)
+        );
+
+        DrivingRoute testRoute = new DrivingRoute(
+                "route-1",
+                "Test Route",
+                "Test description",
+                waypoints,
+                5000.0,
+                600
+        );
+
+        testJourneyState = new JourneyState("journey-1", testRoute, 13.89);
+        testJourneyState.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.shutdown();
+        }
+    }
+
+    private void createAdapter(int outboxCapacity, long slowWriteThresholdMs) {
+        adapter = new SseCoordinatePublisherAdapter(new DtoMapper(), new ObjectMapper().findAndRegisterModules(),
+                meterRegistry, 60_000, outboxCapacity, slowWriteThresholdMs, 2, 0);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Nested
+    @DisplayName("Subscription Tests")
+    class SubscriptionTests {
+
+        @Test
+        @DisplayName("Should send a snapshot on subscribe")
+        void shouldSendSnapshotOnSubscribe() throws InterruptedException {
+            createAdapter(16, 2000);
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            adapter.subscribe("journey-1", testJourneyState, emitter);
+
+            await(() -> emitter.frames.size() == 1);
+            assertTrue(emitter.text(0).startsWith("event:snapshot"));
+            assertTrue(emitter.text(0).contains("\"journey_id\":\"journey-1\""));
+            assertEquals(1, adapter.getConnectionCount());
+            assertEquals(1.0, meterRegistry.get("worldview.sse.connections").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should close the stream right after the snapshot of a completed journey")
+        void shouldCloseStreamForCompletedJourney() throws InterruptedException {
+            createAdapter(16, 2000);
+            testJourneyState.advance(10_000);
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            adapter.subscribe("journey-1", testJourneyState, emitter);
+
+            await(() -> emitter.completed);
+            assertEquals(1, emitter.frames.size());
+            assertEquals(0, adapter.getConnectionCount());
+        }
+
+        @Test
+        @DisplayName("Should deliver a completion that happens while the stream is opened")
+        void shouldDeliverCompletionDuringSubscribe() throws InterruptedException {
+            createAdapter(16, 2000);
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            // The journey completes after the request was checked but before its state is read
+            adapter.subscribe("journey-1", () -> {
+                testJourneyState.advance(10_000);
+                adapter.publishJourneyCompleted(testJourneyState);
+                return Optional.of(testJourneyState);
+            }, emitter);
+
+            await(() -> emitter.completed);
+            assertTrue(emitter.text(0).startsWith("event:completed"));
+            assertEquals(0, adapter.getConnectionCount());
+        }
+
+        @Test
+        @DisplayName("Should close the stream of a journey that no longer exists")
+        void shouldCloseStreamForRemovedJourney() throws InterruptedException {
+            createAdapter(16, 2000);
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            adapter.subscribe("journey-1", Optional::empty, emitter);
+
+            await(() -> emitter.completed);
+            assertTrue(emitter.frames.isEmpty());
+            assertEquals(0, adapter.getConnectionCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Fan-out Tests")
+    class FanOutTests {
+
+        @Test
+        @DisplayName("Should share one serialized frame between all subscribers")
+        void shouldShareFrameBetweenSubscribers() throws InterruptedException {
+            createAdapter(16, 2000);
+            RecordingEmitter first = new RecordingEmitter();
+            RecordingEmitter second = new RecordingEmitter();
+            adapter.subscribe("journey-1", testJourneyState, first);
+            adapter.subscribe("journey-1", testJourneyState, second);
+
+            adapter.publishCoordinateUpdate(testJourneyState);
+
+            await(() -> first.frames.size() == 2 && second.frames.size() == 2);
+            assertTrue(first.text(1).startsWith("event:position"));
+            assertSame(first.frames.get(1), second.frames.get(1));
+        }
+
+        @Test
+        @DisplayName("Should not deliver updates of other journeys")
+        void shouldNotDeliverOtherJourneys() throws InterruptedException {
+            createAdapter(16, 2000);
+            RecordingEmitter emitter = new RecordingEmitter();
+            adapter.subscribe("journey-2", testJourneyState, emitter);
+            await(() -> emitter.frames.size() == 1);
+
+            adapter.publishCoordinateUpdate(testJourneyState);
+            Thread.sleep(50);
+
+            assertEquals(1, emitter.frames.size());
+        }
+
+        @Test
+        @DisplayName("Should close streams after the completed event")
+        void shouldCloseStreamsAfterCompletedEvent() throws InterruptedException {
+            createAdapter(16, 2000);
+            RecordingEmitter emitter = new RecordingEmitter();
+            adapter.subscribe("journey-1", testJourneyState, emitter);
+
+            adapter.publishJourneyCompleted(testJourneyState);
+
+            await(() -> emitter.completed);
+            assertTrue(emitter.text(emitter.frames.size() - 1).startsWith("event:completed"));
+            assertEquals(0, adapter.getConnectionCount());
+        }
+
+        @Test
+        @DisplayName("Should close streams of journeys stopped without completing")
+        void shouldCloseStreamsOfStoppedJourneys() throws InterruptedException {
+            createAdapter(16, 2000);
+            RecordingEmitter emitter = new RecordingEmitter();
+            adapter.subscribe("journey-1", testJourneyState, emitter);
+
+            adapter.publishJourneyStopped("journey-1");
+
+            await(() -> emitter.completed);
+            assertEquals(1, emitter.frames.size());
+            assertEquals(0, adapter.getConnectionCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Slow Client Tests")
+    class SlowClientTests {
+
+        @Test
+        @DisplayName("Should evict a client whose outbox overflows without delaying others")
+        void shouldEvictClientWhenOutboxOverflows() throws InterruptedException {
+            createAdapter(2, 60_000);
+            CountDownLatch stuck = new CountDownLatch(1);
+            RecordingEmitter slow = new RecordingEmitter(stuck);
+            RecordingEmitter fast = new RecordingEmitter();
+            adapter.subscribe("journey-1", testJourneyState, slow);
+            adapter.subscribe("journey-1", testJourneyState, fast);
+
+            // Pace the publisher to the fast client so only the stuck one falls behind
+            for (int i = 0; i < 5; i++) {
+                adapter.publishCoordinateUpdate(testJourneyState);
+                int expected = i + 2;
+                await(() -> fast.frames.size() == expected);
+            }
+
+            assertEquals(1.0, meterRegistry.get("worldview.sse.clients.evicted").counter().count());
+            assertEquals(1, adapter.getConnectionCount());
+            stuck.countDown();
+            await(() -> slow.completed);
+        }
+
+        @Test
+        @DisplayName("Should evict a client whose write is still blocked at the deadline and free its writer")
+        void shouldEvictClientBlockedInWrite() throws InterruptedException {
+            // Given - one writer thread, held by a client that never accepts a byte
+            adapter = new SseCoordinatePublisherAdapter(new DtoMapper(), new ObjectMapper().findAndRegisterModules(),
+                    meterRegistry, 60_000, 16, 50, 1, 0);
+            RecordingEmitter stuck = new RecordingEmitter(new CountDownLatch(1));
+            adapter.subscribe("journey-1", testJourneyState, stuck);
+
+            // When - no further frames are published to the stuck client
+            await(() -> stuck.completed);
+
+            // Then
+            assertEquals(1.0, meterRegistry.get("worldview.sse.clients.evicted").counter().count());
+            assertEquals(0, adapter.getConnectionCount());
+            RecordingEmitter next = new RecordingEmitter();
+            adapter.subscribe("journey-2", testJourneyState, next);
+            await(() -> next.frames.size() == 1);
+        }
+
+        @Test
+        @DisplayName("Should evict a client whose write exceeds the slow-write threshold")
+        void shouldEvictClientOnSlowWrite() throws InterruptedException {
+            createAdapter(16, 0);
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            adapter.subscribe("journey-1", testJourneyState, emitter);
+
+            await(() -> emitter.completed);
+            assertEquals(1.0, meterRegistry.get("worldview.sse.clients.evicted").counter().count());
+            assertEquals(0, adapter.getConnectionCount());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.mapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.PackedPolyline;
+import pse.nebula.worldview.infrastructure.adapter.outbound.persistence.entity.RouteEntity;
+import pse.nebula.worldview.infrastructure.codec.Varint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WaypointBlobCodec and the compressed storage mode of RouteEntityMapper.
+ */
+@DisplayName("WaypointBlobCodec Tests")
+class WaypointBlobCodecTest {
+
+    private static PackedPolyline randomRoute(int points, long seed) {
+        Random random = new Random(seed);
+        double[] latLng = new double[points * 2];
+        double latitude = 48.8973;
+        double longitude = 9.1920;
+        for (int i = 0; i < points; i++) {
+            latitude += (random.nextDouble() - 0.5) * 0.0005;
+            longitude += (random.nextDouble() - 0.5) * 0.0005;
+            // Stored routes carry six decimals, like the OSRM waypoints
+            latLng[i * 2] = Math.round(latitude * 1e6) / 1e6;
+            latLng[i * 2 + 1] = Math.round(longitude * 1e6) / 1e6;
+        }
+        return PackedPolyline.fromLatLng(latLng);
+    }
+
+    @Nested
+    @DisplayName("Round Trip Tests")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Should restore waypoints with up to seven decimals exactly")
+        void shouldRoundTripExactly() {
+            // Given
+            PackedPolyline polyline = randomRoute(5_000, 42);
+
+            // When
+            PackedPolyline decoded = WaypointBlobCodec.decode(WaypointBlobCodec.encode(polyline));
+
+            // Then
+            assertArrayEquals(polyline.toLatLngArray(), decoded.toLatLngArray());
+        }
+
+        @Test
+        @DisplayName("Should stay within a centimeter for arbitrary coordinates")
+        void shouldRoundTripWithinPrecision() {
+            // Given
+            PackedPolyline polyline = PackedPolyline.fromLatLng(new double[]{
+                    -89.123456789, -179.987654321, 0.000000049, 0.0, 89.999999999, 179.999999999});
+
+            // When
+            double[] decoded = WaypointBlobCodec.decode(WaypointBlobCodec.encode(polyline)).toLatLngArray();
+
+            // Then
+            double[] original = polyline.toLatLngArray();
+            for (int i = 0; i < original.length; i++) {
+                assertEquals(original[i], decoded[i], 0.5 / WaypointBlobCodec.SCALE + 1e-12);
+            }
+        }
+
+        @Test
+        @DisplayName("Should use a few bytes per waypoint instead of a row")
+        void shouldBeCompact() {
+            // Given
+            PackedPolyline polyline = randomRoute(10_000, 7);
+
+            // When
+            byte[] blob = WaypointBlobCodec.encode(polyline);
+
+            // Then - two float8 columns alone would take 16 bytes per waypoint
+            assertTrue(blob.length < polyline.size() * 6, "Blob has " + blob.length + " bytes");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid Blob Tests")
+    class InvalidBlobTests {
+
+        @Test
+        @DisplayName("Should reject an unknown format version")
+        void shouldRejectUnknownVersion() {
+            byte[] blob = WaypointBlobCodec.encode(randomRoute(10, 1));
+            blob[0] = 9;
+
+            assertThrows(IllegalArgumentException.class, () -> WaypointBlobCodec.decode(blob));
+        }
+
+        @Test
+        @DisplayName("Should reject a truncated blob")
+        void shouldRejectTruncatedBlob() {
+            byte[] blob = WaypointBlobCodec.encode(randomRoute(100, 1));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> WaypointBlobCodec.decode(Arrays.copyOf(blob, blob.length / 2)));
+        }
+
+        @Test
+        @DisplayName("Should reject a waypoint count the blob cannot hold before allocating for it")
+        void shouldRejectOversizedCount() throws IOException {
+            // Given - a valid zlib stream holding only a count of 100M waypoints
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(WaypointBlobCodec.FORMAT_VERSION);
+            try (DeflaterOutputStream zlib = new DeflaterOutputStream(out)) {
+                Varint.writeUnsigned(100_000_000, zlib);
+            }
+            byte[] blob = out.toByteArray();
+
+            // When / Then
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> WaypointBlobCodec.decode(blob));
+            assertTrue(e.getMessage().contains("100000000"), e.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject an empty blob")
+        void shouldRejectEmptyBlob() {
+            assertThrows(IllegalArgumentException.class, () -> WaypointBlobCodec.decode(new byte[0]));
+        }
+    }
+
+    @Nested
+    @DisplayName("Entity Mapping Tests")
+    class EntityMappingTests {
+
+        private final RouteEntityMapper mapper = new RouteEntityMapper();
+
+        @Test
+        @DisplayName("Should store compressed routes without waypoint rows")
+        void shouldStoreCompressedRoutes() {
+            // Given
+            DrivingRoute route = DrivingRoute.fromPolyline("route-x", "Route X", "A route",
+                    randomRoute(500, 3), 5000, 600);
+
+            // When
+            RouteEntity entity = mapper.toEntity(route, WaypointStorageMode.COMPRESSED);
+
+            // Then
+            assertTrue(entity.getWaypoints().isEmpty());
+            assertNotNull(entity.getEncodedWaypoints());
+            assertArrayEquals(route.polyline().toLatLngArray(), mapper.toDomain(entity).polyline().toLatLngArray());
+        }
+
+        @Test
+        @DisplayName("Should still read routes stored as rows")
+        void shouldReadRowRoutes() {
+            // Given
+            DrivingRoute route = DrivingRoute.fromPolyline("route-x", "Route X", "A route",
+                    randomRoute(50, 3), 5000, 600);
+
+            // When
+            RouteEntity entity = mapper.toEntity(route, WaypointStorageMode.ROWS);
+
+            // Then
+            assertNull(entity.getEncodedWaypoints());
+            assertEquals(50, entity.getWaypoints().size());
+            assertArrayEquals(route.polyline().toLatLngArray(), mapper.toDomain(entity).polyline().toLatLngArray());
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown storage mode property")
+        void shouldRejectUnknownStorageMode() {
+            assertEquals(WaypointStorageMode.COMPRESSED, WaypointStorageMode.fromProperty(" Compressed "));
+            assertThrows(IllegalArgumentException.class, () -> WaypointStorageMode.fromProperty("blob"));
+        }
+    }
+}
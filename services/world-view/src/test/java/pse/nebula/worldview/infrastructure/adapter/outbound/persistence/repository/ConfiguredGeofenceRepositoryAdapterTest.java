@@ -0,0 +1,54 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.Geofence;
+import pse.nebula.worldview.domain.model.GeofenceType;
+import pse.nebula.worldview.infrastructure.config.GeofenceProperties;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConfiguredGeofenceRepositoryAdapter.
+ */
+@DisplayName("ConfiguredGeofenceRepositoryAdapter Tests")
+class ConfiguredGeofenceRepositoryAdapterTest {
+
+    private static final GeofenceProperties.Fence CITY =
+            new GeofenceProperties.Fence("city", null, GeofenceType.CITY_ZONE, 48.83, 9.17, 2500);
+
+    @Test
+    @DisplayName("Should provide the dealership fence followed by the configured fences")
+    void shouldProvideDealershipAndConfiguredFences() {
+        ConfiguredGeofenceRepositoryAdapter repository = new ConfiguredGeofenceRepositoryAdapter(
+                new GeofenceProperties(true, 150, List.of(CITY)), "Dealership", 48.8354, 9.1520);
+
+        List<Geofence> fences = repository.findAll();
+
+        assertEquals(2, fences.size());
+        assertEquals(ConfiguredGeofenceRepositoryAdapter.DEALERSHIP_GEOFENCE_ID, fences.get(0).id());
+        assertEquals(GeofenceType.DEALERSHIP, fences.get(0).type());
+        assertEquals(150, fences.get(0).radiusMeters());
+        assertEquals("city", fences.get(1).name());
+    }
+
+    @Test
+    @DisplayName("Should skip the dealership fence when its radius is zero")
+    void shouldSkipDealershipFence() {
+        ConfiguredGeofenceRepositoryAdapter repository = new ConfiguredGeofenceRepositoryAdapter(
+                new GeofenceProperties(true, 0, List.of(CITY)), "Dealership", 48.8354, 9.1520);
+
+        assertEquals(List.of("city"), repository.findAll().stream().map(Geofence::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should provide no fences when disabled")
+    void shouldProvideNoFencesWhenDisabled() {
+        ConfiguredGeofenceRepositoryAdapter repository = new ConfiguredGeofenceRepositoryAdapter(
+                new GeofenceProperties(false, 150, List.of(CITY)), "Dealership", 48.8354, 9.1520);
+
+        assertTrue(repository.findAll().isEmpty());
+    }
+}
@@ -180,6 +180,26 @@ class InMemoryJourneyStateRepositoryAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAll() Tests")
+    class FindAllTests {
+
+        @Test
+        @DisplayName("Should return every stored journey")
+        void shouldReturnEveryStoredJourney() {
+            // Given
+            repository.save(new JourneyState("journey-1", testRoute, 10.0));
+            repository.save(new JourneyState("journey-2", testRoute, 10.0));
+
+            // When
+            List<JourneyState> journeys = repository.findAll();
+
+            // Then
+            assertEquals(2, journeys.size());
+            assertTrue(journeys.stream().anyMatch(state -> state.getJourneyId().equals("journey-2")));
+        }
+    }
+
     @Nested
     @DisplayName("clear() Tests")
     class ClearTests {
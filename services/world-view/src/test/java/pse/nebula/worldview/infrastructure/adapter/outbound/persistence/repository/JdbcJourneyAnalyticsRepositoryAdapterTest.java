@@ -0,0 +1,215 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.JourneyState;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JdbcJourneyAnalyticsRepositoryAdapter against an in-memory H2 database.
+ */
+@DisplayName("JdbcJourneyAnalyticsRepositoryAdapter Tests")
+class JdbcJourneyAnalyticsRepositoryAdapterTest {
+
+    private static final long SAMPLE_INTERVAL_MS = 10_000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcDataSource dataSource;
+    private JdbcJourneyAnalyticsRepositoryAdapter repository;
+    private DrivingRoute route;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:analytics-" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS world_view");
+        createTables();
+        route = new DrivingRoute("route-1", "Test Route", "Test description",
+                List.of(new Coordinate(48.8000, 9.1500), new Coordinate(48.8090, 9.1500)), 1000.0, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.shutdown();
+        }
+    }
+
+    // The columns of the init script; its indexes are not needed here
+    private void createTables() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE world_view.journey_summaries (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        journey_id VARCHAR(255) NOT NULL,
+                        route_id VARCHAR(255) NOT NULL,
+                        status VARCHAR(32) NOT NULL,
+                        started_at TIMESTAMP WITH TIME ZONE,
+                        ended_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                        distance_travelled_meters DOUBLE PRECISION NOT NULL,
+                        route_distance_meters DOUBLE PRECISION NOT NULL,
+                        progress_percentage DOUBLE PRECISION NOT NULL,
+                        speed_mps DOUBLE PRECISION NOT NULL,
+                        end_latitude DOUBLE PRECISION NOT NULL,
+                        end_longitude DOUBLE PRECISION NOT NULL
+                    )""");
+            statement.execute("""
+                    CREATE TABLE world_view.journey_position_samples (
+                        journey_id VARCHAR(255) NOT NULL,
+                        sampled_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                        latitude DOUBLE PRECISION NOT NULL,
+                        longitude DOUBLE PRECISION NOT NULL,
+                        progress_percentage DOUBLE PRECISION NOT NULL
+                    )""");
+        }
+    }
+
+    private void createRepository(int batchSize, int bufferCapacity) {
+        // A long flush interval, so rows are only written when the test flushes
+        repository = new JdbcJourneyAnalyticsRepositoryAdapter(dataSource, meterRegistry, SAMPLE_INTERVAL_MS,
+                batchSize, 600_000, bufferCapacity, 16);
+    }
+
+    private JourneyState startedJourney(String journeyId) {
+        JourneyState journeyState = new JourneyState(journeyId, route, 10.0);
+        journeyState.start();
+        return journeyState;
+    }
+
+    private long count(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Writing Tests")
+    class WritingTests {
+
+        @Test
+        @DisplayName("Should write samples and the summary of a stopped journey")
+        void shouldWriteSamplesAndSummary() throws SQLException {
+            createRepository(100, 1000);
+            JourneyState journeyState = startedJourney("journey-1");
+
+            repository.recordJourneyStarted(journeyState, 1_000);
+            journeyState.advance(50);
+            repository.recordJourneyEnded(journeyState, 51_000);
+            repository.flush();
+
+            assertEquals(2, count(JdbcJourneyAnalyticsRepositoryAdapter.SAMPLES_TABLE));
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT journey_id, route_id, status, started_at, "
+                         + "distance_travelled_meters FROM " + JdbcJourneyAnalyticsRepositoryAdapter.SUMMARIES_TABLE)) {
+                assertTrue(resultSet.next());
+                assertEquals("journey-1", resultSet.getString(1));
+                assertEquals("route-1", resultSet.getString(2));
+                assertEquals("IN_PROGRESS", resultSet.getString(3));
+                assertNotNull(resultSet.getObject(4));
+                assertEquals(500.0, resultSet.getDouble(5), 1e-6);
+                assertFalse(resultSet.next());
+            }
+            assertEquals(2.0, meterRegistry.get("worldview.analytics.samples.written").functionCounter().count());
+            assertEquals(1.0, meterRegistry.get("worldview.analytics.summaries.written").functionCounter().count());
+        }
+
+        @Test
+        @DisplayName("Should split large batches over several multi-row statements")
+        void shouldSplitLargeBatches() throws SQLException {
+            int samples = JdbcJourneyAnalyticsRepositoryAdapter.MAX_ROWS_PER_STATEMENT * 2 + 7;
+            createRepository(samples, samples);
+            JourneyState journeyState = startedJourney("journey-1");
+
+            for (int i = 0; i < samples; i++) {
+                repository.recordJourneyStarted(journeyState, i);
+            }
+            repository.flush();
+
+            assertEquals(samples, count(JdbcJourneyAnalyticsRepositoryAdapter.SAMPLES_TABLE));
+        }
+
+        @Test
+        @DisplayName("Should drop samples instead of blocking when the buffer is full")
+        void shouldDropSamplesWhenBufferIsFull() throws SQLException {
+            createRepository(4, 4);
+            JourneyState journeyState = startedJourney("journey-1");
+
+            for (int i = 0; i < 10; i++) {
+                repository.recordJourneyStarted(journeyState, i);
+            }
+            repository.flush();
+
+            // The full batch wakes the writer, which may already have made room for a few more
+            double dropped = meterRegistry.get("worldview.analytics.samples.dropped").functionCounter().count();
+            assertTrue(dropped > 0);
+            assertEquals(10 - dropped, count(JdbcJourneyAnalyticsRepositoryAdapter.SAMPLES_TABLE));
+        }
+
+        @Test
+        @DisplayName("Should write pending rows on shutdown")
+        void shouldFlushOnShutdown() throws SQLException {
+            createRepository(100, 1000);
+            repository.recordJourneyStarted(startedJourney("journey-1"), 1_000);
+
+            repository.shutdown();
+            repository = null;
+
+            assertEquals(1, count(JdbcJourneyAnalyticsRepositoryAdapter.SAMPLES_TABLE));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sampling Tests")
+    class SamplingTests {
+
+        @Test
+        @DisplayName("Should sample each journey once per interval")
+        void shouldSampleOncePerInterval() {
+            int samples = 0;
+            for (long now = 500; now <= 100_000; now += 500) {
+                if (JdbcJourneyAnalyticsRepositoryAdapter.isSampleDue("journey-1", now, 500, SAMPLE_INTERVAL_MS)) {
+                    samples++;
+                }
+            }
+
+            assertEquals(10, samples);
+        }
+
+        @Test
+        @DisplayName("Should sample after a tick longer than the interval")
+        void shouldSampleLongTicks() {
+            assertTrue(JdbcJourneyAnalyticsRepositoryAdapter.isSampleDue("journey-1", 50_000, 20_000,
+                    SAMPLE_INTERVAL_MS));
+            assertFalse(JdbcJourneyAnalyticsRepositoryAdapter.isSampleDue("journey-1", 50_000, 0,
+                    SAMPLE_INTERVAL_MS));
+        }
+
+        @Test
+        @DisplayName("Should build multi-row insert statements")
+        void shouldBuildMultiRowInsert() {
+            assertEquals("INSERT INTO t (a, b) VALUES (?, ?), (?, ?), (?, ?)",
+                    JdbcJourneyAnalyticsRepositoryAdapter.multiRowInsertSql("t", "a, b", 2, 3));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.JourneyState;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JournalRing.
+ */
+@DisplayName("JournalRing Tests")
+class JournalRingTest {
+
+    private static final DrivingRoute ROUTE = new DrivingRoute("route-1", "Route", "A route",
+            List.of(new Coordinate(48.8973, 9.1920), new Coordinate(48.8354, 9.1520)), 10000, 600);
+
+    private static JourneyState journey(String journeyId) {
+        JourneyState state = new JourneyState(journeyId, ROUTE, 10.0);
+        state.start();
+        return state;
+    }
+
+    @Nested
+    @DisplayName("Publish and Consume Tests")
+    class PublishTests {
+
+        @Test
+        @DisplayName("Should hand out records in publication order with the values at publication time")
+        void shouldConsumeInOrder() {
+            JournalRing ring = new JournalRing(4);
+            JourneyState state = journey("journey-1");
+
+            ring.publishUpsert(state);
+            state.advance(10.0);
+            ring.publishDelete("journey-1");
+
+            JournalRing.Slot upsert = ring.peek();
+            assertEquals(JournalRing.UPSERT, upsert.type);
+            assertEquals("journey-1", upsert.journeyId);
+            assertEquals("route-1", upsert.routeId);
+            assertEquals(0.0, upsert.distanceTravelledMeters);
+            ring.release(upsert);
+
+            JournalRing.Slot delete = ring.peek();
+            assertEquals(JournalRing.DELETE, delete.type);
+            assertEquals("journey-1", delete.journeyId);
+            ring.release(delete);
+
+            assertNull(ring.peek());
+            assertEquals(2, ring.consumedCount());
+            assertEquals(0, ring.pendingCount());
+        }
+
+        @Test
+        @DisplayName("Should reuse slots after they were released")
+        void shouldWrapAround() {
+            JournalRing ring = new JournalRing(2);
+
+            for (int i = 0; i < 10; i++) {
+                ring.publishDelete("journey-" + i);
+                JournalRing.Slot slot = ring.peek();
+                assertEquals("journey-" + i, slot.journeyId);
+                ring.release(slot);
+            }
+
+            assertNull(ring.peek());
+            assertEquals(10, ring.claimedCount());
+        }
+
+        @Test
+        @DisplayName("Should make producers wait while the ring is full")
+        void shouldWaitWhenFull() throws InterruptedException {
+            // Given
+            JournalRing ring = new JournalRing(2);
+            ring.publishDelete("journey-1");
+            ring.publishDelete("journey-2");
+            Thread producer = new Thread(() -> ring.publishDelete("journey-3"));
+
+            // When
+            producer.start();
+            producer.join(100);
+
+            // Then
+            assertTrue(producer.isAlive());
+            ring.release(ring.peek());
+            producer.join(5_000);
+            assertFalse(producer.isAlive());
+            assertEquals(2, ring.pendingCount());
+        }
+
+        @Test
+        @DisplayName("Should reject a capacity that is not a power of two")
+        void shouldRejectInvalidCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new JournalRing(0));
+            assertThrows(IllegalArgumentException.class, () -> new JournalRing(3));
+        }
+    }
+}
@@ -5,11 +5,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import pse.nebula.worldview.domain.model.Coordinate;
 import pse.nebula.worldview.domain.model.DrivingRoute;
 import pse.nebula.worldview.domain.port.outbound.RouteRepository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +29,12 @@ class JpaRouteRepositoryAdapterTest {
     @Autowired
     private RouteRepository routeRepository;
 
+    @Autowired
+    private JpaRouteRepositoryAdapter jpaRouteRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     // Dealership - Destination for all routes
     private static final double DEALERSHIP_LAT = 48.8354;
     private static final double DEALERSHIP_LNG = 9.1520;
@@ -269,4 +277,61 @@ class JpaRouteRepositoryAdapterTest {
             assertEquals("Favoritepark Route", route.name());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Save Tests")
+    class SaveTests {
+
+        @Test
+        @DisplayName("Should write waypoint rows of a long route across several batches")
+        void shouldSaveLongRouteInBatches() {
+            // Given - more points than one batch holds
+            List<Coordinate> waypoints = new ArrayList<>();
+            for (int i = 0; i < 2_500; i++) {
+                waypoints.add(new Coordinate(48.0 + i * 1e-4, 9.0 + i * 1e-4));
+            }
+            DrivingRoute route = new DrivingRoute("route-batched", "Batched Route", "Imported track",
+                    waypoints, 40_000, 3_000);
+
+            try {
+                // When
+                routeRepository.save(route);
+
+                // Then
+                assertEquals(2_500, jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM world_view.waypoints WHERE route_id = 'route-batched'", Integer.class));
+                DrivingRoute saved = routeRepository.findById("route-batched").orElseThrow();
+                assertArrayEquals(route.polyline().toLatLngArray(), saved.polyline().toLatLngArray());
+            } finally {
+                jdbcTemplate.update("DELETE FROM world_view.waypoints WHERE route_id = 'route-batched'");
+                jdbcTemplate.update("DELETE FROM world_view.driving_routes WHERE route_id = 'route-batched'");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Compressed Waypoint Storage Tests")
+    class CompressedStorageTests {
+
+        @Test
+        @DisplayName("Should migrate waypoint rows into encoded waypoints without changing the routes")
+        void shouldMigrateWaypointRows() {
+            // Given
+            List<DrivingRoute> before = routeRepository.findAll();
+
+            // When
+            jpaRouteRepositoryAdapter.migrateWaypointRows();
+
+            // Then
+            assertEquals(0, jpaRouteRepositoryAdapter.migrateWaypointRows());
+            assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM world_view.waypoints", Integer.class));
+            List<DrivingRoute> after = routeRepository.findAll();
+            assertEquals(before.size(), after.size());
+            for (DrivingRoute route : before) {
+                DrivingRoute migrated = routeRepository.findById(route.id()).orElseThrow();
+                assertArrayEquals(route.polyline().toLatLngArray(), migrated.polyline().toLatLngArray(),
+                        "Route " + route.id() + " should keep its waypoints");
+            }
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pse.nebula.worldview.domain.model.Coordinate;
+import pse.nebula.worldview.domain.model.DrivingRoute;
+import pse.nebula.worldview.domain.model.JourneyState;
+import pse.nebula.worldview.domain.model.JourneyStatus;
+import pse.nebula.worldview.domain.port.outbound.RouteRepository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for MappedLogJourneyStateRepositoryAdapter.
+ * A "crash" is simulated by opening a second adapter on the same directory without
+ * shutting down the first one.
+ */
+@DisplayName("MappedLogJourneyStateRepositoryAdapter Tests")
+class MappedLogJourneyStateRepositoryAdapterTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private RouteRepository routeRepository;
+    private DrivingRoute testRoute;
+
+    @BeforeEach
+    void setUp() {
+        testRoute = new DrivingRoute(
+            "test-route",
+            "Test Route",
+            "A test route",
+            Arrays.asList(
+                new Coordinate(48.8973, 9.1920),
+                new Coordinate(48.8800, 9.1750),
+                new Coordinate(48.8354, 9.1520)
+            ),
+            10000,
+            600
+        );
+        routeRepository = mock(RouteRepository.class);
+        when(routeRepository.findById("test-route")).thenReturn(Optional.of(testRoute));
+    }
+
+    private MappedLogJourneyStateRepositoryAdapter openRepository() {
+        return new MappedLogJourneyStateRepositoryAdapter(routeRepository, new SimpleMeterRegistry(),
+                directory.toString(), SEGMENT_BYTES, 3_600_000L);
+    }
+
+    private JourneyState startedJourney(String journeyId, double advanceSeconds) {
+        JourneyState state = new JourneyState(journeyId, testRoute, 10.0);
+        state.start();
+        if (advanceSeconds > 0) {
+            state.advance(advanceSeconds);
+        }
+        return state;
+    }
+
+    private List<Path> journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal-")).sorted().toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Repository Contract Tests")
+    class ContractTests {
+
+        @Test
+        @DisplayName("Should save, find and delete journeys like the in-memory adapter")
+        void shouldBehaveLikeInMemoryRepository() {
+            // Given
+            MappedLogJourneyStateRepositoryAdapter repository = openRepository();
+            JourneyState state = startedJourney("journey-1", 0);
+
+            // When
+            repository.save(state);
+
+            // Then
+            assertSame(state, repository.findById("journey-1").orElseThrow());
+            assertTrue(repository.exists("journey-1"));
+            assertEquals(List.of(state), repository.findAll());
+
+            repository.delete("journey-1");
+            assertFalse(repository.exists("journey-1"));
+            assertTrue(repository.findAll().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("Should resume journeys from their last logged position after a crash")
+        void shouldResumeFromLastPosition() {
+            // Given
+            MappedLogJourneyStateRepositoryAdapter repository = openRepository();
+            JourneyState state = startedJourney("journey-1", 0);
+            repository.save(state);
+            state.advance(120.0);
+            repository.save(state);
+            repository.flush();
+
+            // When
+            MappedLogJourneyStateRepositoryAdapter recovered = openRepository();
+
+            // Then
+            JourneyState restored = recovered.findById("journey-1").orElseThrow();
+            assertEquals(JourneyStatus.IN_PROGRESS, restored.getStatus());
+            assertEquals(state.getDistanceTravelledMeters(), restored.getDistanceTravelledMeters());
+            assertEquals(state.getCurrentPosition(), restored.getCurrentPosition());
+            assertEquals(10.0, restored.getSpeedMetersPerSecond());
+            assertSame(testRoute, restored.getRoute());
+        }
+
+        @Test
+        @DisplayName("Should not resume deleted or completed journeys")
+        void shouldSkipDeletedAndCompletedJourneys() {
+            // Given
+            MappedLogJourneyStateRepositoryAdapter repository = openRepository();
+            repository.save(startedJourney("journey-deleted", 10.0));
+            repository.delete("journey-deleted");
+            repository.save(startedJourney("journey-completed", 10_000.0));
+            repository.save(startedJourney("journey-running", 10.0));
+            repository.flush();
+
+            // When
+            MappedLogJourneyStateRepositoryAdapter recovered = openRepository();
+
+            // Then
+            assertEquals(List.of("journey-running"),
+                    recovered.findAll().stream().map(JourneyState::getJourneyId).toList());
+        }
+
+        @Test
+        @DisplayName("Should skip journeys whose route no longer exists")
+        void shouldSkipJourneysWithUnknownRoute() {
+            // Given
+            MappedLogJourneyStateRepositoryAdapter repository = openRepository();
+            repository.save(startedJourney("journey-1", 10.0));
+            repository.flush();
+            when(routeRepository.findById("test-route")).thenReturn(Optional.empty());
+
+            // When
+            MappedLogJourneyStateRepositoryAdapter recovered = openRepository();
+
+            // Then
+            assertFalse(recovered.exists("journey-1"));
+        }
+
+        @Test
+        @DisplayName("Should ignore records after a torn write")
+        void shouldIgnoreRecordsAfterTornWrite() throws IOException {
+            // Given
+            MappedLogJourneyStateRepositoryAdapter repository = openRepository();
+            repository.save(startedJourney("journey-1", 10.0));
+            repository.save(startedJourney("journey-2", 10.0));
+            repository.flush();
+
+            // Flip a payload byte of the second record: frame header (8) + upsert payload of journey-1 (60)
+            Path journal = journalFiles().get(journalFiles().size() - 1);
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), 68 + 8 + 10);
+            }
+
+            // When
+            MappedLogJourneyStateRepositoryAdapter recovered = openRepository();
+
+            // Then
+            assertTrue(recovered.exists("journey-1"));
+            assertFalse(recovered.exists("journey-2"));
+        }
+
+        @Test
+        @DisplayName("Should start empty when the directory is empty")
+        void shouldStartEmpty() {
+            assertTrue(openRepository().findAll().isEmpty());
+            assertTrue(Files.exists(directory.resolve(MappedLogJourneyStateRepositoryAdapter.SNAPSHOT_FILE)));
+        }
+
+        @Test
+        @DisplayName("Should resume the last position of journeys saved from several threads")
+        void shouldResumeJourneysSavedConcurrently() throws InterruptedException {
+            // Given - more saves than the ring holds, so savers also wait for the writer
+            MappedLogJourneyStateRepositoryAdapter repository = openRepository();
+            JourneyState[] states = new JourneyState[8];
+            Thread[] savers = new Thread[states.length];
+            for (int i = 0; i < states.length; i++) {
+                JourneyState state = startedJourney("journey-" + i, 0);
+                states[i] = state;
+                savers[i] = new Thread(() -> {
+                    for (int step = 0; step < 20_000; step++) {
+                        state.advance(0.01);
+                        repository.save(state);
+                    }
+                });
+            }
+
+            // When
+            for (Thread saver : savers) {
+                saver.start();
+            }
+            for (Thread saver : savers) {
+                saver.join();
+            }
+            repository.flush();
+            MappedLogJourneyStateRepositoryAdapter recovered = openRepository();
+
+            // Then
+            for (JourneyState state : states) {
+                assertEquals(state.getDistanceTravelledMeters(),
+                        recovered.findById(state.getJourneyId()).orElseThrow().getDistanceTravelledMeters());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Compaction Tests")
+    class CompactionTests {
+
+        @Test
+        @DisplayName("Should replace old journal segments with a snapshot")
+        void shouldReplaceSegmentsWithSnapshot() throws IOException {
+            // Given
+            MappedLogJourneyStateRepositoryAdapter repository = openRepository();
+            repository.save(startedJourney("journey-1", 10.0));
+            repository.save(startedJourney("journey-2", 20.0));
+
+            // When
+            repository.compact();
+            repository.save(startedJourney("journey-3", 30.0));
+            repository.flush();
+
+            // Then
+            assertEquals(1, journalFiles().size());
+            MappedLogJourneyStateRepositoryAdapter recovered = openRepository();
+            assertEquals(3, recovered.findAll().size());
+            assertEquals(200.0, recovered.findById("journey-2").orElseThrow().getDistanceTravelledMeters(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should roll over to a new segment when the journal is full")
+        void shouldRollOverFullSegments() {
+            // Given - each record is about 70 bytes, so this spans several 64 KiB segments
+            MappedLogJourneyStateRepositoryAdapter repository = openRepository();
+            JourneyState state = startedJourney("journey-1", 0);
+
+            // When
+            for (int i = 0; i < 5_000; i++) {
+                state.advance(0.1);
+                repository.save(state);
+            }
+            repository.shutdown();
+
+            // Then
+            MappedLogJourneyStateRepositoryAdapter recovered = openRepository();
+            assertEquals(state.getDistanceTravelledMeters(),
+                    recovered.findById("journey-1").orElseThrow().getDistanceTravelledMeters());
+        }
+    }
+
+    @Nested
+    @DisplayName("Performance Tests")
+    class PerformanceTests {
+
+        @Test
+        @DisplayName("Should append journal records within a few microseconds")
+        void shouldAppendQuickly() {
+            // Given
+            MappedLogJourneyStateRepositoryAdapter repository = new MappedLogJourneyStateRepositoryAdapter(
+                    routeRepository, new SimpleMeterRegistry(), directory.toString(), 64 * 1024 * 1024, 3_600_000L);
+            JourneyState[] states = new JourneyState[1_000];
+            for (int i = 0; i < states.length; i++) {
+                states[i] = startedJourney("auto-journey-" + i, 0);
+                repository.save(states[i]);
+            }
+
+            // When
+            int saves = 100_000;
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < saves; i++) {
+                repository.save(states[i % states.length]);
+            }
+            long averageNanos = (System.nanoTime() - startNanos) / saves;
+
+            // Then
+            assertTrue(averageNanos < 20_000, "Average save took " + averageNanos + " ns");
+        }
+    }
+}
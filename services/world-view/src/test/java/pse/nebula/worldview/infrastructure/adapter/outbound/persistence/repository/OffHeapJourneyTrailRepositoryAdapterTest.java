@@ -0,0 +1,194 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.persistence.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pse.nebula.worldview.domain.model.JourneyTrail;
+import pse.nebula.worldview.domain.model.TrailPoint;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for OffHeapJourneyTrailRepositoryAdapter.
+ */
+@DisplayName("OffHeapJourneyTrailRepositoryAdapter Tests")
+class OffHeapJourneyTrailRepositoryAdapterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffHeapJourneyTrailRepositoryAdapter repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new OffHeapJourneyTrailRepositoryAdapter(meterRegistry, 8, 100);
+    }
+
+    private void appendPositions(String journeyId, int count) {
+        for (int i = 0; i < count; i++) {
+            repository.append(journeyId, 1_000L * i, 48.8 + i * 0.001, 9.1 + i * 0.001);
+        }
+    }
+
+    private List<Long> timestamps(JourneyTrail trail) {
+        return trail.points().stream().map(TrailPoint::timestampMillis).toList();
+    }
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should return recorded positions oldest first")
+        void shouldReturnRecordedPositions() {
+            appendPositions("journey-1", 3);
+
+            JourneyTrail trail = repository.findTrail("journey-1", 10).orElseThrow();
+
+            assertEquals(3, trail.recordedPoints());
+            assertEquals(List.of(0L, 1_000L, 2_000L), timestamps(trail));
+            assertEquals(48.802, trail.points().get(2).position().latitude(), 1e-7);
+            assertEquals(9.102, trail.points().get(2).position().longitude(), 1e-7);
+        }
+
+        @Test
+        @DisplayName("Should keep only the latest positions once the buffer is full")
+        void shouldOverwriteOldestPositions() {
+            appendPositions("journey-1", 20);
+
+            JourneyTrail trail = repository.findTrail("journey-1", 10).orElseThrow();
+
+            assertEquals(8, trail.recordedPoints());
+            assertEquals(12_000L, trail.points().get(0).timestampMillis());
+            assertEquals(19_000L, trail.points().get(7).timestampMillis());
+        }
+
+        @Test
+        @DisplayName("Should return nothing for unknown journeys")
+        void shouldReturnEmptyForUnknownJourney() {
+            assertTrue(repository.findTrail("missing", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should keep journeys separate")
+        void shouldKeepJourneysSeparate() {
+            appendPositions("journey-1", 2);
+            repository.append("journey-2", 42L, 50.0, 10.0);
+
+            assertEquals(2, repository.findTrail("journey-1", 10).orElseThrow().points().size());
+            assertEquals(List.of(42L), timestamps(repository.findTrail("journey-2", 10).orElseThrow()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Downsampling Tests")
+    class DownsamplingTests {
+
+        @Test
+        @DisplayName("Should sample evenly including the first and latest positions")
+        void shouldSampleEvenly() {
+            appendPositions("journey-1", 7);
+
+            JourneyTrail trail = repository.findTrail("journey-1", 4).orElseThrow();
+
+            assertEquals(7, trail.recordedPoints());
+            assertEquals(List.of(0L, 2_000L, 4_000L, 6_000L), timestamps(trail));
+        }
+
+        @Test
+        @DisplayName("Should return the latest position for maxPoints of one")
+        void shouldReturnLatestForSinglePoint() {
+            appendPositions("journey-1", 5);
+
+            assertEquals(List.of(4_000L), timestamps(repository.findTrail("journey-1", 1).orElseThrow()));
+            assertThrows(IllegalArgumentException.class, () -> repository.findTrail("journey-1", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Buffer Pool Tests")
+    class BufferPoolTests {
+
+        @Test
+        @DisplayName("Should recycle buffers of released journeys")
+        void shouldRecycleReleasedBuffers() {
+            appendPositions("journey-1", 5);
+            long allocated = repository.getAllocatedBytes();
+
+            repository.release("journey-1");
+            appendPositions("journey-2", 1);
+
+            assertTrue(repository.findTrail("journey-1", 10).isEmpty());
+            assertEquals(1, repository.findTrail("journey-2", 10).orElseThrow().recordedPoints());
+            assertEquals(allocated, repository.getAllocatedBytes());
+            assertEquals(1.0, meterRegistry.get("worldview.trail.buffers.active").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should not take a buffer for positions appended after release until the journey is reopened")
+        void shouldIgnoreAppendsAfterRelease() {
+            // Given
+            appendPositions("journey-1", 5);
+            repository.release("journey-1");
+
+            // When - a tick that raced with the stop appends one more position
+            appendPositions("journey-1", 1);
+
+            // Then
+            assertTrue(repository.findTrail("journey-1", 10).isEmpty());
+            assertEquals(0.0, meterRegistry.get("worldview.trail.buffers.active").gauge().value());
+            assertEquals(0.0, meterRegistry.get("worldview.trail.points.dropped").counter().count());
+
+            repository.open("journey-1");
+            appendPositions("journey-1", 2);
+            assertEquals(2, repository.findTrail("journey-1", 10).orElseThrow().recordedPoints());
+        }
+
+        @Test
+        @DisplayName("Should drop positions when every buffer is in use")
+        void shouldDropPositionsWhenPoolExhausted() {
+            OffHeapJourneyTrailRepositoryAdapter small = new OffHeapJourneyTrailRepositoryAdapter(meterRegistry, 8, 2);
+
+            small.append("journey-1", 1L, 48.8, 9.1);
+            small.append("journey-2", 1L, 48.8, 9.1);
+            long allocated = small.getAllocatedBytes();
+            small.append("journey-3", 1L, 48.8, 9.1);
+
+            assertTrue(small.findTrail("journey-3", 10).isEmpty());
+            assertEquals(1.0, meterRegistry.get("worldview.trail.points.dropped").counter().count());
+            assertEquals(allocated, small.getAllocatedBytes());
+        }
+
+        @Test
+        @DisplayName("Should not allocate on the heap while recording")
+        void shouldNotAllocateWhileRecording() {
+            java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+            com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+            assumeTrue(allocation.isThreadAllocatedMemorySupported() && allocation.isThreadAllocatedMemoryEnabled());
+
+            String[] journeyIds = new String[100];
+            for (int j = 0; j < journeyIds.length; j++) {
+                journeyIds[j] = "journey-" + j;
+                appendPositions(journeyIds[j], 20);
+            }
+
+            long threadId = Thread.currentThread().getId();
+            long before = allocation.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 1_000; i++) {
+                for (String journeyId : journeyIds) {
+                    repository.append(journeyId, i, 48.8, 9.1);
+                }
+            }
+            long allocated = allocation.getThreadAllocatedBytes(threadId) - before;
+
+            // 100k appends; allow a little noise from the measurement itself
+            assertTrue(allocated < 64 * 1024, "recording allocated " + allocated + " bytes");
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package pse.nebula.worldview.infrastructure.adapter.outbound.sharding;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PostgresAdvisoryLockShardLeaseAdapter against mocked JDBC objects.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PostgresAdvisoryLockShardLeaseAdapter Tests")
+class PostgresAdvisoryLockShardLeaseAdapterTest {
+
+    private static final int NAMESPACE = 1000;
+    private static final int BACKEND_PID = 4242;
+    private static final Timestamp BACKEND_START = Timestamp.valueOf("2026-01-01 00:00:00");
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement tryLockStatement;
+
+    @Mock
+    private PreparedStatement countStatement;
+
+    @Mock
+    private PreparedStatement unlockStatement;
+
+    @Mock
+    private PreparedStatement unlockAllStatement;
+
+    @Mock
+    private PreparedStatement backendStatement;
+
+    @Mock
+    private ResultSet backendResult;
+
+    @Mock
+    private ResultSet tryLockResult;
+
+    @Mock
+    private ResultSet countResult;
+
+    private PostgresAdvisoryLockShardLeaseAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(connection.prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.TRY_LOCK_SQL)).thenReturn(tryLockStatement);
+        when(connection.prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.COUNT_MEMBERS_SQL)).thenReturn(countStatement);
+        when(connection.prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.UNLOCK_SQL)).thenReturn(unlockStatement);
+        when(connection.prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.UNLOCK_ALL_SQL)).thenReturn(unlockAllStatement);
+        when(connection.prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.BACKEND_SQL)).thenReturn(backendStatement);
+        when(backendStatement.executeQuery()).thenReturn(backendResult);
+        when(backendResult.next()).thenReturn(true);
+        when(backendResult.getInt(1)).thenReturn(BACKEND_PID);
+        when(backendResult.getTimestamp(2)).thenReturn(BACKEND_START);
+        when(tryLockStatement.executeQuery()).thenReturn(tryLockResult);
+        when(tryLockResult.next()).thenReturn(true);
+        when(tryLockResult.getBoolean(1)).thenReturn(true);
+        when(countStatement.executeQuery()).thenReturn(countResult);
+        when(countResult.next()).thenReturn(true);
+        when(countResult.getInt(1)).thenReturn(3);
+
+        adapter = new PostgresAdvisoryLockShardLeaseAdapter(dataSource, NAMESPACE, 4);
+    }
+
+    @Nested
+    @DisplayName("Membership Tests")
+    class MembershipTests {
+
+        @Test
+        @DisplayName("Should join on the first free instance slot and count members")
+        void shouldJoinAndCountMembers() throws SQLException {
+            // Given - slot 0 is taken by another instance
+            when(tryLockResult.getBoolean(1)).thenReturn(false, true);
+
+            // When
+            int members = adapter.countMembers();
+
+            // Then
+            assertEquals(3, members);
+            verify(tryLockStatement, times(2)).setInt(1, NAMESPACE + 1);
+            verify(tryLockStatement).setInt(2, 0);
+            verify(tryLockStatement).setInt(2, 1);
+            verify(countStatement).setLong(1, NAMESPACE + 1);
+        }
+
+        @Test
+        @DisplayName("Should only join once per session")
+        void shouldJoinOnce() throws SQLException {
+            // When
+            adapter.countMembers();
+            adapter.countMembers();
+
+            // Then
+            verify(tryLockStatement, times(1)).executeQuery();
+        }
+
+        @Test
+        @DisplayName("Should fail when every instance slot is taken")
+        void shouldFailWhenSlotsExhausted() throws SQLException {
+            // Given
+            when(tryLockResult.getBoolean(1)).thenReturn(false);
+
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> adapter.countMembers());
+        }
+    }
+
+    @Nested
+    @DisplayName("Lease Tests")
+    class LeaseTests {
+
+        @Test
+        @DisplayName("Should acquire shard leases in the shard namespace")
+        void shouldAcquireShardLease() throws SQLException {
+            // When
+            boolean acquired = adapter.tryAcquire(5);
+
+            // Then
+            assertTrue(acquired);
+            verify(tryLockStatement).setInt(1, NAMESPACE);
+            verify(tryLockStatement).setInt(2, 5);
+        }
+
+        @Test
+        @DisplayName("Should report a lease held by another instance")
+        void shouldReportLeaseHeldElsewhere() throws SQLException {
+            // Given
+            when(tryLockResult.getBoolean(1)).thenReturn(false);
+
+            // When & Then
+            assertFalse(adapter.tryAcquire(5));
+        }
+
+        @Test
+        @DisplayName("Should release shard leases")
+        void shouldReleaseShardLease() throws SQLException {
+            // Given
+            adapter.tryAcquire(5);
+
+            // When
+            adapter.release(5);
+
+            // Then
+            verify(unlockStatement).setInt(1, NAMESPACE);
+            verify(unlockStatement).setInt(2, 5);
+            verify(unlockStatement).execute();
+        }
+
+        @Test
+        @DisplayName("Should wrap database errors")
+        void shouldWrapDatabaseErrors() throws SQLException {
+            // Given
+            when(tryLockStatement.executeQuery()).thenThrow(new SQLException("connection refused"));
+
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> adapter.tryAcquire(5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Session Tests")
+    class SessionTests {
+
+        private Connection reconnect(boolean terminated) throws SQLException {
+            Connection reconnected = mock(Connection.class);
+            PreparedStatement terminateStatement = mock(PreparedStatement.class);
+            ResultSet terminateResult = mock(ResultSet.class);
+            when(reconnected.isValid(anyInt())).thenReturn(true);
+            when(reconnected.prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.TERMINATE_SQL))
+                    .thenReturn(terminateStatement);
+            when(reconnected.prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.BACKEND_SQL))
+                    .thenReturn(backendStatement);
+            when(reconnected.prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.TRY_LOCK_SQL))
+                    .thenReturn(tryLockStatement);
+            when(terminateStatement.executeQuery()).thenReturn(terminateResult);
+            when(terminateResult.next()).thenReturn(true);
+            when(terminateResult.getBoolean(1)).thenReturn(terminated);
+            return reconnected;
+        }
+
+        @Test
+        @DisplayName("Should report lost leases once when the connection broke and reconnect")
+        void shouldReportLostLeases() throws SQLException {
+            // Given
+            Connection reconnected = reconnect(true);
+            adapter.tryAcquire(5);
+            when(connection.isValid(anyInt())).thenReturn(false);
+            when(dataSource.getConnection()).thenReturn(reconnected);
+
+            // When & Then
+            assertFalse(adapter.leasesIntact());
+            assertTrue(adapter.leasesIntact());
+            verify(connection).abort(any(Executor.class));
+            verify(connection, never()).close();
+            verify(dataSource, times(2)).getConnection();
+        }
+
+        @Test
+        @DisplayName("Should drop the lost session's locks before the new session takes any")
+        void shouldDropLostLocksBeforeNewSession() throws SQLException {
+            // Given
+            Connection reconnected = reconnect(true);
+            adapter.tryAcquire(5);
+            when(connection.isValid(anyInt())).thenReturn(false);
+            when(dataSource.getConnection()).thenReturn(reconnected);
+
+            // When
+            adapter.tryAcquire(5);
+
+            // Then - the old connection is aborted before reconnecting, and its backend is
+            // terminated before the new session tries any lock
+            InOrder order = inOrder(connection, dataSource, reconnected);
+            order.verify(connection).abort(any(Executor.class));
+            order.verify(dataSource).getConnection();
+            order.verify(reconnected).prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.TERMINATE_SQL);
+            order.verify(reconnected).prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.TRY_LOCK_SQL);
+            PreparedStatement terminateStatement =
+                    reconnected.prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.TERMINATE_SQL);
+            verify(terminateStatement).setInt(2, BACKEND_PID);
+            verify(terminateStatement).setTimestamp(3, BACKEND_START);
+        }
+
+        @Test
+        @DisplayName("Should not take locks while the lost session's backend is still running")
+        void shouldNotLockWhileLostBackendRuns() throws SQLException {
+            // Given
+            Connection reconnected = reconnect(false);
+            adapter.tryAcquire(5);
+            when(connection.isValid(anyInt())).thenReturn(false);
+            when(dataSource.getConnection()).thenReturn(reconnected);
+
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> adapter.tryAcquire(5));
+            verify(reconnected).abort(any(Executor.class));
+            verify(reconnected, never()).prepareStatement(PostgresAdvisoryLockShardLeaseAdapter.TRY_LOCK_SQL);
+        }
+
+        @Test
+        @DisplayName("Should keep leases while the connection is healthy")
+        void shouldKeepLeases() {
+            adapter.tryAcquire(5);
+
+            assertTrue(adapter.leasesIntact());
+        }
+
+        @Test
+        @DisplayName("Should release all locks and close the connection on shutdown")
+        void shouldReleaseAllOnShutdown() throws SQLException {
+            // Given
+            adapter.tryAcquire(5);
+
+            // When
+            adapter.releaseAll();
+
+            // Then
+            verify(unlockAllStatement).execute();
+            verify(connection).close();
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid lock namespace")
+        void shouldRejectInvalidNamespace() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new PostgresAdvisoryLockShardLeaseAdapter(dataSource, -1, 4));
+        }
+    }
+}
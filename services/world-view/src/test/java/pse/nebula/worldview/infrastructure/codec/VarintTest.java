@@ -0,0 +1,70 @@
+package pse.nebula.worldview.infrastructure.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Varint.
+ */
+@DisplayName("Varint Tests")
+class VarintTest {
+
+    private static final long[] VALUES = {0, 1, -1, 63, -64, 64, 300, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE};
+
+    @Test
+    @DisplayName("Should zig-zag fold signed values into LEB128 varints")
+    void shouldEncodeZigZagVarints() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Varint.writeSigned(0, out);
+        Varint.writeSigned(-1, out);
+        Varint.writeSigned(1, out);
+        Varint.writeSigned(-64, out);
+        Varint.writeSigned(64, out);
+
+        assertArrayEquals(new byte[]{0x00, 0x01, 0x02, 0x7f, (byte) 0x80, 0x01}, out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Should read the same values from streams and buffers")
+    void shouldRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long value : VALUES) {
+            Varint.writeSigned(value, out);
+            Varint.writeUnsigned(value, out);
+        }
+        ByteArrayInputStream stream = new ByteArrayInputStream(out.toByteArray());
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+
+        for (long value : VALUES) {
+            assertEquals(value, Varint.readSigned(stream));
+            assertEquals(value, Varint.readUnsigned(stream));
+            assertEquals(value, Varint.readSigned(buffer));
+            assertEquals(value, Varint.readUnsigned(buffer));
+        }
+        assertEquals(-1, stream.read());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    @DisplayName("Should reject truncated and overlong varints")
+    void shouldRejectMalformedVarints() {
+        byte[] truncated = {(byte) 0x80, (byte) 0x80};
+        byte[] overlong = new byte[11];
+        Arrays.fill(overlong, (byte) 0x80);
+
+        assertThrows(EOFException.class, () -> Varint.readUnsigned(new ByteArrayInputStream(truncated)));
+        assertThrows(EOFException.class, () -> Varint.readUnsigned(ByteBuffer.wrap(truncated)));
+        assertThrows(IOException.class, () -> Varint.readUnsigned(new ByteArrayInputStream(overlong)));
+        assertThrows(IOException.class, () -> Varint.readUnsigned(ByteBuffer.wrap(overlong)));
+    }
+}